@@ -1,8 +1,13 @@
 package com.sparta.ecommerce;
 
+import com.sparta.ecommerce.common.kafka.KafkaPublishRejectedException;
+import com.sparta.ecommerce.common.pagination.InvalidCursorException;
+import com.sparta.ecommerce.common.ratelimit.RateLimitExceededException;
 import com.sparta.ecommerce.domain.coupon.exception.CouponException;
+import com.sparta.ecommerce.domain.order.exception.OrderException;
 import com.sparta.ecommerce.domain.product.exception.ProductException;
 import com.sparta.ecommerce.domain.user.exception.UserException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,6 +21,11 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(e.getErrorCode().getStatus()).body(new ErrorResponse(e.getMessage()));
     }
 
+    @ExceptionHandler(value = OrderException.class)
+    public ResponseEntity<ErrorResponse> handleOrderException(OrderException e) {
+        return ResponseEntity.status(e.getErrorCode().getStatus()).body(new ErrorResponse(e.getMessage()));
+    }
+
     @ExceptionHandler(value = ProductException.class)
     public ResponseEntity<ErrorResponse> handleProductException(ProductException e) {
         return ResponseEntity.status(e.getErrorCode().getStatus()).body(new ErrorResponse(e.getMessage()));
@@ -26,6 +36,27 @@ class ApiControllerAdvice extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(e.getErrorCode().getStatus()).body(new ErrorResponse(e.getMessage()));
     }
 
+    @ExceptionHandler(value = RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException e) {
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfterMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ErrorResponse("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @ExceptionHandler(value = KafkaPublishRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleKafkaPublishRejectedException(KafkaPublishRejectedException e) {
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfterMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ErrorResponse("요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @ExceptionHandler(value = InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse("잘못된 페이지 커서입니다."));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new ErrorResponse("에러가 발생했습니다."));
@@ -2,12 +2,21 @@ package com.sparta.ecommerce;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
 public class Application {
     public static void main(String[] args) {
-        SpringApplication.run(Application.class, args);
+        SpringApplication application = new SpringApplication(Application.class);
+
+        // 시작 타임라인 기록 (-Dstartup.timeline.capacity=N, StartupTimelineReporter가 준비 완료 시 출력)
+        int timelineCapacity = Integer.getInteger("startup.timeline.capacity", 0);
+        if (timelineCapacity > 0) {
+            application.setApplicationStartup(new BufferingApplicationStartup(timelineCapacity));
+        }
+
+        application.run(args);
     }
 }
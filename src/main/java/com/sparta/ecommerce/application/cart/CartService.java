@@ -5,6 +5,7 @@ import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
 import com.sparta.ecommerce.domain.cart.entity.CartItem;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -17,6 +18,7 @@ public class CartService {
         return cartRepository.save(cartItem).from();
     }
 
+    @Transactional(readOnly = true)
     public List<CartItemResponse> getCartItems(Long userId) {
         return cartRepository.findAllByUserId(userId).stream()
                 .map(CartItem::from)
@@ -0,0 +1,179 @@
+package com.sparta.ecommerce.application.coupon;
+
+import com.sparta.ecommerce.common.transaction.TransactionHandler;
+import com.sparta.ecommerce.domain.coupon.CouponRepository;
+import com.sparta.ecommerce.domain.coupon.CouponWaitingRoomRepository;
+import com.sparta.ecommerce.domain.coupon.UserCouponRepository;
+import com.sparta.ecommerce.domain.coupon.dto.CouponSweepResult;
+import com.sparta.ecommerce.domain.coupon.entity.Coupon;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 만료 쿠폰 정리 서비스
+ *
+ * 쿠폰 만료는 발급 요청 시에만 확인되므로, 만료된 쿠폰의 사용자 쿠폰과 대기열 상태가 계속 남습니다.
+ * 이 서비스는 만료 후 보관 기간(retention-days)이 지난 쿠폰의 user_coupon 행을 user_coupon_archive로 옮기고,
+ * 만료된 쿠폰의 Redis 대기열 상태를 삭제합니다.
+ *
+ * 운영 트래픽 보호:
+ * - 청크(chunk-size건) 하나를 한 트랜잭션으로 처리하여 행 락과 undo 로그를 짧게 유지합니다.
+ * - 청크 사이에 max(chunk-pause-ms, 직전 청크 처리 시간)만큼 쉬어 DB 사용 시간을 절반 이하로 제한합니다.
+ * - 한 번의 실행에서 최대 max-rows-per-run건까지만 처리하고 나머지는 다음 실행으로 넘깁니다.
+ * - 분산 락으로 여러 인스턴스 중 하나만 실행합니다.
+ *
+ * 주문에 사용된 사용자 쿠폰도 보관 테이블에 그대로 남으므로 이력은 유지됩니다.
+ * 보관 기간은 진행 중인 주문의 쿠폰 사용/복구가 끝나기에 충분히 길어야 합니다.
+ */
+@Slf4j
+@Service
+public class CouponExpirySweepService {
+
+    private static final String LOCK_KEY = "coupon:sweep:lock";
+    private static final int COUPON_BATCH_SIZE = 100;
+
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final CouponWaitingRoomRepository couponWaitingRoomRepository;
+    private final TransactionHandler transactionHandler;
+    private final RedissonClient redissonClient;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final long chunkPauseMs;
+    private final long maxRowsPerRun;
+
+    public CouponExpirySweepService(
+            CouponRepository couponRepository,
+            UserCouponRepository userCouponRepository,
+            CouponWaitingRoomRepository couponWaitingRoomRepository,
+            TransactionHandler transactionHandler,
+            RedissonClient redissonClient,
+            @Value("${coupon.sweep.retention-days:30}") int retentionDays,
+            @Value("${coupon.sweep.chunk-size:500}") int chunkSize,
+            @Value("${coupon.sweep.chunk-pause-ms:100}") long chunkPauseMs,
+            @Value("${coupon.sweep.max-rows-per-run:200000}") long maxRowsPerRun
+    ) {
+        this.couponRepository = couponRepository;
+        this.userCouponRepository = userCouponRepository;
+        this.couponWaitingRoomRepository = couponWaitingRoomRepository;
+        this.transactionHandler = transactionHandler;
+        this.redissonClient = redissonClient;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMs = chunkPauseMs;
+        this.maxRowsPerRun = maxRowsPerRun;
+    }
+
+    /**
+     * 만료 쿠폰을 정리합니다. 다른 인스턴스가 실행 중이면 아무 작업도 하지 않습니다.
+     *
+     * @return 정리 결과 (다른 인스턴스가 실행 중이면 empty)
+     */
+    public Optional<CouponSweepResult> sweep() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.debug("만료 쿠폰 정리 생략 - 다른 인스턴스에서 실행 중");
+            return Optional.empty();
+        }
+        try {
+            int closedWaitingRooms = closeExpiredWaitingRooms();
+            CouponSweepResult result = archiveExpiredUserCoupons(closedWaitingRooms);
+            return Optional.of(result);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 열린 대기열 중 만료(또는 삭제)된 쿠폰의 대기열 상태를 삭제합니다.
+     * 대기열 키는 TTL로 만료되지만 열린 대기열 목록(coupon:waiting:open)에는 계속 남기 때문입니다.
+     */
+    private int closeExpiredWaitingRooms() {
+        int closed = 0;
+        for (Long couponId : couponWaitingRoomRepository.findOpenCouponIds()) {
+            Optional<Coupon> coupon = couponRepository.findById(couponId);
+            if (coupon.isEmpty() || coupon.get().isExpired()) {
+                couponWaitingRoomRepository.remove(couponId);
+                closed++;
+            }
+        }
+        return closed;
+    }
+
+    private CouponSweepResult archiveExpiredUserCoupons(int closedWaitingRooms) {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusDays(retentionDays);
+        long started = System.currentTimeMillis();
+        Progress progress = new Progress();
+        boolean completed = false;
+
+        sweep:
+        while (true) {
+            List<Long> couponIds = couponRepository.findExpiredCouponIdsWithUserCoupons(expiredBefore, COUPON_BATCH_SIZE);
+            if (couponIds.isEmpty()) {
+                completed = true;
+                break;
+            }
+            for (Long couponId : couponIds) {
+                if (!archiveCoupon(couponId, progress)) {
+                    break sweep;
+                }
+                progress.sweptCoupons++;
+            }
+        }
+
+        log.info("만료 쿠폰 정리 {} - 쿠폰: {}, 보관: {}건, 대기열 정리: {}, {}ms",
+                completed ? "완료" : "중단 (다음 실행에서 계속)",
+                progress.sweptCoupons, progress.archived, closedWaitingRooms, System.currentTimeMillis() - started);
+        return new CouponSweepResult(progress.sweptCoupons, progress.archived, closedWaitingRooms, completed);
+    }
+
+    /**
+     * 쿠폰 하나의 사용자 쿠폰을 청크 단위로 보관합니다.
+     *
+     * @return 모두 보관했으면 true, 실행당 최대 건수에 도달했거나 인터럽트되어 중단했으면 false
+     */
+    private boolean archiveCoupon(Long couponId, Progress progress) {
+        long couponArchived = 0;
+        while (progress.archived < maxRowsPerRun && !Thread.currentThread().isInterrupted()) {
+            int limit = (int) Math.min(chunkSize, maxRowsPerRun - progress.archived);
+            long chunkStarted = System.currentTimeMillis();
+            int moved = transactionHandler.executeWithResult(() -> userCouponRepository.archiveByCouponId(couponId, limit));
+            progress.archived += moved;
+            couponArchived += moved;
+
+            if (moved < limit) {
+                log.info("만료 쿠폰 사용자 쿠폰 보관 완료 - couponId: {}, 보관: {}건", couponId, couponArchived);
+                return true;
+            }
+            log.debug("만료 쿠폰 사용자 쿠폰 보관 진행 - couponId: {}, 보관: {}건", couponId, couponArchived);
+            pause(System.currentTimeMillis() - chunkStarted);
+        }
+        return false;
+    }
+
+    private void pause(long chunkElapsedMs) {
+        long sleepMs = Math.max(chunkPauseMs, chunkElapsedMs);
+        if (sleepMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(sleepMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Progress {
+        private int sweptCoupons;
+        private long archived;
+    }
+}
@@ -0,0 +1,149 @@
+package com.sparta.ecommerce.application.coupon;
+
+import com.sparta.ecommerce.application.user.UserService;
+import com.sparta.ecommerce.domain.coupon.CouponQueueStatus;
+import com.sparta.ecommerce.domain.coupon.CouponWaitingRoomRepository;
+import com.sparta.ecommerce.domain.coupon.dto.CouponQueueResponse;
+import com.sparta.ecommerce.domain.coupon.entity.Coupon;
+import com.sparta.ecommerce.domain.coupon.exception.CouponErrorCode;
+import com.sparta.ecommerce.domain.coupon.exception.CouponException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 쿠폰 발급 대기열 서비스
+ *
+ * 선착순 쿠폰 오픈 시 요청을 바로 발급하지 않고 쿠폰별 대기열(ZSET)에 도착 순으로 넣은 뒤,
+ * 스케줄러가 일정 주기마다 정해진 인원만 발급 파이프라인(coupon:issue:queue → CouponIssueQueueConsumer)으로 입장시킵니다.
+ * 요청이 아무리 몰려도 DB 발급 처리량은 admitBatchSize / admitInterval로 일정하게 유지됩니다.
+ *
+ * 남은 재고만큼만 입장시키며, 재고가 0이 되면 대기열을 종료하고 남은 대기자는 SOLD_OUT 상태가 됩니다.
+ * 입장한 사용자의 발급이 실패하면 재고를 되돌려 다른 대기자가 입장할 수 있도록 합니다.
+ */
+@Slf4j
+@Service
+public class CouponWaitingRoomService {
+
+    private final UserService userService;
+    private final CouponService couponService;
+    private final UserCouponService userCouponService;
+    private final CouponWaitingRoomRepository couponWaitingRoomRepository;
+    private final int admitBatchSize;
+
+    public CouponWaitingRoomService(
+            UserService userService,
+            CouponService couponService,
+            UserCouponService userCouponService,
+            CouponWaitingRoomRepository couponWaitingRoomRepository,
+            @Value("${coupon.waiting-room.admit-batch-size:50}") int admitBatchSize
+    ) {
+        this.userService = userService;
+        this.couponService = couponService;
+        this.userCouponService = userCouponService;
+        this.couponWaitingRoomRepository = couponWaitingRoomRepository;
+        this.admitBatchSize = admitBatchSize;
+    }
+
+    /**
+     * 쿠폰 발급 대기열 입장
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 대기 순번
+     * @throws CouponException 쿠폰 만료, 중복 발급, 재고 소진 시
+     */
+    public CouponQueueResponse enter(Long couponId, Long userId) {
+        // 1. 사용자 존재 여부 확인
+        userService.getUserById(userId);
+
+        // 2. 쿠폰 존재 여부 및 만료 확인
+        Coupon coupon = couponService.getCouponById(couponId);
+        if (coupon.isExpired()) {
+            throw new CouponException(CouponErrorCode.COUPON_EXPIRED);
+        }
+
+        // 3. 중복 발급 검증
+        if (userCouponService.hasCoupon(userId, couponId)) {
+            throw new CouponException(CouponErrorCode.COUPON_ALREADY_ISSUED);
+        }
+
+        // 4. 대기열 재고 초기화 (대기열을 열 때 DB 기준 남은 수량)
+        couponWaitingRoomRepository.initializeStock(couponId, coupon.getTotalQuantity() - coupon.getIssuedQuantity());
+
+        // 5. 대기열 입장 (도착 시각 순)
+        long rank = couponWaitingRoomRepository.enter(couponId, userId, System.currentTimeMillis());
+        log.debug("쿠폰 대기열 입장 - couponId: {}, userId: {}, position: {}", couponId, userId, rank + 1);
+
+        return new CouponQueueResponse(couponId, userId, CouponQueueStatus.WAITING, rank + 1);
+    }
+
+    /**
+     * 대기열 상태 조회 (ZRANK)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 대기 상태 및 순번
+     */
+    public CouponQueueResponse getQueueStatus(Long couponId, Long userId) {
+        Optional<Long> rank = couponWaitingRoomRepository.findRank(couponId, userId);
+        if (rank.isPresent()) {
+            return new CouponQueueResponse(couponId, userId, CouponQueueStatus.WAITING, rank.get() + 1);
+        }
+        if (couponWaitingRoomRepository.isAdmitted(couponId, userId)) {
+            return new CouponQueueResponse(couponId, userId, CouponQueueStatus.ADMITTED, null);
+        }
+        if (couponWaitingRoomRepository.isClosed(couponId)) {
+            return new CouponQueueResponse(couponId, userId, CouponQueueStatus.SOLD_OUT, null);
+        }
+        return new CouponQueueResponse(couponId, userId, CouponQueueStatus.NOT_IN_QUEUE, null);
+    }
+
+    /**
+     * 열려 있는 모든 대기열에서 admitBatchSize명씩 발급 파이프라인으로 입장시킵니다.
+     *
+     * @return 입장한 사용자 수
+     */
+    public int admitAll() {
+        int admittedCount = 0;
+        for (Long couponId : couponWaitingRoomRepository.findOpenCouponIds()) {
+            try {
+                List<Long> admitted = couponWaitingRoomRepository.admit(couponId, admitBatchSize);
+                admittedCount += admitted.size();
+                if (!admitted.isEmpty()) {
+                    log.info("쿠폰 대기열 입장 처리 - couponId: {}, admitted: {}", couponId, admitted.size());
+                }
+            } catch (Exception e) {
+                log.error("쿠폰 대기열 입장 처리 실패 - couponId: {}, error: {}", couponId, e.getMessage());
+            }
+        }
+        return admittedCount;
+    }
+
+    /**
+     * 입장 후 발급에 실패한 경우 대기열 재고를 되돌립니다.
+     *
+     * 쿠폰 재고가 DB에서 소진된 경우(COUPON_OUT_OF_STOCK)는 되돌리지 않습니다.
+     * 되돌려도 다음 입장자가 같은 이유로 실패하기 때문입니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @param cause 발급 실패 원인
+     */
+    public void releaseSlot(Long couponId, Long userId, Exception cause) {
+        if (cause instanceof CouponException couponException
+                && couponException.getErrorCode() == CouponErrorCode.COUPON_OUT_OF_STOCK) {
+            return;
+        }
+        try {
+            if (couponWaitingRoomRepository.releaseSlot(couponId, userId)) {
+                log.info("쿠폰 대기열 재고 반환 - couponId: {}, userId: {}", couponId, userId);
+            }
+        } catch (Exception e) {
+            log.error("쿠폰 대기열 재고 반환 실패 - couponId: {}, userId: {}, error: {}", couponId, userId, e.getMessage());
+        }
+    }
+}
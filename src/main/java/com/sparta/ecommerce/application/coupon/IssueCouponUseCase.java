@@ -2,6 +2,7 @@ package com.sparta.ecommerce.application.coupon;
 
 import com.sparta.ecommerce.application.coupon.event.CouponIssueEvent;
 import com.sparta.ecommerce.application.user.UserService;
+import com.sparta.ecommerce.common.kafka.KafkaPublishGateway;
 import com.sparta.ecommerce.domain.coupon.CouponRepository;
 import com.sparta.ecommerce.domain.coupon.entity.Coupon;
 import com.sparta.ecommerce.domain.coupon.exception.CouponErrorCode;
@@ -24,10 +25,15 @@ public class IssueCouponUseCase {
     private final CouponService couponService;
     private final UserCouponService userCouponService;
     private final KafkaTemplate<String, CouponIssueEvent> kafkaTemplate;
+    private final KafkaPublishGateway kafkaPublishGateway;
 
 
     /**
      * 쿠폰 발급 요청 (Kafka로 메시지 발행)
+     *
+     * 발행은 ack를 기다리지 않으며, 발행 대기열이 포화되면 즉시 거부합니다.
+     *
+     * @throws com.sparta.ecommerce.common.kafka.KafkaPublishRejectedException 발행 대기열이 포화된 경우 (503)
      */
     public void issueCoupon(Long userId, Long couponId) {
         // 1. 사용자 존재 여부 확인
@@ -46,7 +52,7 @@ public class IssueCouponUseCase {
 
         // 4. Kafka로 쿠폰 발급 이벤트 발행
         CouponIssueEvent event = new CouponIssueEvent(userId, couponId);
-        kafkaTemplate.send("coupon-issue-topic", event);
+        kafkaPublishGateway.publish(kafkaTemplate, "coupon-issue-topic", event);
         log.info("쿠폰 발급 이벤트 Kafka 발행 - userId: {}, couponId: {}", userId, couponId);
     }
 
@@ -3,8 +3,11 @@ package com.sparta.ecommerce.application.coupon;
 import com.sparta.ecommerce.application.coupon.event.CouponUsedSuccessEvent;
 import com.sparta.ecommerce.application.order.OrderService;
 import com.sparta.ecommerce.application.order.event.OrderCreatedEvent;
+import com.sparta.ecommerce.common.pagination.CursorPage;
+import com.sparta.ecommerce.common.pagination.KeysetCursor;
 import com.sparta.ecommerce.domain.coupon.CouponRepository;
 import com.sparta.ecommerce.domain.coupon.UserCouponRepository;
+import com.sparta.ecommerce.domain.coupon.dto.UserCouponWalletResponse;
 import com.sparta.ecommerce.domain.coupon.entity.Coupon;
 import com.sparta.ecommerce.domain.coupon.entity.UserCoupon;
 import com.sparta.ecommerce.domain.coupon.exception.CouponErrorCode;
@@ -17,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -198,6 +202,24 @@ public class UserCouponService {
         return new CouponDiscountResult(validatedCoupon.userCoupon(), discountAmount);
     }
 
+    /**
+     * 사용자 쿠폰함을 최근 발급순으로 조회합니다. (키셋 페이지네이션, 쿠폰 정보 포함)
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ CursorPage.MAX_SIZE)
+     * @return 쿠폰함 페이지
+     * @throws com.sparta.ecommerce.common.pagination.InvalidCursorException 커서 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserCouponWalletResponse> getWallet(Long userId, String cursor, int size) {
+        int pageSize = CursorPage.clampSize(size);
+        List<UserCouponWalletResponse> rows = userCouponRepository.findWalletByUserId(
+                userId, KeysetCursor.decode(cursor), pageSize + 1);
+        return CursorPage.of(rows, pageSize,
+                coupon -> new KeysetCursor(coupon.issuedAt(), coupon.userCouponId()));
+    }
+
     /**
      * 유효성 검증된 쿠폰 정보를 담는 DTO
      */
@@ -2,6 +2,7 @@ package com.sparta.ecommerce.application.coupon.consumer;
 
 import com.sparta.ecommerce.application.coupon.IssueCouponUseCase;
 import com.sparta.ecommerce.application.coupon.event.CouponIssueEvent;
+import com.sparta.ecommerce.domain.coupon.exception.CouponException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Component;
  *
  * Kafka에서 쿠폰 발급 이벤트 메시지를 받아서 실제 발급 처리를 수행합니다.
  * 순차적으로 메시지를 처리하여 선착순 쿠폰 발급을 보장합니다.
+ * 일시적 장애로 실패한 메시지는 재시도 토픽(1s, 10s, 1m)을 거쳐 DLT로 이동합니다. (KafkaConfig 참고)
  */
 @Slf4j
 @Component
@@ -39,10 +41,15 @@ public class CouponIssueConsumer {
             issueCouponUseCase.executeIssueCoupon(event.userId(), event.couponId());
             log.info("쿠폰 발급 처리 완료 - userId: {}, couponId: {}",
                     event.userId(), event.couponId());
+        } catch (CouponException e) {
+            // 품절, 중복 발급 등 비즈니스 거절은 재시도해도 결과가 같으므로 재시도하지 않음
+            log.warn("쿠폰 발급 거절 - userId: {}, couponId: {}, reason: {}",
+                    event.userId(), event.couponId(), e.getMessage());
         } catch (Exception e) {
             log.error("쿠폰 발급 처리 실패 - userId: {}, couponId: {}, error: {}",
                     event.userId(), event.couponId(), e.getMessage(), e);
-            // TODO: 실패 처리 로직 (재시도, DLQ 등)
+            // 일시적 장애(DB, 네트워크 등)는 예외를 전파하여 재시도 토픽 -> DLT로 이동
+            throw e;
         }
     }
 }
@@ -5,9 +5,19 @@ package com.sparta.ecommerce.application.coupon.event;
  *
  * 주문 실패 시 사용된 쿠폰을 복구하기 위해 발행되는 이벤트입니다.
  * Kafka Consumer에서 이 이벤트를 받아 쿠폰 상태를 복구합니다.
+ * orderId는 멱등 키입니다. 같은 주문의 쿠폰 복구는 한 번만 반영됩니다. (이전 버전 메시지는 null)
+ * orderId가 없는 이전 버전 메시지는 legacyEventKey()로 중복을 판단합니다.
  */
 public record CouponRestoreEvent(
+        Long orderId,
         Long userId,
         Long userCouponId
 ) {
+
+    /**
+     * orderId가 없는 이전 버전 메시지의 멱등 키 (이벤트 내용)
+     */
+    public String legacyEventKey() {
+        return userId + ":" + userCouponId;
+    }
 }
@@ -4,12 +4,17 @@ import com.sparta.ecommerce.application.cart.CartService;
 import com.sparta.ecommerce.application.coupon.UserCouponService;
 import com.sparta.ecommerce.application.order.event.OrderCreatedEvent;
 import com.sparta.ecommerce.application.product.ProductService;
+import com.sparta.ecommerce.application.product.StockHoldService;
 import com.sparta.ecommerce.application.user.UserService;
+import com.sparta.ecommerce.common.annotation.ReadFrom;
+import com.sparta.ecommerce.common.datasource.DataSourceRole;
+import com.sparta.ecommerce.common.kafka.KafkaPublishGateway;
+import com.sparta.ecommerce.common.kafka.KafkaPublishGateway.PublishPermit;
 import com.sparta.ecommerce.common.transaction.TransactionHandler;
 import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
 import com.sparta.ecommerce.domain.cart.exception.CartException;
 import com.sparta.ecommerce.domain.order.entity.Order;
-import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.dto.ProductSnapshot;
 import com.sparta.ecommerce.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,15 +34,21 @@ import static com.sparta.ecommerce.domain.cart.exception.CartErrorCode.CART_IS_E
  *
  * 처리 흐름:
  *   1. 낙관적 검증 (락 없이 재고 확인)
- *   2. 주문을 PENDING 상태로 생성 (트랜잭션)
+ *   2. 주문을 PENDING 상태로 생성하고 재고를 임시 점유 (트랜잭션, 가용 재고 부족 시 롤백)
  *   3. OrderCreatedEvent를 Kafka로 발행
  *   4. [비동기] 재고 차감 리스너가 멀티락 획득 후 재고 차감
  *   5. [비동기] 성공 시 주문 상태를 COMPLETED로 변경
  *   6. [비동기] 실패 시 주문 상태를 FAILED로 변경 및 보상 트랜잭션
  *
+ * 발행 배압:
+ *   주문 생성 전에 KafkaPublishGateway에서 발행 자리를 확보합니다. 발행 대기열이 포화되면 주문을 만들지 않고
+ *   즉시 거부(503)하므로, PENDING 주문이 이벤트 없이 남거나 요청 스레드가 Producer 버퍼를 기다리지 않습니다.
+ *
  * 트랜잭션 제어:
  *   TransactionHandler를 통해 기술(트랜잭션)과 도메인 로직을 분리합니다.
  *   검증은 트랜잭션 밖에서 수행하여 트랜잭션 시간을 최소화합니다.
+ *   그룹 커밋 모드(order.intake.group-commit.enabled=true)에서는 OrderGroupCommitWriter가
+ *   여러 요청의 주문 생성을 하나의 트랜잭션으로 묶어 커밋하고, 커밋 후 이벤트를 발행합니다.
  *
  * 이벤트 기반 처리:
  *   주문 생성 완료 후 OrderCreatedEvent를 Kafka로 발행하여 부수 작업을 비동기로 처리합니다.
@@ -48,13 +59,18 @@ import static com.sparta.ecommerce.domain.cart.exception.CartErrorCode.CART_IS_E
 @RequiredArgsConstructor
 public class CreateOrderUseCase {
 
+    private static final String ORDER_CREATED_TOPIC = "order-created-topic";
+
     private final CartService cartService;
     private final UserService userService;
     private final UserCouponService userCouponService;
     private final OrderService orderService;
     private final ProductService productService;
+    private final StockHoldService stockHoldService;
     private final TransactionHandler transactionHandler;
+    private final OrderGroupCommitWriter orderGroupCommitWriter;
     private final KafkaTemplate<String, OrderCreatedEvent> orderCreatedKafkaTemplate;
+    private final KafkaPublishGateway kafkaPublishGateway;
 
     /**
      * 주문을 생성합니다.
@@ -64,12 +80,15 @@ public class CreateOrderUseCase {
      *
      * @param userId 사용자 ID
      * @param userCouponId 사용할 쿠폰 ID (null 가능)
+     * @return 접수된 주문 ID (PENDING 상태, 처리 결과는 주문 상태 조회/구독으로 확인)
      * @throws com.sparta.ecommerce.domain.user.exception.UserException 사용자를 찾을 수 없거나 포인트가 부족한 경우
      * @throws com.sparta.ecommerce.domain.product.exception.ProductException 상품을 찾을 수 없거나 재고가 부족한 경우
      * @throws com.sparta.ecommerce.domain.coupon.exception.CouponException 쿠폰이 유효하지 않은 경우
      * @throws com.sparta.ecommerce.domain.cart.exception.CartException 장바구니가 비어있는 경우
+     * @throws com.sparta.ecommerce.common.kafka.KafkaPublishRejectedException 발행 대기열이 포화된 경우 (503)
      */
-    public void createOrder(Long userId, Long userCouponId) {
+    @ReadFrom(DataSourceRole.PRIMARY)  // 방금 담은 장바구니/사용한 쿠폰이 검증에 반영되도록 Primary에서 조회
+    public Long createOrder(Long userId, Long userCouponId) {
         // 사용자 및 장바구니 조회
         User user = userService.getUserById(userId);
 
@@ -86,10 +105,23 @@ public class CreateOrderUseCase {
         // 낙관적 검증 (락 없이 수행)
         OrderValidation validation = validateOrder(user, userCouponId, findCartItems, productIds);
 
-        // TransactionHandler를 통해 트랜잭션 제어 (주문을 PENDING 상태로 생성)
-        transactionHandler.execute(() ->
-                executeOrderTransaction(user, userCouponId, findCartItems, validation)
-        );
+        // 주문 생성 전에 이벤트 발행 자리 확보 (포화 시 주문을 만들지 않고 거부, 주문 생성 실패 시 자리 반환)
+        try (PublishPermit permit = kafkaPublishGateway.reserve(ORDER_CREATED_TOPIC)) {
+            // 그룹 커밋 모드: 다른 요청의 주문과 함께 커밋된 후 이벤트 발행
+            if (orderGroupCommitWriter.isEnabled()) {
+                Order createdOrder = orderGroupCommitWriter.execute(() ->
+                        createPendingOrder(user, userCouponId, findCartItems, validation)
+                );
+                publishOrderCreatedEvent(permit, user, userCouponId, findCartItems, validation, createdOrder);
+                return createdOrder.getOrderId();
+            }
+
+            // TransactionHandler를 통해 트랜잭션 제어 (주문을 PENDING 상태로 생성)
+            Order createdOrder = transactionHandler.executeWithResult(() ->
+                    executeOrderTransaction(permit, user, userCouponId, findCartItems, validation)
+            );
+            return createdOrder.getOrderId();
+        }
     }
 
     /**
@@ -111,19 +143,20 @@ public class CreateOrderUseCase {
             List<CartItemResponse> findCartItems,
             List<Long> productIds
     ) {
-        // 상품 조회
-        Map<Long, Product> productMap = productService.getProductMapByIds(productIds);
+        // 상품 조회 - 가격/상품명은 스냅샷 캐시, 재고는 스칼라 조회 (엔티티 로딩 없음)
+        Map<Long, ProductSnapshot> productSnapshots = productService.getProductSnapshots(productIds);
+        Map<Long, Integer> stockMap = productService.getStockMap(productIds);
 
         // 검증 - 각 도메인 서비스에 위임
-        productService.validateStock(findCartItems, productMap);
-        int totalAmount = productService.calculateTotalAmount(findCartItems, productMap);
+        productService.validateStock(findCartItems, stockMap);
+        int totalAmount = productService.calculateTotalAmount(findCartItems, productSnapshots);
         UserCouponService.CouponDiscountResult couponResult =
                 userCouponService.validateAndCalculateDiscount(userCouponId, user.getUserId(), totalAmount);
         int finalAmount = calculateFinalAmount(totalAmount, couponResult.discountAmount());
         user.validateSufficientPoint(finalAmount);
 
         // 검증 과정에서 계산된 데이터를 반환 (중복 조회/계산 방지)
-        return new OrderValidation(productMap, totalAmount, couponResult.discountAmount(), finalAmount);
+        return new OrderValidation(productSnapshots, stockMap, totalAmount, couponResult.discountAmount(), finalAmount);
     }
 
     /**
@@ -132,6 +165,7 @@ public class CreateOrderUseCase {
      * Redis 락이 획득된 상태에서 TransactionHandler를 통해 트랜잭션 내에서 호출됩니다.
      * 주문 생성 및 장바구니 삭제만 수행하고, 포인트 차감, 재고 차감, 쿠폰 사용은 이벤트로 처리합니다.
      *
+     * @param permit 확보한 이벤트 발행 자리
      * @param user 사용자
      * @param userCouponId 사용할 쿠폰 ID (null 가능)
      * @param findCartItems 장바구니 상품 목록
@@ -139,12 +173,34 @@ public class CreateOrderUseCase {
      * @return 생성된 주문
      */
     private Order executeOrderTransaction(
+            PublishPermit permit,
+            User user,
+            Long userCouponId,
+            List<CartItemResponse> findCartItems,
+            OrderValidation validation
+    ) {
+        Order createdOrder = createPendingOrder(user, userCouponId, findCartItems, validation);
+
+        // 주문 생성 완료 이벤트를 Kafka로 발행 (포인트 차감, 재고 차감, 쿠폰 사용, 랭킹 업데이트는 Kafka Consumer에서 처리)
+        publishOrderCreatedEvent(permit, user, userCouponId, findCartItems, validation, createdOrder);
+
+        return createdOrder;
+    }
+
+    /**
+     * 주문을 PENDING 상태로 저장하고, 재고를 임시 점유한 뒤 장바구니를 비웁니다.
+     *
+     * 호출자의 트랜잭션(요청별 트랜잭션 또는 그룹 커밋 트랜잭션)에 참여합니다.
+     * 가용 재고가 부족하면 예외로 트랜잭션을 롤백하며, 롤백 시 점유도 해제됩니다.
+     *
+     * @return 생성된 주문
+     */
+    private Order createPendingOrder(
             User user,
             Long userCouponId,
             List<CartItemResponse> findCartItems,
             OrderValidation validation
     ) {
-        // 주문 생성
         Order createdOrder = orderService.createOrder(
                 user.getUserId(),
                 userCouponId,
@@ -152,12 +208,27 @@ public class CreateOrderUseCase {
                 validation.discountAmount,
                 validation.finalAmount,
                 findCartItems,
-                validation.productMap
+                validation.productSnapshots
         );
 
+        stockHoldService.hold(createdOrder.getOrderId(), findCartItems, validation.stockMap);
+
         cartService.clearCart(user.getUserId());
 
-        // 주문 생성 완료 이벤트를 Kafka로 발행 (포인트 차감, 재고 차감, 쿠폰 사용, 랭킹 업데이트는 Kafka Consumer에서 처리)
+        return createdOrder;
+    }
+
+    /**
+     * 주문 생성 완료 이벤트를 Kafka로 발행합니다. (ack를 기다리지 않음)
+     */
+    private void publishOrderCreatedEvent(
+            PublishPermit permit,
+            User user,
+            Long userCouponId,
+            List<CartItemResponse> findCartItems,
+            OrderValidation validation,
+            Order createdOrder
+    ) {
         OrderCreatedEvent event = new OrderCreatedEvent(
                 user.getUserId(),
                 createdOrder.getOrderId(),
@@ -165,11 +236,9 @@ public class CreateOrderUseCase {
                 validation.finalAmount,
                 findCartItems
         );
-        orderCreatedKafkaTemplate.send("order-created-topic", event);
+        kafkaPublishGateway.send(permit, orderCreatedKafkaTemplate, event);
         log.info("주문 생성 이벤트 Kafka 발행 - orderId: {}, userId: {}",
                 createdOrder.getOrderId(), user.getUserId());
-
-        return createdOrder;
     }
 
     /**
@@ -185,7 +254,8 @@ public class CreateOrderUseCase {
      * 검증 과정에서 조회/계산된 데이터를 담아 중복 호출을 방지합니다.
      */
     private record OrderValidation(
-            Map<Long, Product> productMap,
+            Map<Long, ProductSnapshot> productSnapshots,
+            Map<Long, Integer> stockMap,
             int totalAmount,
             int discountAmount,
             int finalAmount
@@ -0,0 +1,96 @@
+package com.sparta.ecommerce.application.order;
+
+import com.sparta.ecommerce.common.transaction.TransactionHandler;
+import com.sparta.ecommerce.domain.order.OrderSagaStep;
+import com.sparta.ecommerce.domain.order.ProcessedOrderStepRepository;
+import com.sparta.ecommerce.domain.order.exception.OrderException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+import static com.sparta.ecommerce.domain.order.exception.OrderErrorCode.ORDER_STEP_ALREADY_PROCESSED;
+
+/**
+ * 주문 보상 단계 실행기 (복구 Consumer의 Idempotent Consumer)
+ *
+ * 복구 이벤트는 발행 ack를 받지 못하면 다시 발행되므로 같은 주문의 복구 이벤트가 여러 번 도착할 수 있습니다.
+ * 사가 단계와 같이 (주문 ID, 보상 단계) 처리 이력을 복구 작업과 같은 트랜잭션에 기록하여 한 번만 반영합니다.
+ *
+ * orderId가 없는 이전 버전 이벤트는 이벤트 내용으로 만든 키(SHA-256)로 이력을 기록합니다.
+ * 내용이 같은 이전 버전 이벤트는 같은 복구로 간주하므로, 건너뛴 경우 WARN 로그를 남겨 필요 시 대사할 수 있도록 합니다.
+ * (이전 버전 메시지는 전환 전에 발행된 것만 남아 있으므로 대상이 한정됩니다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCompensationStepExecutor {
+
+    private final ProcessedOrderStepRepository processedOrderStepRepository;
+    private final TransactionHandler transactionHandler;
+
+    /**
+     * 처리 이력 기록과 복구 작업을 하나의 트랜잭션으로 실행합니다.
+     *
+     * 이력을 먼저 기록하므로 중복 이벤트는 작업 전에 unique 제약으로 차단되며,
+     * 작업이 실패하면 이력도 함께 롤백되어 재시도 토픽에서 다시 처리할 수 있습니다.
+     * orderId가 없는 이전 버전 이벤트는 이벤트 내용 키로 이력을 기록합니다.
+     *
+     * @param orderId 주문 ID (멱등 키)
+     * @param step 보상 단계 (STOCK_RESTORE, POINT_RESTORE, COUPON_RESTORE)
+     * @param legacyEventKey orderId가 없을 때 사용할 이벤트 내용 키
+     * @param action 복구 작업
+     * @return 실행했으면 true, 이미 처리된 복구라 건너뛰었으면 false
+     */
+    public boolean executeOnce(Long orderId, OrderSagaStep step, Supplier<String> legacyEventKey, Runnable action) {
+        if (!step.isCompensation()) {
+            throw new IllegalArgumentException("보상 단계가 아닙니다: " + step);
+        }
+        if (orderId == null) {
+            return executeLegacyOnce(hash(legacyEventKey.get()), step, action);
+        }
+        try {
+            transactionHandler.execute(() -> {
+                processedOrderStepRepository.markProcessed(orderId, step);
+                action.run();
+            });
+            return true;
+        } catch (OrderException e) {
+            if (e.getErrorCode() != ORDER_STEP_ALREADY_PROCESSED) {
+                throw e;
+            }
+            log.info("이미 처리된 복구 이벤트 - orderId: {}, step: {}", orderId, step);
+            return false;
+        }
+    }
+
+    private boolean executeLegacyOnce(String eventKey, OrderSagaStep step, Runnable action) {
+        try {
+            transactionHandler.execute(() -> {
+                processedOrderStepRepository.markLegacyProcessed(eventKey, step);
+                action.run();
+            });
+            return true;
+        } catch (OrderException e) {
+            if (e.getErrorCode() != ORDER_STEP_ALREADY_PROCESSED) {
+                throw e;
+            }
+            log.warn("이미 처리된 이전 버전 복구 이벤트 - eventKey: {}, step: {}", eventKey, step);
+            return false;
+        }
+    }
+
+    private static String hash(String eventKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(eventKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
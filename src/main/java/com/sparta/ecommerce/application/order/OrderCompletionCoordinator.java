@@ -93,6 +93,7 @@ public class OrderCompletionCoordinator {
 
             order.setStatus("COMPLETED");
             orderService.updateOrder(order);
+            orderService.recordSales(orderId);
 
             log.info("주문 완료 - OrderId: {}, Status: COMPLETED", orderId);
 
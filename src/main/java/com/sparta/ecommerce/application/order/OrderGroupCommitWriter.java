@@ -0,0 +1,312 @@
+package com.sparta.ecommerce.application.order;
+
+import com.sparta.ecommerce.common.transaction.TransactionHandler;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 주문 접수 그룹 커밋 Writer
+ *
+ * 여러 요청 스레드의 주문 생성 트랜잭션(주문 저장, 주문 상품 저장, 장바구니 삭제)을
+ * 하나의 트랜잭션으로 묶어 커밋합니다. 커밋 시 발생하는 fsync 비용을 배치 내 주문들이 나누어 부담하므로
+ * 높은 RPS에서 초당 커밋 수 대비 처리 주문 수가 증가합니다.
+ *
+ * 처리 흐름:
+ *   1. 요청 스레드가 검증이 끝난 주문 생성 작업을 bounded 큐(링 버퍼)에 넣고 결과를 기다립니다.
+ *   2. 단일 writer 스레드가 최대 maxBatchSize개 또는 maxWaitMs 동안 모인 작업을 꺼냅니다.
+ *   3. 꺼낸 작업들을 하나의 트랜잭션에서 실행하고, 커밋 후 각 요청에 자신의 주문을 전달합니다.
+ *   4. 배치 트랜잭션이 실패하면 전체가 롤백되므로, 작업을 개별 트랜잭션으로 재실행하여
+ *      실패한 주문만 예외로 완료합니다. (한 주문의 실패가 같은 배치의 다른 주문에 전파되지 않음)
+ *
+ * 큐가 가득 찬 경우 호출 스레드에서 개별 트랜잭션으로 직접 실행합니다.
+ * order.intake.group-commit.enabled=true 일 때만 writer 스레드가 시작됩니다. (기본값: 비활성화)
+ */
+@Slf4j
+@Component
+public class OrderGroupCommitWriter {
+
+    private final TransactionHandler transactionHandler;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitMs;
+    private final long awaitTimeoutMs;
+    private final BlockingQueue<PendingOrderWrite> queue;
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder committedOrders = new LongAdder();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public OrderGroupCommitWriter(
+            TransactionHandler transactionHandler,
+            @Value("${order.intake.group-commit.enabled:false}") boolean enabled,
+            @Value("${order.intake.group-commit.max-batch-size:32}") int maxBatchSize,
+            @Value("${order.intake.group-commit.max-wait-ms:5}") long maxWaitMs,
+            @Value("${order.intake.group-commit.queue-capacity:1024}") int queueCapacity,
+            @Value("${order.intake.group-commit.await-timeout-ms:5000}") long awaitTimeoutMs
+    ) {
+        this.transactionHandler = transactionHandler;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitMs = maxWaitMs;
+        this.awaitTimeoutMs = awaitTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 그룹 커밋 모드가 활성화된 경우 writer 스레드를 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("order-group-commit-writer")
+                .daemon(true)
+                .start(this::runWriter);
+        log.info("주문 그룹 커밋 Writer 시작 - maxBatchSize: {}, maxWaitMs: {}", maxBatchSize, maxWaitMs);
+    }
+
+    /**
+     * 신규 작업 접수를 중단하고, 큐에 남은 작업을 모두 커밋한 뒤 writer 스레드를 종료합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(awaitTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 종료 시간 내 처리하지 못한 작업은 실패로 완료 (요청 스레드가 무한 대기하지 않도록)
+        PendingOrderWrite remaining;
+        while ((remaining = queue.poll()) != null) {
+            if (!remaining.cancel()) {
+                continue;
+            }
+            remaining.future().completeExceptionally(
+                    new IllegalStateException("주문 접수가 종료되어 요청을 처리할 수 없습니다"));
+        }
+        log.info("주문 그룹 커밋 Writer 종료");
+    }
+
+    /**
+     * 그룹 커밋 모드 활성화 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * writer 스레드가 수행한 커밋(트랜잭션) 수 - 배치 실패 후 개별 재실행 커밋 포함
+     */
+    public long commitCount() {
+        return commits.sum();
+    }
+
+    /**
+     * writer 스레드가 커밋한 주문 수 (commitCount로 나누면 평균 그룹 크기)
+     */
+    public long committedOrderCount() {
+        return committedOrders.sum();
+    }
+
+    /**
+     * 주문 생성 작업을 그룹 커밋으로 실행하고, 커밋이 완료될 때까지 대기합니다.
+     *
+     * 작업은 writer 스레드의 트랜잭션 안에서 실행되므로, 요청 스레드의 트랜잭션에 의존해서는 안 됩니다.
+     * 대기 시간 초과 시 writer가 아직 꺼내지 않은 작업은 취소하여 실패로 응답합니다.
+     * writer가 이미 실행 중인 작업은 커밋될 수 있으므로, 실패로 응답하지 않고 결과(커밋/롤백)가 나올 때까지 기다립니다.
+     * (실패로 응답한 주문이 커밋되어 이벤트 없이 PENDING으로 남고, 이후 복구 시 결제되는 것을 방지)
+     *
+     * @param work 트랜잭션 내에서 실행할 주문 생성 작업
+     * @return 커밋된 주문
+     */
+    public Order execute(Supplier<Order> work) {
+        PendingOrderWrite pending = new PendingOrderWrite(work, new CompletableFuture<>(), new AtomicBoolean());
+
+        // 큐가 가득 찬 경우 호출 스레드에서 개별 트랜잭션으로 처리
+        if (!running || !queue.offer(pending)) {
+            log.debug("그룹 커밋 큐 포화 - 개별 트랜잭션으로 처리");
+            return transactionHandler.executeWithResult(work);
+        }
+
+        try {
+            return pending.future().get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (pending.cancel()) {
+                throw new IllegalStateException("주문 그룹 커밋 대기 중 인터럽트 발생", e);
+            }
+            return awaitClaimed(pending);
+        } catch (TimeoutException e) {
+            if (pending.cancel()) {
+                throw new IllegalStateException("주문 그룹 커밋 대기 시간을 초과했습니다", e);
+            }
+            log.warn("주문 그룹 커밋 대기 시간 초과 - 실행 중인 작업의 결과를 기다립니다");
+            return awaitClaimed(pending);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * writer가 실행 중인 작업의 결과를 기다립니다. (트랜잭션 타임아웃 안에 커밋 또는 롤백으로 끝남)
+     */
+    private Order awaitClaimed(PendingOrderWrite pending) {
+        try {
+            return pending.future().join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private RuntimeException unwrap(Exception e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException("주문 그룹 커밋 실패", e.getCause());
+    }
+
+    /**
+     * writer 스레드 루프
+     *
+     * 첫 작업이 도착하면 maxWaitMs 동안 추가 작업을 모은 뒤 한 번에 커밋합니다.
+     * 종료 요청 후에도 큐에 남은 작업은 모두 처리합니다.
+     */
+    private void runWriter() {
+        List<PendingOrderWrite> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrderWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectBatch(batch);
+                commitBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.future().completeExceptionally(e));
+                break;
+            } catch (Exception e) {
+                // writer 스레드가 종료되면 모든 요청이 타임아웃되므로, 예상치 못한 예외도 배치 단위로 격리
+                log.error("주문 그룹 커밋 처리 중 오류 발생 - error: {}", e.getMessage(), e);
+                batch.forEach(pending -> pending.future().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 이미 큐에 쌓인 작업을 꺼내고, 배치가 차지 않았다면 maxWaitMs 동안 추가 작업을 기다립니다.
+     */
+    private void collectBatch(List<PendingOrderWrite> batch) throws InterruptedException {
+        queue.drainTo(batch, maxBatchSize - batch.size());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingOrderWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+    }
+
+    /**
+     * 배치를 하나의 트랜잭션으로 커밋하고 각 요청의 결과를 완료합니다.
+     * 배치 트랜잭션이 실패하면 작업별 개별 트랜잭션으로 재실행합니다.
+     */
+    private void commitBatch(List<PendingOrderWrite> batch) {
+        // 대기 시간 초과로 취소된 요청은 실행하지 않음 (꺼낸 작업은 요청 스레드가 취소할 수 없음)
+        List<PendingOrderWrite> active = batch.stream()
+                .filter(PendingOrderWrite::claim)
+                .toList();
+        if (active.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Order> orders = transactionHandler.executeWithResult(() -> {
+                List<Order> created = new ArrayList<>(active.size());
+                for (PendingOrderWrite pending : active) {
+                    created.add(pending.work().get());
+                }
+                return created;
+            });
+
+            commits.increment();
+            committedOrders.add(active.size());
+            for (int i = 0; i < active.size(); i++) {
+                active.get(i).future().complete(orders.get(i));
+            }
+            log.debug("주문 그룹 커밋 완료 - batchSize: {}", active.size());
+
+        } catch (Exception e) {
+            log.warn("주문 그룹 커밋 실패, 개별 트랜잭션으로 재시도 - batchSize: {}, error: {}",
+                    active.size(), e.getMessage());
+
+            for (PendingOrderWrite pending : active) {
+                try {
+                    Order order = transactionHandler.executeWithResult(pending.work());
+                    commits.increment();
+                    committedOrders.increment();
+                    pending.future().complete(order);
+                } catch (Exception individualError) {
+                    pending.future().completeExceptionally(individualError);
+                }
+            }
+        }
+    }
+
+    /**
+     * 커밋 대기 중인 주문 생성 작업
+     *
+     * taken: writer가 실행하기 위해 꺼냈거나(claim) 요청 스레드가 취소한(cancel) 경우 true.
+     * 먼저 설정한 쪽만 성공하므로, 취소된 작업은 실행되지 않고 실행된 작업은 취소되지 않습니다.
+     */
+    private record PendingOrderWrite(
+            Supplier<Order> work,
+            CompletableFuture<Order> future,
+            AtomicBoolean taken
+    ) {
+        private boolean claim() {
+            return taken.compareAndSet(false, true);
+        }
+
+        private boolean cancel() {
+            return taken.compareAndSet(false, true);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
 import com.sparta.ecommerce.domain.order.OrderItemRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
@@ -19,6 +20,7 @@ public class OrderItemService {
      *
      * @return 상품 ID를 키로, 판매량을 값으로 하는 Map
      */
+    @Transactional(readOnly = true)
     public Map<Long, Integer> getSoldCountByProductId() {
         return orderItemRepository.getSoldCountByProductId();
     }
@@ -32,6 +34,7 @@ public class OrderItemService {
      * @param limit 조회할 상품 개수
      * @return 판매량 기준 인기 상품 목록
      */
+    @Transactional(readOnly = true)
     public List<ProductResponse> findTopProductsBySoldCount(int limit) {
         return orderItemRepository.findTopProductsBySoldCount(limit);
     }
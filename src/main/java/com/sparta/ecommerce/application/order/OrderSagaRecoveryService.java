@@ -0,0 +1,124 @@
+package com.sparta.ecommerce.application.order;
+
+import com.sparta.ecommerce.application.order.consumer.OrderCreatedEventConsumer;
+import com.sparta.ecommerce.application.order.event.OrderCreatedEvent;
+import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 사가 복구 서비스
+ *
+ * 생성 후 order.saga.recovery.min-age-seconds가 지나도록 PENDING 상태인 주문의 사가를 재개합니다.
+ * - 종료 드레인으로 처리하지 못하고 넘긴 주문 (KafkaConsumerDrain)
+ * - 단계 사이에서 프로세스가 비정상 종료된 주문
+ * - 커밋 후 이벤트 발행에 실패한 주문
+ *
+ * 주문/주문 상품으로 OrderCreatedEvent를 복원하여 Consumer와 같은 경로로 처리하므로,
+ * 단계 처리 이력(processed_order_step)에 기록된 단계는 건너뛰고 남은 단계부터 진행하며,
+ * 남은 단계가 실패하면 기존과 같이 보상합니다.
+ * 보상 중 복구 이벤트 발행에 실패한 주문은 FAILED로 커밋되어 다시 복구 대상이 되지 않으므로 오류 로그를 남기고,
+ * 나머지 주문은 계속 재개합니다.
+ * 지연된 Kafka 메시지와 동시에 처리되더라도 단계 이력의 unique 제약으로 한 번만 반영됩니다.
+ *
+ * 분산 락으로 여러 인스턴스 중 하나만 실행하여, 같은 주문을 인스턴스마다 동시에 재개하지 않습니다.
+ * 락은 리스 시간 없이 획득하므로(Redisson watchdog 갱신) 복구가 길어져도 실행 중에 풀리지 않습니다.
+ */
+@Slf4j
+@Service
+public class OrderSagaRecoveryService {
+
+    private static final String LOCK_KEY = "order:saga:recovery:lock";
+
+    private final OrderService orderService;
+    private final OrderCreatedEventConsumer orderCreatedEventConsumer;
+    private final RedissonClient redissonClient;
+    private final long minAgeSeconds;
+    private final int batchSize;
+
+    public OrderSagaRecoveryService(
+            OrderService orderService,
+            OrderCreatedEventConsumer orderCreatedEventConsumer,
+            RedissonClient redissonClient,
+            @Value("${order.saga.recovery.min-age-seconds:120}") long minAgeSeconds,
+            @Value("${order.saga.recovery.batch-size:100}") int batchSize
+    ) {
+        this.orderService = orderService;
+        this.orderCreatedEventConsumer = orderCreatedEventConsumer;
+        this.redissonClient = redissonClient;
+        this.minAgeSeconds = minAgeSeconds;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 오래된 PENDING 주문의 사가를 재개합니다. 다른 인스턴스가 실행 중이면 아무 작업도 하지 않습니다.
+     *
+     * @return 재개한 주문 수
+     */
+    public int recoverStalePendingOrders() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.debug("PENDING 주문 사가 복구 생략 - 다른 인스턴스에서 실행 중");
+            return 0;
+        }
+        try {
+            return resumeStalePendingOrders();
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private int resumeStalePendingOrders() {
+        List<Order> staleOrders = orderService.getStalePendingOrders(
+                LocalDateTime.now().minusSeconds(minAgeSeconds), batchSize);
+        if (staleOrders.isEmpty()) {
+            return 0;
+        }
+
+        log.warn("PENDING 주문 사가 재개 - count: {}, orderIds: {}",
+                staleOrders.size(), staleOrders.stream().map(Order::getOrderId).toList());
+
+        List<OrderCreatedEvent> events = staleOrders.stream()
+                .map(this::toEvent)
+                .toList();
+        List<OrderCreatedEvent> remaining = events;
+        while (!remaining.isEmpty()) {
+            try {
+                orderCreatedEventConsumer.consumeOrderCreatedEvents(remaining);
+                break;
+            } catch (BatchListenerFailedException e) {
+                log.error("PENDING 주문 사가 재개 중 복구 이벤트 발행 실패 - orderId: {}, error: {}",
+                        remaining.get(e.getIndex()).orderId(), e.getMessage(), e);
+                remaining = remaining.subList(e.getIndex() + 1, remaining.size());
+            }
+        }
+        return events.size();
+    }
+
+    /**
+     * 주문과 주문 상품으로 주문 생성 이벤트를 복원합니다. (결제 금액 = 사용 포인트)
+     */
+    private OrderCreatedEvent toEvent(Order order) {
+        List<CartItemResponse> cartItems = orderService.getOrderItems(order.getOrderId()).stream()
+                .map(item -> new CartItemResponse(null, order.getUserId(), item.getProductId(), item.getQuantity(),
+                        item.getCreatedAt(), item.getCreatedAt()))
+                .toList();
+        return new OrderCreatedEvent(
+                order.getUserId(),
+                order.getOrderId(),
+                order.getUserCouponId(),
+                order.getUsedPoint() != null ? order.getUsedPoint() : 0,
+                cartItems
+        );
+    }
+}
@@ -1,14 +1,23 @@
 package com.sparta.ecommerce.application.order;
 
+import com.sparta.ecommerce.application.order.event.OrderStatusChangedEvent;
+import com.sparta.ecommerce.common.annotation.ReadFrom;
+import com.sparta.ecommerce.common.datasource.DataSourceRole;
+import com.sparta.ecommerce.common.pagination.CursorPage;
+import com.sparta.ecommerce.common.pagination.KeysetCursor;
 import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
 import com.sparta.ecommerce.domain.order.OrderItemRepository;
 import com.sparta.ecommerce.domain.order.OrderRepository;
+import com.sparta.ecommerce.domain.order.ProductSalesSummaryRepository;
+import com.sparta.ecommerce.domain.order.dto.OrderHistoryResponse;
+import com.sparta.ecommerce.domain.order.dto.OrderItemResponse;
 import com.sparta.ecommerce.domain.order.entity.Order;
 import com.sparta.ecommerce.domain.order.entity.OrderItem;
 import com.sparta.ecommerce.domain.order.exception.OrderException;
-import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.dto.ProductSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +25,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.sparta.ecommerce.domain.order.exception.OrderErrorCode.ORDER_NOT_FOUND;
 
@@ -26,6 +36,8 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final ProductSalesSummaryRepository productSalesSummaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 주문 생성
@@ -39,7 +51,7 @@ public class OrderService {
      * @param discountAmount 할인 금액
      * @param usedPoint 사용한 포인트 (최종 결제 금액)
      * @param cartItems 장바구니 아이템들
-     * @param productMap 상품 정보 맵
+     * @param productSnapshots 상품 스냅샷 맵 (주문 상품에 상품명/설명/가격 복사)
      * @return 생성된 주문 (PENDING 상태)
      */
     @Transactional
@@ -50,7 +62,7 @@ public class OrderService {
             int discountAmount,
             int usedPoint,
             List<CartItemResponse> cartItems,
-            Map<Long, Product> productMap
+            Map<Long, ProductSnapshot> productSnapshots
     ) {
         LocalDateTime now = LocalDateTime.now();
 
@@ -70,15 +82,15 @@ public class OrderService {
         // 2. OrderItem 엔티티들 생성
         List<OrderItem> orderItems = new ArrayList<>();
         for (CartItemResponse cartItem : cartItems) {
-            Product product = productMap.get(cartItem.productId());
+            ProductSnapshot product = productSnapshots.get(cartItem.productId());
 
             OrderItem orderItem = new OrderItem();
             orderItem.setOrderId(savedOrder.getOrderId());
-            orderItem.setProductId(product.getProductId());
-            orderItem.setProductName(product.getProductName());
-            orderItem.setDescription(product.getDescription());
+            orderItem.setProductId(product.productId());
+            orderItem.setProductName(product.productName());
+            orderItem.setDescription(product.description());
             orderItem.setQuantity(cartItem.quantity());
-            orderItem.setPrice(product.getPrice());
+            orderItem.setPrice(product.price());
             orderItem.setCreatedAt(now);
 
             orderItems.add(orderItem);
@@ -87,15 +99,21 @@ public class OrderService {
         // 주문 아이템들 저장
         orderItemRepository.saveAll(orderItems);
 
+        // 커밋 후 주문 상태 캐시에 반영 (OrderStatusChangedEventListener)
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(savedOrder.getOrderId(), "PENDING"));
+
         return savedOrder;
     }
 
     /**
      * 주문 조회
+     *
+     * 사가 단계에서 직전 단계가 커밋한 주문 상태를 읽어야 하므로 Replica 라우팅 시에도 Primary에서 조회합니다.
      * @param orderId 주문 ID
      * @return 주문 엔티티
      * @throws OrderException 주문을 찾을 수 없는 경우
      */
+    @ReadFrom(DataSourceRole.PRIMARY)
     public Order getOrderById(Long orderId) {
         return orderRepository.findById(orderId)
                 .orElseThrow(() -> new OrderException(ORDER_NOT_FOUND));
@@ -137,6 +155,8 @@ public class OrderService {
 
             order.setStatus("COMPLETED");
             updateOrder(order);
+            recordSales(orderId);
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(orderId, "COMPLETED"));
             log.info("주문 상태를 COMPLETED로 변경했습니다. OrderId: {}", orderId);
             return true;
         } catch (Exception e) {
@@ -146,6 +166,22 @@ public class OrderService {
         }
     }
 
+    /**
+     * 완료된 주문의 상품별 판매량을 판매량 집계에 반영합니다.
+     *
+     * 주문 상태를 COMPLETED로 변경하는 트랜잭션 안에서 호출해야 합니다.
+     * 상태 변경이 롤백되면 집계 증가도 함께 롤백되므로, 주문당 한 번만 반영됩니다.
+     *
+     * @param orderId 완료된 주문 ID
+     */
+    public void recordSales(Long orderId) {
+        Map<Long, Integer> soldCounts = orderItemRepository.findAllByOrderId(orderId).stream()
+                .collect(Collectors.groupingBy(OrderItem::getProductId, Collectors.summingInt(OrderItem::getQuantity)));
+        if (!soldCounts.isEmpty()) {
+            productSalesSummaryRepository.increase(soldCounts);
+        }
+    }
+
     /**
      * 주문을 실패 상태로 변경합니다.
      * 이 작업은 멱등성을 가집니다. 이미 실패한 주문은 추가 작업을 수행하지 않습니다.
@@ -172,6 +208,7 @@ public class OrderService {
 
             order.setStatus("FAILED");
             updateOrder(order);
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(orderId, "FAILED"));
             log.warn("주문 상태를 FAILED로 변경했습니다. OrderId: {}", orderId);
             return true;
         } catch (Exception e) {
@@ -181,4 +218,55 @@ public class OrderService {
         }
     }
 
+    /**
+     * 생성 후 일정 시간이 지나도록 PENDING 상태인 주문을 조회합니다. (사가 복구 대상)
+     *
+     * @param createdBefore 생성 시각 기준 (이전에 생성된 주문만)
+     * @param limit 최대 조회 건수
+     * @return 주문 ID 순 PENDING 주문 목록
+     */
+    @ReadFrom(DataSourceRole.PRIMARY)
+    public List<Order> getStalePendingOrders(LocalDateTime createdBefore, int limit) {
+        return orderRepository.findByStatusCreatedBefore("PENDING", createdBefore, limit);
+    }
+
+    /**
+     * 주문 상품 목록을 조회합니다.
+     *
+     * @param orderId 주문 ID
+     * @return 주문 상품 목록
+     */
+    @ReadFrom(DataSourceRole.PRIMARY)
+    public List<OrderItem> getOrderItems(Long orderId) {
+        return orderItemRepository.findAllByOrderId(orderId);
+    }
+
+    /**
+     * 사용자 주문 내역을 최신순으로 조회합니다. (키셋 페이지네이션)
+     *
+     * 주문 행을 페이지 크기 + 1건 조회한 뒤, 페이지에 포함된 주문의 주문 상품을 IN 쿼리 한 번으로 조회하여 채웁니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (1 ~ CursorPage.MAX_SIZE)
+     * @return 주문 내역 페이지
+     * @throws com.sparta.ecommerce.common.pagination.InvalidCursorException 커서 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<OrderHistoryResponse> getOrderHistory(Long userId, String cursor, int size) {
+        int pageSize = CursorPage.clampSize(size);
+        List<OrderHistoryResponse> rows = orderRepository.findHistoryByUserId(userId, KeysetCursor.decode(cursor), pageSize + 1);
+        CursorPage<OrderHistoryResponse> page = CursorPage.of(rows, pageSize,
+                order -> new KeysetCursor(order.createdAt(), order.orderId()));
+        if (page.items().isEmpty()) {
+            return page;
+        }
+
+        Map<Long, List<OrderItemResponse>> itemsByOrderId = orderItemRepository.findItemResponsesByOrderIds(
+                        page.items().stream().map(OrderHistoryResponse::orderId).toList()).stream()
+                .collect(Collectors.groupingBy(OrderItemResponse::orderId));
+        return page.withItems(page.items().stream()
+                .map(order -> order.withItems(itemsByOrderId.getOrDefault(order.orderId(), List.of())))
+                .toList());
+    }
 }
@@ -0,0 +1,121 @@
+package com.sparta.ecommerce.application.order;
+
+import com.sparta.ecommerce.domain.order.dto.OrderStatusResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 상태 변경 알림 (Server-Sent Events)
+ *
+ * 사가를 처리한 노드와 클라이언트가 SSE로 연결된 노드가 다를 수 있으므로,
+ * 상태 변경은 Redis Pub/Sub 채널로 모든 노드에 전파하고 각 노드는 자신에게 연결된 클라이언트에게만 전송합니다.
+ *
+ * 메시지 형식: "orderId:status"
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatusNotifier implements MessageListener {
+
+    public static final String STATUS_CHANNEL = "order:status:channel";
+    private static final long EMITTER_TIMEOUT_MS = 30_000L;
+    private static final String EVENT_NAME = "order-status";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 노드에 연결된 SSE 구독자 (orderId -> emitters)
+    private final ConcurrentHashMap<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    /**
+     * 주문 상태 변경을 구독합니다.
+     *
+     * 구독 등록 후 현재 상태를 조회해야 등록 직전의 상태 변경을 놓치지 않습니다.
+     *
+     * @param orderId 주문 ID
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(Long orderId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        emitters.computeIfAbsent(orderId, k -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        emitter.onCompletion(() -> removeEmitter(orderId, emitter));
+        emitter.onTimeout(() -> removeEmitter(orderId, emitter));
+        emitter.onError(e -> removeEmitter(orderId, emitter));
+        return emitter;
+    }
+
+    /**
+     * 주문 상태 변경을 모든 노드에 전파합니다.
+     *
+     * @param orderId 주문 ID
+     * @param status 변경된 주문 상태
+     */
+    public void publish(Long orderId, String status) {
+        redisTemplate.convertAndSend(STATUS_CHANNEL, orderId + ":" + status);
+    }
+
+    /**
+     * Redis Pub/Sub으로 수신한 상태 변경을 이 노드의 구독자에게 전송합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            log.warn("잘못된 주문 상태 메시지 - message: {}", body);
+            return;
+        }
+
+        Long orderId = Long.parseLong(body.substring(0, separator));
+        String status = body.substring(separator + 1);
+
+        Set<SseEmitter> subscribers = emitters.get(orderId);
+        if (subscribers == null) {
+            return;
+        }
+        for (SseEmitter emitter : subscribers) {
+            send(orderId, emitter, status);
+        }
+    }
+
+    /**
+     * 구독자에게 주문 상태를 전송합니다.
+     * 최종 상태(COMPLETED, FAILED)라면 전송 후 연결을 종료합니다.
+     *
+     * @param orderId 주문 ID
+     * @param emitter SSE 연결
+     * @param status 주문 상태
+     */
+    public void send(Long orderId, SseEmitter emitter, String status) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(new OrderStatusResponse(orderId, status)));
+
+            if (OrderStatusService.isTerminal(status)) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 연결을 끊은 경우
+            log.debug("주문 상태 전송 실패 - OrderId: {}, Error: {}", orderId, e.getMessage());
+            removeEmitter(orderId, emitter);
+        }
+    }
+
+    private void removeEmitter(Long orderId, SseEmitter emitter) {
+        emitters.computeIfPresent(orderId, (id, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package com.sparta.ecommerce.application.order;
+
+import com.sparta.ecommerce.application.order.event.OrderStatusChangedEvent;
+import com.sparta.ecommerce.domain.order.OrderStatusRepository;
+import com.sparta.ecommerce.domain.order.dto.OrderStatusResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 주문 상태 조회 서비스
+ *
+ * 주문 접수(202 Accepted) 이후 클라이언트가 사가 처리 결과를 확인할 수 있도록
+ * Redis 상태 캐시 기반 조회와 SSE 기반 상태 변경 알림을 제공합니다.
+ * 캐시 미스인 경우에만 DB에서 조회하여 캐시를 채웁니다. (Cache-Aside)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStatusService {
+
+    private final OrderService orderService;
+    private final OrderStatusRepository orderStatusRepository;
+    private final OrderStatusNotifier orderStatusNotifier;
+
+    /**
+     * 주문 상태를 조회합니다.
+     *
+     * @param orderId 주문 ID
+     * @return 주문 상태
+     * @throws com.sparta.ecommerce.domain.order.exception.OrderException 주문을 찾을 수 없는 경우
+     */
+    public OrderStatusResponse getOrderStatus(Long orderId) {
+        String status = orderStatusRepository.findByOrderId(orderId)
+                .orElseGet(() -> {
+                    String dbStatus = orderService.getOrderById(orderId).getStatus();
+                    // 조회 중 사가가 완료되어 최종 상태가 저장되었을 수 있으므로 없을 때만 저장
+                    orderStatusRepository.saveIfAbsent(orderId, dbStatus);
+                    return dbStatus;
+                });
+        return new OrderStatusResponse(orderId, status);
+    }
+
+    /**
+     * 주문 상태 변경을 SSE로 구독합니다.
+     *
+     * 현재 상태를 즉시 전송하며, 이미 최종 상태라면 전송 후 연결을 종료합니다.
+     *
+     * @param orderId 주문 ID
+     * @return SSE 연결
+     */
+    public SseEmitter subscribeOrderStatus(Long orderId) {
+        // 존재하지 않는 주문이면 구독 전에 예외 발생
+        OrderStatusResponse current = getOrderStatus(orderId);
+
+        SseEmitter emitter = orderStatusNotifier.subscribe(orderId);
+
+        // 구독 등록 이후의 상태를 다시 조회하여 등록 사이에 발생한 변경을 놓치지 않도록 함
+        String status = orderStatusRepository.findByOrderId(orderId).orElse(current.status());
+        orderStatusNotifier.send(orderId, emitter, status);
+        return emitter;
+    }
+
+    /**
+     * 주문 상태 변경을 캐시에 반영하고 구독자에게 알립니다.
+     *
+     * PENDING은 사가가 먼저 끝난 경우 최종 상태를 덮어쓰지 않도록 없을 때만 저장합니다.
+     *
+     * @param event 주문 상태 변경 이벤트
+     */
+    public void handleStatusChanged(OrderStatusChangedEvent event) {
+        if (isTerminal(event.status())) {
+            orderStatusRepository.save(event.orderId(), event.status());
+        } else {
+            orderStatusRepository.saveIfAbsent(event.orderId(), event.status());
+        }
+        orderStatusNotifier.publish(event.orderId(), event.status());
+    }
+
+    /**
+     * 더 이상 변경되지 않는 최종 상태인지 확인합니다.
+     */
+    public static boolean isTerminal(String status) {
+        return "COMPLETED".equals(status) || "FAILED".equals(status);
+    }
+}
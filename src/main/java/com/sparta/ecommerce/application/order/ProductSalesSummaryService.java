@@ -0,0 +1,90 @@
+package com.sparta.ecommerce.application.order;
+
+import com.sparta.ecommerce.common.transaction.TransactionHandler;
+import com.sparta.ecommerce.domain.order.ProductSalesSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 상품별 판매량 집계 관리 서비스
+ *
+ * 판매량 집계(product_sales_summary)는 주문 완료 시 증분 갱신됩니다. (OrderService.recordSales)
+ * 이 서비스는 집계 도입 이전 주문의 백필과, 집계 값과 주문 상품 원본 간 정합성 검증을 담당합니다.
+ */
+@Slf4j
+@Service
+public class ProductSalesSummaryService {
+
+    private final ProductSalesSummaryRepository productSalesSummaryRepository;
+    private final TransactionHandler transactionHandler;
+    private final boolean repairEnabled;
+
+    public ProductSalesSummaryService(
+            ProductSalesSummaryRepository productSalesSummaryRepository,
+            TransactionHandler transactionHandler,
+            @Value("${order.sales-summary.consistency.repair:true}") boolean repairEnabled
+    ) {
+        this.productSalesSummaryRepository = productSalesSummaryRepository;
+        this.transactionHandler = transactionHandler;
+        this.repairEnabled = repairEnabled;
+    }
+
+    /**
+     * 완료된 주문 전체로부터 판매량 집계를 다시 계산합니다.
+     *
+     * @return 갱신된 집계 행 수
+     */
+    @Transactional
+    public int backfill() {
+        int updated = productSalesSummaryRepository.rebuildAll();
+        log.info("판매량 집계 백필 완료 - 갱신 행 수: {}", updated);
+        return updated;
+    }
+
+    /**
+     * 판매량 집계와 주문 상품 원본 집계를 비교하여 불일치 상품을 찾고, 설정에 따라 복구합니다.
+     *
+     * 검증 중 완료된 주문으로 인한 일시적 차이도 불일치로 보일 수 있으나,
+     * 복구는 상품 단위로 원본을 다시 집계하므로 결과는 항상 원본과 일치합니다.
+     *
+     * @return 불일치 상품 ID 목록
+     */
+    public Set<Long> checkConsistency() {
+        Map<Long, Long> summary = productSalesSummaryRepository.findSoldCounts();
+        Map<Long, Long> source = productSalesSummaryRepository.aggregateSoldCountsFromOrders();
+
+        Set<Long> productIds = new HashSet<>(summary.keySet());
+        productIds.addAll(source.keySet());
+
+        Set<Long> mismatched = new HashSet<>();
+        for (Long productId : productIds) {
+            long expected = source.getOrDefault(productId, 0L);
+            long actual = summary.getOrDefault(productId, 0L);
+            if (!Objects.equals(expected, actual)) {
+                log.warn("판매량 집계 불일치 - productId: {}, summary: {}, orders: {}", productId, actual, expected);
+                mismatched.add(productId);
+            }
+        }
+
+        if (repairEnabled) {
+            mismatched.forEach(this::repair);
+        }
+        return mismatched;
+    }
+
+    private void repair(Long productId) {
+        try {
+            transactionHandler.execute(() -> productSalesSummaryRepository.rebuild(productId));
+            log.info("판매량 집계 복구 - productId: {}", productId);
+        } catch (Exception e) {
+            log.error("판매량 집계 복구 실패 - productId: {}, error: {}", productId, e.getMessage(), e);
+        }
+    }
+}
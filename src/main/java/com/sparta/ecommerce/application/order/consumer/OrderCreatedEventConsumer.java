@@ -5,17 +5,36 @@ import com.sparta.ecommerce.application.coupon.event.CouponRestoreEvent;
 import com.sparta.ecommerce.application.order.OrderService;
 import com.sparta.ecommerce.application.order.event.OrderCreatedEvent;
 import com.sparta.ecommerce.application.product.ProductService;
+import com.sparta.ecommerce.application.product.StockHoldService;
 import com.sparta.ecommerce.application.product.event.StockRestoreEvent;
 import com.sparta.ecommerce.application.user.UserService;
 import com.sparta.ecommerce.application.user.event.PointRestoreEvent;
+import com.sparta.ecommerce.common.kafka.KafkaConsumerDrain;
+import com.sparta.ecommerce.common.kafka.KafkaPublishGateway;
+import com.sparta.ecommerce.common.transaction.TransactionHandler;
 import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
+import com.sparta.ecommerce.domain.order.OrderSagaStep;
+import com.sparta.ecommerce.domain.order.ProcessedOrderStepRepository;
+import com.sparta.ecommerce.domain.order.exception.OrderException;
 import com.sparta.ecommerce.domain.product.ProductRankingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.sparta.ecommerce.domain.order.exception.OrderErrorCode.ORDER_STEP_ALREADY_PROCESSED;
+
 /**
  * 주문 생성 이벤트 Kafka Consumer
  *
@@ -26,135 +45,361 @@ import org.springframework.stereotype.Component;
  * - 상품 랭킹 업데이트
  *
  * 각 단계에서 실패 시 Kafka를 통해 보상 트랜잭션을 발행합니다.
+ *
+ * 보상:
+ *   주문 실패 처리(FAILED)와 보상 이력(COMPENSATION)을 한 트랜잭션으로 커밋한 뒤에만 복구 이벤트를 발행합니다.
+ *   실패 처리가 커밋되지 않으면 복구 이벤트를 발행하지 않으며, 주문은 PENDING으로 남아 OrderSagaRecoveryService가 재개합니다.
+ *   복구 이벤트에는 주문 ID(멱등 키)가 있어 복구 Consumer가 한 번만 반영하므로, 발행 결과를 모를 때도 다시 발행할 수 있습니다.
+ *   복구 이벤트 발행이 실패하면 예외를 던져 해당 주문부터 다시 처리하며(재시도 후 DLT), 재처리 시 사가를 진행하지 않고
+ *   아직 반영되지 않은 복구 이벤트만 다시 발행합니다.
+ *
+ * 재고 점유:
+ *   주문 생성 시 점유한 재고는 재고 차감이 커밋되면(실제 차감으로 전환) 또는 보상 시 해제합니다.
+ *
+ * 멱등성:
+ *   (주문 ID, 단계)별 처리 이력을 단계 작업과 같은 트랜잭션에 기록합니다.
+ *   메시지가 재전달(at-least-once)되어도 재고/포인트가 중복 차감되지 않습니다.
+ *
+ * 로깅:
+ *   주문당 단계별 로그 대신 단계 소요 시간을 담은 요약 로그 한 줄을 남기며, 성공한 사가는 샘플링합니다. (OrderSagaTracer)
+ *
+ * 종료 드레인:
+ *   종료 중(KafkaConsumerDrain)에는 진행 중인 주문의 사가만 끝내고 배치의 나머지 주문은 시작하지 않습니다.
+ *   넘긴 주문은 PENDING 상태와 단계 처리 이력이 남아 있으므로 OrderSagaRecoveryService가 재개합니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderCreatedEventConsumer {
 
+    // 주문당 복구 이벤트 발행 제한 시간 (발행 자리 대기 + ack 대기, 복구 이벤트는 동시에 발행)
+    private static final long COMPENSATION_PUBLISH_TIMEOUT_MS = 10_000;
+    // Producer에 전달되지 못한 발행(동기 예외)만 다시 시도
+    private static final int COMPENSATION_SEND_ATTEMPTS = 3;
+    private static final long COMPENSATION_RETRY_BACKOFF_MS = 100;
+
     private final ProductService productService;
+    private final StockHoldService stockHoldService;
     private final UserService userService;
     private final UserCouponService userCouponService;
     private final ProductRankingRepository productRankingRepository;
     private final OrderService orderService;
+    private final ProcessedOrderStepRepository processedOrderStepRepository;
+    private final TransactionHandler transactionHandler;
     private final KafkaTemplate<String, StockRestoreEvent> stockRestoreKafkaTemplate;
     private final KafkaTemplate<String, PointRestoreEvent> pointRestoreKafkaTemplate;
     private final KafkaTemplate<String, CouponRestoreEvent> couponRestoreKafkaTemplate;
+    private final KafkaPublishGateway kafkaPublishGateway;
+    private final KafkaConsumerDrain kafkaConsumerDrain;
+    private final OrderSagaTracer orderSagaTracer;
 
     /**
-     * 주문 생성 이벤트 메시지를 소비합니다.
+     * 주문 생성 이벤트 메시지를 배치로 소비합니다.
      *
-     * 주문 생성 후 필요한 모든 후속 처리를 순차적으로 수행합니다.
-     * 각 단계에서 실패 시 보상 트랜잭션을 Kafka를 통해 발행합니다.
+     * 배치 내 주문들의 처리 완료 단계를 한 번에 조회한 뒤(1회 조회), 주문별로 사가를 진행합니다.
+     * 리밸런스 등으로 같은 메시지가 재전달되어도 이미 완료된 단계는 건너뜁니다.
+     * 종료 드레인 중에는 남은 주문을 시작하지 않습니다. (복구 스케줄러가 재개)
      *
-     * @param event 주문 생성 이벤트 정보
+     * 주문의 복구 이벤트 발행이 실패하면 BatchListenerFailedException을 던집니다.
+     * 에러 핸들러가 앞의 주문까지 커밋하고 실패한 주문부터 다시 처리하며, 재시도를 모두 실패하면 DLT로 보냅니다.
+     *
+     * @param events 주문 생성 이벤트 목록
+     * @throws BatchListenerFailedException 복구 이벤트 발행에 실패한 경우 (실패한 주문의 배치 내 인덱스 포함)
      */
     @KafkaListener(
             topics = "order-created-topic",
             groupId = "${spring.kafka.consumer.group-id}",
             containerFactory = "orderCreatedKafkaListenerContainerFactory"
     )
-    public void consumeOrderCreatedEvent(OrderCreatedEvent event) {
-        log.info("주문 생성 이벤트 수신 - orderId: {}, userId: {}",
-                event.orderId(), event.userId());
+    public void consumeOrderCreatedEvents(List<OrderCreatedEvent> events) {
+        log.debug("주문 생성 이벤트 배치 수신 - size: {}", events.size());
+
+        List<Long> orderIds = events.stream()
+                .map(OrderCreatedEvent::orderId)
+                .distinct()
+                .toList();
+        Map<Long, Set<OrderSagaStep>> processedSteps = processedOrderStepRepository.findProcessedSteps(orderIds);
 
-        boolean stockDecreased = false;
-        boolean pointDeducted = false;
-        boolean couponUsed = false;
+        for (int i = 0; i < events.size(); i++) {
+            if (!kafkaConsumerDrain.tryEnter()) {
+                log.warn("종료 드레인 중 - 남은 주문은 복구 시 재개 - skipped: {}, orderIds: {}", events.size() - i,
+                        events.subList(i, events.size()).stream().map(OrderCreatedEvent::orderId).toList());
+                return;
+            }
+            OrderCreatedEvent event = events.get(i);
+            try {
+                consumeOrderCreatedEvent(event, processedSteps.getOrDefault(event.orderId(), Set.of()));
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException("주문 보상 실패 - orderId: " + event.orderId(), e, i);
+            } finally {
+                kafkaConsumerDrain.exit();
+            }
+        }
+    }
+
+    /**
+     * 주문 생성 이벤트를 처리합니다.
+     *
+     * 주문 생성 후 필요한 모든 후속 처리를 순차적으로 수행합니다.
+     * 각 단계는 처리 이력 기록과 같은 트랜잭션에서 실행되므로, 단계별로 정확히 한 번만 반영됩니다.
+     * 각 단계에서 실패 시 보상 트랜잭션을 Kafka를 통해 발행합니다.
+     * 단계별 로그 대신 사가가 끝날 때 요약 로그 한 줄을 남깁니다. (OrderSagaTracer)
+     *
+     * 이미 보상(COMPENSATION)된 주문이면 사가를 진행하지 않고 아직 반영되지 않은 복구 이벤트만 다시 발행합니다.
+     *
+     * @param event 주문 생성 이벤트 정보
+     * @param processedSteps 이미 처리 완료된 단계 (재전달된 메시지인 경우)
+     * @throws IllegalStateException 복구 이벤트 발행에 실패한 경우
+     */
+    public void consumeOrderCreatedEvent(OrderCreatedEvent event, Set<OrderSagaStep> processedSteps) {
+        OrderSagaTracer.Trace trace = orderSagaTracer.start(event.orderId(), event.userId(), processedSteps);
+
+        boolean stockDecreased = processedSteps.contains(OrderSagaStep.STOCK);
+        boolean pointDeducted = processedSteps.contains(OrderSagaStep.POINT);
+        boolean couponUsed = processedSteps.contains(OrderSagaStep.COUPON) && event.userCouponId() != null;
+
+        if (processedSteps.contains(OrderSagaStep.COMPENSATION)) {
+            log.warn("보상 이벤트 재발행 - orderId: {}, processedSteps: {}", event.orderId(), processedSteps);
+            publishRestores(event, processedSteps, stockDecreased, pointDeducted, couponUsed);
+            trace.compensated();
+            return;
+        }
 
         try {
             // 1. 재고 차감 처리 (멀티락 포함)
-            log.debug("재고 차감 처리 시작 - orderId: {}", event.orderId());
-            productService.decreaseStockWithLock(event.orderId(), event.userId(), event.cartItems());
-            stockDecreased = true;
-            log.debug("재고 차감 완료 - orderId: {}", event.orderId());
+            if (!stockDecreased) {
+                executeStep(trace, event.orderId(), OrderSagaStep.STOCK, () ->
+                        productService.decreaseStockWithLock(event.orderId(), event.userId(), event.cartItems()));
+                stockDecreased = true;
+
+                // 실제 차감이 커밋되었으므로 점유 해제
+                stockHoldService.release(event.orderId(), event.cartItems());
+            }
 
             // 2. 포인트 차감 처리
-            log.debug("포인트 차감 처리 시작 - orderId: {}", event.orderId());
-            userService.deductPointForOrder(event);
-            pointDeducted = true;
-            log.debug("포인트 차감 완료 - orderId: {}", event.orderId());
+            if (!pointDeducted) {
+                executeStep(trace, event.orderId(), OrderSagaStep.POINT, () -> userService.deductPointForOrder(event));
+                pointDeducted = true;
+            }
 
             // 3. 쿠폰 사용 처리
-            log.debug("쿠폰 사용 처리 시작 - orderId: {}", event.orderId());
-            userCouponService.processCouponUsage(event);
-            couponUsed = (event.userCouponId() != null);  // 쿠폰이 있는 경우에만 true
-            log.debug("쿠폰 사용 완료 - orderId: {}", event.orderId());
+            if (!processedSteps.contains(OrderSagaStep.COUPON)) {
+                executeStep(trace, event.orderId(), OrderSagaStep.COUPON, () -> userCouponService.processCouponUsage(event));
+                couponUsed = (event.userCouponId() != null);  // 쿠폰이 있는 경우에만 true
+            }
 
             // 4. 상품 랭킹 업데이트
-            log.debug("상품 랭킹 업데이트 시작 - orderId: {}", event.orderId());
-            for (CartItemResponse cartItem : event.cartItems()) {
-                productRankingRepository.incrementSalesCount(
-                        cartItem.productId(),
-                        cartItem.quantity()
-                );
+            if (!processedSteps.contains(OrderSagaStep.RANKING)) {
+                executeStep(trace, event.orderId(), OrderSagaStep.RANKING, () -> {
+                    for (CartItemResponse cartItem : event.cartItems()) {
+                        productRankingRepository.incrementSalesCount(
+                                cartItem.productId(),
+                                cartItem.quantity()
+                        );
+                    }
+                });
             }
-            log.debug("상품 랭킹 업데이트 완료 - orderId: {}", event.orderId());
 
-            // 5. 주문 상태를 COMPLETED로 변경
-            log.debug("주문 완료 처리 시작 - orderId: {}", event.orderId());
+            // 5. 주문 상태를 COMPLETED로 변경 (자체적으로 멱등)
             orderService.completeOrder(event.orderId());
-            log.info("주문 완료 처리 완료 - orderId: {}, status: COMPLETED", event.orderId());
+            trace.completed();
 
-            log.info("주문 생성 이벤트 처리 완료 - orderId: {}, userId: {}",
-                    event.orderId(), event.userId());
+        } catch (OrderException e) {
+            if (e.getErrorCode() == ORDER_STEP_ALREADY_PROCESSED) {
+                // 같은 주문을 다른 Consumer가 동시에 처리 중이거나 이미 처리함 → 보상하지 않고 종료
+                trace.duplicate();
+                return;
+            }
+            log.error("주문 생성 이벤트 처리 실패 - orderId: {}, userId: {}, error: {}",
+                    event.orderId(), event.userId(), e.getMessage(), e);
+            if (handleCompensation(event, processedSteps, stockDecreased, pointDeducted, couponUsed)) {
+                trace.compensated();
+            }
 
         } catch (Exception e) {
             log.error("주문 생성 이벤트 처리 실패 - orderId: {}, userId: {}, error: {}",
                     event.orderId(), event.userId(), e.getMessage(), e);
 
             // 보상 트랜잭션 처리: 실패 시점에 따라 복구할 항목 결정
-            handleCompensation(event, stockDecreased, pointDeducted, couponUsed);
+            if (handleCompensation(event, processedSteps, stockDecreased, pointDeducted, couponUsed)) {
+                trace.compensated();
+            }
         }
     }
 
+    /**
+     * 처리 이력 기록과 단계 작업을 하나의 트랜잭션으로 실행합니다.
+     *
+     * 이력을 먼저 기록하므로 중복 메시지는 작업 전에 unique 제약으로 차단되며,
+     * 작업이 실패하면 이력도 함께 롤백되어 재처리할 수 있습니다.
+     * 단계 소요 시간은 사가 요약 로그에 기록합니다.
+     */
+    private void executeStep(OrderSagaTracer.Trace trace, Long orderId, OrderSagaStep step, Runnable action) {
+        long startedAt = trace.beginStep(step);
+        transactionHandler.execute(() -> {
+            processedOrderStepRepository.markProcessed(orderId, step);
+            action.run();
+        });
+        trace.endStep(step, startedAt);
+    }
+
     /**
      * 보상 트랜잭션 처리
      *
-     * 실패 시점에 따라 복구가 필요한 항목들을 Kafka로 발행합니다.
+     * 주문 실패 처리가 커밋된 후에만 실패 시점에 따라 복구가 필요한 항목들을 Kafka로 발행합니다.
+     * 실패 처리가 커밋되지 않으면 복구 이벤트를 발행하지 않고 PENDING으로 남겨 복구 스케줄러가 사가를 재개하게 합니다.
+     * (복구를 발행한 주문이 재개되어 COMPLETED가 되는 것을 방지)
      *
      * @param event 주문 생성 이벤트
+     * @param processedSteps 이미 처리 완료된 단계
      * @param stockDecreased 재고 차감 완료 여부
      * @param pointDeducted 포인트 차감 완료 여부
      * @param couponUsed 쿠폰 사용 완료 여부
+     * @return 보상했으면 true, 주문 실패 처리가 커밋되지 않아 보상을 미뤘으면 false
+     * @throws IllegalStateException 복구 이벤트 발행에 실패한 경우
      */
-    private void handleCompensation(OrderCreatedEvent event, boolean stockDecreased, boolean pointDeducted, boolean couponUsed) {
+    private boolean handleCompensation(OrderCreatedEvent event, Set<OrderSagaStep> processedSteps,
+                                       boolean stockDecreased, boolean pointDeducted, boolean couponUsed) {
+        log.warn("보상 트랜잭션 시작 - orderId: {}, stockDecreased: {}, pointDeducted: {}, couponUsed: {}",
+                event.orderId(), stockDecreased, pointDeducted, couponUsed);
+
+        if (!failOrder(event.orderId())) {
+            return false;
+        }
+
         try {
-            log.warn("보상 트랜잭션 시작 - orderId: {}, stockDecreased: {}, pointDeducted: {}, couponUsed: {}",
-                    event.orderId(), stockDecreased, pointDeducted, couponUsed);
-
-            // 주문 상태를 FAILED로 변경
-            orderService.failOrder(event.orderId());
-
-            // 쿠폰 사용이 완료된 경우 쿠폰 복구 (역순으로 복구)
-            if (couponUsed && event.userCouponId() != null) {
-                log.info("쿠폰 복구 이벤트 Kafka 발행 - orderId: {}, userCouponId: {}",
-                        event.orderId(), event.userCouponId());
-                couponRestoreKafkaTemplate.send("coupon-restore-topic",
-                        new CouponRestoreEvent(event.userId(), event.userCouponId()));
-            }
+            // 재고 점유 해제 (재고 차감 전에 실패한 경우 점유가 남아 있음)
+            stockHoldService.release(event.orderId(), event.cartItems());
+        } catch (Exception e) {
+            // 점유는 만료 시 정리되므로 복구는 계속 진행
+            log.error("재고 점유 해제 실패 - orderId: {}, error: {}", event.orderId(), e.getMessage(), e);
+        }
 
-            // 포인트 차감이 완료된 경우 포인트 복구
-            if (pointDeducted) {
-                log.info("포인트 복구 이벤트 Kafka 발행 - orderId: {}", event.orderId());
-                pointRestoreKafkaTemplate.send("point-restore-topic",
-                        new PointRestoreEvent(event.userId(), event.finalAmount()));
+        publishRestores(event, processedSteps, stockDecreased, pointDeducted, couponUsed);
+        return true;
+    }
+
+    /**
+     * 주문 실패 처리(FAILED)와 보상 이력(COMPENSATION)을 한 트랜잭션으로 커밋합니다.
+     *
+     * @return 커밋되었거나 이미 보상 이력이 있으면 true, 실패 처리가 커밋되지 않았으면 false
+     */
+    private boolean failOrder(Long orderId) {
+        try {
+            transactionHandler.execute(() -> {
+                processedOrderStepRepository.markProcessed(orderId, OrderSagaStep.COMPENSATION);
+                orderService.failOrder(orderId);
+            });
+            return true;
+        } catch (OrderException e) {
+            if (e.getErrorCode() == ORDER_STEP_ALREADY_PROCESSED) {
+                // 다른 Consumer가 이미 보상함 → 복구 이벤트는 복구 Consumer에서 한 번만 반영되므로 그대로 발행
+                return true;
             }
+            log.error("주문 실패 처리 실패 - 복구 스케줄러가 재개 - orderId: {}, error: {}", orderId, e.getMessage(), e);
+            return false;
+        } catch (Exception e) {
+            log.error("주문 실패 처리 실패 - 복구 스케줄러가 재개 - orderId: {}, error: {}", orderId, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 복구가 필요한 항목들의 복구 이벤트를 동시에 발행하고, 제한 시간(COMPENSATION_PUBLISH_TIMEOUT_MS) 안에 ack를 확인합니다.
+     *
+     * 항목별로 따로 발행하므로 한 항목의 발행 실패가 나머지 항목의 발행을 막지 않습니다.
+     * 복구 Consumer가 이미 반영한 항목(*_RESTORE 이력)은 다시 발행하지 않습니다.
+     *
+     * @throws IllegalStateException 제한 시간 안에 ack를 받지 못한 항목이 있는 경우
+     */
+    private void publishRestores(OrderCreatedEvent event, Set<OrderSagaStep> processedSteps,
+                                 boolean stockDecreased, boolean pointDeducted, boolean couponUsed) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(COMPENSATION_PUBLISH_TIMEOUT_MS);
+        List<PendingRestore> restores = new ArrayList<>();
+
+        // 쿠폰 사용이 완료된 경우 쿠폰 복구 (역순으로 복구)
+        if (couponUsed && event.userCouponId() != null && !processedSteps.contains(OrderSagaStep.COUPON_RESTORE)) {
+            log.info("쿠폰 복구 이벤트 Kafka 발행 - orderId: {}, userCouponId: {}",
+                    event.orderId(), event.userCouponId());
+            restores.add(send(event.orderId(), couponRestoreKafkaTemplate, "coupon-restore-topic",
+                    new CouponRestoreEvent(event.orderId(), event.userId(), event.userCouponId()), deadline));
+        }
 
-            // 재고 차감이 완료된 경우 재고 복구
-            if (stockDecreased) {
-                log.info("재고 복구 이벤트 Kafka 발행 - orderId: {}", event.orderId());
-                stockRestoreKafkaTemplate.send("stock-restore-topic",
-                        new StockRestoreEvent(event.cartItems()));
+        // 포인트 차감이 완료된 경우 포인트 복구
+        if (pointDeducted && !processedSteps.contains(OrderSagaStep.POINT_RESTORE)) {
+            log.info("포인트 복구 이벤트 Kafka 발행 - orderId: {}", event.orderId());
+            restores.add(send(event.orderId(), pointRestoreKafkaTemplate, "point-restore-topic",
+                    new PointRestoreEvent(event.orderId(), event.userId(), event.finalAmount()), deadline));
+        }
+
+        // 재고 차감이 완료된 경우 재고 복구
+        if (stockDecreased && !processedSteps.contains(OrderSagaStep.STOCK_RESTORE)) {
+            log.info("재고 복구 이벤트 Kafka 발행 - orderId: {}", event.orderId());
+            restores.add(send(event.orderId(), stockRestoreKafkaTemplate, "stock-restore-topic",
+                    new StockRestoreEvent(event.orderId(), event.cartItems()), deadline));
+        }
+
+        List<String> failedTopics = restores.stream()
+                .filter(restore -> !awaitAck(event.orderId(), restore, deadline))
+                .map(PendingRestore::topic)
+                .toList();
+        if (!failedTopics.isEmpty()) {
+            throw new IllegalStateException(
+                    "복구 이벤트 발행 실패 - orderId: " + event.orderId() + ", topics: " + failedTopics);
+        }
+        log.info("보상 트랜잭션 이벤트 발행 완료 - orderId: {}", event.orderId());
+    }
+
+    /**
+     * 복구 이벤트를 발행합니다.
+     *
+     * 동기 예외(발행 자리 대기 초과, Producer 버퍼 포화 등)는 메시지가 Producer에 전달되지 않은 경우이므로
+     * 제한 시간 안에서 최대 COMPENSATION_SEND_ATTEMPTS회까지 다시 발행합니다.
+     * 전송 후 실패(ack 실패/시간 초과)는 브로커에 기록되었을 수 있으므로 여기서 다시 발행하지 않습니다.
+     */
+    private <V> PendingRestore send(Long orderId, KafkaTemplate<String, V> template, String topic, V event, long deadline) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return new PendingRestore(topic, kafkaPublishGateway.publishOrWait(template, topic, event));
+            } catch (RuntimeException e) {
+                log.warn("복구 이벤트 발행 실패 - orderId: {}, topic: {}, attempt: {}/{}, error: {}",
+                        orderId, topic, attempt, COMPENSATION_SEND_ATTEMPTS, e.getMessage());
+                if (attempt >= COMPENSATION_SEND_ATTEMPTS || System.nanoTime() >= deadline || !sleepBeforeRetry(attempt)) {
+                    return new PendingRestore(topic, CompletableFuture.failedFuture(e));
+                }
             }
+        }
+    }
 
-            log.info("보상 트랜잭션 이벤트 발행 완료 - orderId: {}", event.orderId());
+    /**
+     * 복구 이벤트의 브로커 ack를 제한 시간까지 기다립니다.
+     *
+     * @return ack를 받았으면 true
+     */
+    private boolean awaitAck(Long orderId, PendingRestore restore, long deadline) {
+        try {
+            restore.future().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("복구 이벤트 발행 실패 - orderId: {}, topic: {}, error: {}",
+                    orderId, restore.topic(), e instanceof ExecutionException ? e.getCause().getMessage() : "ack 시간 초과");
+            return false;
+        }
+    }
 
-        } catch (Exception compensationError) {
-            log.error("보상 트랜잭션 처리 중 오류 발생 - orderId: {}, error: {}",
-                    event.orderId(), compensationError.getMessage(), compensationError);
-            // 보상 트랜잭션 실패는 심각한 문제이므로 모니터링/알람 필요
-            // 필요시 DLQ(Dead Letter Queue) 처리 추가
+    private boolean sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(COMPENSATION_RETRY_BACKOFF_MS * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
     }
+
+    private record PendingRestore(String topic, CompletableFuture<?> future) {
+    }
 }
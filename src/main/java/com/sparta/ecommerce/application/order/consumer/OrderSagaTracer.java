@@ -0,0 +1,146 @@
+package com.sparta.ecommerce.application.order.consumer;
+
+import com.sparta.ecommerce.domain.order.OrderSagaStep;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 주문 사가 요약 로그
+ *
+ * 단계마다 로그를 남기는 대신 주문별로 단계 소요 시간을 모아 사가가 끝날 때 한 줄(key=value)로 남깁니다.
+ *   order-saga orderId=1 userId=2 outcome=COMPLETED totalUs=5321 STOCK=2100us POINT=900us COUPON=skip RANKING=300us
+ *
+ * - 성공한 사가는 order.saga.log.sample-rate 비율만 INFO로 남깁니다. (주문 ID 기준으로 결정되어 재처리 시에도 동일)
+ *   이 로거가 DEBUG면 모두 남깁니다.
+ * - 실패(보상)한 사가는 항상 WARN, 중복 메시지로 중단한 사가는 항상 INFO로 남깁니다.
+ * - 로그를 남기지 않는 사가는 메시지 문자열을 만들지 않으며, 단계 시간은 long 배열에만 기록합니다.
+ */
+@Slf4j
+@Component
+public class OrderSagaTracer {
+
+    // 사가 진행 단계만 요약 (보상 단계는 진행 단계 뒤에 선언되어 있어 ordinal로 배열 인덱스를 사용)
+    private static final OrderSagaStep[] STEPS = Arrays.stream(OrderSagaStep.values())
+            .filter(step -> !step.isCompensation())
+            .toArray(OrderSagaStep[]::new);
+    private static final long NOT_RUN = -1;
+
+    private final double sampleRate;
+
+    public OrderSagaTracer(@Value("${order.saga.log.sample-rate:0.01}") double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("order.saga.log.sample-rate는 0 이상 1 이하여야 합니다.");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * 주문 사가 추적을 시작합니다.
+     *
+     * @param orderId 주문 ID
+     * @param userId 사용자 ID
+     * @param processedSteps 이미 처리 완료된 단계 (요약에 skip으로 표시)
+     */
+    public Trace start(Long orderId, Long userId, Set<OrderSagaStep> processedSteps) {
+        return new Trace(orderId, userId, processedSteps, isSampled(orderId));
+    }
+
+    /**
+     * 주문 ID 기준 샘플링 여부 (같은 주문은 항상 같은 결과)
+     */
+    boolean isSampled(Long orderId) {
+        if (sampleRate >= 1) {
+            return true;
+        }
+        if (sampleRate <= 0 || orderId == null) {
+            return false;
+        }
+        // 연속된 주문 ID가 고르게 분포하도록 섞은 뒤 [0, 1)로 변환
+        long mixed = orderId * 0x9E3779B97F4A7C15L;
+        mixed ^= mixed >>> 32;
+        return (mixed >>> 11) * 0x1.0p-53 < sampleRate;
+    }
+
+    /**
+     * 주문 한 건의 사가 추적 (단일 스레드에서 사용)
+     */
+    public static final class Trace {
+
+        private final Long orderId;
+        private final Long userId;
+        private final Set<OrderSagaStep> processedSteps;
+        private final boolean sampled;
+        private final long startNanos = System.nanoTime();
+        private final long[] stepNanos = new long[STEPS.length];
+        private OrderSagaStep currentStep;
+
+        private Trace(Long orderId, Long userId, Set<OrderSagaStep> processedSteps, boolean sampled) {
+            this.orderId = orderId;
+            this.userId = userId;
+            this.processedSteps = processedSteps;
+            this.sampled = sampled;
+            Arrays.fill(stepNanos, NOT_RUN);
+        }
+
+        /**
+         * 단계 시작 (실패 시 실패 단계로 표시)
+         *
+         * @return 시작 시각 (System.nanoTime)
+         */
+        public long beginStep(OrderSagaStep step) {
+            currentStep = step;
+            return System.nanoTime();
+        }
+
+        /**
+         * 단계 완료
+         *
+         * @param startedAt beginStep()이 반환한 시작 시각
+         */
+        public void endStep(OrderSagaStep step, long startedAt) {
+            stepNanos[step.ordinal()] = System.nanoTime() - startedAt;
+            currentStep = null;
+        }
+
+        public void completed() {
+            if (sampled || log.isDebugEnabled()) {
+                log.info("order-saga {}", summary("COMPLETED"));
+            }
+        }
+
+        public void duplicate() {
+            log.info("order-saga {}", summary("DUPLICATE"));
+        }
+
+        public void compensated() {
+            log.warn("order-saga {}", summary("COMPENSATED"));
+        }
+
+        private String summary(String outcome) {
+            StringBuilder sb = new StringBuilder(160)
+                    .append("orderId=").append(orderId)
+                    .append(" userId=").append(userId)
+                    .append(" outcome=").append(outcome)
+                    .append(" totalUs=").append((System.nanoTime() - startNanos) / 1_000);
+            if (currentStep != null) {
+                sb.append(" failedStep=").append(currentStep);
+            }
+            for (OrderSagaStep step : STEPS) {
+                sb.append(' ').append(step).append('=');
+                long nanos = stepNanos[step.ordinal()];
+                if (nanos != NOT_RUN) {
+                    sb.append(nanos / 1_000).append("us");
+                } else if (processedSteps.contains(step)) {
+                    sb.append("skip");
+                } else {
+                    sb.append('-');
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
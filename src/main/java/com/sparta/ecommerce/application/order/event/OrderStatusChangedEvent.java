@@ -0,0 +1,13 @@
+package com.sparta.ecommerce.application.order.event;
+
+/**
+ * 주문 상태 변경 이벤트
+ *
+ * 주문이 생성(PENDING)되거나 사가 처리 결과 COMPLETED/FAILED로 변경되었을 때 발행되는 이벤트입니다.
+ * 트랜잭션 커밋 후 이벤트 리스너에서 상태 캐시를 갱신하고 구독 중인 클라이언트에게 알립니다.
+ */
+public record OrderStatusChangedEvent(
+        Long orderId,
+        String status
+) {
+}
@@ -0,0 +1,40 @@
+package com.sparta.ecommerce.application.order.listener;
+
+import com.sparta.ecommerce.application.order.OrderStatusService;
+import com.sparta.ecommerce.application.order.event.OrderStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 상태 변경 이벤트 리스너
+ *
+ * 주문 상태 변경 트랜잭션이 커밋된 후 상태 캐시를 갱신하고 SSE 구독자에게 알립니다.
+ * 커밋 전에 캐시를 갱신하면 롤백된 상태가 클라이언트에게 노출될 수 있으므로 AFTER_COMMIT을 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatusChangedEventListener {
+
+    private final OrderStatusService orderStatusService;
+
+    /**
+     * 주문 상태 변경 이벤트를 처리합니다.
+     *
+     * 캐시 갱신 실패는 주문 처리에 영향을 주지 않으며, 다음 조회 시 DB에서 다시 채워집니다.
+     *
+     * @param event 주문 상태 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(OrderStatusChangedEvent event) {
+        try {
+            orderStatusService.handleStatusChanged(event);
+        } catch (Exception e) {
+            log.warn("주문 상태 캐시 갱신 실패 - OrderId: {}, Status: {}, Error: {}",
+                    event.orderId(), event.status(), e.getMessage());
+        }
+    }
+}
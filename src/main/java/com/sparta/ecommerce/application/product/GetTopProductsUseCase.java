@@ -1,6 +1,9 @@
 package com.sparta.ecommerce.application.product;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.ecommerce.application.order.OrderItemService;
+import com.sparta.ecommerce.common.http.PrecompressedJson;
 import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
 import com.sparta.ecommerce.domain.product.ProductSortType;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +20,7 @@ public class GetTopProductsUseCase {
 
     private final ProductService productService;
     private final OrderItemService orderItemService;
+    private final ObjectMapper objectMapper;
 
     private static final int TOP_PRODUCTS_LIMIT = 10;
 
@@ -36,4 +40,23 @@ public class GetTopProductsUseCase {
                 ? productService.findTopProductsByViewCount(TOP_PRODUCTS_LIMIT)
                 : orderItemService.findTopProductsBySoldCount(TOP_PRODUCTS_LIMIT);
     }
+
+    /**
+     * 인기 상품 HTTP 응답 본문 조회 (gzip 압축된 JSON + 내용 해시)
+     *
+     * 목록이 하루 몇 번만 바뀌므로 최종 응답 바이트를 캐시하여,
+     * 요청마다 캐시 값 역직렬화와 응답 JSON 직렬화를 하지 않습니다.
+     * 직렬화에는 MVC 응답과 같은 ObjectMapper를 사용하므로 응답 형식은 getTopProducts와 동일합니다.
+     *
+     * @param sortType 정렬 기준 (조회수 또는 판매량)
+     * @return 압축된 응답 본문
+     */
+    @Cacheable(value = "topProductsPayload", key = "#sortType")
+    public PrecompressedJson getTopProductsPayload(ProductSortType sortType) {
+        try {
+            return PrecompressedJson.of(objectMapper.writeValueAsBytes(getTopProducts(sortType)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("인기 상품 응답 직렬화 실패", e);
+        }
+    }
 }
@@ -0,0 +1,384 @@
+package com.sparta.ecommerce.application.product;
+
+import com.sparta.ecommerce.domain.product.ProductSearchSort;
+import com.sparta.ecommerce.domain.product.dto.ProductSearchResponse;
+import com.sparta.ecommerce.domain.product.dto.ProductSearchResult;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.exception.ProductException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.sparta.ecommerce.domain.product.exception.ProductErrorCode.SEARCH_INDEX_NOT_READY;
+
+/**
+ * 상품 검색 인메모리 역색인
+ *
+ * 상품명/설명의 n-gram(ProductSearchTokenizer)별로 문서 번호 목록(posting)을 정렬된 int 배열로 보관합니다.
+ * 검색은 DB를 조회하지 않고 posting 교집합 -> 부분 문자열 확인 -> 가격 필터 -> 정렬 순으로 처리합니다.
+ *
+ * - 색인 전체는 불변 Segment 하나이며, 변경 시 새 Segment를 만들어 교체합니다. (검색은 락 없이 volatile 읽기)
+ * - 상품 추가/수정: 기존 문서는 삭제 표시(null)하고 새 문서 번호로 추가합니다. 변경된 n-gram의 posting만 복사합니다.
+ * - 삭제 표시된 문서는 검색 시 건너뛰며, 주기적인 전체 재색인(rebuild)에서 정리됩니다.
+ * - 조회수/판매량은 별도 배열로 보관하여 색인 변경 없이 교체합니다. (updateMetrics)
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private volatile Segment segment;
+
+    /**
+     * 검색 가능 여부 (최초 색인 완료 후 true)
+     */
+    public boolean isReady() {
+        return segment != null;
+    }
+
+    /**
+     * 전체 상품으로 색인을 새로 만듭니다.
+     *
+     * @param products 전체 상품
+     * @param soldCounts 상품별 판매량
+     */
+    public synchronized void rebuild(List<Product> products, Map<Long, Long> soldCounts) {
+        List<Product> sorted = new ArrayList<>(products);
+        sorted.sort(Comparator.comparing(Product::getProductId));
+
+        int size = sorted.size();
+        Document[] docs = new Document[size];
+        Map<Long, Integer> docIds = new HashMap<>(size * 2);
+        int[] viewCounts = new int[size];
+        long[] sold = new long[size];
+        Map<Integer, IntBuffer> postings = new HashMap<>();
+
+        for (int doc = 0; doc < size; doc++) {
+            Product product = sorted.get(doc);
+            docs[doc] = Document.from(product);
+            docIds.put(product.getProductId(), doc);
+            viewCounts[doc] = nullToZero(product.getViewCount());
+            sold[doc] = soldCounts.getOrDefault(product.getProductId(), 0L);
+            for (int gram : docs[doc].grams()) {
+                postings.computeIfAbsent(gram, key -> new IntBuffer()).add(doc);
+            }
+        }
+
+        int[] gramKeys = new int[postings.size()];
+        int i = 0;
+        for (Integer gram : postings.keySet()) {
+            gramKeys[i++] = gram;
+        }
+        Arrays.sort(gramKeys);
+        int[][] gramPostings = new int[gramKeys.length][];
+        for (int k = 0; k < gramKeys.length; k++) {
+            gramPostings[k] = postings.get(gramKeys[k]).toArray();
+        }
+
+        segment = new Segment(docs, docIds, gramKeys, gramPostings, viewCounts, sold);
+    }
+
+    /**
+     * 상품 추가/수정을 색인에 반영합니다.
+     */
+    public synchronized void apply(Product product) {
+        Segment current = requireSegment();
+        Document document = Document.from(product);
+        int doc = current.docs.length;
+
+        Document[] docs = Arrays.copyOf(current.docs, doc + 1);
+        docs[doc] = document;
+        Map<Long, Integer> docIds = new HashMap<>(current.docIds);
+        Integer previous = docIds.put(product.getProductId(), doc);
+        if (previous != null) {
+            docs[previous] = null;
+        }
+
+        int[] viewCounts = Arrays.copyOf(current.viewCounts, doc + 1);
+        viewCounts[doc] = nullToZero(product.getViewCount());
+        long[] soldCounts = Arrays.copyOf(current.soldCounts, doc + 1);
+        soldCounts[doc] = previous != null ? current.soldCounts[previous] : 0L;
+
+        // 기존 n-gram 키와 새 문서의 n-gram을 병합 (둘 다 정렬되어 있음)
+        int[] grams = document.grams();
+        int[] keys = new int[current.gramKeys.length + grams.length];
+        int[][] postings = new int[keys.length][];
+        int size = 0;
+        int a = 0;
+        int b = 0;
+        while (a < current.gramKeys.length || b < grams.length) {
+            if (b == grams.length || (a < current.gramKeys.length && current.gramKeys[a] < grams[b])) {
+                keys[size] = current.gramKeys[a];
+                postings[size++] = current.postings[a++];
+            } else if (a == current.gramKeys.length || grams[b] < current.gramKeys[a]) {
+                keys[size] = grams[b++];
+                postings[size++] = new int[]{doc};
+            } else {
+                int[] posting = current.postings[a];
+                int[] appended = Arrays.copyOf(posting, posting.length + 1);
+                appended[posting.length] = doc;
+                keys[size] = current.gramKeys[a++];
+                postings[size++] = appended;
+                b++;
+            }
+        }
+
+        segment = new Segment(docs, docIds, Arrays.copyOf(keys, size), Arrays.copyOf(postings, size),
+                viewCounts, soldCounts);
+    }
+
+    /**
+     * 삭제된 상품을 색인에서 제외합니다.
+     */
+    public synchronized void remove(Long productId) {
+        Segment current = requireSegment();
+        Integer doc = current.docIds.get(productId);
+        if (doc == null) {
+            return;
+        }
+        Document[] docs = current.docs.clone();
+        docs[doc] = null;
+        Map<Long, Integer> docIds = new HashMap<>(current.docIds);
+        docIds.remove(productId);
+        segment = new Segment(docs, docIds, current.gramKeys, current.postings, current.viewCounts, current.soldCounts);
+    }
+
+    /**
+     * 조회수/판매량을 교체합니다. (색인에 없는 상품은 무시)
+     */
+    public synchronized void updateMetrics(Map<Long, Integer> viewCounts, Map<Long, Long> soldCounts) {
+        Segment current = requireSegment();
+        int[] views = current.viewCounts.clone();
+        long[] sold = current.soldCounts.clone();
+        for (Map.Entry<Long, Integer> entry : current.docIds.entrySet()) {
+            int doc = entry.getValue();
+            views[doc] = nullToZero(viewCounts.getOrDefault(entry.getKey(), views[doc]));
+            sold[doc] = soldCounts.getOrDefault(entry.getKey(), sold[doc]);
+        }
+        segment = new Segment(current.docs, current.docIds, current.gramKeys, current.postings, views, sold);
+    }
+
+    /**
+     * 색인된 내용(상품명/설명/가격)과 다른지 확인합니다. (색인 전이면 false)
+     */
+    public boolean isStale(Product product) {
+        Segment current = segment;
+        if (current == null) {
+            return false;
+        }
+        Integer doc = current.docIds.get(product.getProductId());
+        if (doc == null) {
+            return true;
+        }
+        Document document = current.docs[doc];
+        return !Objects.equals(document.productName(), product.getProductName())
+                || !Objects.equals(document.description(), product.getDescription())
+                || !Objects.equals(document.price(), product.getPrice());
+    }
+
+    /**
+     * 상품을 검색합니다.
+     *
+     * 질의의 모든 단어가 상품명 또는 설명에 포함된 상품을 찾습니다. (질의가 비어 있으면 전체 상품)
+     *
+     * @param query 검색어
+     * @param minPrice 최소 가격 (null이면 제한 없음)
+     * @param maxPrice 최대 가격 (null이면 제한 없음)
+     * @param sort 정렬 기준
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     */
+    public ProductSearchResult search(String query, Integer minPrice, Integer maxPrice,
+                                      ProductSearchSort sort, int page, int size) {
+        Segment current = requireSegment();
+        List<String> words = ProductSearchTokenizer.words(ProductSearchTokenizer.normalize(query));
+
+        int[] candidates = candidates(current, words);
+        long[] matches = new long[candidates.length];
+        int count = 0;
+        for (int doc : candidates) {
+            Document document = current.docs[doc];
+            if (document == null || !document.priceBetween(minPrice, maxPrice)) {
+                continue;
+            }
+            boolean nameMatch = true;
+            boolean matched = true;
+            for (String word : words) {
+                if (document.searchName().contains(word)) {
+                    continue;
+                }
+                nameMatch = false;
+                if (!document.searchDescription().contains(word)) {
+                    matched = false;
+                    break;
+                }
+            }
+            if (matched) {
+                matches[count++] = (sortKey(current, doc, sort, nameMatch) << 31) | doc;
+            }
+        }
+
+        Arrays.sort(matches, 0, count);
+
+        long from = (long) page * size;
+        int to = (int) Math.min(count, from + size);
+        List<ProductSearchResponse> items = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            int doc = (int) (matches[(int) i] & Integer.MAX_VALUE);
+            Document document = current.docs[doc];
+            items.add(new ProductSearchResponse(document.productId(), document.productName(), document.description(),
+                    document.price(), current.viewCounts[doc], current.soldCounts[doc]));
+        }
+        return new ProductSearchResult(count, items);
+    }
+
+    /**
+     * 후보 문서 번호 (질의 n-gram posting의 교집합, 짧은 posting부터 교차)
+     */
+    private int[] candidates(Segment current, List<String> words) {
+        if (words.isEmpty()) {
+            int[] all = new int[current.docs.length];
+            for (int doc = 0; doc < all.length; doc++) {
+                all[doc] = doc;
+            }
+            return all;
+        }
+
+        List<int[]> lists = new ArrayList<>();
+        for (String word : words) {
+            for (int gram : ProductSearchTokenizer.queryGrams(word)) {
+                int index = Arrays.binarySearch(current.gramKeys, gram);
+                if (index < 0) {
+                    return EMPTY;
+                }
+                lists.add(current.postings[index]);
+            }
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int size = 0;
+        int a = 0;
+        int b = 0;
+        while (a < left.length && b < right.length) {
+            if (left[a] < right[b]) {
+                a++;
+            } else if (left[a] > right[b]) {
+                b++;
+            } else {
+                result[size++] = left[a];
+                a++;
+                b++;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 오름차순 정렬 키 (0 이상 2^32 미만, 같으면 문서 번호 순)
+     */
+    private static long sortKey(Segment current, int doc, ProductSearchSort sort, boolean nameMatch) {
+        long sold = Math.min(current.soldCounts[doc], Integer.MAX_VALUE);
+        return switch (sort) {
+            case PRICE_ASC -> nullToZero(current.docs[doc].price());
+            case PRICE_DESC -> Integer.MAX_VALUE - nullToZero(current.docs[doc].price());
+            case VIEW_COUNT -> Integer.MAX_VALUE - current.viewCounts[doc];
+            case SOLD_COUNT -> Integer.MAX_VALUE - sold;
+            case RELEVANCE -> ((nameMatch ? 0L : 1L) << 31) | (Integer.MAX_VALUE - sold);
+        };
+    }
+
+    private Segment requireSegment() {
+        Segment current = segment;
+        if (current == null) {
+            throw new ProductException(SEARCH_INDEX_NOT_READY);
+        }
+        return current;
+    }
+
+    private static int nullToZero(Integer value) {
+        return value == null ? 0 : Math.max(0, value);
+    }
+
+    /**
+     * 불변 색인 (docs의 null은 삭제 표시)
+     */
+    private record Segment(
+            Document[] docs,
+            Map<Long, Integer> docIds,
+            int[] gramKeys,
+            int[][] postings,
+            int[] viewCounts,
+            long[] soldCounts
+    ) {
+    }
+
+    private record Document(
+            Long productId,
+            String productName,
+            String description,
+            Integer price,
+            String searchName,
+            String searchDescription
+    ) {
+        static Document from(Product product) {
+            return new Document(product.getProductId(), product.getProductName(), product.getDescription(),
+                    product.getPrice(),
+                    ProductSearchTokenizer.normalize(product.getProductName()),
+                    ProductSearchTokenizer.normalize(product.getDescription()));
+        }
+
+        boolean priceBetween(Integer minPrice, Integer maxPrice) {
+            int value = nullToZero(price);
+            return (minPrice == null || value >= minPrice) && (maxPrice == null || value <= maxPrice);
+        }
+
+        /**
+         * 상품명/설명의 n-gram (정렬, 중복 제거)
+         */
+        int[] grams() {
+            IntBuffer buffer = new IntBuffer();
+            ProductSearchTokenizer.indexGrams(searchName, buffer::add);
+            ProductSearchTokenizer.indexGrams(searchDescription, buffer::add);
+            int[] grams = buffer.toArray();
+            Arrays.sort(grams);
+            int size = 0;
+            for (int i = 0; i < grams.length; i++) {
+                if (i == 0 || grams[i] != grams[i - 1]) {
+                    grams[size++] = grams[i];
+                }
+            }
+            return Arrays.copyOf(grams, size);
+        }
+    }
+
+    private static final class IntBuffer {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.sparta.ecommerce.application.product;
+
+import com.sparta.ecommerce.common.pagination.CursorPage;
+import com.sparta.ecommerce.domain.order.ProductSalesSummaryRepository;
+import com.sparta.ecommerce.domain.product.ProductRepository;
+import com.sparta.ecommerce.domain.product.ProductSearchSort;
+import com.sparta.ecommerce.domain.product.dto.ProductSearchResult;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.exception.ProductException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.sparta.ecommerce.domain.product.exception.ProductErrorCode.INVALID_PRICE_RANGE;
+
+/**
+ * 상품 검색 서비스
+ *
+ * 검색은 노드 로컬 색인(ProductSearchIndex)만 사용하며 DB를 조회하지 않습니다.
+ *
+ * 색인 갱신:
+ * - 시작 시 전체 상품으로 색인을 만듭니다.
+ * - 상품명/설명/가격 변경은 커밋 후 Redis Pub/Sub으로 모든 노드에 전파하고,
+ *   각 노드는 해당 상품만 Primary에서 다시 읽어 색인에 반영합니다. (조회되지 않으면 삭제)
+ * - 조회수/판매량은 주기적으로 스칼라 조회하여 교체하고, 전파 유실/DB 직접 수정에 대비해 주기적으로 전체 재색인합니다.
+ *
+ * 메시지 형식: "productId"
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSearchService implements MessageListener {
+
+    public static final String CHANGE_CHANNEL = "product:search:channel";
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductRepository productRepository;
+    private final ProductSalesSummaryRepository productSalesSummaryRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 상품 검색
+     *
+     * @param query 검색어 (공백으로 구분된 단어를 모두 포함하는 상품)
+     * @param minPrice 최소 가격 (null이면 제한 없음)
+     * @param maxPrice 최대 가격 (null이면 제한 없음)
+     * @param sort 정렬 기준
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (1~100)
+     */
+    public ProductSearchResult search(String query, Integer minPrice, Integer maxPrice,
+                                      ProductSearchSort sort, int page, int size) {
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new ProductException(INVALID_PRICE_RANGE);
+        }
+        return productSearchIndex.search(query, minPrice, maxPrice, sort, Math.max(page, 0), CursorPage.clampSize(size));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 스케줄러의 다음 실행에서 다시 시도
+            log.error("상품 검색 색인 생성 실패", e);
+        }
+    }
+
+    /**
+     * 전체 상품으로 색인을 다시 만듭니다.
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Product> products = productRepository.findAll();
+        productSearchIndex.rebuild(products, productSalesSummaryRepository.findSoldCounts());
+        log.info("상품 검색 색인 생성 완료 - 상품 수: {}, {}ms", products.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 조회수/판매량을 갱신합니다. (색인 전이면 전체 색인)
+     */
+    @Transactional(readOnly = true)
+    public void refreshMetrics() {
+        if (!productSearchIndex.isReady()) {
+            rebuild();
+            return;
+        }
+        productSearchIndex.updateMetrics(productRepository.findViewCounts(), productSalesSummaryRepository.findSoldCounts());
+    }
+
+    /**
+     * 상품 변경을 모든 노드의 색인에 전파합니다. (커밋 후 호출)
+     * 전파에 실패하면 이 노드만 반영하고, 다른 노드는 다음 전체 재색인에서 반영됩니다.
+     *
+     * @param productId 상품 ID
+     */
+    public void publishChange(Long productId) {
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, String.valueOf(productId));
+        } catch (Exception e) {
+            log.warn("상품 검색 색인 변경 전파 실패 - productId: {}, error: {}", productId, e.getMessage());
+            reload(productId);
+        }
+    }
+
+    /**
+     * Redis Pub/Sub으로 수신한 상품 변경을 이 노드의 색인에 반영합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            reload(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 상품 검색 색인 변경 메시지 - message: {}", body);
+        } catch (Exception e) {
+            log.warn("상품 검색 색인 변경 반영 실패 - productId: {}, error: {}", body, e.getMessage());
+        }
+    }
+
+    /**
+     * 상품 하나를 다시 읽어 색인에 반영합니다. (트랜잭션 밖에서 호출되어 Primary에서 조회)
+     */
+    private void reload(Long productId) {
+        if (!productSearchIndex.isReady()) {
+            return;
+        }
+        List<Product> products = productRepository.findAllById(List.of(productId));
+        if (products.isEmpty()) {
+            productSearchIndex.remove(productId);
+        } else {
+            productSearchIndex.apply(products.get(0));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.sparta.ecommerce.application.product;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 상품 검색 토큰화
+ *
+ * 형태소 분석 없이 글자 n-gram으로 색인합니다. 한글은 음절 단위로 띄어쓰기/조사와 무관하게 부분 일치가 필요하므로
+ * 단어마다 1-gram과 2-gram을 만들고, 검색 시 질의 단어의 n-gram 교집합을 후보로 삼은 뒤 부분 문자열로 확인합니다.
+ *   "무선 이어폰" -> 단어 [무선, 이어폰] -> n-gram [무, 선, 무선, 이, 어, 폰, 이어, 어폰]
+ *
+ * - 정규화: NFKC(전각/반각 통일) + 소문자, 글자/숫자 이외의 문자는 단어 구분자
+ * - n-gram은 두 글자를 하나의 int로 인코딩합니다. (1-gram은 두 번째 글자 0)
+ */
+final class ProductSearchTokenizer {
+
+    private ProductSearchTokenizer() {
+    }
+
+    /**
+     * 검색용으로 정규화한 텍스트 (단어 사이는 공백 한 칸)
+     */
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        boolean space = true;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+                space = false;
+            } else if (!space) {
+                sb.append(' ');
+                space = true;
+            }
+        }
+        int length = sb.length();
+        if (length > 0 && sb.charAt(length - 1) == ' ') {
+            sb.setLength(length - 1);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 정규화된 텍스트의 단어 목록
+     */
+    static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= normalized.length(); i++) {
+            if (i == normalized.length() || normalized.charAt(i) == ' ') {
+                if (i > start) {
+                    words.add(normalized.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 색인할 n-gram (단어별 1-gram과 2-gram, 중복 포함)
+     */
+    static void indexGrams(String normalized, GramConsumer consumer) {
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            consumer.accept(gram(c, (char) 0));
+            if (i + 1 < normalized.length() && normalized.charAt(i + 1) != ' ') {
+                consumer.accept(gram(c, normalized.charAt(i + 1)));
+            }
+        }
+    }
+
+    /**
+     * 질의 단어의 후보 검색용 n-gram (한 글자 단어는 1-gram, 그 외는 2-gram)
+     */
+    static int[] queryGrams(String word) {
+        if (word.length() == 1) {
+            return new int[]{gram(word.charAt(0), (char) 0)};
+        }
+        int[] grams = new int[word.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gram(word.charAt(i), word.charAt(i + 1));
+        }
+        return grams;
+    }
+
+    private static int gram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    @FunctionalInterface
+    interface GramConsumer {
+        void accept(int gram);
+    }
+}
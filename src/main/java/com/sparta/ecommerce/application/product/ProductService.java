@@ -1,11 +1,13 @@
 package com.sparta.ecommerce.application.product;
 
 import com.sparta.ecommerce.application.order.OrderService;
+import com.sparta.ecommerce.application.product.event.ProductChangedEvent;
 import com.sparta.ecommerce.application.product.event.StockReservedEvent;
 import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
 import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
 import com.sparta.ecommerce.domain.order.entity.Order;
 import com.sparta.ecommerce.domain.product.ProductRepository;
+import com.sparta.ecommerce.domain.product.dto.ProductSnapshot;
 import com.sparta.ecommerce.domain.product.entity.Product;
 import com.sparta.ecommerce.domain.product.exception.ProductException;
 import lombok.RequiredArgsConstructor;
@@ -16,11 +18,14 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import static com.sparta.ecommerce.domain.product.exception.ProductErrorCode.INSUFFICIENT_STOCK;
 import static com.sparta.ecommerce.domain.product.exception.ProductErrorCode.PRODUCT_NOT_FOUND;
 
 @Slf4j
@@ -32,17 +37,18 @@ public class ProductService {
     private final RedissonClient redissonClient;
     private final OrderService orderService;
     private final ApplicationEventPublisher eventPublisher;
+    private final ProductStockShardService productStockShardService;
+    private final ProductSnapshotCache productSnapshotCache;
+    private final ProductSearchIndex productSearchIndex;
 
     /**
      * 모든 상품 조회
      *
      * @return 상품 목록
      */
+    @Transactional(readOnly = true)
     public List<ProductResponse> findAll() {
-        return productRepository.findAll()
-                .stream()
-                .map(Product::from)
-                .collect(Collectors.toList());
+        return toResponses(productRepository.findAll());
     }
 
     /**
@@ -75,13 +81,60 @@ public class ProductService {
         return productMap;
     }
 
+    /**
+     * 주문 검증/주문 상품 생성에 사용할 상품 스냅샷을 조회합니다.
+     *
+     * 로컬 스냅샷 캐시를 사용하므로, 캐시에 있는 상품은 DB를 조회하지 않습니다.
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID를 키로, 스냅샷을 값으로 하는 Map
+     * @throws ProductException 상품을 찾을 수 없는 경우
+     */
+    public Map<Long, ProductSnapshot> getProductSnapshots(List<Long> productIds) {
+        Map<Long, ProductSnapshot> snapshots = productSnapshotCache.getAll(productIds);
+
+        for (Long productId : productIds) {
+            if (!snapshots.containsKey(productId)) {
+                throw new ProductException(PRODUCT_NOT_FOUND);
+            }
+        }
+
+        return snapshots;
+    }
+
+    /**
+     * 상품별 현재 재고 수량을 조회합니다. (엔티티를 로딩하지 않는 스칼라 조회)
+     *
+     * 재고가 샤딩된 상품은 재분배 주기마다 갱신되는 Product.quantity 대신 버킷 재고 합계를 사용하여,
+     * 재고 검증과 재고 점유(StockHoldService)가 이미 예약된 재고를 가용 재고로 보지 않도록 합니다.
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID를 키로, 재고 수량을 값으로 하는 Map
+     */
+    public Map<Long, Integer> getStockMap(List<Long> productIds) {
+        Map<Long, Integer> stockMap = productRepository.findStockByIds(productIds);
+        Map<Long, Integer> shardedStock = productStockShardService.findShardedStock(productIds);
+        if (shardedStock.isEmpty()) {
+            return stockMap;
+        }
+        Map<Long, Integer> merged = new HashMap<>(stockMap);
+        merged.putAll(shardedStock);
+        return merged;
+    }
+
     /**
      * 상품 정보 업데이트 (재고 변경 등)
      *
+     * 조회 이후 상품명/설명/가격이 변경되었거나 검색 색인과 다른 경우 ProductChangedEvent를 발행하여,
+     * 커밋 후 모든 노드의 상품 스냅샷 캐시와 상품 검색 색인에 반영합니다. (재고만 변경된 경우 발행하지 않음)
+     *
      * @param product 업데이트할 상품
      */
     public void updateProduct(Product product) {
         productRepository.save(product);
+        if (product.isSnapshotChanged() || productSearchIndex.isStale(product)) {
+            eventPublisher.publishEvent(new ProductChangedEvent(product.getProductId()));
+        }
     }
 
     /**
@@ -90,10 +143,32 @@ public class ProductService {
      * @param limit 조회할 상품 개수
      * @return 조회수 기준 인기 상품 목록
      */
+    @Transactional(readOnly = true)
     public List<ProductResponse> findTopProductsByViewCount(int limit) {
-        return productRepository.findTopProductsByViewCount(limit)
-                .stream()
-                .map(Product::from)
+        return toResponses(productRepository.findTopProductsByViewCount(limit));
+    }
+
+    /**
+     * 상품 응답으로 변환합니다.
+     *
+     * 재고가 샤딩된 상품의 Product.quantity는 재분배 주기마다 갱신되는 집계값이므로 버킷 재고 합계로 응답합니다.
+     */
+    private List<ProductResponse> toResponses(List<Product> products) {
+        if (products.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Integer> shardedStock = productStockShardService.findShardedStock(products.stream()
+                .map(Product::getProductId)
+                .toList());
+
+        return products.stream()
+                .map(product -> {
+                    ProductResponse response = product.from();
+                    Integer stock = shardedStock.get(product.getProductId());
+                    return stock == null ? response : new ProductResponse(response.productId(), response.productName(),
+                            response.description(), stock, response.price(), response.viewCount(),
+                            response.createdAt(), response.updatedAt());
+                })
                 .collect(Collectors.toList());
     }
 
@@ -109,14 +184,18 @@ public class ProductService {
     /**
      * 장바구니 상품들의 재고를 검증합니다.
      *
+     * 락 없이 수행하는 낙관적 검증이며, 실제 차감은 사가의 재고 차감 단계에서 락을 획득한 뒤 다시 검증합니다.
+     *
      * @param cartItems 장바구니 상품 목록
-     * @param productMap 상품 정보 맵
+     * @param stockMap 상품별 재고 수량 맵
      * @throws com.sparta.ecommerce.domain.product.exception.ProductException 재고가 부족한 경우
      */
-    public void validateStock(List<CartItemResponse> cartItems, Map<Long, Product> productMap) {
+    public void validateStock(List<CartItemResponse> cartItems, Map<Long, Integer> stockMap) {
         for (CartItemResponse cartItem : cartItems) {
-            Product product = productMap.get(cartItem.productId());
-            product.validateStock(cartItem.quantity());
+            int stock = stockMap.getOrDefault(cartItem.productId(), 0);
+            if (stock < cartItem.quantity()) {
+                throw new ProductException(INSUFFICIENT_STOCK);
+            }
         }
     }
 
@@ -124,14 +203,14 @@ public class ProductService {
      * 장바구니 총 금액을 계산합니다.
      *
      * @param cartItems 장바구니 상품 목록
-     * @param productMap 상품 정보 맵
+     * @param snapshots 상품 스냅샷 맵
      * @return 총 금액
      */
-    public int calculateTotalAmount(List<CartItemResponse> cartItems, Map<Long, Product> productMap) {
+    public int calculateTotalAmount(List<CartItemResponse> cartItems, Map<Long, ProductSnapshot> snapshots) {
         return cartItems.stream()
                 .mapToInt(cartItem -> {
-                    Product product = productMap.get(cartItem.productId());
-                    return product.getPrice() * cartItem.quantity();
+                    ProductSnapshot snapshot = snapshots.get(cartItem.productId());
+                    return snapshot.price() * cartItem.quantity();
                 })
                 .sum();
     }
@@ -148,18 +227,16 @@ public class ProductService {
      * @throws com.sparta.ecommerce.domain.product.exception.ProductException 재고 차감 실패 시
      */
     public void decreaseStock(List<CartItemResponse> cartItems, Map<Long, Product> productMap) {
-        log.debug("재고 차감 처리 시작");
-
+        boolean debug = log.isDebugEnabled();
         for (CartItemResponse cartItem : cartItems) {
             Product product = productMap.get(cartItem.productId());
             product.decreaseStock(cartItem.quantity());
             updateProduct(product);
 
-            log.debug("재고 차감 - ProductId: {}, Quantity: {}",
-                    cartItem.productId(), cartItem.quantity());
+            if (debug) {
+                log.debug("재고 차감 - ProductId: {}, Quantity: {}", cartItem.productId(), cartItem.quantity());
+            }
         }
-
-        log.debug("재고 차감 처리 완료");
     }
 
     /**
@@ -167,6 +244,7 @@ public class ProductService {
      *
      * 동시성 제어를 위해 Redis MultiLock을 사용하며,
      * 데드락 방지를 위해 상품 ID를 정렬하여 락을 획득합니다.
+     * 재고가 샤딩된 상품은 버킷 단위 조건부 차감으로 처리하므로 락 대상에서 제외합니다. (ProductStockShardService)
      * 트랜잭션 내에서 실행되며, 재고 차감 실패 시 롤백됩니다.
      * 재고 차감 성공 시 StockReservedEvent를 발행합니다.
      * 재고 차감 실패 시 StockDeductionFailedEvent를 발행합니다.
@@ -177,8 +255,6 @@ public class ProductService {
      */
     @Transactional
     public void decreaseStockWithLock(Long orderId, Long userId, List<CartItemResponse> cartItems) {
-        log.debug("락 획득 및 재고 차감 시작 - OrderId: {}", orderId);
-
         // 주문 상태 확인 (FAILED 상태면 이미 다른 작업이 실패함)
         Order order = orderService.getOrderById(orderId);
         if ("FAILED".equals(order.getStatus())) {
@@ -194,8 +270,20 @@ public class ProductService {
                     .sorted()
                     .toList();
 
+            // 샤딩된 상품은 락 없이 버킷에서 차감
+            Map<Long, Integer> shardedProducts = productStockShardService.findShardedProducts(productIds);
+            List<Long> lockProductIds = productIds.stream()
+                    .filter(id -> !shardedProducts.containsKey(id))
+                    .toList();
+
+            if (lockProductIds.isEmpty()) {
+                decreaseStockRouted(cartItems, shardedProducts);
+                log.debug("샤딩 재고 차감 완료 - OrderId: {}", orderId);
+                return;
+            }
+
             // Redis MultiLock 생성
-            RLock[] locks = productIds.stream()
+            RLock[] locks = lockProductIds.stream()
                     .map(id -> redissonClient.getLock("product:lock:" + id))
                     .toArray(RLock[]::new);
             RLock multiLock = redissonClient.getMultiLock(locks);
@@ -208,35 +296,59 @@ public class ProductService {
                 }
 
                 try {
-                    // 상품 조회
-                    Map<Long, Product> productMap = getProductMapByIds(productIds);
+                    // 락 대기 중 샤딩으로 전환된 상품 반영 (샤딩 설정은 상품 락을 획득한 상태에서 수행됨)
+                    Map<Long, Integer> routing = new HashMap<>(shardedProducts);
+                    routing.putAll(productStockShardService.findShardedProducts(lockProductIds));
 
                     // 재고 차감
-                    decreaseStock(cartItems, productMap);
+                    decreaseStockRouted(cartItems, routing);
 
-                    log.info("락 획득 및 재고 차감 완료 - OrderId: {}", orderId);
+                    log.debug("락 획득 및 재고 차감 완료 - OrderId: {}", orderId);
 
                 } finally {
                     // 락 해제
                     if (multiLock.isHeldByCurrentThread()) {
                         multiLock.unlock();
-                        log.debug("락 해제 완료 - OrderId: {}", orderId);
                     }
                 }
 
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
-                log.error("락 획득 중 인터럽트 발생 - OrderId: {}", orderId, e);
                 throw new IllegalStateException("Lock acquisition interrupted", e);
             }
 
         } catch (Exception e) {
-            log.error("재고 차감 실패 - OrderId: {}, Error: {}", orderId, e.getMessage(), e);
-            // Kafka Consumer에서 예외를 처리하도록 예외를 다시 던짐
+            // Kafka Consumer에서 예외를 처리(원인 포함 로그, 보상)하도록 예외를 다시 던짐
             throw new RuntimeException("재고 차감 실패: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 샤딩된 상품은 버킷에서, 그 외 상품은 상품 행에서 재고를 차감합니다.
+     *
+     * @param cartItems 차감할 장바구니 상품 목록
+     * @param shardedProducts 샤딩된 상품 ID -> 버킷 수
+     */
+    private void decreaseStockRouted(List<CartItemResponse> cartItems, Map<Long, Integer> shardedProducts) {
+        List<CartItemResponse> unshardedItems = new ArrayList<>();
+        for (CartItemResponse cartItem : cartItems) {
+            Integer bucketCount = shardedProducts.get(cartItem.productId());
+            if (bucketCount == null) {
+                unshardedItems.add(cartItem);
+                continue;
+            }
+            productStockShardService.reserve(cartItem.productId(), bucketCount, cartItem.quantity());
+        }
+
+        if (!unshardedItems.isEmpty()) {
+            List<Long> productIds = unshardedItems.stream()
+                    .map(CartItemResponse::productId)
+                    .distinct()
+                    .toList();
+            decreaseStock(unshardedItems, getProductMapByIds(productIds));
+        }
+    }
+
     /**
      * 재고 복구 (보상 트랜잭션)
      *
@@ -256,11 +368,25 @@ public class ProductService {
                     .distinct()
                     .toList();
 
+            // 샤딩된 상품은 버킷에 복구 (그 사이 샤딩이 해제된 경우 상품 행에 복구)
+            Map<Long, Integer> shardedProducts = productStockShardService.findShardedProducts(productIds);
+            List<CartItemResponse> unshardedItems = new ArrayList<>();
+            for (CartItemResponse cartItem : cartItems) {
+                Integer bucketCount = shardedProducts.get(cartItem.productId());
+                if (bucketCount == null
+                        || !productStockShardService.restore(cartItem.productId(), bucketCount, cartItem.quantity())) {
+                    unshardedItems.add(cartItem);
+                }
+            }
+
             // 상품 조회
-            Map<Long, Product> productMap = getProductMapByIds(productIds);
+            Map<Long, Product> productMap = getProductMapByIds(unshardedItems.stream()
+                    .map(CartItemResponse::productId)
+                    .distinct()
+                    .toList());
 
             // 재고 복구
-            for (CartItemResponse cartItem : cartItems) {
+            for (CartItemResponse cartItem : unshardedItems) {
                 Product product = productMap.get(cartItem.productId());
                 product.restoreStock(cartItem.quantity());
                 updateProduct(product);
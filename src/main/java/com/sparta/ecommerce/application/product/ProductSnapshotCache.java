@@ -0,0 +1,166 @@
+package com.sparta.ecommerce.application.product;
+
+import com.sparta.ecommerce.domain.product.ProductRepository;
+import com.sparta.ecommerce.domain.product.dto.ProductSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 스냅샷 로컬 캐시
+ *
+ * 주문 검증과 주문 상품 생성에는 상품명/설명/가격만 필요하므로, 주문마다 상품 엔티티를 조회하지 않고
+ * 노드 로컬 캐시의 불변 스냅샷을 사용합니다. 캐시 미스인 상품만 한 번의 쿼리로 조회합니다.
+ *
+ * - 크기 제한: max-size를 넘으면 만료된 항목부터, 그래도 넘으면 임의의 항목을 제거합니다.
+ * - 무효화: 스냅샷 필드(상품명/설명/가격) 변경이 커밋되면 Redis Pub/Sub으로 모든 노드에 전파합니다.
+ *   (ProductChangedEventListener, 커밋 전에 전파하면 다른 노드가 변경 전 상품을 다시 읽을 수 있음)
+ * - 무효화 세대: 조회 도중 무효화가 일어나면 조회 결과(변경 전 스냅샷일 수 있음)를 캐시에 저장하지 않습니다.
+ *   상품 정보 변경은 드물기 때문에 상품별이 아닌 노드 전체 세대 하나로 관리합니다.
+ * - 만료: 애플리케이션 밖(DB 직접 수정 등)에서의 변경은 ttl-seconds 이내에 반영됩니다.
+ *
+ * 재고는 스냅샷에 포함하지 않습니다. (자주 변하며, 주문 검증 시 별도로 조회)
+ *
+ * 메시지 형식: "productId"
+ */
+@Slf4j
+@Component
+public class ProductSnapshotCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "product:snapshot:channel";
+
+    private final ProductRepository productRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final ConcurrentHashMap<Long, CachedSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProductSnapshotCache(
+            ProductRepository productRepository,
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${product.snapshot-cache.max-size:10000}") int maxSize,
+            @Value("${product.snapshot-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.productRepository = productRepository;
+        this.redisTemplate = redisTemplate;
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * 상품 스냅샷을 조회합니다. 캐시 미스인 상품은 DB에서 한 번에 조회하여 캐시에 저장합니다.
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID를 키로 하는 스냅샷 Map (존재하지 않는 상품은 포함되지 않음)
+     */
+    public Map<Long, ProductSnapshot> getAll(Collection<Long> productIds) {
+        Map<Long, ProductSnapshot> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        long now = System.nanoTime();
+
+        for (Long productId : productIds) {
+            CachedSnapshot cached = snapshots.get(productId);
+            if (cached != null && now < cached.expiresAtNanos()) {
+                result.put(productId, cached.snapshot());
+            } else {
+                misses.add(productId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            // 조회 전에 세대를 읽어, 조회 중 커밋된 변경의 무효화가 조회 결과로 덮어써지지 않도록 함
+            long loadedAt = generation.get();
+            for (ProductSnapshot snapshot : productRepository.findSnapshotsByIds(misses)) {
+                put(snapshot, now, loadedAt);
+                result.put(snapshot.productId(), snapshot);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 상품 스냅샷을 이 노드와 다른 모든 노드의 캐시에서 제거합니다.
+     *
+     * @param productId 상품 ID
+     */
+    public void invalidate(Long productId) {
+        evictLocal(productId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(productId));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 TTL 만료 후 반영
+            log.warn("상품 스냅샷 무효화 전파 실패 - productId: {}, error: {}", productId, e.getMessage());
+        }
+    }
+
+    /**
+     * Redis Pub/Sub으로 수신한 무효화를 이 노드의 캐시에 반영합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 상품 스냅샷 무효화 메시지 - message: {}", body);
+        }
+    }
+
+    /**
+     * 세대를 먼저 올린 뒤 제거하여, 진행 중인 조회가 제거 이후에 저장하더라도 put에서 세대 변경을 확인하도록 합니다.
+     */
+    private void evictLocal(Long productId) {
+        generation.incrementAndGet();
+        snapshots.remove(productId);
+    }
+
+    /**
+     * 조회 시작 후 무효화가 없었던 경우에만 저장합니다.
+     * 저장 직후 다시 확인하여, 확인과 저장 사이에 무효화가 끼어든 경우 저장한 항목을 제거합니다.
+     */
+    private void put(ProductSnapshot snapshot, long now, long loadedAt) {
+        if (generation.get() != loadedAt) {
+            return;
+        }
+        if (snapshots.size() >= maxSize) {
+            evict(now);
+        }
+        CachedSnapshot cached = new CachedSnapshot(snapshot, now + ttlNanos);
+        snapshots.put(snapshot.productId(), cached);
+        if (generation.get() != loadedAt) {
+            snapshots.remove(snapshot.productId(), cached);
+        }
+    }
+
+    /**
+     * 만료된 항목을 제거하고, 그래도 가득 찬 경우 최대 크기의 90%까지 임의의 항목을 제거합니다.
+     */
+    private void evict(long now) {
+        snapshots.values().removeIf(cached -> now >= cached.expiresAtNanos());
+
+        int target = maxSize * 9 / 10;
+        Iterator<Long> iterator = snapshots.keySet().iterator();
+        while (snapshots.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record CachedSnapshot(ProductSnapshot snapshot, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,261 @@
+package com.sparta.ecommerce.application.product;
+
+import com.sparta.ecommerce.common.transaction.TransactionHandler;
+import com.sparta.ecommerce.domain.product.ProductRepository;
+import com.sparta.ecommerce.domain.product.ProductStockBucketRepository;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.entity.ProductStockBucket;
+import com.sparta.ecommerce.domain.product.exception.ProductException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.sparta.ecommerce.domain.product.exception.ProductErrorCode.*;
+
+/**
+ * 상품 재고 샤딩 서비스
+ *
+ * 주문이 몰리는 상품(hot SKU)의 재고를 N개의 버킷으로 나누어 관리합니다.
+ * - 예약: 임의의 버킷에서 조건부 차감, 재고가 없으면 다른 버킷으로 이동, 단일 버킷으로 부족하면 여러 버킷에서 나누어 차감
+ * - 복구: 임의의 버킷에 가산
+ * - 재분배: 주기적으로 버킷 재고를 균등하게 재분배하고 Product.quantity를 버킷 합계로 동기화
+ *
+ * 버킷 차감은 행 단위 조건부 UPDATE이므로 상품 분산 락(product:lock:{id}) 없이 버킷 수만큼 병렬로 처리됩니다.
+ * 샤딩 설정/해제는 상품 분산 락을 획득한 상태에서 수행하여 락 기반 차감과 겹치지 않도록 합니다.
+ *
+ * 샤딩된 상품의 Product.quantity는 재분배 주기(product.stock.sharding.rebalance-interval-ms)마다 갱신되는 집계값입니다.
+ * 예약/복구마다 상품 행을 갱신하면 모든 예약이 상품 행 락에서 다시 직렬화되므로 같은 트랜잭션에서 갱신하지 않습니다.
+ * 현재 재고가 필요한 조회(주문 재고 검증/점유, 상품 목록)는 버킷 합계(findShardedStock)를 사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductStockShardService {
+
+    private static final int MAX_BUCKET_COUNT = 64;
+
+    private final ProductStockBucketRepository productStockBucketRepository;
+    private final ProductRepository productRepository;
+    private final RedissonClient redissonClient;
+    private final TransactionHandler transactionHandler;
+
+    /**
+     * 재고가 샤딩된 상품과 버킷 수를 조회합니다.
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID -> 버킷 수 (샤딩되지 않은 상품은 포함되지 않음)
+     */
+    public Map<Long, Integer> findShardedProducts(Collection<Long> productIds) {
+        return productStockBucketRepository.findBucketCounts(productIds);
+    }
+
+    /**
+     * 재고가 샤딩된 상품의 현재 재고(버킷 합계)를 조회합니다.
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID -> 버킷 재고 합계 (샤딩되지 않은 상품은 포함되지 않음)
+     */
+    public Map<Long, Integer> findShardedStock(Collection<Long> productIds) {
+        return productStockBucketRepository.findStockTotals(productIds);
+    }
+
+    /**
+     * 샤딩된 상품의 재고를 예약(차감)합니다.
+     *
+     * 호출자의 트랜잭션에 참여하며, 재고 부족으로 실패하면 이미 차감한 버킷도 함께 롤백됩니다.
+     *
+     * @param productId   상품 ID
+     * @param bucketCount 버킷 수
+     * @param quantity    차감할 수량
+     * @throws ProductException 버킷 재고 합계가 부족한 경우
+     */
+    public void reserve(Long productId, int bucketCount, int quantity) {
+        // 1. 임의의 버킷부터 순회하며 단일 버킷에서 차감 시도 (버킷 간 경합 분산)
+        int start = ThreadLocalRandom.current().nextInt(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            int bucketNo = (start + i) % bucketCount;
+            if (productStockBucketRepository.decrease(productId, bucketNo, quantity)) {
+                log.debug("샤딩 재고 차감 - ProductId: {}, BucketNo: {}, Quantity: {}", productId, bucketNo, quantity);
+                return;
+            }
+        }
+
+        // 2. 단일 버킷으로 부족한 경우 재고가 많은 버킷부터 나누어 차감
+        int remaining = quantity;
+        for (Map.Entry<Integer, Integer> bucket : productStockBucketRepository.findBucketQuantities(productId).entrySet()) {
+            int take = Math.min(remaining, bucket.getValue());
+            if (take > 0 && productStockBucketRepository.decrease(productId, bucket.getKey(), take)) {
+                remaining -= take;
+            }
+            if (remaining == 0) {
+                log.debug("샤딩 재고 분할 차감 - ProductId: {}, Quantity: {}", productId, quantity);
+                return;
+            }
+        }
+
+        throw new ProductException(INSUFFICIENT_STOCK);
+    }
+
+    /**
+     * 샤딩된 상품의 재고를 복구합니다.
+     *
+     * @param productId   상품 ID
+     * @param bucketCount 버킷 수
+     * @param quantity    복구할 수량
+     * @return 복구 여부 (그 사이 샤딩이 해제되어 버킷이 없으면 false)
+     */
+    public boolean restore(Long productId, int bucketCount, int quantity) {
+        int bucketNo = ThreadLocalRandom.current().nextInt(bucketCount);
+        return productStockBucketRepository.increase(productId, bucketNo, quantity);
+    }
+
+    /**
+     * 상품 재고를 N개의 버킷으로 샤딩합니다.
+     *
+     * @param productId   상품 ID
+     * @param bucketCount 버킷 수 (2 ~ 64)
+     */
+    public void enableSharding(Long productId, int bucketCount) {
+        if (bucketCount < 2 || bucketCount > MAX_BUCKET_COUNT) {
+            throw new ProductException(INVALID_STOCK_BUCKET_COUNT);
+        }
+
+        withProductLock(productId, () -> {
+            if (!findShardedProducts(List.of(productId)).isEmpty()) {
+                throw new ProductException(STOCK_ALREADY_SHARDED);
+            }
+            Product product = findProductWithLock(productId);
+
+            List<ProductStockBucket> buckets = new ArrayList<>(bucketCount);
+            int[] quantities = distribute(product.getQuantity(), bucketCount);
+            LocalDateTime now = LocalDateTime.now();
+            for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+                buckets.add(new ProductStockBucket(null, productId, bucketNo, quantities[bucketNo], now));
+            }
+            productStockBucketRepository.saveAll(buckets);
+
+            log.info("상품 재고 샤딩 설정 - ProductId: {}, Buckets: {}, Quantity: {}",
+                    productId, bucketCount, product.getQuantity());
+        });
+    }
+
+    /**
+     * 상품 재고 샤딩을 해제하고 버킷 재고 합계를 Product.quantity로 되돌립니다.
+     *
+     * @param productId 상품 ID
+     */
+    public void disableSharding(Long productId) {
+        withProductLock(productId, () -> {
+            List<ProductStockBucket> buckets = productStockBucketRepository.findAllByProductIdWithLock(productId);
+            if (buckets.isEmpty()) {
+                throw new ProductException(STOCK_NOT_SHARDED);
+            }
+            int total = sum(buckets);
+
+            Product product = findProductWithLock(productId);
+            product.syncStock(total);
+            productRepository.save(product);
+            productStockBucketRepository.deleteAllByProductId(productId);
+
+            log.info("상품 재고 샤딩 해제 - ProductId: {}, Quantity: {}", productId, total);
+        });
+    }
+
+    /**
+     * 모든 샤딩 상품의 버킷 재고를 재분배합니다. (상품별 개별 트랜잭션)
+     *
+     * @return 재분배한 상품 수
+     */
+    public int rebalanceAll() {
+        int rebalanced = 0;
+        for (Long productId : productStockBucketRepository.findAllShardedProductIds()) {
+            try {
+                transactionHandler.execute(() -> rebalance(productId));
+                rebalanced++;
+            } catch (Exception e) {
+                log.warn("재고 버킷 재분배 실패 - ProductId: {}, Error: {}", productId, e.getMessage());
+            }
+        }
+        return rebalanced;
+    }
+
+    /**
+     * 버킷 재고를 균등하게 재분배하고 Product.quantity를 버킷 합계로 동기화합니다.
+     *
+     * 버킷 → 상품 순으로 락을 획득합니다. (샤딩 해제와 동일한 순서)
+     */
+    void rebalance(Long productId) {
+        List<ProductStockBucket> buckets = productStockBucketRepository.findAllByProductIdWithLock(productId);
+        if (buckets.isEmpty()) {
+            return;
+        }
+
+        int total = sum(buckets);
+        int[] quantities = distribute(total, buckets.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            buckets.get(i).assign(quantities[i]);
+        }
+
+        Product product = findProductWithLock(productId);
+        if (product.getQuantity() != total) {
+            product.syncStock(total);
+            productRepository.save(product);
+        }
+        log.debug("재고 버킷 재분배 - ProductId: {}, Buckets: {}, Quantity: {}", productId, buckets.size(), total);
+    }
+
+    /**
+     * 상품 분산 락을 획득하고 트랜잭션 내에서 작업을 실행합니다. (커밋 후 락 해제)
+     */
+    private void withProductLock(Long productId, Runnable action) {
+        RLock lock = redissonClient.getLock("product:lock:" + productId);
+        try {
+            if (!lock.tryLock(30, 10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("상품 락을 획득할 수 없습니다");
+            }
+            try {
+                transactionHandler.execute(action);
+            } finally {
+                if (lock.isHeldByCurrentThread()) {
+                    lock.unlock();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Lock acquisition interrupted", e);
+        }
+    }
+
+    private Product findProductWithLock(Long productId) {
+        return productRepository.findAllByIdWithLock(List.of(productId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new ProductException(PRODUCT_NOT_FOUND));
+    }
+
+    private int sum(List<ProductStockBucket> buckets) {
+        return buckets.stream().mapToInt(ProductStockBucket::getQuantity).sum();
+    }
+
+    /**
+     * 전체 수량을 버킷 수로 균등 분배합니다. (나머지는 앞 번호 버킷부터 1개씩)
+     */
+    static int[] distribute(int total, int bucketCount) {
+        int[] quantities = new int[bucketCount];
+        int base = total / bucketCount;
+        int remainder = total % bucketCount;
+        for (int i = 0; i < bucketCount; i++) {
+            quantities[i] = base + (i < remainder ? 1 : 0);
+        }
+        return quantities;
+    }
+}
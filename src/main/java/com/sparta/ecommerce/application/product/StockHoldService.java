@@ -0,0 +1,127 @@
+package com.sparta.ecommerce.application.product;
+
+import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
+import com.sparta.ecommerce.domain.product.StockHoldRepository;
+import com.sparta.ecommerce.domain.product.exception.ProductException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 임시 점유 서비스
+ *
+ * 주문은 PENDING 상태로 생성되고 실제 재고 차감은 비동기 사가에서 수행되므로,
+ * 그 사이 같은 마지막 재고를 여러 주문이 낙관적 검증으로 통과한 뒤 사가에서 실패(보상)하게 됩니다.
+ * 주문 생성 시 재고를 일정 시간 점유하여 가용 재고(재고 - 점유)를 넘는 주문은 생성 단계에서 거절합니다.
+ *
+ * 점유 수명:
+ *   1. 주문 생성 트랜잭션에서 점유 (트랜잭션이 롤백되면 점유도 해제)
+ *   2. 사가의 재고 차감이 커밋되면 점유 해제 (실제 차감으로 전환)
+ *   3. 주문이 실패(보상)하면 점유 해제
+ *   4. 사가가 처리하지 못한 점유는 ttl-seconds 후 만료되어 StockHoldSweepScheduler가 정리
+ *
+ * 점유는 생성 단계의 경합을 줄이기 위한 보조 수단이며, 최종 재고 검증은 사가가 상품 락을 획득한 뒤 수행합니다.
+ * 따라서 Redis 장애 시에는 점유 없이 주문을 접수합니다. (fail-open)
+ * product.stock-hold.enabled=false 로 비활성화할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class StockHoldService {
+
+    private final StockHoldRepository stockHoldRepository;
+    private final boolean enabled;
+    private final long ttlMillis;
+
+    public StockHoldService(
+            StockHoldRepository stockHoldRepository,
+            @Value("${product.stock-hold.enabled:true}") boolean enabled,
+            @Value("${product.stock-hold.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this.stockHoldRepository = stockHoldRepository;
+        this.enabled = enabled;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+    }
+
+    /**
+     * 주문 수량만큼 재고를 점유합니다.
+     *
+     * 트랜잭션 안에서 호출되면 롤백 시 점유를 해제합니다. (그룹 커밋 배치 실패로 폐기된 주문 ID 포함)
+     *
+     * @param orderId 주문 ID
+     * @param cartItems 주문 상품 목록
+     * @param stockMap 상품별 현재 재고
+     * @throws ProductException 가용 재고(재고 - 다른 주문의 점유)가 부족한 경우
+     */
+    public void hold(Long orderId, List<CartItemResponse> cartItems, Map<Long, Integer> stockMap) {
+        if (!enabled) {
+            return;
+        }
+
+        Map<Long, Integer> quantities = cartItems.stream()
+                .collect(Collectors.toMap(CartItemResponse::productId, CartItemResponse::quantity, Integer::sum));
+
+        try {
+            stockHoldRepository.hold(orderId, quantities, stockMap, ttlMillis);
+        } catch (ProductException e) {
+            log.info("가용 재고 부족으로 점유 실패 - orderId: {}", orderId);
+            throw e;
+        } catch (Exception e) {
+            log.warn("재고 점유 실패 - 점유 없이 진행 - orderId: {}, error: {}", orderId, e.getMessage());
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(orderId, cartItems);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 주문의 점유를 해제합니다. (재고 차감 완료 또는 주문 실패 시)
+     *
+     * 해제에 실패해도 점유는 만료 후 정리되므로 예외를 전파하지 않습니다.
+     *
+     * @param orderId 주문 ID
+     * @param cartItems 주문 상품 목록
+     */
+    public void release(Long orderId, List<CartItemResponse> cartItems) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            stockHoldRepository.release(orderId, cartItems.stream()
+                    .map(CartItemResponse::productId)
+                    .distinct()
+                    .toList());
+            log.debug("재고 점유 해제 - orderId: {}", orderId);
+        } catch (Exception e) {
+            log.warn("재고 점유 해제 실패 - 만료 후 정리 예정 - orderId: {}, error: {}", orderId, e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 점유를 정리합니다.
+     *
+     * @return 정리된 점유 수
+     */
+    public int releaseExpired() {
+        if (!enabled) {
+            return 0;
+        }
+        return stockHoldRepository.releaseExpired();
+    }
+}
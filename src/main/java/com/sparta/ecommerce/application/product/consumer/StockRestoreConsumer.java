@@ -1,7 +1,9 @@
 package com.sparta.ecommerce.application.product.consumer;
 
+import com.sparta.ecommerce.application.order.OrderCompensationStepExecutor;
 import com.sparta.ecommerce.application.product.ProductService;
 import com.sparta.ecommerce.application.product.event.StockRestoreEvent;
+import com.sparta.ecommerce.domain.order.OrderSagaStep;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -12,6 +14,8 @@ import org.springframework.stereotype.Component;
  *
  * 주문 실패 시 Kafka에서 재고 복구 이벤트 메시지를 받아서 재고를 복구합니다.
  * 보상 트랜잭션(Saga Compensation)의 일부로 동작합니다.
+ * 처리에 실패하면 재시도 토픽(1s, 10s, 1m)을 거쳐 DLT로 이동합니다. (KafkaConfig 참고)
+ * 같은 주문의 복구 이벤트가 다시 발행되어도 한 번만 복구합니다. (OrderCompensationStepExecutor)
  */
 @Slf4j
 @Component
@@ -19,6 +23,7 @@ import org.springframework.stereotype.Component;
 public class StockRestoreConsumer {
 
     private final ProductService productService;
+    private final OrderCompensationStepExecutor orderCompensationStepExecutor;
 
     /**
      * 재고 복구 이벤트 메시지를 소비하여 재고를 복구합니다.
@@ -31,15 +36,17 @@ public class StockRestoreConsumer {
             containerFactory = "stockRestoreKafkaListenerContainerFactory"
     )
     public void consumeStockRestoreEvent(StockRestoreEvent event) {
-        log.info("재고 복구 이벤트 수신 - Items: {}", event.cartItems());
+        log.info("재고 복구 이벤트 수신 - OrderId: {}, Items: {}", event.orderId(), event.cartItems());
 
         try {
-            productService.restoreStock(event.cartItems());
-            log.info("재고 복구 이벤트 처리 완료");
+            if (orderCompensationStepExecutor.executeOnce(event.orderId(), OrderSagaStep.STOCK_RESTORE, event::legacyEventKey,
+                    () -> productService.restoreStock(event.cartItems()))) {
+                log.info("재고 복구 이벤트 처리 완료 - OrderId: {}", event.orderId());
+            }
         } catch (Exception e) {
-            log.error("재고 복구 이벤트 처리 실패 - error: {}", e.getMessage(), e);
-            // 보상 트랜잭션의 실패는 심각한 문제이므로 모니터링/알람 필요
-            // 필요시 DLQ(Dead Letter Queue) 처리 추가 가능
+            log.error("재고 복구 이벤트 처리 실패 - OrderId: {}, error: {}", event.orderId(), e.getMessage(), e);
+            // 보상 트랜잭션은 유실되면 안 되므로 예외를 전파하여 재시도 토픽 -> DLT로 이동
+            throw e;
         }
     }
 }
@@ -0,0 +1,9 @@
+package com.sparta.ecommerce.application.product.event;
+
+/**
+ * 상품 스냅샷/검색 대상 필드(상품명/설명/가격) 변경 이벤트
+ */
+public record ProductChangedEvent(
+        Long productId
+) {
+}
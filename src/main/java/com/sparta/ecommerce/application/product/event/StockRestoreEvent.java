@@ -3,8 +3,25 @@ package com.sparta.ecommerce.application.product.event;
 import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
+/**
+ * 재고 복구 이벤트
+ *
+ * orderId는 멱등 키입니다. 같은 주문의 재고 복구는 한 번만 반영됩니다. (이전 버전 메시지는 null)
+ * orderId가 없는 이전 버전 메시지는 legacyEventKey()로 중복을 판단합니다.
+ */
 public record StockRestoreEvent(
+        Long orderId,
         List<CartItemResponse> cartItems
 ) {
+
+    /**
+     * orderId가 없는 이전 버전 메시지의 멱등 키 (장바구니 상품 ID:상품 ID:수량 목록)
+     */
+    public String legacyEventKey() {
+        return cartItems.stream()
+                .map(item -> item.cartItemId() + ":" + item.productId() + ":" + item.quantity())
+                .collect(Collectors.joining(","));
+    }
 }
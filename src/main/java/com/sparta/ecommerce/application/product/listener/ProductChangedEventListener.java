@@ -0,0 +1,30 @@
+package com.sparta.ecommerce.application.product.listener;
+
+import com.sparta.ecommerce.application.product.ProductSearchService;
+import com.sparta.ecommerce.application.product.ProductSnapshotCache;
+import com.sparta.ecommerce.application.product.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 변경 이벤트 리스너
+ *
+ * 상품 변경이 커밋된 후 모든 노드의 상품 스냅샷 캐시와 상품 검색 색인에 전파합니다.
+ * 커밋 전에 전파하면 다른 노드가 변경 전 상품을 다시 읽을 수 있으므로 AFTER_COMMIT 페이즈를 사용합니다.
+ * (트랜잭션 밖에서 발행된 경우 즉시 전파)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductChangedEventListener {
+
+    private final ProductSearchService productSearchService;
+    private final ProductSnapshotCache productSnapshotCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ProductChangedEvent event) {
+        productSnapshotCache.invalidate(event.productId());
+        productSearchService.publishChange(event.productId());
+    }
+}
@@ -1,7 +1,21 @@
 package com.sparta.ecommerce.application.user.event;
 
+/**
+ * 포인트 복구 이벤트
+ *
+ * orderId는 멱등 키입니다. 같은 주문의 포인트 복구는 한 번만 반영됩니다. (이전 버전 메시지는 null)
+ * orderId가 없는 이전 버전 메시지는 legacyEventKey()로 중복을 판단합니다.
+ */
 public record PointRestoreEvent(
+        Long orderId,
         Long userId,
         int amount
 ) {
+
+    /**
+     * orderId가 없는 이전 버전 메시지의 멱등 키 (이벤트 내용)
+     */
+    public String legacyEventKey() {
+        return userId + ":" + amount;
+    }
 }
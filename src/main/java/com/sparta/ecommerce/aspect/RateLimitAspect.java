@@ -0,0 +1,82 @@
+package com.sparta.ecommerce.aspect;
+
+import com.sparta.ecommerce.common.annotation.RateLimit;
+import com.sparta.ecommerce.common.ratelimit.RateLimitExceededException;
+import com.sparta.ecommerce.common.ratelimit.TokenBucketRateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+@Aspect
+@Component
+@Order(0)  // 분산 락(@Order(1)), 트랜잭션보다 먼저 실행하여 초과 요청은 DB 접근 전에 거절
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitAspect {
+
+    private static final ExpressionParser PARSER = new SpelExpressionParser();
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+    private final TokenBucketRateLimiter rateLimiter;
+
+    @Around("@annotation(rateLimit)")
+    public Object rateLimit(ProceedingJoinPoint joinPoint, RateLimit rateLimit) throws Throwable {
+        validate(rateLimit);
+
+        // 1. 사용자별 제한
+        String userBucket = null;
+        if (!rateLimit.key().isEmpty()) {
+            Object userKey = resolveKey(joinPoint, rateLimit.key());
+            userBucket = String.format("%s:user:%s", rateLimit.value(), userKey);
+            rateLimiter.acquire(userBucket, rateLimit.capacity(), rateLimit.refillPerSecond());
+        }
+
+        // 2. 엔드포인트 전체 제한 (거절 시 사용자 토큰은 되돌림)
+        if (rateLimit.endpointCapacity() > 0) {
+            try {
+                rateLimiter.acquire(rateLimit.value(),
+                        rateLimit.endpointCapacity(), rateLimit.endpointRefillPerSecond());
+            } catch (RateLimitExceededException e) {
+                if (userBucket != null) {
+                    rateLimiter.release(userBucket, rateLimit.capacity());
+                }
+                throw e;
+            }
+        }
+
+        return joinPoint.proceed();
+    }
+
+    /**
+     * 충전 속도가 0이면 버킷이 다시 채워지지 않고 Lua 스크립트에서 0으로 나누게 되므로 설정 오류로 거절합니다.
+     */
+    private static void validate(RateLimit rateLimit) {
+        if (!rateLimit.key().isEmpty() && (rateLimit.capacity() <= 0 || rateLimit.refillPerSecond() <= 0)) {
+            throw new IllegalStateException(
+                    "@RateLimit(" + rateLimit.value() + ") capacity와 refillPerSecond는 0보다 커야 합니다.");
+        }
+        if (rateLimit.endpointCapacity() > 0 && rateLimit.endpointRefillPerSecond() <= 0) {
+            throw new IllegalStateException(
+                    "@RateLimit(" + rateLimit.value() + ") endpointCapacity 설정 시 endpointRefillPerSecond는 0보다 커야 합니다.");
+        }
+    }
+
+    private Object resolveKey(ProceedingJoinPoint joinPoint, String expression) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                null, method, joinPoint.getArgs(), PARAMETER_NAME_DISCOVERER);
+        return PARSER.parseExpression(expression).getValue(context);
+    }
+}
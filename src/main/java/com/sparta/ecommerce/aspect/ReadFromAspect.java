@@ -0,0 +1,28 @@
+package com.sparta.ecommerce.aspect;
+
+import com.sparta.ecommerce.common.annotation.ReadFrom;
+import com.sparta.ecommerce.common.datasource.DataSourceRole;
+import com.sparta.ecommerce.common.datasource.DataSourceRouteContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(2)  // Transaction AOP보다 먼저 실행하여 트랜잭션 전체 구간에 라우팅 지정 적용
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadFromAspect {
+
+    @Around("@annotation(readFrom)")
+    public Object route(ProceedingJoinPoint joinPoint, ReadFrom readFrom) throws Throwable {
+        DataSourceRole previous = DataSourceRouteContext.enter(readFrom.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DataSourceRouteContext.restore(previous);
+        }
+    }
+}
@@ -48,7 +48,7 @@ public class RedissonLockAspect {
                 throw new IllegalArgumentException("Invalid keyParameterIndex: " + paramIndex);
             }
 
-            lockKey = String.format("%s:%s", lockKey, keyParam);
+            lockKey = lockKey + ":" + keyParam;
         }
 
         RLock lock = redissonClient.getLock(lockKey);
@@ -66,7 +66,7 @@ public class RedissonLockAspect {
                 throw new IllegalStateException("락을 획득할 수 없습니다");
             }
 
-            log.info("Redisson Lock 획득 성공: {}", lockKey);
+            log.debug("Redisson Lock 획득 성공: {}", lockKey);
 
             // 실제 메서드 실행
             return joinPoint.proceed();
@@ -74,7 +74,7 @@ public class RedissonLockAspect {
             // Lock 해제
             if (lock.isHeldByCurrentThread()) {
                 lock.unlock();
-                log.info("Redisson Lock 해제: {}", lockKey);
+                log.debug("Redisson Lock 해제: {}", lockKey);
             }
         }
     }
@@ -0,0 +1,26 @@
+package com.sparta.ecommerce.common.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 토큰 버킷 기반 요청 수 제한
+ *
+ * 사용자별 버킷과 엔드포인트 전체 버킷을 모두 통과해야 메서드가 실행되며,
+ * 초과 요청은 메서드 실행 전(DB 접근 전)에 429 Too Many Requests로 거절됩니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimit {
+
+    String value(); // 엔드포인트 이름 (버킷 키)
+    String key() default ""; // 사용자 식별 SpEL (예: "#request.userId()"), 비어 있으면 사용자별 제한 없음
+    int capacity() default 5; // 사용자별 버킷 크기 (순간 허용 요청 수)
+    int refillPerSecond() default 1; // 사용자별 초당 충전 토큰 수
+    int endpointCapacity() default 0; // 엔드포인트 전체 버킷 크기 (0이면 제한 없음)
+    int endpointRefillPerSecond() default 0; // 엔드포인트 전체 초당 충전 토큰 수 (endpointCapacity 설정 시 1 이상)
+}
@@ -0,0 +1,25 @@
+package com.sparta.ecommerce.common.annotation;
+
+import com.sparta.ecommerce.common.datasource.DataSourceRole;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 실행 중 조회 쿼리를 보낼 DataSource를 지정합니다.
+ *
+ * - PRIMARY: 직전에 커밋된 데이터를 읽어야 하는 경로 (사가 상태 확인 등). 중첩된 REPLICA 지정보다 우선합니다.
+ * - REPLICA: 복제 지연을 허용하는 조회 경로. 쓰기 트랜잭션 안에서는 무시되고 Primary를 사용합니다.
+ *
+ * @Transactional(readOnly = true) 구간은 별도 지정이 없으면 Replica로 라우팅됩니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFrom {
+
+    DataSourceRole value();
+}
@@ -0,0 +1,15 @@
+package com.sparta.ecommerce.common.codec;
+
+/**
+ * 바이너리 코덱 인코딩/디코딩 실패 예외
+ */
+public class BinaryCodecException extends RuntimeException {
+
+    public BinaryCodecException(String message) {
+        super(message);
+    }
+
+    public BinaryCodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,107 @@
+package com.sparta.ecommerce.common.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 타입별 바이너리 코덱 레지스트리
+ *
+ * 메시지 포맷: [매직 바이트 0xB1][typeId varint][schemaVersion varint][payload]
+ *
+ * - 매직 바이트: JSON('{', '[', '"')과 겹치지 않으므로 역직렬화 시 포맷을 판별할 수 있습니다.
+ * - typeId: 클래스명 대신 고정된 숫자 ID로 타입을 식별합니다. (한 번 부여한 ID는 재사용하지 않음)
+ * - schemaVersion: 필드 구성을 바꿀 때 올리며, 디코더는 이전 버전도 읽을 수 있어야 합니다.
+ */
+public class BinaryCodecRegistry {
+
+    public static final int MAGIC = 0xB1;
+
+    private final Map<Class<?>, Codec<?>> codecsByType = new HashMap<>();
+    private final Map<Integer, Codec<?>> codecsById = new HashMap<>();
+
+    /**
+     * 타입 코덱 등록
+     *
+     * @param typeId  타입 식별자 (레지스트리 내 고유)
+     * @param version 현재 스키마 버전 (인코딩 시 기록)
+     * @param type    대상 클래스
+     * @param encoder 현재 버전 인코더
+     * @param decoder 버전별 디코더
+     */
+    public <T> BinaryCodecRegistry register(int typeId, int version, Class<T> type,
+                                            BiConsumer<BinaryWriter, T> encoder, Decoder<T> decoder) {
+        Codec<T> codec = new Codec<>(typeId, version, type, encoder, decoder);
+        if (codecsById.putIfAbsent(typeId, codec) != null || codecsByType.putIfAbsent(type, codec) != null) {
+            throw new IllegalStateException("중복된 바이너리 코덱 등록입니다 - typeId: " + typeId + ", type: " + type.getName());
+        }
+        return this;
+    }
+
+    /**
+     * 바이너리 코덱이 등록된 타입인지 확인합니다.
+     */
+    public boolean supports(Object value) {
+        return value != null && codecsByType.containsKey(value.getClass());
+    }
+
+    /**
+     * 바이너리 포맷으로 인코딩된 데이터인지 확인합니다.
+     */
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length > 0 && (data[0] & 0xFF) == MAGIC;
+    }
+
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Object value) {
+        Codec<Object> codec = (Codec<Object>) codecsByType.get(value.getClass());
+        if (codec == null) {
+            throw new BinaryCodecException("바이너리 코덱이 등록되지 않은 타입입니다 - type: " + value.getClass().getName());
+        }
+
+        BinaryWriter writer = new BinaryWriter();
+        writer.writeByte(MAGIC);
+        writer.writeVarLong(codec.typeId());
+        writer.writeVarLong(codec.version());
+        codec.encoder().accept(writer, value);
+        return writer.toByteArray();
+    }
+
+    public Object decode(byte[] data) {
+        if (!isBinary(data)) {
+            throw new BinaryCodecException("바이너리 포맷이 아닙니다");
+        }
+
+        BinaryReader reader = new BinaryReader(data);
+        reader.readByte();
+        int typeId = Math.toIntExact(reader.readVarLong());
+        int version = Math.toIntExact(reader.readVarLong());
+
+        Codec<?> codec = codecsById.get(typeId);
+        if (codec == null) {
+            throw new BinaryCodecException("알 수 없는 바이너리 타입입니다 - typeId: " + typeId);
+        }
+        if (version < 1 || version > codec.version()) {
+            throw new BinaryCodecException("지원하지 않는 스키마 버전입니다 - type: "
+                    + codec.type().getSimpleName() + ", version: " + version);
+        }
+        return codec.decoder().decode(reader, version);
+    }
+
+    /**
+     * 버전별 디코더
+     */
+    @FunctionalInterface
+    public interface Decoder<T> {
+        T decode(BinaryReader reader, int version);
+    }
+
+    private record Codec<T>(
+            int typeId,
+            int version,
+            Class<T> type,
+            BiConsumer<BinaryWriter, T> encoder,
+            Decoder<T> decoder
+    ) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.sparta.ecommerce.common.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 바이너리 디코더 (BinaryWriter의 역연산)
+ */
+public class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    public int readByte() {
+        if (position >= buffer.length) {
+            throw new BinaryCodecException("바이너리 데이터가 예상보다 짧습니다 - length: " + buffer.length);
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new BinaryCodecException("잘못된 varint 인코딩입니다");
+    }
+
+    public long readLong() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public int readInt() {
+        long value = readLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new BinaryCodecException("int 범위를 벗어난 값입니다 - value: " + value);
+        }
+        return (int) value;
+    }
+
+    public Long readNullableLong() {
+        return readByte() == 0 ? null : readLong();
+    }
+
+    public Integer readNullableInt() {
+        return readByte() == 0 ? null : readInt();
+    }
+
+    public String readString() {
+        int length = lengthOrNull();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public byte[] readBytes() {
+        int length = lengthOrNull();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = Arrays.copyOfRange(buffer, position, position + length);
+        position += length;
+        return value;
+    }
+
+    public LocalDateTime readDateTime() {
+        if (readByte() == 0) {
+            return null;
+        }
+        long epochSecond = readLong();
+        int nano = Math.toIntExact(readVarLong());
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    public <E> List<E> readList(Function<BinaryReader, E> elementReader) {
+        int size = lengthOrNull();
+        if (size < 0) {
+            return null;
+        }
+        List<E> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(elementReader.apply(this));
+        }
+        return values;
+    }
+
+    /**
+     * (길이 + 1) 인코딩을 해석합니다. null이면 -1
+     *
+     * 길이(문자열/바이트 수, 목록 원소 수)는 남은 바이트 수를 넘을 수 없으므로(원소는 1바이트 이상),
+     * 손상되거나 조작된 길이로 큰 배열을 할당하기 전에 거부합니다.
+     */
+    private int lengthOrNull() {
+        long encoded = readVarLong();
+        if (encoded == 0) {
+            return -1;
+        }
+        int remaining = buffer.length - position;
+        if (encoded < 0 || encoded - 1 > remaining) {
+            throw new BinaryCodecException("길이 값이 남은 데이터 범위를 벗어났습니다 - length: "
+                    + Long.toUnsignedString(encoded - 1) + ", remaining: " + remaining);
+        }
+        return (int) (encoded - 1);
+    }
+}
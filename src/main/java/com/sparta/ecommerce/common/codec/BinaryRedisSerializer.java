@@ -0,0 +1,58 @@
+package com.sparta.ecommerce.common.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Redis 캐시 값 직렬화기
+ *
+ * BinarySchema에 등록된 타입은 바이너리로, 그 외 타입은 기존 JSON 직렬화기로 저장합니다.
+ * 조회 시 매직 바이트로 포맷을 판별하므로 전환 이전에 저장된 JSON 캐시 값도 읽을 수 있습니다.
+ *
+ * writeBinary=false이면 모든 값을 JSON으로 저장하고 조회만 두 포맷을 지원합니다.
+ * (롤링 배포 중 바이너리로 저장하는 새 버전 노드와 공존하기 위한 전환 단계)
+ */
+public class BinaryRedisSerializer implements RedisSerializer<Object> {
+
+    private final BinaryCodecRegistry registry;
+    private final RedisSerializer<Object> fallback;
+    private final boolean writeBinary;
+
+    public BinaryRedisSerializer(BinaryCodecRegistry registry, RedisSerializer<Object> fallback) {
+        this(registry, fallback, true);
+    }
+
+    public BinaryRedisSerializer(BinaryCodecRegistry registry, RedisSerializer<Object> fallback, boolean writeBinary) {
+        this.registry = registry;
+        this.fallback = fallback;
+        this.writeBinary = writeBinary;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!writeBinary) {
+            return fallback.serialize(value);
+        }
+        Object target = ProductResponseList.matches(value) ? ProductResponseList.of(value) : value;
+        if (!registry.supports(target)) {
+            return fallback.serialize(value);
+        }
+        try {
+            return registry.encode(target);
+        } catch (BinaryCodecException e) {
+            throw new SerializationException("캐시 값 바이너리 직렬화 실패 - type: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (!BinaryCodecRegistry.isBinary(bytes)) {
+            return fallback.deserialize(bytes);
+        }
+        try {
+            return registry.decode(bytes);
+        } catch (BinaryCodecException | ArithmeticException e) {
+            throw new SerializationException("캐시 값 바이너리 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.sparta.ecommerce.common.codec;
+
+import com.sparta.ecommerce.application.coupon.event.CouponIssueEvent;
+import com.sparta.ecommerce.application.coupon.event.CouponRestoreEvent;
+import com.sparta.ecommerce.application.order.event.OrderCreatedEvent;
+import com.sparta.ecommerce.application.product.event.StockRestoreEvent;
+import com.sparta.ecommerce.application.user.event.PointRestoreEvent;
+import com.sparta.ecommerce.common.http.PrecompressedJson;
+import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
+import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
+
+import java.util.List;
+
+/**
+ * Kafka 이벤트 / Redis 캐시 값 바이너리 스키마 (버전 관리 대상)
+ *
+ * 필드는 아래 순서대로 기록됩니다. (long/int: zigzag varint, ?: nullable)
+ *
+ * | typeId | 타입                    | ver | 필드                                                         |
+ * |--------|-------------------------|-----|--------------------------------------------------------------|
+ * | 1      | CouponIssueEvent        | 1   | userId?, couponId?                                           |
+ * | 2      | CouponRestoreEvent      | 2   | userId?, userCouponId?, orderId? (v2)                        |
+ * | 10     | OrderCreatedEvent       | 1   | userId?, orderId?, userCouponId?, finalAmount, cartItems     |
+ * | 20     | StockRestoreEvent       | 2   | cartItems, orderId? (v2)                                     |
+ * | 30     | PointRestoreEvent       | 2   | userId?, amount, orderId? (v2)                               |
+ * | 100    | ProductResponseList     | 1   | List&lt;ProductResponse&gt; (topProducts 캐시 값)             |
+ * | 101    | PrecompressedJson       | 1   | contentHash, gzippedJson (topProductsPayload 캐시 값)          |
+ *
+ * 중첩 구조:
+ * - CartItem: cartItemId?, userId?, productId?, quantity?, createAt?, updatedAt?
+ * - ProductResponse: productId?, productName, description, quantity?, price?, viewCount?, createdAt?, updatedAt?
+ *
+ * 스키마 변경 규칙:
+ * - 필드 추가/삭제 시 해당 타입의 버전을 올리고, 디코더에 이전 버전 분기를 남깁니다.
+ * - 배포 순서: 새 버전을 읽을 수 있는 Consumer를 먼저 배포한 뒤 Producer를 배포합니다.
+ * - typeId는 재사용하지 않습니다.
+ */
+public final class BinarySchema {
+
+    private static final BinaryCodecRegistry REGISTRY = new BinaryCodecRegistry()
+            .register(1, 1, CouponIssueEvent.class,
+                    (out, event) -> {
+                        out.writeNullableLong(event.userId());
+                        out.writeNullableLong(event.couponId());
+                    },
+                    (in, version) -> new CouponIssueEvent(in.readNullableLong(), in.readNullableLong()))
+            .register(2, 2, CouponRestoreEvent.class,
+                    (out, event) -> {
+                        out.writeNullableLong(event.userId());
+                        out.writeNullableLong(event.userCouponId());
+                        out.writeNullableLong(event.orderId());
+                    },
+                    (in, version) -> {
+                        Long userId = in.readNullableLong();
+                        Long userCouponId = in.readNullableLong();
+                        return new CouponRestoreEvent(version >= 2 ? in.readNullableLong() : null, userId, userCouponId);
+                    })
+            .register(10, 1, OrderCreatedEvent.class,
+                    (out, event) -> {
+                        out.writeNullableLong(event.userId());
+                        out.writeNullableLong(event.orderId());
+                        out.writeNullableLong(event.userCouponId());
+                        out.writeInt(event.finalAmount());
+                        out.writeList(event.cartItems(), BinarySchema::writeCartItem);
+                    },
+                    (in, version) -> new OrderCreatedEvent(
+                            in.readNullableLong(),
+                            in.readNullableLong(),
+                            in.readNullableLong(),
+                            in.readInt(),
+                            in.readList(BinarySchema::readCartItem)))
+            .register(20, 2, StockRestoreEvent.class,
+                    (out, event) -> {
+                        out.writeList(event.cartItems(), BinarySchema::writeCartItem);
+                        out.writeNullableLong(event.orderId());
+                    },
+                    (in, version) -> {
+                        List<CartItemResponse> cartItems = in.readList(BinarySchema::readCartItem);
+                        return new StockRestoreEvent(version >= 2 ? in.readNullableLong() : null, cartItems);
+                    })
+            .register(30, 2, PointRestoreEvent.class,
+                    (out, event) -> {
+                        out.writeNullableLong(event.userId());
+                        out.writeInt(event.amount());
+                        out.writeNullableLong(event.orderId());
+                    },
+                    (in, version) -> {
+                        Long userId = in.readNullableLong();
+                        int amount = in.readInt();
+                        return new PointRestoreEvent(version >= 2 ? in.readNullableLong() : null, userId, amount);
+                    })
+            .register(100, 1, ProductResponseList.class,
+                    (out, list) -> out.writeList(list, BinarySchema::writeProduct),
+                    (in, version) -> new ProductResponseList(in.readList(BinarySchema::readProduct)))
+            .register(101, 1, PrecompressedJson.class,
+                    (out, payload) -> {
+                        out.writeString(payload.contentHash());
+                        out.writeBytes(payload.gzippedJson());
+                    },
+                    (in, version) -> new PrecompressedJson(in.readString(), in.readBytes()));
+
+    private BinarySchema() {
+    }
+
+    public static BinaryCodecRegistry registry() {
+        return REGISTRY;
+    }
+
+    private static void writeCartItem(BinaryWriter out, CartItemResponse item) {
+        out.writeNullableLong(item.cartItemId());
+        out.writeNullableLong(item.userId());
+        out.writeNullableLong(item.productId());
+        out.writeNullableInt(item.quantity());
+        out.writeDateTime(item.createAt());
+        out.writeDateTime(item.updatedAt());
+    }
+
+    private static CartItemResponse readCartItem(BinaryReader in) {
+        return new CartItemResponse(
+                in.readNullableLong(),
+                in.readNullableLong(),
+                in.readNullableLong(),
+                in.readNullableInt(),
+                in.readDateTime(),
+                in.readDateTime()
+        );
+    }
+
+    private static void writeProduct(BinaryWriter out, ProductResponse product) {
+        out.writeNullableLong(product.productId());
+        out.writeString(product.productName());
+        out.writeString(product.description());
+        out.writeNullableInt(product.quantity());
+        out.writeNullableInt(product.price());
+        out.writeNullableInt(product.viewCount());
+        out.writeDateTime(product.createdAt());
+        out.writeDateTime(product.updatedAt());
+    }
+
+    private static ProductResponse readProduct(BinaryReader in) {
+        return new ProductResponse(
+                in.readNullableLong(),
+                in.readString(),
+                in.readString(),
+                in.readNullableInt(),
+                in.readNullableInt(),
+                in.readNullableInt(),
+                in.readDateTime(),
+                in.readDateTime()
+        );
+    }
+}
@@ -0,0 +1,131 @@
+package com.sparta.ecommerce.common.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 바이너리 인코더
+ *
+ * 정수는 zigzag + varint(LEB128)로 기록하여 작은 값(ID, 수량, 금액)이 1~3바이트를 차지합니다.
+ * nullable 값은 존재 여부 1바이트를 먼저 기록하고, 문자열/리스트는 (길이 + 1)을 기록하여 0을 null로 사용합니다.
+ */
+public class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter() {
+        this(64);
+    }
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * 부호 없는 varint
+     */
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * 부호 있는 정수 (zigzag 인코딩으로 음수도 작은 바이트 수로 기록)
+     */
+    public void writeLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeInt(int value) {
+        writeLong(value);
+    }
+
+    public void writeNullableLong(Long value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        writeByte(1);
+        writeLong(value);
+    }
+
+    public void writeNullableInt(Integer value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        writeByte(1);
+        writeInt(value);
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    public void writeBytes(byte[] value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(value.length + 1L);
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, buffer, position, value.length);
+        position += value.length;
+    }
+
+    /**
+     * 날짜/시간 (UTC 기준 epoch 초 + 나노초)
+     */
+    public void writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        writeByte(1);
+        writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        writeVarLong(value.getNano());
+    }
+
+    public <E> void writeList(List<E> values, BiConsumer<BinaryWriter, E> elementWriter) {
+        if (values == null) {
+            writeVarLong(0);
+            return;
+        }
+        writeVarLong(values.size() + 1L);
+        for (E value : values) {
+            elementWriter.accept(this, value);
+        }
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.sparta.ecommerce.common.codec;
+
+import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * 상품 목록 캐시 값의 바이너리 스키마 타입
+ *
+ * 제네릭 타입 정보가 없는 List 대신 고정 타입으로 인코딩하기 위해 사용하며,
+ * 디코딩 결과는 그대로 List&lt;ProductResponse&gt;로 반환됩니다.
+ */
+public class ProductResponseList extends ArrayList<ProductResponse> {
+
+    public ProductResponseList(Collection<ProductResponse> products) {
+        super(products);
+    }
+
+    /**
+     * 모든 원소가 ProductResponse인 비어있지 않은 List인지 확인합니다.
+     */
+    public static boolean matches(Object value) {
+        return value instanceof Collection<?> collection
+                && !collection.isEmpty()
+                && collection.stream().allMatch(ProductResponse.class::isInstance);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static ProductResponseList of(Object value) {
+        return value instanceof ProductResponseList list
+                ? list
+                : new ProductResponseList((Collection<ProductResponse>) value);
+    }
+}
@@ -0,0 +1,14 @@
+package com.sparta.ecommerce.common.codec;
+
+/**
+ * Kafka 이벤트 / Redis 캐시 값 직렬화 포맷
+ *
+ * 역직렬화는 포맷과 관계없이 매직 바이트로 바이너리/JSON을 판별하므로,
+ * 포맷을 전환해도 이미 저장된 메시지와 캐시 값을 그대로 읽을 수 있습니다.
+ */
+public enum SerializationFormat {
+    /** 기존 JSON 직렬화 (타입 헤더 / 클래스명 포함) */
+    JSON,
+    /** BinarySchema 기반 varint 바이너리 직렬화 */
+    BINARY
+}
@@ -0,0 +1,9 @@
+package com.sparta.ecommerce.common.datasource;
+
+/**
+ * 쿼리를 보낼 DataSource 역할
+ */
+public enum DataSourceRole {
+    PRIMARY,    // 쓰기 노드 (read-your-writes 보장)
+    REPLICA     // 읽기 전용 복제본 (복제 지연 허용)
+}
@@ -0,0 +1,46 @@
+package com.sparta.ecommerce.common.datasource;
+
+/**
+ * 현재 스레드의 DataSource 라우팅 지정 (@ReadFrom)
+ *
+ * 커넥션은 첫 쿼리 시점에 획득되므로(LazyConnectionDataSourceProxy),
+ * 트랜잭션 시작 이후에 지정되어도 해당 트랜잭션의 커넥션 선택에 반영됩니다.
+ */
+public final class DataSourceRouteContext {
+
+    private static final ThreadLocal<DataSourceRole> CURRENT = new ThreadLocal<>();
+
+    private DataSourceRouteContext() {
+    }
+
+    /**
+     * @return 현재 지정된 역할 (지정이 없으면 null)
+     */
+    public static DataSourceRole current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 역할을 지정하고 이전 지정을 반환합니다. PRIMARY 지정 구간 안에서는 REPLICA로 바꿀 수 없습니다.
+     *
+     * @return 복원할 이전 지정
+     */
+    public static DataSourceRole enter(DataSourceRole role) {
+        DataSourceRole previous = CURRENT.get();
+        if (previous != DataSourceRole.PRIMARY) {
+            CURRENT.set(role);
+        }
+        return previous;
+    }
+
+    /**
+     * 이전 지정으로 복원합니다.
+     */
+    public static void restore(DataSourceRole previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.sparta.ecommerce.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Primary / Replica 라우팅 DataSource
+ *
+ * 라우팅 규칙 (커넥션 획득 시점 기준):
+ * 1. @ReadFrom(PRIMARY) 구간 → Primary
+ * 2. 쓰기 트랜잭션 → Primary
+ * 3. @ReadFrom(REPLICA) 구간 또는 readOnly 트랜잭션 → 정상 Replica 중 라운드 로빈
+ * 4. 그 외 → Primary
+ *
+ * 복제 지연 인식:
+ * - checkReplicaLag()가 각 Replica의 Seconds_Behind_Source를 조회하여 maxLagSeconds 이하인 Replica만 사용합니다.
+ * - 복제가 중단되었거나(NULL) 조회에 실패한 Replica는 제외되며, 정상 Replica가 없으면 Primary로 조회합니다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagSeconds;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, long maxLagSeconds) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTarget().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTarget().getConnection(username, password);
+    }
+
+    /**
+     * 현재 스레드의 라우팅 규칙에 따라 대상 DataSource를 선택합니다.
+     */
+    DataSource determineTarget() {
+        return resolveRole() == DataSourceRole.REPLICA ? nextReplica() : primary;
+    }
+
+    private DataSourceRole resolveRole() {
+        DataSourceRole route = DataSourceRouteContext.current();
+        if (route == DataSourceRole.PRIMARY) {
+            return DataSourceRole.PRIMARY;
+        }
+
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (TransactionSynchronizationManager.isActualTransactionActive() && !readOnly) {
+            return DataSourceRole.PRIMARY;
+        }
+        return route == DataSourceRole.REPLICA || readOnly ? DataSourceRole.REPLICA : DataSourceRole.PRIMARY;
+    }
+
+    private DataSource nextReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica.dataSource;
+            }
+        }
+        return primary;
+    }
+
+    /**
+     * 각 Replica의 복제 지연을 조회하여 사용 가능 여부를 갱신합니다.
+     */
+    public void checkReplicaLag() {
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            Long lagSeconds = queryLagSeconds(replica.dataSource, i);
+            boolean healthy = lagSeconds != null && lagSeconds <= maxLagSeconds;
+
+            if (healthy != replica.healthy) {
+                log.warn("Replica 상태 변경 - replica: {}, healthy: {}, lagSeconds: {}", i, healthy, lagSeconds);
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    private Long queryLagSeconds(DataSource dataSource, int index) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            long lag = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? null : lag;
+        } catch (SQLException e) {
+            log.warn("Replica 복제 지연 조회 실패 - replica: {}, error: {}", index, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return 현재 사용 가능한 Replica 수
+     */
+    public long healthyReplicaCount() {
+        return replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(primary);
+        replicas.forEach(replica -> closeQuietly(replica.dataSource));
+    }
+
+    private void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("DataSource 종료 실패 - error: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static class Replica {
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.sparta.ecommerce.common.http;
+
+import java.util.Locale;
+
+/**
+ * Accept-Encoding 요청 헤더 해석 (RFC 9110 12.5.3)
+ *
+ * "gzip;q=0"처럼 q 값이 0인 코딩은 거부로 해석하고, gzip이 명시되지 않은 경우 "*"의 q 값을 따릅니다.
+ */
+public final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * @param header Accept-Encoding 헤더 값 (null 가능)
+     * @return gzip(또는 x-gzip) 응답을 받을 수 있으면 true
+     */
+    public static boolean acceptsGzip(String header) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String element : header.split(",")) {
+            int paramStart = element.indexOf(';');
+            String coding = (paramStart < 0 ? element : element.substring(0, paramStart)).trim().toLowerCase(Locale.ROOT);
+            double quality = paramStart < 0 ? 1.0 : quality(element.substring(paramStart + 1));
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    /**
+     * ";q=0.5" 형식의 파라미터에서 q 값을 읽습니다. (q가 없으면 1, 형식이 잘못되면 0으로 보고 거부)
+     */
+    private static double quality(String params) {
+        for (String param : params.split(";")) {
+            int separator = param.indexOf('=');
+            if (separator < 0 || !param.substring(0, separator).trim().equalsIgnoreCase("q")) {
+                continue;
+            }
+            try {
+                double quality = Double.parseDouble(param.substring(separator + 1).trim());
+                return quality >= 0 && quality <= 1 ? quality : 0;
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 1.0;
+    }
+}
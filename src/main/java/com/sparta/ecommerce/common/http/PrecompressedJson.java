@@ -0,0 +1,66 @@
+package com.sparta.ecommerce.common.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미리 직렬화/압축된 JSON 응답 본문
+ *
+ * 자주 바뀌지 않는 응답을 gzip 압축된 JSON 바이트와 내용 해시로 캐시해 두고,
+ * 요청마다 객체 역직렬화 → JSON 직렬화를 반복하지 않고 바이트를 그대로 응답합니다.
+ *
+ * @param contentHash 압축 전 JSON의 SHA-256 해시 (앞 16바이트, hex) - ETag로 사용
+ * @param gzippedJson gzip 압축된 JSON
+ */
+public record PrecompressedJson(
+        String contentHash,
+        byte[] gzippedJson
+) {
+
+    private static final int HASH_BYTES = 16;
+
+    /**
+     * JSON 바이트를 압축하고 내용 해시를 계산합니다.
+     */
+    public static PrecompressedJson of(byte[] json) {
+        return new PrecompressedJson(hash(json), gzip(json));
+    }
+
+    /**
+     * gzip을 지원하지 않는 클라이언트를 위한 압축 해제 본문
+     */
+    public byte[] json() {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzippedJson))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON 압축 해제 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON 압축 실패", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String hash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, HASH_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
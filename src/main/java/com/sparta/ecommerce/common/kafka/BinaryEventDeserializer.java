@@ -0,0 +1,54 @@
+package com.sparta.ecommerce.common.kafka;
+
+import com.sparta.ecommerce.common.codec.BinaryCodecException;
+import com.sparta.ecommerce.common.codec.BinaryCodecRegistry;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.util.Map;
+
+/**
+ * Kafka 이벤트 바이너리 Deserializer
+ *
+ * 매직 바이트로 포맷을 판별하여 바이너리 메시지는 BinarySchema로,
+ * 그 외 메시지는 위임 Deserializer(JSON)로 역직렬화합니다.
+ * 포맷 전환 중에도 토픽에 남아있는 JSON 메시지를 그대로 처리할 수 있습니다.
+ */
+public class BinaryEventDeserializer implements Deserializer<Object> {
+
+    private final BinaryCodecRegistry registry;
+    private final Deserializer<?> fallback;
+
+    public BinaryEventDeserializer(BinaryCodecRegistry registry, Deserializer<?> fallback) {
+        this.registry = registry;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        fallback.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (!BinaryCodecRegistry.isBinary(data)) {
+            return headers == null ? fallback.deserialize(topic, data) : fallback.deserialize(topic, headers, data);
+        }
+        try {
+            return registry.decode(data);
+        } catch (BinaryCodecException | ArithmeticException e) {
+            throw new SerializationException("이벤트 바이너리 역직렬화 실패 - topic: " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        fallback.close();
+    }
+}
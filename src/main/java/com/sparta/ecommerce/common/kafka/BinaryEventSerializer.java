@@ -0,0 +1,56 @@
+package com.sparta.ecommerce.common.kafka;
+
+import com.sparta.ecommerce.common.codec.BinaryCodecException;
+import com.sparta.ecommerce.common.codec.BinaryCodecRegistry;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.Map;
+
+/**
+ * Kafka 이벤트 바이너리 Serializer
+ *
+ * BinarySchema에 등록된 이벤트는 바이너리로 발행하고 (타입 헤더 없음),
+ * 등록되지 않은 타입은 위임 Serializer(JSON)로 발행합니다.
+ */
+public class BinaryEventSerializer implements Serializer<Object> {
+
+    private final BinaryCodecRegistry registry;
+    private final Serializer<Object> fallback;
+
+    public BinaryEventSerializer(BinaryCodecRegistry registry, Serializer<Object> fallback) {
+        this.registry = registry;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        fallback.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (!registry.supports(data)) {
+            return headers == null ? fallback.serialize(topic, data) : fallback.serialize(topic, headers, data);
+        }
+        try {
+            return registry.encode(data);
+        } catch (BinaryCodecException e) {
+            throw new SerializationException("이벤트 바이너리 직렬화 실패 - topic: " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        fallback.close();
+    }
+}
@@ -0,0 +1,122 @@
+package com.sparta.ecommerce.common.kafka;
+
+import com.sparta.ecommerce.config.KafkaConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * DLT 재주입 서비스
+ *
+ * 재시도 토픽을 모두 거쳐 DLT에 쌓인 메시지를 원래 토픽으로 다시 발행합니다.
+ * 장애 원인을 해결한 후 운영자가 호출하며, 재주입한 메시지의 오프셋은 커밋되어 중복 재주입되지 않습니다.
+ *
+ * 메시지 본문은 역직렬화 없이 원본 바이트 그대로 발행하며,
+ * 재시도 횟수 등의 헤더는 제외하여 메인 토픽에서 처음부터 다시 처리되도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadLetterReplayService {
+
+    private static final String REPLAY_GROUP_ID_PREFIX = "dlt-replay-";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    // 재시도/DLT가 설정된 토픽 (KafkaConfig, 배치 리스너는 KafkaTopicFactories.batchErrorHandler)
+    private static final Set<String> REPLAYABLE_TOPICS = Set.of(
+            "coupon-issue-topic",
+            "order-created-topic",
+            "stock-restore-topic",
+            "point-restore-topic",
+            "coupon-restore-topic"
+    );
+
+    private final ConsumerFactory<String, byte[]> deadLetterReplayConsumerFactory;
+    private final KafkaTemplate<String, byte[]> deadLetterReplayKafkaTemplate;
+
+    /**
+     * DLT 재주입 가능 여부
+     *
+     * @param topic 원래 토픽 이름
+     */
+    public boolean isReplayable(String topic) {
+        return REPLAYABLE_TOPICS.contains(topic);
+    }
+
+    /**
+     * DLT의 메시지를 원래 토픽으로 재주입합니다.
+     *
+     * @param topic 원래 토픽 이름 (예: stock-restore-topic)
+     * @param maxRecords 최대 재주입 건수
+     * @return 재주입한 메시지 수
+     */
+    public int replay(String topic, int maxRecords) {
+        if (!isReplayable(topic)) {
+            throw new IllegalArgumentException("DLT 재주입을 지원하지 않는 토픽입니다: " + topic);
+        }
+
+        String dltTopic = topic + KafkaConfig.DLT_SUFFIX;
+        int replayed = 0;
+
+        try (Consumer<String, byte[]> consumer =
+                     deadLetterReplayConsumerFactory.createConsumer(REPLAY_GROUP_ID_PREFIX + topic, null, null)) {
+
+            List<PartitionInfo> partitionInfos = consumer.partitionsFor(dltTopic);
+            if (partitionInfos == null || partitionInfos.isEmpty()) {
+                log.info("DLT가 존재하지 않습니다 - topic: {}", dltTopic);
+                return 0;
+            }
+            consumer.assign(partitionInfos.stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList());
+
+            while (replayed < maxRecords) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    if (replayed >= maxRecords) {
+                        break;
+                    }
+                    republish(topic, record);
+                    // 재주입이 확인된 메시지만 커밋 (중간 실패 시 다음 호출에서 이어서 처리)
+                    consumer.commitSync(Map.of(
+                            new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1)
+                    ));
+                    replayed++;
+                }
+            }
+        }
+
+        log.info("DLT 재주입 완료 - topic: {}, replayed: {}", dltTopic, replayed);
+        return replayed;
+    }
+
+    private void republish(String topic, ConsumerRecord<String, byte[]> record) {
+        try {
+            deadLetterReplayKafkaTemplate.send(topic, record.key(), record.value()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DLT 재주입 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("DLT 재주입 실패 - topic: " + topic + ", offset: " + record.offset(), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.sparta.ecommerce.common.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Kafka Consumer 종료 드레인
+ *
+ * 종료 시 리스너 컨테이너보다 먼저 중지(SmartLifecycle phase)되어 다음 순서로 드레인합니다.
+ *   1. 신규 작업 진입 차단 (tryEnter() == false) 및 리스너 컨테이너 일시정지 (추가 poll 중단)
+ *   2. 진행 중인 작업(주문 사가 등)이 끝날 때까지 최대 app.shutdown.drain-timeout-ms 대기
+ * 이 단계에서는 DB/Redis 등 빈이 아직 살아 있으므로, 진행 중인 단계가 자원 해제로 실패하여 잘못 보상되지 않습니다.
+ *
+ * 진입하지 못한 작업은 처리하지 않고 넘기며, 각 작업은 다음 시작 시 복구할 수 있는 상태를 남겨야 합니다.
+ * (예: 주문 사가는 PENDING 주문과 단계 처리 이력으로 OrderSagaRecoveryService가 재개)
+ */
+@Slf4j
+@Component
+public class KafkaConsumerDrain implements SmartLifecycle {
+
+    // 리스너 컨테이너(AbstractMessageListenerContainer.DEFAULT_PHASE)보다 먼저 중지
+    public static final int PHASE = AbstractMessageListenerContainer.DEFAULT_PHASE + 1;
+
+    private static final long POLL_INTERVAL_MS = 50;
+
+    private final KafkaListenerEndpointRegistry listenerEndpointRegistry;
+    private final long drainTimeoutMs;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile boolean draining;
+    private volatile boolean running;
+
+    public KafkaConsumerDrain(
+            KafkaListenerEndpointRegistry listenerEndpointRegistry,
+            @Value("${app.shutdown.drain-timeout-ms:20000}") long drainTimeoutMs
+    ) {
+        this.listenerEndpointRegistry = listenerEndpointRegistry;
+        this.drainTimeoutMs = drainTimeoutMs;
+    }
+
+    /**
+     * 작업 진입을 시도합니다. true를 반환한 경우 작업 후 반드시 exit()를 호출해야 합니다.
+     *
+     * @return 드레인 중이면 false (작업을 시작하지 않음)
+     */
+    public boolean tryEnter() {
+        if (draining) {
+            return false;
+        }
+        inFlight.incrementAndGet();
+        if (draining) {
+            // stop()이 진행 중 작업 수를 확인한 뒤 진입한 경우 취소
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public void exit() {
+        inFlight.decrementAndGet();
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    @Override
+    public void start() {
+        draining = false;
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        draining = true;
+        listenerEndpointRegistry.getListenerContainers().forEach(MessageListenerContainer::pause);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMs);
+        try {
+            while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(POLL_INTERVAL_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int remaining = inFlight.get();
+        if (remaining > 0) {
+            log.warn("Consumer 드레인 시간 초과 - 진행 중 작업: {}", remaining);
+        } else {
+            log.info("Consumer 드레인 완료");
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,121 @@
+package com.sparta.ecommerce.common.kafka;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Consumer 그룹 지연(lag) 조회기
+ *
+ * AdminClient로 토픽의 파티션별 최신 오프셋과 그룹의 커밋 오프셋을 조회하여 토픽별 지연을 계산합니다.
+ * 커밋 오프셋이 없는 파티션은 처음(auto.offset.reset=earliest)부터 읽는 것으로 보고 최신 오프셋 전체를 지연으로 계산합니다.
+ * 그룹 멤버의 호스트 수로 그룹에 참여한 인스턴스 수를 함께 조회합니다. (인스턴스별 concurrency 분배용)
+ *
+ * AdminClient는 첫 조회 시 생성합니다. (시작 시 브로커 연결을 만들지 않음)
+ */
+@Component
+public class KafkaConsumerLagReader implements DisposableBean {
+
+    private final KafkaAdmin kafkaAdmin;
+    private final long timeoutMs;
+    private AdminClient adminClient;
+
+    public KafkaConsumerLagReader(
+            KafkaAdmin kafkaAdmin,
+            @Value("${kafka.autoscale.admin-timeout-ms:5000}") long timeoutMs
+    ) {
+        this.kafkaAdmin = kafkaAdmin;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * 토픽별 파티션 수, Consumer 그룹 지연과 그룹의 인스턴스 수를 조회합니다.
+     *
+     * @param groupId Consumer 그룹 ID
+     * @param topics 토픽 이름 목록
+     * @return 토픽 이름 -> 지연 (존재하지 않는 토픽은 제외)
+     * @throws KafkaException 조회에 실패하거나 시간이 초과된 경우
+     */
+    public Map<String, TopicLag> read(String groupId, Collection<String> topics) {
+        try {
+            AdminClient admin = adminClient();
+            Map<String, TopicDescription> descriptions = admin.describeTopics(topics)
+                    .allTopicNames().get(timeoutMs, TimeUnit.MILLISECONDS);
+
+            Map<TopicPartition, OffsetSpec> latest = new HashMap<>();
+            descriptions.values().forEach(description -> description.partitions().forEach(partition ->
+                    latest.put(new TopicPartition(description.name(), partition.partition()), OffsetSpec.latest())));
+
+            Map<TopicPartition, ListOffsetsResultInfo> endOffsets = admin.listOffsets(latest)
+                    .all().get(timeoutMs, TimeUnit.MILLISECONDS);
+            Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(groupId)
+                    .partitionsToOffsetAndMetadata().get(timeoutMs, TimeUnit.MILLISECONDS);
+            ConsumerGroupDescription group = admin.describeConsumerGroups(List.of(groupId))
+                    .describedGroups().get(groupId).get(timeoutMs, TimeUnit.MILLISECONDS);
+            // 이 인스턴스가 아직 그룹에 참여하기 전이어도 최소 1
+            int instances = (int) Math.max(1, group.members().stream().map(MemberDescription::host).distinct().count());
+
+            Map<String, TopicLag> lags = new HashMap<>();
+            for (TopicDescription description : descriptions.values()) {
+                long lag = 0;
+                for (var partition : description.partitions()) {
+                    TopicPartition topicPartition = new TopicPartition(description.name(), partition.partition());
+                    long endOffset = endOffsets.get(topicPartition).offset();
+                    OffsetAndMetadata committedOffset = committed.get(topicPartition);
+                    lag += Math.max(0, endOffset - (committedOffset != null ? committedOffset.offset() : 0));
+                }
+                lags.put(description.name(),
+                        new TopicLag(description.name(), description.partitions().size(), lag, instances));
+            }
+            return lags;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Consumer 지연 조회 중단 - groupId: " + groupId, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaException("Consumer 지연 조회 실패 - groupId: " + groupId, e);
+        }
+    }
+
+    private synchronized AdminClient adminClient() {
+        if (adminClient == null) {
+            adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+        }
+        return adminClient;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (adminClient != null) {
+            adminClient.close();
+        }
+    }
+
+    /**
+     * 토픽 지연
+     *
+     * @param topic 토픽 이름
+     * @param partitions 파티션 수
+     * @param lag 파티션별 지연 합계 (메시지 수)
+     * @param instances Consumer 그룹에 참여한 인스턴스 수 (멤버 호스트 수, 최소 1)
+     */
+    public record TopicLag(String topic, int partitions, long lag, int instances) {
+    }
+}
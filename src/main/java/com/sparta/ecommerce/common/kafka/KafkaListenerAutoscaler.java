@@ -0,0 +1,230 @@
+package com.sparta.ecommerce.common.kafka;
+
+import com.sparta.ecommerce.common.kafka.KafkaConsumerLagReader.TopicLag;
+import com.sparta.ecommerce.config.KafkaTopic;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Kafka 리스너 concurrency 자동 조정기
+ *
+ * 토픽 레지스트리(KafkaTopic)의 메인 토픽 리스너 컨테이너마다 Consumer 그룹 지연을 조회하고,
+ * ListenerConcurrencyPolicy에 따라 concurrency를 [min, max] 범위에서 조정합니다.
+ * (재시도 토픽 리스너는 대상이 아님)
+ *
+ * - 인스턴스 분배: 모든 인스턴스가 같은 그룹 지연을 보고 조정하므로, 지연과 파티션을 그룹의 인스턴스 수로 나누어
+ *   인스턴스 몫만큼만 확장합니다. (그룹 전체 Consumer 수가 파티션 수를 넘지 않도록)
+ * - 범위: kafka.topics.{key}.autoscale.min-concurrency (기본 1), max-concurrency (기본 파티션 수), 모두 인스턴스당 값
+ *   할당받을 파티션이 없는 Consumer를 만들지 않도록 max는 항상 ceil(파티션 수 / 인스턴스 수) 이하로 제한합니다.
+ * - concurrency 변경은 컨테이너 재시작(stop -> start)으로 적용되며 그룹 전체 리밸런스가 발생하므로,
+ *   그룹/토픽별로 어느 인스턴스든 변경한 후 kafka.autoscale.cooldown-ms 동안은 다시 변경하지 않습니다.
+ *   (Redis 키 kafka:autoscale:cooldown:{groupId}:{topic}, SET NX PX - 조회 실패 시 변경하지 않음)
+ * - 중지/일시정지된 컨테이너는 다른 작업(배포, 수동 제어)이 제어 중인 것으로 보고 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class KafkaListenerAutoscaler {
+
+    private static final String COOLDOWN_KEY_PREFIX = "kafka:autoscale:cooldown:";
+
+    private final KafkaListenerEndpointRegistry listenerEndpointRegistry;
+    private final KafkaConsumerLagReader lagReader;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Environment environment;
+    private final ListenerConcurrencyPolicy policy;
+    private final long cooldownMs;
+    private final Map<String, ScalingState> states = new ConcurrentHashMap<>();
+
+    public KafkaListenerAutoscaler(
+            KafkaListenerEndpointRegistry listenerEndpointRegistry,
+            KafkaConsumerLagReader lagReader,
+            RedisTemplate<String, String> redisTemplate,
+            Environment environment,
+            @Value("${kafka.autoscale.scale-up-lag-per-consumer:1000}") long scaleUpLagPerConsumer,
+            @Value("${kafka.autoscale.scale-down-lag-per-consumer:100}") long scaleDownLagPerConsumer,
+            @Value("${kafka.autoscale.cooldown-ms:60000}") long cooldownMs
+    ) {
+        this.listenerEndpointRegistry = listenerEndpointRegistry;
+        this.lagReader = lagReader;
+        this.redisTemplate = redisTemplate;
+        this.environment = environment;
+        this.policy = new ListenerConcurrencyPolicy(scaleUpLagPerConsumer, scaleDownLagPerConsumer);
+        this.cooldownMs = cooldownMs;
+    }
+
+    /**
+     * 지연을 조회하여 토픽별 리스너 concurrency를 조정합니다.
+     */
+    public void autoscale() {
+        Map<String, List<ManagedContainer>> containersByGroup = managedContainers().stream()
+                .collect(Collectors.groupingBy(managed -> managed.container().getGroupId()));
+
+        containersByGroup.forEach((groupId, containers) -> {
+            List<String> topics = containers.stream().map(managed -> managed.topic().getTopicName()).toList();
+            Map<String, TopicLag> lags = lagReader.read(groupId, topics);
+
+            for (ManagedContainer managed : containers) {
+                TopicLag lag = lags.get(managed.topic().getTopicName());
+                if (lag != null) {
+                    scale(managed, lag);
+                }
+            }
+        });
+    }
+
+    /**
+     * 토픽별 조정 상태 (지연, concurrency, 조정 횟수, 마지막 결정)
+     */
+    public List<ListenerScalingStatus> statuses() {
+        return states.values().stream()
+                .map(ScalingState::toStatus)
+                .sorted(Comparator.comparing(ListenerScalingStatus::topic))
+                .toList();
+    }
+
+    private void scale(ManagedContainer managed, TopicLag lag) {
+        ConcurrentMessageListenerContainer<?, ?> container = managed.container();
+        KafkaTopic topic = managed.topic();
+        String prefix = topic.propertyPrefix() + "autoscale.";
+
+        // 인스턴스 몫 (그룹 지연과 파티션을 인스턴스 수로 나눔)
+        int instances = Math.max(1, lag.instances());
+        int partitionShare = (int) ceilDiv(lag.partitions(), instances);
+        long lagShare = ceilDiv(lag.lag(), instances);
+
+        int min = Math.max(1, environment.getProperty(prefix + "min-concurrency", Integer.class, 1));
+        int max = Math.min(partitionShare,
+                environment.getProperty(prefix + "max-concurrency", Integer.class, lag.partitions()));
+        int current = container.getConcurrency();
+        int target = policy.decide(current, lagShare, min, max);
+
+        ScalingState state = states.computeIfAbsent(topic.getTopicName(), ScalingState::new);
+        state.observe(lag, current, min, max);
+
+        if (target == current) {
+            return;
+        }
+        Instant now = Instant.now();
+        if (state.lastScaledAt != null && now.isBefore(state.lastScaledAt.plusMillis(cooldownMs))) {
+            state.lastDecision = "COOLDOWN(" + current + "->" + target + ")";
+            return;
+        }
+        if (!container.isRunning() || container.isPauseRequested()) {
+            state.lastDecision = "SKIPPED_NOT_RUNNING(" + current + "->" + target + ")";
+            return;
+        }
+        if (!acquireGroupCooldown(container.getGroupId(), topic.getTopicName())) {
+            state.lastDecision = "COOLDOWN(" + current + "->" + target + ")";
+            return;
+        }
+
+        log.info("리스너 concurrency 조정 - topic: {}, lag: {}, partitions: {}, instances: {}, concurrency: {} -> {}",
+                topic.getTopicName(), lag.lag(), lag.partitions(), instances, current, target);
+
+        // concurrency는 컨테이너 시작 시 적용되므로 재시작
+        container.stop();
+        container.setConcurrency(target);
+        container.start();
+
+        state.scaled(current, target, now);
+    }
+
+    /**
+     * 그룹/토픽의 조정 권한을 cooldown 동안 선점합니다. (다른 인스턴스가 cooldown 중이면 false)
+     */
+    private boolean acquireGroupCooldown(String groupId, String topicName) {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                    COOLDOWN_KEY_PREFIX + groupId + ":" + topicName,
+                    String.valueOf(System.currentTimeMillis()),
+                    Duration.ofMillis(cooldownMs));
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("리스너 concurrency 조정 cooldown 확인 실패, 조정 보류 - topic: {}, error: {}", topicName, e.getMessage());
+            return false;
+        }
+    }
+
+    private static long ceilDiv(long dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    private List<ManagedContainer> managedContainers() {
+        return Arrays.stream(KafkaTopic.values())
+                .flatMap(topic -> listenerEndpointRegistry.getListenerContainers().stream()
+                        .filter(container -> container instanceof ConcurrentMessageListenerContainer<?, ?>)
+                        .filter(container -> container.getGroupId() != null)
+                        .filter(container -> listensTo(container, topic.getTopicName()))
+                        .map(container -> new ManagedContainer(topic, (ConcurrentMessageListenerContainer<?, ?>) container)))
+                .toList();
+    }
+
+    private boolean listensTo(MessageListenerContainer container, String topicName) {
+        String[] topics = container.getContainerProperties().getTopics();
+        return topics != null && Arrays.asList(topics).contains(topicName);
+    }
+
+    private record ManagedContainer(KafkaTopic topic, ConcurrentMessageListenerContainer<?, ?> container) {
+    }
+
+    private static final class ScalingState {
+
+        private final String topic;
+        private volatile int partitions;
+        private volatile long lag;
+        private volatile int instances;
+        private volatile int concurrency;
+        private volatile int minConcurrency;
+        private volatile int maxConcurrency;
+        private volatile long scaleUps;
+        private volatile long scaleDowns;
+        private volatile String lastDecision = "HOLD";
+        private volatile Instant lastScaledAt;
+
+        private ScalingState(String topic) {
+            this.topic = topic;
+        }
+
+        private void observe(TopicLag topicLag, int current, int min, int max) {
+            this.partitions = topicLag.partitions();
+            this.lag = topicLag.lag();
+            this.instances = topicLag.instances();
+            this.concurrency = current;
+            this.minConcurrency = min;
+            this.maxConcurrency = max;
+            this.lastDecision = "HOLD";
+        }
+
+        private void scaled(int from, int to, Instant at) {
+            if (to > from) {
+                scaleUps++;
+                lastDecision = "SCALE_UP(" + from + "->" + to + ")";
+            } else {
+                scaleDowns++;
+                lastDecision = "SCALE_DOWN(" + from + "->" + to + ")";
+            }
+            this.concurrency = to;
+            this.lastScaledAt = at;
+        }
+
+        private ListenerScalingStatus toStatus() {
+            return new ListenerScalingStatus(topic, partitions, lag, instances, concurrency,
+                    minConcurrency, maxConcurrency, scaleUps, scaleDowns, lastDecision, lastScaledAt);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.sparta.ecommerce.common.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Kafka 발행 게이트웨이
+ *
+ * 모든 KafkaTemplate 발행을 토픽별 전송 중(in-flight) 상한 안에서 수행합니다.
+ * 브로커가 느려 Producer 버퍼가 차면 send()가 max.block.ms 동안 호출 스레드를 막으므로,
+ * 버퍼가 차기 전에 상한에서 발행을 거부(KafkaPublishRejectedException -> 503)하여 요청 스레드가 묶이지 않게 합니다.
+ *
+ * - 요청 경로: publish() / reserve() - 상한 도달 시 즉시 거부
+ * - 백그라운드(Consumer) 경로: publishOrWait() - 자리가 날 때까지 최대 kafka.publish.background-max-wait-ms 대기
+ * - 전송 결과는 콜백으로 집계(성공/실패/거부, 평균 ack 시간)하며, 실패는 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+public class KafkaPublishGateway {
+
+    private final int maxInFlight;
+    private final long retryAfterMillis;
+    private final long backgroundMaxWaitMillis;
+    private final Map<String, TopicPublisher> publishers = new ConcurrentHashMap<>();
+
+    public KafkaPublishGateway(
+            @Value("${kafka.publish.max-in-flight:1000}") int maxInFlight,
+            @Value("${kafka.publish.retry-after-ms:1000}") long retryAfterMillis,
+            @Value("${kafka.publish.background-max-wait-ms:5000}") long backgroundMaxWaitMillis
+    ) {
+        this.maxInFlight = maxInFlight;
+        this.retryAfterMillis = retryAfterMillis;
+        this.backgroundMaxWaitMillis = backgroundMaxWaitMillis;
+    }
+
+    /**
+     * 발행 자리를 확보한 뒤 메시지를 발행합니다. (요청 경로용)
+     *
+     * @throws KafkaPublishRejectedException 전송 중 메시지 수가 상한에 도달한 경우
+     */
+    public <V> CompletableFuture<SendResult<String, V>> publish(KafkaTemplate<String, V> template, String topic, V event) {
+        return send(reserve(topic), template, event);
+    }
+
+    /**
+     * 발행 자리가 날 때까지 대기한 뒤 메시지를 발행합니다. (Consumer 등 백그라운드 경로용)
+     *
+     * @throws KafkaPublishRejectedException 대기 시간 안에 자리가 나지 않은 경우
+     */
+    public <V> CompletableFuture<SendResult<String, V>> publishOrWait(KafkaTemplate<String, V> template, String topic, V event) {
+        TopicPublisher publisher = publisher(topic);
+        try {
+            if (!publisher.inFlight.tryAcquire(backgroundMaxWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw publisher.reject();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw publisher.reject();
+        }
+        return send(new PublishPermit(publisher), template, event);
+    }
+
+    /**
+     * 발행 자리를 미리 확보합니다.
+     *
+     * 발행 전에 DB 작업 등을 수행하는 경우, 작업 전에 자리를 확보하여 작업 후 발행이 거부되지 않도록 합니다.
+     * 발행하지 않고 close()하면 자리를 반환합니다. (try-with-resources)
+     *
+     * @throws KafkaPublishRejectedException 전송 중 메시지 수가 상한에 도달한 경우
+     */
+    public PublishPermit reserve(String topic) {
+        TopicPublisher publisher = publisher(topic);
+        if (!publisher.inFlight.tryAcquire()) {
+            throw publisher.reject();
+        }
+        return new PublishPermit(publisher);
+    }
+
+    /**
+     * 확보한 자리로 메시지를 발행합니다. 자리는 전송이 완료(ack 또는 실패)되면 반환됩니다.
+     */
+    public <V> CompletableFuture<SendResult<String, V>> send(PublishPermit permit, KafkaTemplate<String, V> template, V event) {
+        TopicPublisher publisher = permit.handOff();
+        long startNanos = System.nanoTime();
+
+        CompletableFuture<SendResult<String, V>> future;
+        try {
+            future = template.send(publisher.topic, event);
+        } catch (RuntimeException e) {
+            publisher.complete(startNanos, e);
+            throw e;
+        }
+        future.whenComplete((result, ex) -> publisher.complete(startNanos, ex));
+        return future;
+    }
+
+    /**
+     * 토픽별 발행 지표
+     */
+    public List<KafkaPublishMetrics> metrics() {
+        return publishers.values().stream()
+                .map(TopicPublisher::metrics)
+                .sorted(Comparator.comparing(KafkaPublishMetrics::topic))
+                .toList();
+    }
+
+    private TopicPublisher publisher(String topic) {
+        return publishers.computeIfAbsent(topic, TopicPublisher::new);
+    }
+
+    /**
+     * 확보한 발행 자리
+     *
+     * send()에 넘기면 전송 완료 시 반환되고, 넘기지 않고 close()하면 즉시 반환됩니다.
+     */
+    public static final class PublishPermit implements AutoCloseable {
+
+        private final TopicPublisher publisher;
+        private final AtomicBoolean open = new AtomicBoolean(true);
+
+        private PublishPermit(TopicPublisher publisher) {
+            this.publisher = publisher;
+        }
+
+        private TopicPublisher handOff() {
+            if (!open.compareAndSet(true, false)) {
+                throw new IllegalStateException("이미 사용되었거나 반환된 발행 자리입니다 - topic: " + publisher.topic);
+            }
+            return publisher;
+        }
+
+        @Override
+        public void close() {
+            if (open.compareAndSet(true, false)) {
+                publisher.inFlight.release();
+            }
+        }
+    }
+
+    private final class TopicPublisher {
+
+        private final String topic;
+        private final Semaphore inFlight = new Semaphore(maxInFlight);
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder ackNanos = new LongAdder();
+
+        private TopicPublisher(String topic) {
+            this.topic = topic;
+        }
+
+        private KafkaPublishRejectedException reject() {
+            rejected.increment();
+            return new KafkaPublishRejectedException(topic, retryAfterMillis);
+        }
+
+        private void complete(long startNanos, Throwable ex) {
+            inFlight.release();
+            if (ex == null) {
+                succeeded.increment();
+                ackNanos.add(System.nanoTime() - startNanos);
+                return;
+            }
+            failed.increment();
+            log.error("Kafka 발행 실패 - topic: {}, error: {}", topic, ex.getMessage());
+        }
+
+        private KafkaPublishMetrics metrics() {
+            long succeededCount = succeeded.sum();
+            return new KafkaPublishMetrics(
+                    topic,
+                    maxInFlight,
+                    maxInFlight - inFlight.availablePermits(),
+                    succeededCount,
+                    failed.sum(),
+                    rejected.sum(),
+                    succeededCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(ackNanos.sum() / succeededCount)
+            );
+        }
+    }
+}
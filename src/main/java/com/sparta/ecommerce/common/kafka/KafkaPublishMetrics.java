@@ -0,0 +1,23 @@
+package com.sparta.ecommerce.common.kafka;
+
+/**
+ * 토픽별 Kafka 발행 지표
+ *
+ * @param topic 토픽 이름
+ * @param maxInFlight 전송 중 메시지 상한
+ * @param inFlight 현재 전송 중(ack 대기) 메시지 수
+ * @param succeeded 전송 성공 수
+ * @param failed 전송 실패 수
+ * @param rejected 상한 도달로 거부한 수
+ * @param avgAckMillis 성공 전송의 평균 ack 시간 (ms)
+ */
+public record KafkaPublishMetrics(
+        String topic,
+        int maxInFlight,
+        int inFlight,
+        long succeeded,
+        long failed,
+        long rejected,
+        long avgAckMillis
+) {
+}
@@ -0,0 +1,23 @@
+package com.sparta.ecommerce.common.kafka;
+
+/**
+ * Kafka 발행 거부 예외 (503 Service Unavailable)
+ *
+ * 토픽의 전송 중(in-flight) 메시지 수가 상한에 도달하여 발행을 받을 수 없는 경우 발생합니다.
+ */
+public class KafkaPublishRejectedException extends RuntimeException {
+
+    private final long retryAfterMillis;
+
+    public KafkaPublishRejectedException(String topic, long retryAfterMillis) {
+        super("Kafka 발행 대기열 포화 - topic: " + topic);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * @return 클라이언트가 재시도하기까지 기다릴 시간 (ms)
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,46 @@
+package com.sparta.ecommerce.common.kafka;
+
+/**
+ * 리스너 concurrency 결정 정책
+ *
+ * - 확장: Consumer당 지연이 scaleUpLagPerConsumer를 넘으면, 지연을 임계값 이하로 나눌 수 있는 수만큼 한 번에 늘립니다.
+ * - 축소: 한 개를 줄여도 Consumer당 지연이 scaleDownLagPerConsumer 미만이면 한 개씩 줄입니다.
+ *   (확장은 빠르게, 축소는 천천히 - 리밸런스 반복 방지)
+ * - 결과는 항상 [min, max] 범위이며, max는 호출자가 인스턴스 몫의 파티션 수 이하로 제한합니다.
+ */
+public class ListenerConcurrencyPolicy {
+
+    private final long scaleUpLagPerConsumer;
+    private final long scaleDownLagPerConsumer;
+
+    public ListenerConcurrencyPolicy(long scaleUpLagPerConsumer, long scaleDownLagPerConsumer) {
+        if (scaleUpLagPerConsumer <= 0 || scaleDownLagPerConsumer < 0 || scaleDownLagPerConsumer >= scaleUpLagPerConsumer) {
+            throw new IllegalArgumentException("0 <= scaleDownLagPerConsumer < scaleUpLagPerConsumer 이어야 합니다.");
+        }
+        this.scaleUpLagPerConsumer = scaleUpLagPerConsumer;
+        this.scaleDownLagPerConsumer = scaleDownLagPerConsumer;
+    }
+
+    /**
+     * 목표 concurrency를 결정합니다.
+     *
+     * @param current 현재 concurrency
+     * @param lag 이 인스턴스가 처리할 지연 (그룹 지연 / 인스턴스 수, 메시지 수)
+     * @param min 최소 concurrency
+     * @param max 최대 concurrency
+     * @return 목표 concurrency
+     */
+    public int decide(int current, long lag, int min, int max) {
+        int upper = Math.max(min, max);
+        int bounded = Math.min(Math.max(current, min), upper);
+
+        if (lag > scaleUpLagPerConsumer * bounded) {
+            long needed = (lag + scaleUpLagPerConsumer - 1) / scaleUpLagPerConsumer;
+            return (int) Math.min(upper, needed);
+        }
+        if (bounded > min && lag < scaleDownLagPerConsumer * (bounded - 1)) {
+            return bounded - 1;
+        }
+        return bounded;
+    }
+}
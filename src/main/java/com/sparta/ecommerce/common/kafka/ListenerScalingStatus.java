@@ -0,0 +1,33 @@
+package com.sparta.ecommerce.common.kafka;
+
+import java.time.Instant;
+
+/**
+ * 토픽별 리스너 concurrency 조정 상태
+ *
+ * @param topic 토픽 이름
+ * @param partitions 파티션 수
+ * @param lag 마지막 조회 시 Consumer 그룹 지연 (메시지 수)
+ * @param instances Consumer 그룹에 참여한 인스턴스 수
+ * @param concurrency 현재 concurrency
+ * @param minConcurrency 최소 concurrency
+ * @param maxConcurrency 인스턴스당 최대 concurrency (파티션 수 / 인스턴스 수 이하)
+ * @param scaleUps 확장 횟수
+ * @param scaleDowns 축소 횟수
+ * @param lastDecision 마지막 결정 (HOLD, SCALE_UP(a->b), SCALE_DOWN(a->b), COOLDOWN(a->b), SKIPPED_NOT_RUNNING(a->b))
+ * @param lastScaledAt 마지막 조정 시각 (조정 이력이 없으면 null)
+ */
+public record ListenerScalingStatus(
+        String topic,
+        int partitions,
+        long lag,
+        int instances,
+        int concurrency,
+        int minConcurrency,
+        int maxConcurrency,
+        long scaleUps,
+        long scaleDowns,
+        String lastDecision,
+        Instant lastScaledAt
+) {
+}
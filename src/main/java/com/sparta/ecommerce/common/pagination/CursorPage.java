@@ -0,0 +1,46 @@
+package com.sparta.ecommerce.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지 응답
+ *
+ * 페이지 크기보다 한 건 더 조회하여 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리를 실행하지 않습니다.
+ *
+ * @param items 페이지 항목
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasNext) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청 페이지 크기를 [1, MAX_SIZE]로 제한합니다.
+     */
+    public static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    /**
+     * @param rows size + 1건까지 조회한 결과
+     * @param size 페이지 크기
+     * @param keyOf 행의 정렬 키 (다음 페이지 커서)
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, KeysetCursor> keyOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null, false);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(items, keyOf.apply(items.get(size - 1)).encode(), true);
+    }
+
+    /**
+     * 커서는 유지하고 항목만 바꾼 페이지 (조회 후 연관 데이터를 채운 경우)
+     */
+    public <R> CursorPage<R> withItems(List<R> newItems) {
+        return new CursorPage<>(newItems, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,11 @@
+package com.sparta.ecommerce.common.pagination;
+
+/**
+ * 잘못된 페이지 커서 예외 (400 Bad Request)
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("잘못된 페이지 커서입니다 - cursor: " + cursor);
+    }
+}
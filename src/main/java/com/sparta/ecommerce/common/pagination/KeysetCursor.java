@@ -0,0 +1,49 @@
+package com.sparta.ecommerce.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션 위치
+ *
+ * (생성 시각 내림차순, ID 내림차순)으로 정렬된 목록에서 마지막으로 반환한 행의 정렬 키입니다.
+ * 다음 페이지는 OFFSET 없이 "이 키보다 뒤"인 행부터 인덱스를 이어서 읽습니다.
+ *   created_at < :createdAt OR (created_at = :createdAt AND id < :id)
+ *
+ * 클라이언트에는 불투명한 문자열(Base64 URL)로 전달합니다.
+ *
+ * @param createdAt 마지막 행의 생성 시각
+ * @param id 마지막 행의 ID (같은 시각의 행 구분)
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor encode()로 만든 커서 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 커서 위치, 첫 페이지면 null
+     * @throws InvalidCursorException 형식이 잘못된 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            if (split < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, split)), Long.parseLong(raw.substring(split + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
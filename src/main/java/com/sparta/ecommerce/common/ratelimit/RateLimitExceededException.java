@@ -0,0 +1,21 @@
+package com.sparta.ecommerce.common.ratelimit;
+
+/**
+ * 요청 수 제한 초과 예외 (429 Too Many Requests)
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterMillis;
+
+    public RateLimitExceededException(String bucket, long retryAfterMillis) {
+        super("요청 수 제한 초과 - bucket: " + bucket);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * @return 다음 토큰이 충전될 때까지의 시간 (ms)
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,229 @@
+package com.sparta.ecommerce.common.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Redis 토큰 버킷 Rate Limiter
+ *
+ * 모든 인스턴스가 Redis의 버킷(rate:limit:{bucket})을 공유하며, Lua 스크립트로 충전/차감을 원자적으로 처리합니다.
+ * 충전 시각은 Redis 서버 시간(TIME)을 기준으로 하여 인스턴스 간 시계 차이의 영향을 받지 않습니다.
+ *
+ * 로컬 사전 확인 (토큰 임대):
+ * - 버킷이 큰 경우(엔드포인트 전체 제한) Redis에서 토큰을 여러 개 한 번에 받아 로컬에 보관하고,
+ *   보관된 토큰이 남아 있는 동안은 Redis를 거치지 않고 허용합니다.
+ * - 임대한 토큰은 Redis에서 이미 차감되었으므로 전체 허용량을 넘지 않으며,
+ *   짧은 임대 시간(lease-ttl-ms)이 지나면 남은 토큰은 버려집니다. (제한이 약간 엄격해지는 방향)
+ * - 임대 크기가 1인 작은 버킷(사용자별 제한)은 매 요청 Redis로 확인합니다.
+ * - 임대 갱신(Redis 호출)은 버킷당 한 스레드만 수행하며 락 밖에서 실행합니다.
+ *   갱신 중 도착한 요청은 기다리지 않고 Redis에서 토큰 1개를 직접 획득합니다.
+ *
+ * Redis 장애 시에는 서비스 가용성을 위해 요청을 허용합니다. (fail-open)
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+    private static final String KEY_PREFIX = "rate:limit:";
+    private static final int MAX_LOCAL_LEASES = 10_000;
+
+    /**
+     * KEYS: bucket / ARGV: capacity, refillPerSecond, requested
+     * 반환: {허용 토큰 수, 다음 토큰까지 대기 시간(ms)}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+
+            local granted = math.min(math.floor(tokens), requested)
+            local retryAfter = 0
+            if granted >= 1 then
+                tokens = tokens - granted
+            else
+                granted = 0
+                retryAfter = math.ceil((1 - tokens) * 1000 / rate)
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+            return {granted, retryAfter}
+            """, List.class);
+
+    /**
+     * KEYS: bucket / ARGV: capacity
+     * 획득한 토큰 1개를 버킷에 되돌립니다. (버킷 크기를 넘지 않음)
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local tokens = tonumber(redis.call('HGET', KEYS[1], 'tokens'))
+            if not tokens then return 0 end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(math.min(tonumber(ARGV[1]), tokens + 1)))
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long leaseTtlNanos;
+    private final int leaseDivisor;
+    private final Map<String, LocalLease> leases = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${rate-limit.local-lease.ttl-ms:200}") long leaseTtlMs,
+            @Value("${rate-limit.local-lease.divisor:10}") int leaseDivisor
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTtlNanos = TimeUnit.MILLISECONDS.toNanos(leaseTtlMs);
+        this.leaseDivisor = leaseDivisor;
+    }
+
+    /**
+     * 버킷에서 토큰 1개를 획득합니다.
+     *
+     * @param bucket 버킷 이름
+     * @param capacity 버킷 크기
+     * @param refillPerSecond 초당 충전 토큰 수
+     * @throws RateLimitExceededException 토큰이 없는 경우
+     */
+    public void acquire(String bucket, int capacity, int refillPerSecond) {
+        int leaseSize = Math.max(1, capacity / leaseDivisor);
+        if (leaseSize == 1) {
+            acquireFromRedis(bucket, capacity, refillPerSecond, 1);
+            return;
+        }
+
+        // 로컬에 임대한 토큰이 있으면 Redis를 거치지 않고 허용
+        LocalLease lease = leases.computeIfAbsent(bucket, key -> new LocalLease());
+        if (lease.tryTake(System.nanoTime())) {
+            return;
+        }
+
+        // 다른 스레드가 임대를 갱신 중이면 기다리지 않고 토큰 1개만 획득
+        if (!lease.beginRefill()) {
+            acquireFromRedis(bucket, capacity, refillPerSecond, 1);
+            return;
+        }
+        try {
+            int granted = acquireFromRedis(bucket, capacity, refillPerSecond, leaseSize);
+            lease.refill(granted - 1, System.nanoTime() + leaseTtlNanos);
+        } finally {
+            lease.endRefill();
+        }
+        evictExpiredLeases();
+    }
+
+    /**
+     * acquire로 획득한 토큰 1개를 버킷에 되돌립니다. (후속 제한에 걸려 요청이 실행되지 않은 경우)
+     *
+     * 임대한 버킷은 로컬 임대분에 되돌리며, 임대가 만료되었으면 버립니다.
+     * Redis 장애 시에는 되돌리지 않습니다. (제한이 약간 엄격해지는 방향)
+     *
+     * @param bucket 버킷 이름
+     * @param capacity 버킷 크기
+     */
+    public void release(String bucket, int capacity) {
+        int leaseSize = Math.max(1, capacity / leaseDivisor);
+        if (leaseSize > 1) {
+            LocalLease lease = leases.get(bucket);
+            if (lease != null) {
+                lease.giveBack(System.nanoTime());
+            }
+            return;
+        }
+
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + bucket), String.valueOf(capacity));
+        } catch (Exception e) {
+            log.warn("Rate Limit 토큰 반환 실패 - bucket: {}, error: {}", bucket, e.getMessage());
+        }
+    }
+
+    /**
+     * @return 허용된 토큰 수 (1 이상)
+     */
+    private int acquireFromRedis(String bucket, int capacity, int refillPerSecond, int requested) {
+        List<?> result;
+        try {
+            result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + bucket),
+                    String.valueOf(capacity), String.valueOf(refillPerSecond), String.valueOf(requested));
+        } catch (Exception e) {
+            log.warn("Rate Limit 확인 실패, 요청 허용 - bucket: {}, error: {}", bucket, e.getMessage());
+            return 1;
+        }
+        if (result == null || result.size() < 2) {
+            return 1;
+        }
+
+        int granted = Integer.parseInt(result.get(0).toString());
+        if (granted < 1) {
+            throw new RateLimitExceededException(bucket, Long.parseLong(result.get(1).toString()));
+        }
+        return granted;
+    }
+
+    private void evictExpiredLeases() {
+        if (leases.size() > MAX_LOCAL_LEASES) {
+            long now = System.nanoTime();
+            leases.values().removeIf(lease -> lease.isExpired(now));
+        }
+    }
+
+    /**
+     * 로컬에 임대한 토큰
+     *
+     * 모니터는 토큰 수 갱신에만 사용하고, Redis 호출은 refilling 플래그를 얻은 스레드가 모니터 밖에서 수행합니다.
+     */
+    private static class LocalLease {
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        private int remaining;
+        private long expiresAtNanos;
+
+        private synchronized boolean tryTake(long now) {
+            if (remaining > 0 && now < expiresAtNanos) {
+                remaining--;
+                return true;
+            }
+            return false;
+        }
+
+        private synchronized void refill(int tokens, long expiresAt) {
+            remaining = tokens;
+            expiresAtNanos = expiresAt;
+        }
+
+        private synchronized void giveBack(long now) {
+            if (now < expiresAtNanos) {
+                remaining++;
+            }
+        }
+
+        private synchronized boolean isExpired(long now) {
+            return now >= expiresAtNanos;
+        }
+
+        private boolean beginRefill() {
+            return refilling.compareAndSet(false, true);
+        }
+
+        private void endRefill() {
+            refilling.set(false);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.sparta.ecommerce.common.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 애플리케이션 시작 시간 리포터
+ *
+ * - 준비 완료(ApplicationReadyEvent) 시 JVM 시작 후 경과 시간을 기록합니다.
+ *   -Dstartup.timeline.capacity=N 으로 시작 타임라인을 기록한 경우, 가장 오래 걸린 시작 단계를 함께 출력합니다.
+ * - 첫 요청 처리 완료 시 JVM 시작 후 경과 시간(time to first request)을 기록하고,
+ *   목표(app.startup.first-request-target-ms)를 넘으면 경고합니다.
+ */
+@Slf4j
+@Component
+public class StartupTimelineReporter {
+
+    private final ConfigurableApplicationContext applicationContext;
+    private final int topSteps;
+    private final long firstRequestTargetMs;
+    private final AtomicBoolean firstRequestHandled = new AtomicBoolean();
+
+    public StartupTimelineReporter(
+            ConfigurableApplicationContext applicationContext,
+            @Value("${app.startup.timeline.top-steps:20}") int topSteps,
+            @Value("${app.startup.first-request-target-ms:0}") long firstRequestTargetMs
+    ) {
+        this.applicationContext = applicationContext;
+        this.topSteps = topSteps;
+        this.firstRequestTargetMs = firstRequestTargetMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportStartup(ApplicationReadyEvent event) {
+        log.info("애플리케이션 준비 완료 - JVM 시작 후 {}ms (컨텍스트 초기화 {}ms)",
+                ManagementFactory.getRuntimeMXBean().getUptime(), event.getTimeTaken().toMillis());
+
+        if (!(applicationContext.getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+
+        // 상위 단계의 시간에는 하위 단계가 포함됨 (예: spring.context.refresh ⊃ spring.beans.instantiate)
+        log.info("시작 단계 소요 시간 상위 {}개", topSteps);
+        startup.drainBufferedTimeline().getEvents().stream()
+                .sorted(Comparator.comparing(TimelineEvent::getDuration).reversed())
+                .limit(topSteps)
+                .forEach(timelineEvent -> log.info("  {}ms {} {}",
+                        timelineEvent.getDuration().toMillis(),
+                        timelineEvent.getStartupStep().getName(),
+                        formatTags(timelineEvent.getStartupStep())));
+    }
+
+    @EventListener(ServletRequestHandledEvent.class)
+    public void reportFirstRequest(ServletRequestHandledEvent event) {
+        if (firstRequestHandled.get() || !firstRequestHandled.compareAndSet(false, true)) {
+            return;
+        }
+
+        long uptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        if (firstRequestTargetMs > 0 && uptimeMs > firstRequestTargetMs) {
+            log.warn("첫 요청 처리 완료 - JVM 시작 후 {}ms (목표 {}ms 초과) - url: {}",
+                    uptimeMs, firstRequestTargetMs, event.getRequestUrl());
+            return;
+        }
+        log.info("첫 요청 처리 완료 - JVM 시작 후 {}ms - url: {}", uptimeMs, event.getRequestUrl());
+    }
+
+    private String formatTags(StartupStep step) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (StartupStep.Tag tag : step.getTags()) {
+            joiner.add(tag.getKey() + "=" + tag.getValue());
+        }
+        return joiner.toString();
+    }
+}
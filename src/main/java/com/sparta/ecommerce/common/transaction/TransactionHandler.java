@@ -3,6 +3,8 @@ package com.sparta.ecommerce.common.transaction;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.function.Supplier;
+
 /**
  * 트랜잭션 제어를 담당하는 컴포넌트
  *
@@ -20,4 +22,17 @@ public class TransactionHandler {
     public void execute(Runnable action) {
         action.run();
     }
+
+    /**
+     * 주어진 작업을 트랜잭션 내에서 실행하고 결과를 반환합니다.
+     *
+     * 커밋이 완료된 후에 결과가 반환되므로, 호출자는 반환값을 커밋된 데이터로 취급할 수 있습니다.
+     *
+     * @param action 트랜잭션 내에서 실행할 작업
+     * @return 작업 결과
+     */
+    @Transactional
+    public <T> T executeWithResult(Supplier<T> action) {
+        return action.get();
+    }
 }
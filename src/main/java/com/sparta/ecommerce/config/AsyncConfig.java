@@ -38,4 +38,42 @@ public class AsyncConfig {
             return new SyncTaskExecutor();
         }
     }
+
+    /**
+     * 주문 사가 복구 전용 Executor
+     * - 복구는 사가 단계를 직접 처리하므로 오래 걸릴 수 있어, 공용 스케줄러 스레드를 점유하지 않도록 분리합니다.
+     * - 스레드 1개, 대기열 없음: 이전 실행이 끝나지 않았으면 TaskRejectedException으로 이번 실행을 건너뜁니다.
+     */
+    @Bean("orderSagaRecoveryExecutor")
+    public TaskExecutor orderSagaRecoveryExecutor(
+            @org.springframework.beans.factory.annotation.Value("${app.async.enabled:true}") boolean asyncEnabled
+    ) {
+        return singleRunExecutor("order-saga-recovery-", asyncEnabled);
+    }
+
+    /**
+     * 만료 쿠폰 정리 전용 Executor
+     * - 정리는 청크 사이에 쉬면서 수 분 이상 걸릴 수 있어, 1초 주기 스케줄러(대기열 입장, 복제 지연 확인 등)를 막지 않도록 분리합니다.
+     * - 이전 실행이 끝나지 않았으면 이번 실행을 건너뜁니다.
+     */
+    @Bean("couponSweepExecutor")
+    public TaskExecutor couponSweepExecutor(
+            @org.springframework.beans.factory.annotation.Value("${app.async.enabled:true}") boolean asyncEnabled
+    ) {
+        return singleRunExecutor("coupon-sweep-", asyncEnabled);
+    }
+
+    private static TaskExecutor singleRunExecutor(String threadNamePrefix, boolean asyncEnabled) {
+        if (!asyncEnabled) {
+            return new SyncTaskExecutor();
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
 }
@@ -3,6 +3,9 @@ package com.sparta.ecommerce.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sparta.ecommerce.common.codec.BinaryRedisSerializer;
+import com.sparta.ecommerce.common.codec.BinarySchema;
+import com.sparta.ecommerce.common.codec.SerializationFormat;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -13,6 +16,7 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -26,6 +30,7 @@ public class CacheConfig {
 
     private Map<String, Long> ttl = new HashMap<>();
     private Long defaultTtl = 10L;
+    private SerializationFormat codec = SerializationFormat.JSON;
 
     public Map<String, Long> getTtl() {
         return ttl;
@@ -43,6 +48,14 @@ public class CacheConfig {
         this.defaultTtl = defaultTtl;
     }
 
+    public SerializationFormat getCodec() {
+        return codec;
+    }
+
+    public void setCodec(SerializationFormat codec) {
+        this.codec = codec;
+    }
+
     @Bean
     public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
         // ObjectMapper 설정 (LocalDateTime 직렬화 지원 + 타입 정보 포함)
@@ -54,7 +67,12 @@ public class CacheConfig {
                 ObjectMapper.DefaultTyping.NON_FINAL
         );
 
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+
+        // 바이너리 포맷: BinarySchema 등록 타입은 클래스명 없이 바이너리로 저장 (미등록 타입 및 기존 JSON 값은 JSON으로 처리)
+        // JSON 포맷이어도 조회는 두 포맷을 모두 지원 (바이너리로 저장하는 노드와 롤링 배포 중 공존)
+        RedisSerializer<Object> serializer = new BinaryRedisSerializer(
+                BinarySchema.registry(), jsonSerializer, codec == SerializationFormat.BINARY);
 
         // 기본 캐시 설정
         RedisCacheConfiguration defaultCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
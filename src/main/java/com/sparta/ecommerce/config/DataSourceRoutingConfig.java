@@ -0,0 +1,69 @@
+package com.sparta.ecommerce.config;
+
+import com.sparta.ecommerce.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read Replica 라우팅 DataSource 설정
+ *
+ * datasource.replica.enabled=true 일 때만 등록되며, 비활성화 시 Spring Boot 기본 DataSource(Primary 단일)를 사용합니다.
+ * Primary 접속 정보는 spring.datasource.*, Replica 접속 정보는 datasource.replica.*를 사용합니다.
+ *
+ * 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 획득하도록 LazyConnectionDataSourceProxy로 감싸,
+ * 트랜잭션의 readOnly 속성과 @ReadFrom 지정이 커넥션 선택에 반영되도록 합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.urls}") List<String> replicaUrls,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.replica.max-lag-seconds:1}") long maxLagSeconds
+    ) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replicaUrls.get(i).trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName("replica-" + i);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replicas, maxLagSeconds);
+        // 기동 시점에 복제 지연을 확인하여, 확인 전까지는 Primary로 조회
+        routingDataSource.checkReplicaLag();
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,52 @@
+package com.sparta.ecommerce.config;
+
+import org.springframework.kafka.config.KafkaListenerEndpoint;
+import org.springframework.kafka.retrytopic.DestinationTopic;
+import org.springframework.kafka.retrytopic.SuffixingRetryTopicNamesProviderFactory;
+
+import java.util.Collection;
+
+/**
+ * 재시도 토픽 이름 생성기
+ *
+ * 기본 전략은 지연 시간을 밀리초로 붙이지만 (topic-retry-10000),
+ * 운영 시 읽기 쉽도록 초/분 단위로 표기합니다. (topic-retry-10s, topic-retry-1m)
+ * 메인 토픽과 DLT 토픽 이름은 기본 전략을 그대로 따릅니다.
+ */
+class DelayRetryTopicNamesProviderFactory extends SuffixingRetryTopicNamesProviderFactory {
+
+    @Override
+    public RetryTopicNamesProvider createRetryTopicNamesProvider(DestinationTopic.Properties properties) {
+        if (properties.isDltTopic() || properties.delay() <= 0) {
+            return super.createRetryTopicNamesProvider(properties);
+        }
+
+        String suffix = KafkaConfig.RETRY_TOPIC_SUFFIX + "-" + formatDelay(properties.delay());
+        return new SuffixingRetryTopicNamesProvider(properties) {
+            @Override
+            public Collection<String> getTopics(KafkaListenerEndpoint endpoint) {
+                return endpoint.getTopics().stream()
+                        .map(this::getTopicName)
+                        .toList();
+            }
+
+            @Override
+            public String getTopicName(String topic) {
+                return topic + suffix;
+            }
+        };
+    }
+
+    /**
+     * 지연 시간을 사람이 읽기 쉬운 단위로 변환합니다. (1000 -> 1s, 60000 -> 1m)
+     */
+    static String formatDelay(long delayMs) {
+        if (delayMs % 60_000 == 0) {
+            return delayMs / 60_000 + "m";
+        }
+        if (delayMs % 1_000 == 0) {
+            return delayMs / 1_000 + "s";
+        }
+        return delayMs + "ms";
+    }
+}
@@ -2,377 +2,173 @@ package com.sparta.ecommerce.config;
 
 import com.sparta.ecommerce.application.coupon.event.CouponIssueEvent;
 import com.sparta.ecommerce.application.coupon.event.CouponRestoreEvent;
-import com.sparta.ecommerce.application.order.event.OrderCreatedEvent;
 import com.sparta.ecommerce.application.product.event.StockRestoreEvent;
 import com.sparta.ecommerce.application.user.event.PointRestoreEvent;
-import org.apache.kafka.clients.admin.NewTopic;
+import com.sparta.ecommerce.domain.coupon.exception.CouponException;
+import com.sparta.ecommerce.domain.product.exception.ProductException;
+import com.sparta.ecommerce.domain.user.exception.UserException;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
-import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.context.annotation.Import;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.retrytopic.RetryTopicComponentFactory;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationSupport;
+import org.springframework.kafka.retrytopic.RetryTopicNamesProviderFactory;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Kafka 설정
+ *
+ * 토픽별 Kafka 빈(NewTopic, ConsumerFactory, ListenerContainerFactory, ProducerFactory, KafkaTemplate)은
+ * 토픽 레지스트리(KafkaTopic)에 선언하면 KafkaTopicBeanRegistrar가 생성합니다.
+ * 처리량 프로파일(KafkaTuningProfile)과 토픽별 concurrency는 kafka.profiles.*, kafka.topics.* 프로퍼티로 조정합니다.
+ *
+ * 재시도/DLT (Non-blocking Retry):
+ *   처리에 실패한 메시지는 메인 파티션을 막지 않도록 재시도 토픽으로 옮겨 지연 후 재처리합니다.
+ *   {topic} -> {topic}-retry-1s -> {topic}-retry-10s -> {topic}-retry-1m -> {topic}-dlt
+ *   비즈니스 예외(쿠폰/상품/사용자)는 재시도해도 결과가 같으므로 바로 DLT로 보냅니다.
+ *   DLT에 쌓인 메시지는 DeadLetterReplayService로 원래 토픽에 재주입할 수 있습니다.
  */
 @Configuration
-public class KafkaConfig {
+@Import(KafkaTopicBeanRegistrar.class)
+public class KafkaConfig extends RetryTopicConfigurationSupport {
 
-    @Value("${spring.kafka.bootstrap-servers}")
-    private String bootstrapServers;
-
-    @Value("${spring.kafka.consumer.group-id}")
-    private String groupId;
+    public static final String RETRY_TOPIC_SUFFIX = "-retry";
+    public static final String DLT_SUFFIX = "-dlt";
 
-    /**
-     * 쿠폰 발급 토픽 생성
-     * - 파티션 3개: Consumer concurrency와 매칭하여 병렬 처리 가능
-     * - 복제본 1개: 테스트 환경에서는 단일 브로커 사용
-     */
-    @Bean
-    public NewTopic couponIssueTopic() {
-        return TopicBuilder.name("coupon-issue-topic")
-                .partitions(3)
-                .replicas(1)
-                .build();
-    }
-
-    /**
-     * Kafka Consumer Factory 설정
-     */
-    @Bean
-    public ConsumerFactory<String, CouponIssueEvent> consumerFactory() {
-        Map<String, Object> config = new HashMap<>();
-        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, CouponIssueEvent.class.getName());
-        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-
-        return new DefaultKafkaConsumerFactory<>(
-                config,
-                new StringDeserializer(),
-                new JsonDeserializer<>(CouponIssueEvent.class, false)
-        );
-    }
+    // 재시도 간격: 1초 -> 10초 -> 1분 (최초 처리 포함 총 4회 시도)
+    private static final long RETRY_INITIAL_INTERVAL_MS = 1_000L;
+    private static final double RETRY_MULTIPLIER = 10.0;
+    private static final long RETRY_MAX_INTERVAL_MS = 60_000L;
+    private static final int RETRY_MAX_ATTEMPTS = 4;
 
-    /**
-     * Kafka Listener Container Factory 설정
-     */
-    @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, CouponIssueEvent> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, CouponIssueEvent> factory =
-                new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory());
-        return factory;
-    }
-
-    /**
-     * Kafka Producer Factory 설정
-     */
-    @Bean
-    public ProducerFactory<String, CouponIssueEvent> producerFactory() {
-        Map<String, Object> config = new HashMap<>();
-        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-
-        return new DefaultKafkaProducerFactory<>(config);
-    }
-
-    /**
-     * Kafka Template 설정
-     */
-    @Bean
-    public KafkaTemplate<String, CouponIssueEvent> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
-    }
-
-    // ========== 주문 생성 이벤트 관련 설정 ==========
-
-    /**
-     * 주문 생성 토픽 생성
-     * - 파티션 3개: Consumer concurrency와 매칭하여 병렬 처리 가능
-     * - 복제본 1개: 테스트 환경에서는 단일 브로커 사용
-     */
-    @Bean
-    public NewTopic orderCreatedTopic() {
-        return TopicBuilder.name("order-created-topic")
-                .partitions(3)
-                .replicas(1)
-                .build();
-    }
-
-    /**
-     * 주문 생성 이벤트용 Kafka Consumer Factory 설정
-     */
-    @Bean
-    public ConsumerFactory<String, OrderCreatedEvent> orderCreatedConsumerFactory() {
-        Map<String, Object> config = new HashMap<>();
-        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, OrderCreatedEvent.class.getName());
-        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-
-        return new DefaultKafkaConsumerFactory<>(
-                config,
-                new StringDeserializer(),
-                new JsonDeserializer<>(OrderCreatedEvent.class, false)
-        );
-    }
-
-    /**
-     * 주문 생성 이벤트용 Kafka Listener Container Factory 설정
-     */
-    @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, OrderCreatedEvent> orderCreatedKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, OrderCreatedEvent> factory =
-                new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(orderCreatedConsumerFactory());
-        return factory;
-    }
-
-    /**
-     * 주문 생성 이벤트용 Kafka Producer Factory 설정
-     */
-    @Bean
-    public ProducerFactory<String, OrderCreatedEvent> orderCreatedProducerFactory() {
-        Map<String, Object> config = new HashMap<>();
-        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-
-        return new DefaultKafkaProducerFactory<>(config);
-    }
-
-    /**
-     * 주문 생성 이벤트용 Kafka Template 설정
-     */
-    @Bean
-    public KafkaTemplate<String, OrderCreatedEvent> orderCreatedKafkaTemplate() {
-        return new KafkaTemplate<>(orderCreatedProducerFactory());
-    }
-
-    // ========== 보상 트랜잭션 이벤트 관련 설정 ==========
-
-    /**
-     * 재고 복구 토픽 생성
-     * - 파티션 3개: 병렬 처리 가능
-     * - 복제본 1개: 테스트 환경에서는 단일 브로커 사용
-     */
-    @Bean
-    public NewTopic stockRestoreTopic() {
-        return TopicBuilder.name("stock-restore-topic")
-                .partitions(3)
-                .replicas(1)
-                .build();
-    }
-
-    /**
-     * 재고 복구 이벤트용 Kafka Consumer Factory 설정
-     */
-    @Bean
-    public ConsumerFactory<String, StockRestoreEvent> stockRestoreConsumerFactory() {
-        Map<String, Object> config = new HashMap<>();
-        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, StockRestoreEvent.class.getName());
-        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-
-        return new DefaultKafkaConsumerFactory<>(
-                config,
-                new StringDeserializer(),
-                new JsonDeserializer<>(StockRestoreEvent.class, false)
-        );
-    }
-
-    /**
-     * 재고 복구 이벤트용 Kafka Listener Container Factory 설정
-     */
-    @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, StockRestoreEvent> stockRestoreKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, StockRestoreEvent> factory =
-                new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(stockRestoreConsumerFactory());
-        return factory;
-    }
-
-    /**
-     * 재고 복구 이벤트용 Kafka Producer Factory 설정
-     */
-    @Bean
-    public ProducerFactory<String, StockRestoreEvent> stockRestoreProducerFactory() {
-        Map<String, Object> config = new HashMap<>();
-        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-
-        return new DefaultKafkaProducerFactory<>(config);
-    }
-
-    /**
-     * 재고 복구 이벤트용 Kafka Template 설정
-     */
-    @Bean
-    public KafkaTemplate<String, StockRestoreEvent> stockRestoreKafkaTemplate() {
-        return new KafkaTemplate<>(stockRestoreProducerFactory());
-    }
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
 
-    // ========== 포인트 복구 이벤트 관련 설정 ==========
+    // ========== 재시도 토픽 / DLT 설정 ==========
 
     /**
-     * 포인트 복구 토픽 생성
-     * - 파티션 3개: 병렬 처리 가능
-     * - 복제본 1개: 테스트 환경에서는 단일 브로커 사용
+     * 재시도 토픽 이름을 지연 시간 기준으로 생성 (예: coupon-issue-topic-retry-10s)
      */
-    @Bean
-    public NewTopic pointRestoreTopic() {
-        return TopicBuilder.name("point-restore-topic")
-                .partitions(3)
-                .replicas(1)
-                .build();
+    @Override
+    protected RetryTopicComponentFactory createComponentFactory() {
+        return new RetryTopicComponentFactory() {
+            @Override
+            public RetryTopicNamesProviderFactory retryTopicNamesProviderFactory() {
+                return new DelayRetryTopicNamesProviderFactory();
+            }
+        };
     }
 
     /**
-     * 포인트 복구 이벤트용 Kafka Consumer Factory 설정
+     * 쿠폰 발급 토픽 재시도/DLT 설정
      */
     @Bean
-    public ConsumerFactory<String, PointRestoreEvent> pointRestoreConsumerFactory() {
-        Map<String, Object> config = new HashMap<>();
-        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, PointRestoreEvent.class.getName());
-        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-
-        return new DefaultKafkaConsumerFactory<>(
-                config,
-                new StringDeserializer(),
-                new JsonDeserializer<>(PointRestoreEvent.class, false)
-        );
+    public RetryTopicConfiguration couponIssueRetryTopicConfiguration(
+            KafkaTemplate<String, CouponIssueEvent> kafkaTemplate,
+            KafkaTopicFactories kafkaTopicFactories
+    ) {
+        return retryTopicConfiguration(KafkaTopic.COUPON_ISSUE, kafkaTemplate, kafkaTopicFactories);
     }
 
     /**
-     * 포인트 복구 이벤트용 Kafka Listener Container Factory 설정
+     * 재고 복구 토픽 재시도/DLT 설정
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, PointRestoreEvent> pointRestoreKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, PointRestoreEvent> factory =
-                new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(pointRestoreConsumerFactory());
-        return factory;
+    public RetryTopicConfiguration stockRestoreRetryTopicConfiguration(
+            KafkaTemplate<String, StockRestoreEvent> stockRestoreKafkaTemplate,
+            KafkaTopicFactories kafkaTopicFactories
+    ) {
+        return retryTopicConfiguration(KafkaTopic.STOCK_RESTORE, stockRestoreKafkaTemplate, kafkaTopicFactories);
     }
 
     /**
-     * 포인트 복구 이벤트용 Kafka Producer Factory 설정
+     * 포인트 복구 토픽 재시도/DLT 설정
      */
     @Bean
-    public ProducerFactory<String, PointRestoreEvent> pointRestoreProducerFactory() {
-        Map<String, Object> config = new HashMap<>();
-        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-
-        return new DefaultKafkaProducerFactory<>(config);
+    public RetryTopicConfiguration pointRestoreRetryTopicConfiguration(
+            KafkaTemplate<String, PointRestoreEvent> pointRestoreKafkaTemplate,
+            KafkaTopicFactories kafkaTopicFactories
+    ) {
+        return retryTopicConfiguration(KafkaTopic.POINT_RESTORE, pointRestoreKafkaTemplate, kafkaTopicFactories);
     }
 
     /**
-     * 포인트 복구 이벤트용 Kafka Template 설정
+     * 쿠폰 복구 토픽 재시도/DLT 설정
      */
     @Bean
-    public KafkaTemplate<String, PointRestoreEvent> pointRestoreKafkaTemplate() {
-        return new KafkaTemplate<>(pointRestoreProducerFactory());
+    public RetryTopicConfiguration couponRestoreRetryTopicConfiguration(
+            KafkaTemplate<String, CouponRestoreEvent> couponRestoreKafkaTemplate,
+            KafkaTopicFactories kafkaTopicFactories
+    ) {
+        return retryTopicConfiguration(KafkaTopic.COUPON_RESTORE, couponRestoreKafkaTemplate, kafkaTopicFactories);
     }
 
-    // ========== 쿠폰 복구 이벤트 관련 설정 ==========
-
     /**
-     * 쿠폰 복구 토픽 생성
-     * - 파티션 3개: 병렬 처리 가능
-     * - 복제본 1개: 테스트 환경에서는 단일 브로커 사용
+     * 토픽별 재시도 설정 생성
+     * - 재시도/DLT 토픽은 메인 토픽과 같은 파티션 수로 자동 생성 (KafkaTopicBeanRegistrar가 등록한 KafkaTopicFactories 빈)
+     * - 재시도 토픽 리스너는 메인 토픽과 같은 Container Factory를 사용
      */
-    @Bean
-    public NewTopic couponRestoreTopic() {
-        return TopicBuilder.name("coupon-restore-topic")
-                .partitions(3)
-                .replicas(1)
-                .build();
+    private RetryTopicConfiguration retryTopicConfiguration(
+            KafkaTopic topic,
+            KafkaOperations<String, ?> kafkaOperations,
+            KafkaTopicFactories kafkaTopicFactories
+    ) {
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopic(topic.getTopicName())
+                .exponentialBackoff(RETRY_INITIAL_INTERVAL_MS, RETRY_MULTIPLIER, RETRY_MAX_INTERVAL_MS)
+                .maxAttempts(RETRY_MAX_ATTEMPTS)
+                .retryTopicSuffix(RETRY_TOPIC_SUFFIX)
+                .dltSuffix(DLT_SUFFIX)
+                .notRetryOn(List.of(CouponException.class, ProductException.class, UserException.class))
+                .traversingCauses()
+                .listenerFactory(topic.beanName("KafkaListenerContainerFactory"))
+                .autoCreateTopicsWith(kafkaTopicFactories.partitions(topic), (short) 1)
+                .create(kafkaOperations);
     }
 
     /**
-     * 쿠폰 복구 이벤트용 Kafka Consumer Factory 설정
+     * DLT 재주입용 Consumer Factory 설정
+     * - 역직렬화 없이 원본 바이트를 그대로 읽어 원래 토픽으로 다시 발행
      */
     @Bean
-    public ConsumerFactory<String, CouponRestoreEvent> couponRestoreConsumerFactory() {
+    public ConsumerFactory<String, byte[]> deadLetterReplayConsumerFactory() {
         Map<String, Object> config = new HashMap<>();
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, CouponRestoreEvent.class.getName());
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
 
-        return new DefaultKafkaConsumerFactory<>(
-                config,
-                new StringDeserializer(),
-                new JsonDeserializer<>(CouponRestoreEvent.class, false)
-        );
-    }
-
-    /**
-     * 쿠폰 복구 이벤트용 Kafka Listener Container Factory 설정
-     */
-    @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, CouponRestoreEvent> couponRestoreKafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, CouponRestoreEvent> factory =
-                new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(couponRestoreConsumerFactory());
-        return factory;
+        return new DefaultKafkaConsumerFactory<>(config);
     }
 
     /**
-     * 쿠폰 복구 이벤트용 Kafka Producer Factory 설정
+     * DLT 재주입용 Kafka Template 설정
      */
     @Bean
-    public ProducerFactory<String, CouponRestoreEvent> couponRestoreProducerFactory() {
+    public KafkaTemplate<String, byte[]> deadLetterReplayKafkaTemplate() {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-
-        return new DefaultKafkaProducerFactory<>(config);
-    }
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
 
-    /**
-     * 쿠폰 복구 이벤트용 Kafka Template 설정
-     */
-    @Bean
-    public KafkaTemplate<String, CouponRestoreEvent> couponRestoreKafkaTemplate() {
-        return new KafkaTemplate<>(couponRestoreProducerFactory());
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(config));
     }
 }
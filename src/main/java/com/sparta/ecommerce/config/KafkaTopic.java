@@ -0,0 +1,99 @@
+package com.sparta.ecommerce.config;
+
+import com.sparta.ecommerce.application.coupon.event.CouponIssueEvent;
+import com.sparta.ecommerce.application.coupon.event.CouponRestoreEvent;
+import com.sparta.ecommerce.application.order.event.OrderCreatedEvent;
+import com.sparta.ecommerce.application.product.event.StockRestoreEvent;
+import com.sparta.ecommerce.application.user.event.PointRestoreEvent;
+
+/**
+ * Kafka 토픽 레지스트리
+ *
+ * 이벤트 타입별 토픽을 선언하면 KafkaTopicBeanRegistrar가 토픽(NewTopic), ConsumerFactory,
+ * ListenerContainerFactory, ProducerFactory, KafkaTemplate 빈을 생성합니다.
+ *
+ * 빈 이름: {beanPrefix}ConsumerFactory, {beanPrefix}KafkaListenerContainerFactory,
+ *          {beanPrefix}ProducerFactory, {beanPrefix}KafkaTemplate, {beanPrefix}Topic
+ * 쿠폰 발급은 Spring Kafka 기본 빈 이름(consumerFactory, kafkaListenerContainerFactory 등)을 사용합니다.
+ *
+ * 토픽별 설정은 kafka.topics.{key}.* 프로퍼티로 재정의할 수 있습니다.
+ *   partitions, concurrency, profile, max-poll-records
+ */
+public enum KafkaTopic {
+
+    COUPON_ISSUE("coupon-issue", "coupon-issue-topic", "couponIssue", true,
+            CouponIssueEvent.class, KafkaTuningProfile.THROUGHPUT, false),
+    ORDER_CREATED("order-created", "order-created-topic", "orderCreated", false,
+            OrderCreatedEvent.class, KafkaTuningProfile.THROUGHPUT, true),
+    STOCK_RESTORE("stock-restore", "stock-restore-topic", "stockRestore", false,
+            StockRestoreEvent.class, KafkaTuningProfile.LATENCY, false),
+    POINT_RESTORE("point-restore", "point-restore-topic", "pointRestore", false,
+            PointRestoreEvent.class, KafkaTuningProfile.LATENCY, false),
+    COUPON_RESTORE("coupon-restore", "coupon-restore-topic", "couponRestore", false,
+            CouponRestoreEvent.class, KafkaTuningProfile.LATENCY, false);
+
+    public static final int DEFAULT_PARTITIONS = 3;
+    public static final int DEFAULT_CONCURRENCY = 3;
+
+    private final String key;
+    private final String topicName;
+    private final String beanPrefix;
+    private final boolean defaultBeans;
+    private final Class<?> eventType;
+    private final KafkaTuningProfile defaultProfile;
+    private final boolean batchListener;
+
+    KafkaTopic(String key, String topicName, String beanPrefix, boolean defaultBeans,
+               Class<?> eventType, KafkaTuningProfile defaultProfile, boolean batchListener) {
+        this.key = key;
+        this.topicName = topicName;
+        this.beanPrefix = beanPrefix;
+        this.defaultBeans = defaultBeans;
+        this.eventType = eventType;
+        this.defaultProfile = defaultProfile;
+        this.batchListener = batchListener;
+    }
+
+    public String getTopicName() {
+        return topicName;
+    }
+
+    public Class<?> getEventType() {
+        return eventType;
+    }
+
+    public KafkaTuningProfile getDefaultProfile() {
+        return defaultProfile;
+    }
+
+    /**
+     * 배치 리스너 여부 (poll 단위로 List를 전달)
+     */
+    public boolean isBatchListener() {
+        return batchListener;
+    }
+
+    /**
+     * 토픽별 프로퍼티 접두사 (예: kafka.topics.order-created.)
+     */
+    public String propertyPrefix() {
+        return "kafka.topics." + key + ".";
+    }
+
+    /**
+     * 빈 이름 생성 (예: ConsumerFactory -> orderCreatedConsumerFactory)
+     */
+    public String beanName(String suffix) {
+        if (defaultBeans) {
+            return Character.toLowerCase(suffix.charAt(0)) + suffix.substring(1);
+        }
+        return beanPrefix + suffix;
+    }
+
+    /**
+     * 토픽(NewTopic) 빈 이름 (예: orderCreatedTopic)
+     */
+    public String topicBeanName() {
+        return beanPrefix + "Topic";
+    }
+}
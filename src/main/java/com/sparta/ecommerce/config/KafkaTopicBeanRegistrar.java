@@ -0,0 +1,88 @@
+package com.sparta.ecommerce.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.CommonErrorHandler;
+
+/**
+ * 토픽 레지스트리(KafkaTopic)의 각 토픽마다 Kafka 빈을 등록합니다.
+ *
+ * 빈 정의에 제네릭 타입(예: KafkaTemplate&lt;String, OrderCreatedEvent&gt;)을 지정하므로
+ * 기존처럼 타입으로 주입받을 수 있습니다.
+ *
+ * 각 빈은 KafkaTopicFactories 빈의 팩토리 메서드와 생성자 인자(토픽, 참조 빈)로 정의합니다.
+ * 인스턴스 Supplier(람다)는 Spring AOT가 코드로 생성할 수 없으므로 사용하지 않습니다. (processAot)
+ *
+ * 배치 리스너 토픽은 에러 핸들러({beanPrefix}ErrorHandler)와 DLT({beanPrefix}DltTopic)를 추가로 등록합니다.
+ */
+class KafkaTopicBeanRegistrar implements ImportBeanDefinitionRegistrar {
+
+    static final String FACTORIES_BEAN_NAME = "kafkaTopicFactories";
+
+    @Override
+    public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+        registry.registerBeanDefinition(FACTORIES_BEAN_NAME, new RootBeanDefinition(KafkaTopicFactories.class));
+
+        for (KafkaTopic topic : KafkaTopic.values()) {
+            Class<?> eventType = topic.getEventType();
+            String consumerFactoryName = topic.beanName("ConsumerFactory");
+            String producerFactoryName = topic.beanName("ProducerFactory");
+            String kafkaTemplateName = topic.beanName("KafkaTemplate");
+
+            register(registry, topic.topicBeanName(),
+                    ResolvableType.forClass(NewTopic.class),
+                    "newTopic", topic);
+
+            register(registry, consumerFactoryName,
+                    ResolvableType.forClassWithGenerics(ConsumerFactory.class, String.class, eventType),
+                    "consumerFactory", topic);
+
+            ResolvableType listenerContainerFactoryType =
+                    ResolvableType.forClassWithGenerics(ConcurrentKafkaListenerContainerFactory.class, String.class, eventType);
+            if (topic.isBatchListener()) {
+                String errorHandlerName = topic.beanName("ErrorHandler");
+                register(registry, topic.beanName("DltTopic"),
+                        ResolvableType.forClass(NewTopic.class),
+                        "deadLetterTopic", topic);
+                register(registry, errorHandlerName,
+                        ResolvableType.forClass(CommonErrorHandler.class),
+                        "batchErrorHandler", new RuntimeBeanReference(kafkaTemplateName));
+                register(registry, topic.beanName("KafkaListenerContainerFactory"), listenerContainerFactoryType,
+                        "batchListenerContainerFactory", topic, new RuntimeBeanReference(consumerFactoryName),
+                        new RuntimeBeanReference(errorHandlerName));
+            } else {
+                register(registry, topic.beanName("KafkaListenerContainerFactory"), listenerContainerFactoryType,
+                        "listenerContainerFactory", topic, new RuntimeBeanReference(consumerFactoryName));
+            }
+
+            register(registry, producerFactoryName,
+                    ResolvableType.forClassWithGenerics(ProducerFactory.class, String.class, eventType),
+                    "producerFactory", topic);
+
+            register(registry, kafkaTemplateName,
+                    ResolvableType.forClassWithGenerics(KafkaTemplate.class, String.class, eventType),
+                    "kafkaTemplate", new RuntimeBeanReference(producerFactoryName));
+        }
+    }
+
+    private void register(BeanDefinitionRegistry registry, String beanName, ResolvableType type,
+                          String factoryMethodName, Object... args) {
+        RootBeanDefinition definition = new RootBeanDefinition();
+        definition.setTargetType(type);
+        definition.setFactoryBeanName(FACTORIES_BEAN_NAME);
+        definition.setFactoryMethodName(factoryMethodName);
+        for (int i = 0; i < args.length; i++) {
+            definition.getConstructorArgumentValues().addIndexedArgumentValue(i, args[i]);
+        }
+        registry.registerBeanDefinition(beanName, definition);
+    }
+}
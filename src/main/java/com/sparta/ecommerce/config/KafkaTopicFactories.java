@@ -0,0 +1,225 @@
+package com.sparta.ecommerce.config;
+
+import com.sparta.ecommerce.common.codec.BinarySchema;
+import com.sparta.ecommerce.common.codec.SerializationFormat;
+import com.sparta.ecommerce.common.kafka.BinaryEventDeserializer;
+import com.sparta.ecommerce.common.kafka.BinaryEventSerializer;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 토픽 레지스트리(KafkaTopic) 기반 Kafka 클라이언트 생성기
+ *
+ * 모든 토픽이 공통으로 사용하는 Consumer/Producer 설정에
+ * 토픽의 처리량 프로파일(KafkaTuningProfile)과 토픽별 재정의 값을 적용합니다.
+ *
+ * Producer 공통 설정:
+ * - acks=all + 멱등 Producer: 재전송 시 중복/순서 뒤바뀜 방지
+ * - linger.ms / batch.size / compression.type: 프로파일별 배치 및 압축
+ *
+ * Consumer 공통 설정:
+ * - 자동 커밋 비활성화: 리스너 처리 후 컨테이너가 커밋 (at-least-once)
+ * - fetch.min.bytes / fetch.max.wait.ms / max.poll.records: 프로파일별 fetch 크기
+ *
+ * 직렬화 포맷 (kafka.codec, 기본값 JSON):
+ * - Producer는 설정된 포맷으로 발행합니다. (BinarySchema 미등록 이벤트는 JSON)
+ * - Consumer는 포맷과 관계없이 바이너리/JSON 메시지를 모두 역직렬화합니다.
+ */
+class KafkaTopicFactories {
+
+    // 배치 리스너 제자리 재시도: 짧게 1회만 (재시도 동안 같은 파티션의 다른 레코드가 막히므로 나머지는 DLT에서 재주입)
+    private static final long BATCH_RETRY_INTERVAL_MS = 200L;
+    private static final long BATCH_RETRY_MAX_ATTEMPTS = 1;
+
+    private final Environment environment;
+
+    KafkaTopicFactories(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * 토픽 생성
+     * - 복제본 1개: 테스트 환경에서는 단일 브로커 사용
+     */
+    NewTopic newTopic(KafkaTopic topic) {
+        return TopicBuilder.name(topic.getTopicName())
+                .partitions(partitions(topic))
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * 배치 리스너 토픽의 DLT 생성 ({topic}-dlt, 메인 토픽과 같은 파티션 수)
+     */
+    NewTopic deadLetterTopic(KafkaTopic topic) {
+        return TopicBuilder.name(topic.getTopicName() + KafkaConfig.DLT_SUFFIX)
+                .partitions(partitions(topic))
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * Kafka Consumer Factory 설정
+     */
+    ConsumerFactory<String, ?> consumerFactory(KafkaTopic topic) {
+        KafkaTuningProfile profile = profile(topic);
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers());
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, environment.getRequiredProperty("spring.kafka.consumer.group-id"));
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, BinaryEventDeserializer.class);
+        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, topic.getEventType().getName());
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG,
+                profileValue(profile, "fetch-min-bytes", profile.getFetchMinBytes()));
+        config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG,
+                profileValue(profile, "fetch-max-wait-ms", profile.getFetchMaxWaitMs()));
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords(topic, profile));
+
+        return new DefaultKafkaConsumerFactory<>(
+                config,
+                new StringDeserializer(),
+                new BinaryEventDeserializer(BinarySchema.registry(),
+                        new JsonDeserializer<>(topic.getEventType(), false))
+        );
+    }
+
+    /**
+     * Kafka Listener Container Factory 설정
+     * - concurrency: 토픽별 Consumer 스레드 수 (파티션 수 이하로 설정)
+     */
+    ConcurrentKafkaListenerContainerFactory<String, Object> listenerContainerFactory(
+            KafkaTopic topic,
+            ConsumerFactory<String, Object> consumerFactory
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setConcurrency(environment.getProperty(
+                topic.propertyPrefix() + "concurrency", Integer.class, KafkaTopic.DEFAULT_CONCURRENCY));
+        return factory;
+    }
+
+    /**
+     * 배치 리스너 Container Factory 설정
+     * - poll 단위로 처리 후 오프셋 커밋 (AckMode.BATCH)
+     * - 처리 실패 시 batchErrorHandler로 1회 재시도 후 DLT로 이동
+     */
+    ConcurrentKafkaListenerContainerFactory<String, Object> batchListenerContainerFactory(
+            KafkaTopic topic,
+            ConsumerFactory<String, Object> consumerFactory,
+            CommonErrorHandler errorHandler
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = listenerContainerFactory(topic, consumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(errorHandler);
+        return factory;
+    }
+
+    /**
+     * 배치 리스너 에러 핸들러
+     * - 리스너가 BatchListenerFailedException(실패 레코드 인덱스)을 던지면 앞의 레코드는 커밋하고
+     *   실패한 레코드부터 다시 poll하여 재처리 (그 외 예외는 배치 전체 재처리)
+     * - 제자리 재시도는 파티션을 막으므로 짧게 1회만 하고, 다시 실패한 레코드는 {topic}-dlt로 보내고 다음 레코드로 진행
+     *   (재시도 토픽의 Non-blocking Retry 대신 DeadLetterReplayService로 재주입)
+     */
+    CommonErrorHandler batchErrorHandler(KafkaTemplate<String, Object> kafkaTemplate) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, ex) -> new TopicPartition(record.topic() + KafkaConfig.DLT_SUFFIX, record.partition()));
+        return new DefaultErrorHandler(recoverer, new FixedBackOff(BATCH_RETRY_INTERVAL_MS, BATCH_RETRY_MAX_ATTEMPTS));
+    }
+
+    /**
+     * Kafka Producer Factory 설정
+     */
+    ProducerFactory<String, ?> producerFactory(KafkaTopic topic) {
+        KafkaTuningProfile profile = profile(topic);
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers());
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);  // 멱등 Producer 최대값
+        config.put(ProducerConfig.LINGER_MS_CONFIG,
+                profileValue(profile, "linger-ms", profile.getLingerMs()));
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG,
+                profileValue(profile, "batch-size", profile.getBatchSize()));
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, environment.getProperty(
+                profile.propertyPrefix() + "compression-type", profile.getCompressionType()));
+        // 버퍼 포화/메타데이터 대기로 send()가 호출 스레드를 막는 최대 시간 (기본 60초 -> 발행 게이트웨이 상한과 함께 짧게 제한)
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG,
+                environment.getProperty("kafka.producer.max-block-ms", Long.class, 1_000L));
+
+        return new DefaultKafkaProducerFactory<>(config, new StringSerializer(), valueSerializer());
+    }
+
+    /**
+     * 이벤트 Serializer (kafka.codec)
+     */
+    private Serializer<Object> valueSerializer() {
+        SerializationFormat format = environment.getProperty(
+                "kafka.codec", SerializationFormat.class, SerializationFormat.JSON);
+        return format == SerializationFormat.BINARY
+                ? new BinaryEventSerializer(BinarySchema.registry(), new JsonSerializer<>())
+                : new JsonSerializer<>();
+    }
+
+    /**
+     * Kafka Template 설정
+     */
+    KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    /**
+     * 토픽 파티션 수 (재시도/DLT 토픽도 동일하게 생성)
+     */
+    int partitions(KafkaTopic topic) {
+        return environment.getProperty(topic.propertyPrefix() + "partitions", Integer.class, KafkaTopic.DEFAULT_PARTITIONS);
+    }
+
+    private KafkaTuningProfile profile(KafkaTopic topic) {
+        return environment.getProperty(topic.propertyPrefix() + "profile", KafkaTuningProfile.class, topic.getDefaultProfile());
+    }
+
+    private int maxPollRecords(KafkaTopic topic, KafkaTuningProfile profile) {
+        Integer topicValue = environment.getProperty(topic.propertyPrefix() + "max-poll-records", Integer.class);
+        return topicValue != null ? topicValue : profileValue(profile, "max-poll-records", profile.getMaxPollRecords());
+    }
+
+    private int profileValue(KafkaTuningProfile profile, String name, int defaultValue) {
+        return environment.getProperty(profile.propertyPrefix() + name, Integer.class, defaultValue);
+    }
+
+    private String bootstrapServers() {
+        return environment.getRequiredProperty("spring.kafka.bootstrap-servers");
+    }
+}
@@ -0,0 +1,64 @@
+package com.sparta.ecommerce.config;
+
+/**
+ * Kafka 토픽 처리량 프로파일
+ *
+ * Producer 배치/압축과 Consumer fetch/poll 설정의 기본값 묶음입니다.
+ * 각 값은 kafka.profiles.{profile}.* 프로퍼티로 재정의할 수 있습니다. (예: kafka.profiles.throughput.linger-ms=50)
+ *
+ * - THROUGHPUT: 배치를 크게 모아 zstd로 압축 (대량 이벤트, 처리량 우선)
+ * - LATENCY: 짧게 모아 lz4로 압축 (소량 이벤트, 지연 시간 우선)
+ */
+public enum KafkaTuningProfile {
+
+    THROUGHPUT(20, 64 * 1024, "zstd", 16 * 1024, 100, 500),
+    LATENCY(1, 16 * 1024, "lz4", 1, 50, 100);
+
+    private final int lingerMs;          // Producer 배치 대기 시간
+    private final int batchSize;         // Producer 배치 크기 (bytes)
+    private final String compressionType; // Producer 압축 방식
+    private final int fetchMinBytes;     // Consumer 최소 fetch 크기 (bytes)
+    private final int fetchMaxWaitMs;    // Consumer fetch 최대 대기 시간
+    private final int maxPollRecords;    // Consumer poll 당 최대 레코드 수
+
+    KafkaTuningProfile(int lingerMs, int batchSize, String compressionType,
+                       int fetchMinBytes, int fetchMaxWaitMs, int maxPollRecords) {
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+        this.compressionType = compressionType;
+        this.fetchMinBytes = fetchMinBytes;
+        this.fetchMaxWaitMs = fetchMaxWaitMs;
+        this.maxPollRecords = maxPollRecords;
+    }
+
+    public int getLingerMs() {
+        return lingerMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public String getCompressionType() {
+        return compressionType;
+    }
+
+    public int getFetchMinBytes() {
+        return fetchMinBytes;
+    }
+
+    public int getFetchMaxWaitMs() {
+        return fetchMaxWaitMs;
+    }
+
+    public int getMaxPollRecords() {
+        return maxPollRecords;
+    }
+
+    /**
+     * 프로파일 프로퍼티 접두사 (예: kafka.profiles.throughput.)
+     */
+    public String propertyPrefix() {
+        return "kafka.profiles." + name().toLowerCase() + ".";
+    }
+}
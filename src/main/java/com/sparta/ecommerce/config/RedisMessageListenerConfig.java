@@ -0,0 +1,42 @@
+package com.sparta.ecommerce.config;
+
+import com.sparta.ecommerce.application.order.OrderStatusNotifier;
+import com.sparta.ecommerce.application.product.ProductSearchService;
+import com.sparta.ecommerce.application.product.ProductSnapshotCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis Pub/Sub 리스너 설정
+ */
+@Configuration
+public class RedisMessageListenerConfig {
+
+    /**
+     * 주문 상태 변경 채널 구독
+     * - 모든 노드가 구독하여 자신에게 연결된 SSE 클라이언트에게 상태 변경을 전달
+     *
+     * 상품 스냅샷 무효화 채널 구독
+     * - 모든 노드가 구독하여 로컬 상품 스냅샷 캐시에서 변경된 상품을 제거
+     *
+     * 상품 검색 색인 변경 채널 구독
+     * - 모든 노드가 구독하여 로컬 상품 검색 색인에 변경된 상품을 다시 반영
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            OrderStatusNotifier orderStatusNotifier,
+            ProductSnapshotCache productSnapshotCache,
+            ProductSearchService productSearchService
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(orderStatusNotifier, new ChannelTopic(OrderStatusNotifier.STATUS_CHANNEL));
+        container.addMessageListener(productSnapshotCache, new ChannelTopic(ProductSnapshotCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(productSearchService, new ChannelTopic(ProductSearchService.CHANGE_CHANNEL));
+        return container;
+    }
+}
@@ -16,13 +16,18 @@ public class RedissonConfig {
     @Value("${spring.data.redis.port}")
     private int redisPort;
 
+    // 시작 시 미리 생성하는 커넥션 수 (이후 부하에 따라 connectionPoolSize까지 증가)
+    @Value("${redisson.connection-minimum-idle-size:24}")
+    private int connectionMinimumIdleSize;
+
     private static final String REDISSON_HOST_PREFIX = "redis://";
 
     @Bean
     public RedissonClient redissonClient() {
         Config config = new Config();
         config.useSingleServer()
-                .setAddress(REDISSON_HOST_PREFIX + redisHost + ":" + redisPort);
+                .setAddress(REDISSON_HOST_PREFIX + redisHost + ":" + redisPort)
+                .setConnectionMinimumIdleSize(connectionMinimumIdleSize);
 
         return Redisson.create(config);
     }
@@ -0,0 +1,57 @@
+package com.sparta.ecommerce.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 시작 시간 최적화 설정
+ *
+ * app.startup.lazy-init.bean-prefixes에 지정한 패키지의 빈을 지연 초기화합니다. (예: org.springdoc.)
+ * 전역 지연 초기화(spring.main.lazy-initialization)는 @Scheduled/@PostConstruct/리스너 빈이 생성되지 않아
+ * 백그라운드 작업이 시작되지 않으므로, 요청 처리에 필요하지 않은 빈만 선택적으로 지연시킵니다.
+ *
+ * 지연 초기화된 빈도 다른 즉시 초기화 빈이 주입받으면 시작 시 생성됩니다.
+ */
+@Configuration
+public class StartupOptimizationConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyInitBeanFactoryPostProcessor(Environment environment) {
+        List<String> prefixes = Arrays.stream(
+                        environment.getProperty("app.startup.lazy-init.bean-prefixes", String[].class, new String[0]))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toList();
+
+        return beanFactory -> {
+            if (prefixes.isEmpty()) {
+                return;
+            }
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                String className = resolveClassName(beanFactory, definition);
+                if (className != null && prefixes.stream().anyMatch(className::startsWith)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    /**
+     * 빈 클래스 이름을 반환합니다. @Bean 메서드로 등록된 빈은 선언한 설정 클래스의 이름을 사용합니다.
+     */
+    private static String resolveClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBeanName = definition.getFactoryBeanName();
+        if (factoryBeanName != null && beanFactory.containsBeanDefinition(factoryBeanName)) {
+            return beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+        }
+        return definition.getBeanClassName();
+    }
+}
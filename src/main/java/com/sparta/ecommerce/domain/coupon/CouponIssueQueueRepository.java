@@ -0,0 +1,67 @@
+package com.sparta.ecommerce.domain.coupon;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 쿠폰 발급 요청 큐 (신뢰성 큐)
+ *
+ * 요청을 꺼낼 때 인스턴스별 처리 중 목록으로 원자적으로 옮기고, 처리 완료 후 제거(ack)합니다.
+ * 처리 도중 인스턴스가 종료되어도 요청은 처리 중 목록에 남고,
+ * 하트비트가 만료되면 살아 있는 인스턴스가 큐로 되돌립니다.
+ */
+public interface CouponIssueQueueRepository {
+
+    /**
+     * 요청이 도착할 때까지 최대 timeout 동안 대기한 뒤 하나를 처리 중 목록으로 옮깁니다. (BLMOVE)
+     *
+     * @return "userId:couponId" 형식의 요청 (timeout 시 empty)
+     */
+    Optional<String> awaitNext(Duration timeout);
+
+    /**
+     * 대기 없이 최대 maxCount개의 요청을 처리 중 목록으로 옮깁니다.
+     *
+     * @return 도착 순 요청 목록
+     */
+    List<String> moveBatch(int maxCount);
+
+    /**
+     * 처리 완료된 요청을 처리 중 목록에서 제거합니다. (재시도 횟수 기록도 제거)
+     */
+    void acknowledge(String entry);
+
+    /**
+     * 일시적인 오류로 처리하지 못한 요청을 처리 중 목록에서 큐 뒤쪽으로 되돌립니다.
+     * 되돌린 횟수가 maxAttempts에 도달한 요청은 되돌리지 않고 처리 중 목록에서 제거합니다.
+     *
+     * @return 요청이 큐에 남아 있으면 true (재시도 횟수를 모두 사용하여 제거했으면 false)
+     */
+    boolean requeue(String entry, int maxAttempts);
+
+    /**
+     * 이 인스턴스의 처리 중 요청을 모두 큐 앞쪽으로 되돌립니다.
+     * 요청을 옮긴 뒤 worker에 전달하지 못한 경우(수신 도중 오류)에 사용하며, 처리 중인 요청이 없을 때만 호출해야 합니다.
+     *
+     * @return 복구한 요청 수
+     */
+    long recoverOwn();
+
+    /**
+     * 이 인스턴스의 하트비트를 ttl 동안 유지합니다.
+     */
+    void heartbeat(Duration ttl);
+
+    /**
+     * 이 인스턴스의 하트비트를 제거합니다. (정상 종료 시 남은 요청을 다른 인스턴스가 바로 복구하도록)
+     */
+    void clearHeartbeat();
+
+    /**
+     * 하트비트가 만료된 인스턴스(비정상 종료, 재시작 전 실행 등)의 처리 중 요청을 큐 앞쪽으로 되돌립니다.
+     *
+     * @return 복구한 요청 수
+     */
+    long recoverOrphaned();
+}
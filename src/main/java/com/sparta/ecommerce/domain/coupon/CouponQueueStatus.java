@@ -0,0 +1,15 @@
+package com.sparta.ecommerce.domain.coupon;
+
+/**
+ * 쿠폰 대기열 상태
+ */
+public enum CouponQueueStatus {
+    /** 대기 중 (순번 조회 가능) */
+    WAITING,
+    /** 입장 완료 - 발급 파이프라인(coupon:issue:queue)으로 전달됨 */
+    ADMITTED,
+    /** 재고 소진으로 대기열 종료 */
+    SOLD_OUT,
+    /** 대기열에 없음 */
+    NOT_IN_QUEUE
+}
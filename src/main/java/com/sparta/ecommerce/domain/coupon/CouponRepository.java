@@ -2,6 +2,8 @@ package com.sparta.ecommerce.domain.coupon;
 
 import com.sparta.ecommerce.domain.coupon.entity.Coupon;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface CouponRepository {
@@ -10,4 +12,12 @@ public interface CouponRepository {
     Coupon save(Coupon coupon);
 
     Optional<Coupon> findByIdWithPessimisticLock(Long couponId);
+
+    /**
+     * 만료일이 기준 시각 이전이고 사용자 쿠폰이 남아 있는 쿠폰 ID를 오름차순으로 조회합니다.
+     *
+     * @param expiredBefore 만료일 기준 시각
+     * @param limit 최대 조회 건수
+     */
+    List<Long> findExpiredCouponIdsWithUserCoupons(LocalDateTime expiredBefore, int limit);
 }
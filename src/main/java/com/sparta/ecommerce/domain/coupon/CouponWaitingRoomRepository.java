@@ -0,0 +1,68 @@
+package com.sparta.ecommerce.domain.coupon;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 쿠폰 발급 대기열 저장소
+ *
+ * 쿠폰별로 도착 시각 순 대기열을 관리하고, 남은 재고만큼만 발급 파이프라인으로 입장시킵니다.
+ */
+public interface CouponWaitingRoomRepository {
+
+    /**
+     * 대기열을 열 때 재고를 남은 수량으로 설정합니다.
+     * 이전 실행에서 남은 재고 값은 덮어쓰고, 이미 열려 있거나 재고 소진으로 종료된 대기열의 재고는 유지합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param remainingQuantity 남은 발급 가능 수량
+     */
+    void initializeStock(Long couponId, int remainingQuantity);
+
+    /**
+     * 대기열에 입장합니다. (이미 대기 중이면 기존 순번 유지)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @param arrivedAtMillis 도착 시각 (대기열 정렬 기준)
+     * @return 0부터 시작하는 대기 순번
+     * @throws com.sparta.ecommerce.domain.coupon.exception.CouponException 대기열이 종료되었거나 이미 입장 완료된 경우
+     */
+    long enter(Long couponId, Long userId, long arrivedAtMillis);
+
+    /**
+     * @return 0부터 시작하는 대기 순번 (대기 중이 아니면 empty)
+     */
+    Optional<Long> findRank(Long couponId, Long userId);
+
+    boolean isAdmitted(Long couponId, Long userId);
+
+    boolean isClosed(Long couponId);
+
+    /**
+     * 대기열 앞에서부터 최대 maxCount명을 남은 재고 범위 내에서 발급 파이프라인으로 입장시킵니다.
+     * 재고가 0이 되면 대기열을 종료합니다.
+     *
+     * @return 입장한 사용자 ID 목록 (대기 순)
+     */
+    List<Long> admit(Long couponId, int maxCount);
+
+    /**
+     * 입장 후 발급에 실패한 사용자의 재고를 되돌립니다. (입장 완료 목록에서 제거, 종료된 대기열은 다시 엶)
+     * 입장 완료 목록에 없는 사용자(대기열을 거치지 않은 요청, 이미 반환한 경우)는 무시합니다.
+     *
+     * @return 재고를 되돌렸으면 true
+     */
+    boolean releaseSlot(Long couponId, Long userId);
+
+    /**
+     * @return 대기열이 열려 있는 쿠폰 ID 목록
+     */
+    Set<Long> findOpenCouponIds();
+
+    /**
+     * 쿠폰의 대기열 상태(대기열/재고/입장 완료/종료 표시)를 모두 삭제하고 열린 대기열 목록에서 제거합니다.
+     */
+    void remove(Long couponId);
+}
@@ -1,5 +1,7 @@
 package com.sparta.ecommerce.domain.coupon;
 
+import com.sparta.ecommerce.common.pagination.KeysetCursor;
+import com.sparta.ecommerce.domain.coupon.dto.UserCouponWalletResponse;
 import com.sparta.ecommerce.domain.coupon.entity.UserCoupon;
 
 import java.util.List;
@@ -14,4 +16,22 @@ public interface UserCouponRepository {
     UserCoupon save(UserCoupon userCoupon);
 
     List<UserCoupon> findAll();
+
+    /**
+     * 사용자 쿠폰함을 (발급일시, 사용자 쿠폰 ID) 내림차순으로 조회합니다. (쿠폰 정보 포함)
+     *
+     * @param userId 사용자 ID
+     * @param after 이전 페이지 마지막 쿠폰 위치 (첫 페이지면 null)
+     * @param limit 최대 조회 건수
+     */
+    List<UserCouponWalletResponse> findWalletByUserId(Long userId, KeysetCursor after, int limit);
+
+    /**
+     * 쿠폰의 사용자 쿠폰을 최대 limit건까지 보관 테이블로 옮깁니다. (트랜잭션 내에서 호출)
+     *
+     * @param couponId 쿠폰 ID
+     * @param limit 최대 처리 건수
+     * @return 옮긴 사용자 쿠폰 수 (limit보다 작으면 남은 사용자 쿠폰 없음)
+     */
+    int archiveByCouponId(Long couponId, int limit);
 }
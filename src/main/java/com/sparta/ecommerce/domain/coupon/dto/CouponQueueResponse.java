@@ -0,0 +1,10 @@
+package com.sparta.ecommerce.domain.coupon.dto;
+
+import com.sparta.ecommerce.domain.coupon.CouponQueueStatus;
+
+public record CouponQueueResponse(
+        Long              couponId, // 쿠폰_ID
+        Long              userId,   // 사용자_ID
+        CouponQueueStatus status,   // 대기열_상태
+        Long              position  // 대기_순번 (1부터 시작, 대기 중이 아니면 null)
+) {}
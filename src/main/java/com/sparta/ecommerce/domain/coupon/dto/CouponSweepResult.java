@@ -0,0 +1,16 @@
+package com.sparta.ecommerce.domain.coupon.dto;
+
+/**
+ * 만료 쿠폰 정리 결과
+ *
+ * @param sweptCoupons 사용자 쿠폰을 모두 보관한 쿠폰 수
+ * @param archivedUserCoupons 보관한 사용자 쿠폰 수
+ * @param closedWaitingRooms 정리한 대기열 수
+ * @param completed 정리 대상이 남지 않았으면 true (실행당 최대 건수에 도달했으면 false)
+ */
+public record CouponSweepResult(
+        int sweptCoupons,
+        long archivedUserCoupons,
+        int closedWaitingRooms,
+        boolean completed
+) {}
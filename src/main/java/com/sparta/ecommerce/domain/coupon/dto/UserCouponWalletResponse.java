@@ -0,0 +1,18 @@
+package com.sparta.ecommerce.domain.coupon.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 쿠폰함 항목 (사용자 쿠폰 + 쿠폰 정보)
+ */
+public record UserCouponWalletResponse(
+        Long          userCouponId,  // 사용자_쿠폰_ID
+        Long          couponId,      // 쿠폰_ID
+        String        couponName,    // 쿠폰_명
+        String        discountType,  // 할인타입(비율/금액)
+        Integer       discountValue, // 금액이면 금액, 비율이면 %
+        Boolean       used,          // 사용_여부
+        LocalDateTime issuedAt,      // 발급일
+        LocalDateTime usedAt,        // 사용일
+        LocalDateTime expiresAt      // 만료일
+) {}
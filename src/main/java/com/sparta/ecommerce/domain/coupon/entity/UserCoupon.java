@@ -8,6 +8,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(uniqueConstraints = {
     @UniqueConstraint(columnNames = {"userId", "couponId"})
+}, indexes = {
+    @Index(name = "idx_user_coupon_user_issued", columnList = "userId, issuedAt, userCouponId")
 })
 @Getter
 @Setter
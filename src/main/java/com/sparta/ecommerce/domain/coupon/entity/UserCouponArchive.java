@@ -0,0 +1,35 @@
+package com.sparta.ecommerce.domain.coupon.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 쿠폰의 사용자 쿠폰 보관
+ *
+ * 만료 후 보관 기간이 지난 쿠폰의 사용자 쿠폰은 user_coupon에서 이 테이블로 옮겨집니다. (CouponExpirySweepService)
+ * 사용자 쿠폰 ID는 원본과 같은 값을 사용합니다.
+ */
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_user_coupon_archive_user_id", columnList = "userId")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCouponArchive {
+    @Id
+    private Long          userCouponId; // 사용자_쿠폰_ID (원본과 동일)
+    private Long          userId;       // 사용자_ID
+    private Long          couponId;     // 쿠폰_ID
+    private boolean       used;         // 사용_여부
+    private LocalDateTime issuedAt;     // 발급일
+    private LocalDateTime usedAt;       // 사용일
+    private LocalDateTime archivedAt;   // 보관일
+}
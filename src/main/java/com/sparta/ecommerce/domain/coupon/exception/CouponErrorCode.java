@@ -10,7 +10,8 @@ public enum CouponErrorCode {
     COUPON_ALREADY_USED(HttpStatus.CONFLICT, "이미 사용된 쿠폰입니다."),
     COUPON_EXPIRED(HttpStatus.BAD_REQUEST, "만료된 쿠폰입니다."),
     COUPON_NOT_OWNED(HttpStatus.FORBIDDEN, "본인의 쿠폰이 아닙니다."),
-    COUPON_LOCK_TIMEOUT(HttpStatus.CONFLICT, "현재 많은 사용자가 쿠폰을 발급받고 있습니다. 잠시 후 다시 시도해주세요.");
+    COUPON_LOCK_TIMEOUT(HttpStatus.CONFLICT, "현재 많은 사용자가 쿠폰을 발급받고 있습니다. 잠시 후 다시 시도해주세요."),
+    COUPON_QUEUE_ALREADY_ADMITTED(HttpStatus.CONFLICT, "이미 대기열을 통과하여 발급 처리 중입니다.");
 
     private final HttpStatus status;
     private final String message;
@@ -1,8 +1,10 @@
 package com.sparta.ecommerce.domain.order;
 
 import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
+import com.sparta.ecommerce.domain.order.dto.OrderItemResponse;
 import com.sparta.ecommerce.domain.order.entity.OrderItem;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -20,5 +22,19 @@ public interface OrderItemRepository {
      */
     List<ProductResponse> findTopProductsBySoldCount(int limit);
 
+    /**
+     * 주문의 주문 상품 목록 조회
+     * @param orderId 주문 ID
+     * @return 주문 상품 목록
+     */
+    List<OrderItem> findAllByOrderId(Long orderId);
+
+    /**
+     * 여러 주문의 주문 상품 목록을 한 번에 조회 (IN 쿼리 1회)
+     * @param orderIds 주문 ID 목록
+     * @return 주문 상품 목록 (주문 ID 포함)
+     */
+    List<OrderItemResponse> findItemResponsesByOrderIds(Collection<Long> orderIds);
+
     void saveAll(List<OrderItem> orderItems);
 }
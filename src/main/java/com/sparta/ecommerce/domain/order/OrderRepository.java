@@ -1,7 +1,10 @@
 package com.sparta.ecommerce.domain.order;
 
+import com.sparta.ecommerce.common.pagination.KeysetCursor;
+import com.sparta.ecommerce.domain.order.dto.OrderHistoryResponse;
 import com.sparta.ecommerce.domain.order.entity.Order;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +14,22 @@ public interface OrderRepository {
     Optional<Order> findById(Long orderId);
 
     List<Order> findAll();
+
+    /**
+     * 특정 상태로 생성 시각 이전에 만들어진 주문을 주문 ID 순으로 조회합니다.
+     *
+     * @param status 주문 상태
+     * @param createdBefore 생성 시각 기준 (이전에 생성된 주문만)
+     * @param limit 최대 조회 건수
+     */
+    List<Order> findByStatusCreatedBefore(String status, LocalDateTime createdBefore, int limit);
+
+    /**
+     * 사용자 주문 내역을 (주문일시, 주문 ID) 내림차순으로 조회합니다. (주문 상품 제외)
+     *
+     * @param userId 사용자 ID
+     * @param after 이전 페이지 마지막 주문 위치 (첫 페이지면 null)
+     * @param limit 최대 조회 건수
+     */
+    List<OrderHistoryResponse> findHistoryByUserId(Long userId, KeysetCursor after, int limit);
 }
@@ -0,0 +1,35 @@
+package com.sparta.ecommerce.domain.order;
+
+/**
+ * 주문 사가 처리 단계
+ *
+ * 주문 생성 이벤트 처리 시 단계별 완료 여부를 기록하여,
+ * 같은 이벤트가 재전달되어도 이미 완료된 단계를 다시 실행하지 않도록 합니다.
+ *
+ * 보상 단계도 같은 방식으로 기록합니다.
+ * - COMPENSATION: 주문 실패 처리(FAILED)가 커밋됨 → 재전달 시 사가를 진행하지 않고 복구 이벤트만 다시 발행
+ * - *_RESTORE: 복구 Consumer가 복구를 반영함 → 같은 복구 이벤트가 다시 발행되어도 한 번만 반영
+ */
+public enum OrderSagaStep {
+    STOCK(false),          // 재고 차감
+    POINT(false),          // 포인트 차감
+    COUPON(false),         // 쿠폰 사용
+    RANKING(false),        // 상품 랭킹 업데이트
+    COMPENSATION(true),    // 보상 시작 (주문 FAILED 처리)
+    STOCK_RESTORE(true),   // 재고 복구
+    POINT_RESTORE(true),   // 포인트 복구
+    COUPON_RESTORE(true);  // 쿠폰 복구
+
+    private final boolean compensation;
+
+    OrderSagaStep(boolean compensation) {
+        this.compensation = compensation;
+    }
+
+    /**
+     * 보상 단계 여부
+     */
+    public boolean isCompensation() {
+        return compensation;
+    }
+}
@@ -0,0 +1,37 @@
+package com.sparta.ecommerce.domain.order;
+
+import java.util.Optional;
+
+/**
+ * 주문 상태 캐시 저장소
+ *
+ * 클라이언트의 주문 상태 조회(폴링)가 DB까지 내려가지 않도록 주문 상태를 캐시합니다.
+ */
+public interface OrderStatusRepository {
+
+    /**
+     * 주문 상태를 저장합니다. (기존 상태를 덮어씀)
+     *
+     * @param orderId 주문 ID
+     * @param status 주문 상태
+     */
+    void save(Long orderId, String status);
+
+    /**
+     * 저장된 상태가 없을 때만 주문 상태를 저장합니다.
+     *
+     * 사가가 먼저 끝나 최종 상태가 저장된 경우, 뒤늦게 도착한 PENDING이 이를 덮어쓰지 않도록 합니다.
+     *
+     * @param orderId 주문 ID
+     * @param status 주문 상태
+     */
+    void saveIfAbsent(Long orderId, String status);
+
+    /**
+     * 주문 상태를 조회합니다.
+     *
+     * @param orderId 주문 ID
+     * @return 캐시된 주문 상태 (없으면 empty)
+     */
+    Optional<String> findByOrderId(Long orderId);
+}
@@ -0,0 +1,40 @@
+package com.sparta.ecommerce.domain.order;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 사가 단계 처리 이력 저장소 (Idempotent Consumer)
+ *
+ * (주문 ID, 단계)별 처리 완료 여부를 기록합니다.
+ * 단계의 실제 작업과 같은 트랜잭션에서 기록되므로, 커밋된 단계만 완료로 간주됩니다.
+ */
+public interface ProcessedOrderStepRepository {
+
+    /**
+     * 여러 주문의 처리 완료 단계를 한 번에 조회합니다.
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 주문 ID별 처리 완료 단계 (처리 이력이 없는 주문은 포함되지 않음)
+     */
+    Map<Long, Set<OrderSagaStep>> findProcessedSteps(Collection<Long> orderIds);
+
+    /**
+     * 단계 처리 완료를 기록합니다.
+     *
+     * @param orderId 주문 ID
+     * @param step 처리 단계
+     * @throws com.sparta.ecommerce.domain.order.exception.OrderException 이미 기록된 단계인 경우
+     */
+    void markProcessed(Long orderId, OrderSagaStep step);
+
+    /**
+     * 주문 ID가 없는 이전 버전 복구 이벤트의 처리 완료를 이벤트 내용 키로 기록합니다.
+     *
+     * @param eventKey 이벤트 내용 키 (SHA-256 hex)
+     * @param step 보상 단계
+     * @throws com.sparta.ecommerce.domain.order.exception.OrderException 이미 기록된 이벤트인 경우
+     */
+    void markLegacyProcessed(String eventKey, OrderSagaStep step);
+}
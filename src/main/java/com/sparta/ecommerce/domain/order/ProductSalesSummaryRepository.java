@@ -0,0 +1,46 @@
+package com.sparta.ecommerce.domain.order;
+
+import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ProductSalesSummaryRepository {
+
+    /**
+     * 상품별 판매량을 증가시킵니다. (집계 행이 없으면 생성)
+     * @param soldCounts 상품 ID를 키로, 증가시킬 판매량을 값으로 하는 Map
+     */
+    void increase(Map<Long, Integer> soldCounts);
+
+    /**
+     * 집계 테이블 기준 상품별 판매량 조회
+     * @return 상품 ID를 키로, 판매량을 값으로 하는 Map
+     */
+    Map<Long, Long> findSoldCounts();
+
+    /**
+     * 집계 테이블 기준 판매량 인기 상품 조회
+     * @param limit 조회할 상품 개수
+     * @return 판매량 기준 인기 상품 목록
+     */
+    List<ProductResponse> findTopProducts(int limit);
+
+    /**
+     * 주문 상품 테이블 전체를 집계한 상품별 판매량 조회 (정합성 검증용, 주문 이력 크기에 비례하는 비용)
+     * @return 상품 ID를 키로, 판매량을 값으로 하는 Map
+     */
+    Map<Long, Long> aggregateSoldCountsFromOrders();
+
+    /**
+     * 주문 상품 테이블로부터 전체 상품의 집계 행을 다시 계산합니다. (백필)
+     * @return 갱신된 집계 행 수
+     */
+    int rebuildAll();
+
+    /**
+     * 주문 상품 테이블로부터 특정 상품의 집계 행을 다시 계산합니다.
+     * @param productId 상품 ID
+     */
+    void rebuild(Long productId);
+}
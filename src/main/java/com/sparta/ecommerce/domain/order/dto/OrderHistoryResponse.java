@@ -0,0 +1,32 @@
+package com.sparta.ecommerce.domain.order.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 주문 내역 항목
+ *
+ * 주문 행은 JPQL 생성자 표현식으로 바로 조회하며(엔티티 미생성), 주문 상품은 페이지 단위로 한 번에 조회하여 채웁니다.
+ */
+public record OrderHistoryResponse(
+        Long                    orderId,        // 주문_ID
+        String                  status,         // 주문_상태
+        Integer                 totalAmount,    // 총_주문_금액
+        Integer                 discountAmount, // 할인_금액
+        Integer                 usedPoint,      // 사용_포인트
+        Long                    userCouponId,   // 사용자_쿠폰_ID
+        LocalDateTime           createdAt,      // 주문일시
+        List<OrderItemResponse> items           // 주문_상품
+) {
+    /**
+     * 주문 행 조회용 (주문 상품 제외)
+     */
+    public OrderHistoryResponse(Long orderId, String status, Integer totalAmount, Integer discountAmount,
+                                Integer usedPoint, Long userCouponId, LocalDateTime createdAt) {
+        this(orderId, status, totalAmount, discountAmount, usedPoint, userCouponId, createdAt, List.of());
+    }
+
+    public OrderHistoryResponse withItems(List<OrderItemResponse> orderItems) {
+        return new OrderHistoryResponse(orderId, status, totalAmount, discountAmount, usedPoint, userCouponId, createdAt, orderItems);
+    }
+}
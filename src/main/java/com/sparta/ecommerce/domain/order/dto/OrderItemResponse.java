@@ -0,0 +1,9 @@
+package com.sparta.ecommerce.domain.order.dto;
+
+public record OrderItemResponse(
+        Long    orderId,     // 주문_ID
+        Long    productId,   // 상품_ID
+        String  productName, // 상품명
+        Integer quantity,    // 수량
+        Integer price        // 단가
+) {}
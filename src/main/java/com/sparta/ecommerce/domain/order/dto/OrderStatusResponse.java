@@ -0,0 +1,6 @@
+package com.sparta.ecommerce.domain.order.dto;
+
+public record OrderStatusResponse(
+        Long   orderId, // 주문_ID
+        String status   // 주문_상태 (PENDING, COMPLETED, FAILED)
+) {}
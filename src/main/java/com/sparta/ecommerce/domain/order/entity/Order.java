@@ -9,7 +9,10 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_order_user_created", columnList = "userId, createdAt, orderId"),
+    @Index(name = "idx_order_status", columnList = "status")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,34 @@
+package com.sparta.ecommerce.domain.order.entity;
+
+import com.sparta.ecommerce.domain.order.OrderSagaStep;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 ID가 없는 이전 버전 복구 이벤트의 처리 이력
+ *
+ * 주문 ID 대신 이벤트 내용으로 만든 키(SHA-256)로 중복 복구를 차단합니다.
+ */
+@Entity
+@Table(uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"eventKey", "step"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessedLegacyRestore {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long          processedLegacyRestoreId; // 처리_이력_ID
+    @Column(length = 64)
+    private String        eventKey;                 // 이벤트_내용_키 (SHA-256 hex)
+    @Enumerated(EnumType.STRING)
+    private OrderSagaStep step;                     // 보상_단계 (*_RESTORE)
+    private LocalDateTime processedAt;              // 처리일시
+}
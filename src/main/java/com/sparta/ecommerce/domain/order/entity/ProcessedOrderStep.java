@@ -0,0 +1,28 @@
+package com.sparta.ecommerce.domain.order.entity;
+
+import com.sparta.ecommerce.domain.order.OrderSagaStep;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"orderId", "step"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessedOrderStep {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long          processedOrderStepId; // 처리_단계_ID
+    private Long          orderId;              // 주문_ID
+    @Enumerated(EnumType.STRING)
+    private OrderSagaStep step;                 // 처리_단계 (STOCK, POINT, COUPON, RANKING, 보상 단계)
+    private LocalDateTime processedAt;          // 처리일시
+}
@@ -0,0 +1,31 @@
+package com.sparta.ecommerce.domain.order.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 판매량 집계
+ *
+ * 완료(COMPLETED)된 주문의 상품 판매량 합계를 상품당 한 행으로 유지합니다.
+ * 주문 완료와 같은 트랜잭션에서 증가하므로, 판매량 조회가 주문 이력 크기와 무관하게 상품 수에 비례합니다.
+ */
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_product_sales_summary_sold_count", columnList = "soldCount")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSalesSummary {
+    @Id
+    private Long          productId; // 상품_ID
+    private Long          soldCount; // 판매량 (완료된 주문 기준)
+    private LocalDateTime updatedAt; // 수정일
+}
@@ -3,7 +3,8 @@ package com.sparta.ecommerce.domain.order.exception;
 import org.springframework.http.HttpStatus;
 
 public enum OrderErrorCode {
-    ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다.");
+    ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다."),
+    ORDER_STEP_ALREADY_PROCESSED(HttpStatus.CONFLICT, "이미 처리된 주문 처리 단계입니다.");
 
     private final HttpStatus status;
     private final String message;
@@ -1,8 +1,11 @@
 package com.sparta.ecommerce.domain.product;
 
+import com.sparta.ecommerce.domain.product.dto.ProductSnapshot;
 import com.sparta.ecommerce.domain.product.entity.Product;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ProductRepository {
     List<Product> findAll();
@@ -10,5 +13,22 @@ public interface ProductRepository {
     List<Product> findAllByIdWithLock(Iterable<Long> productIds);
     List<Product> findTopProductsByViewCount(int limit);
 
+    /**
+     * 상품 스냅샷 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     */
+    List<ProductSnapshot> findSnapshotsByIds(Collection<Long> productIds);
+
+    /**
+     * 상품별 재고 수량 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     * @return 상품 ID를 키로, 재고 수량을 값으로 하는 Map
+     */
+    Map<Long, Integer> findStockByIds(Collection<Long> productIds);
+
+    /**
+     * 전체 상품의 조회수 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     * @return 상품 ID를 키로, 조회수를 값으로 하는 Map
+     */
+    Map<Long, Integer> findViewCounts();
+
     Product save(Product product);
 }
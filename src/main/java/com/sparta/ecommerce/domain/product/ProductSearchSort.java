@@ -0,0 +1,22 @@
+package com.sparta.ecommerce.domain.product;
+
+/**
+ * 상품 검색 정렬 기준
+ */
+public enum ProductSearchSort {
+    RELEVANCE("정확도"),   // 상품명 일치 우선, 같으면 판매량 순
+    PRICE_ASC("낮은 가격"),
+    PRICE_DESC("높은 가격"),
+    VIEW_COUNT("조회수"),
+    SOLD_COUNT("판매량");
+
+    private final String description;
+
+    ProductSearchSort(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,50 @@
+package com.sparta.ecommerce.domain.product;
+
+import com.sparta.ecommerce.domain.product.entity.ProductStockBucket;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductStockBucketRepository {
+    /**
+     * 재고가 샤딩된 상품의 버킷 수 조회
+     *
+     * @return 상품 ID -> 버킷 수 (샤딩되지 않은 상품은 포함되지 않음)
+     */
+    Map<Long, Integer> findBucketCounts(Collection<Long> productIds);
+
+    List<Long> findAllShardedProductIds();
+
+    /**
+     * 재고가 샤딩된 상품의 버킷 재고 합계 조회
+     *
+     * @return 상품 ID -> 버킷 재고 합계 (샤딩되지 않은 상품은 포함되지 않음)
+     */
+    Map<Long, Integer> findStockTotals(Collection<Long> productIds);
+
+    /**
+     * 버킷별 재고 수량 조회 (재고가 많은 버킷 순)
+     *
+     * @return 버킷 번호 -> 재고 수량
+     */
+    Map<Integer, Integer> findBucketQuantities(Long productId);
+
+    List<ProductStockBucket> findAllByProductIdWithLock(Long productId);
+
+    /**
+     * 버킷 재고가 충분한 경우에만 차감합니다.
+     *
+     * @return 차감 성공 여부
+     */
+    boolean decrease(Long productId, int bucketNo, int quantity);
+
+    /**
+     * @return 복구 성공 여부 (버킷이 없으면 false)
+     */
+    boolean increase(Long productId, int bucketNo, int quantity);
+
+    List<ProductStockBucket> saveAll(List<ProductStockBucket> buckets);
+
+    void deleteAllByProductId(Long productId);
+}
@@ -0,0 +1,40 @@
+package com.sparta.ecommerce.domain.product;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 재고 임시 점유(Soft Hold) 저장소
+ *
+ * PENDING 주문이 사가에서 실제 재고를 차감하기 전까지, 주문 수량을 일정 시간 동안 점유하여
+ * 다른 주문의 가용 재고(재고 - 점유 수량)에서 제외합니다.
+ * 점유는 만료 시각이 지나면 가용 재고 계산에서 제외되며, 만료 점유 정리(releaseExpired)로 삭제됩니다.
+ */
+public interface StockHoldRepository {
+
+    /**
+     * 주문의 상품별 수량을 점유합니다. 하나라도 가용 재고가 부족하면 아무것도 점유하지 않습니다.
+     *
+     * @param orderId 주문 ID
+     * @param quantities 상품 ID -> 점유 수량
+     * @param stocks 상품 ID -> 현재 재고 (점유 수량을 빼기 전)
+     * @param ttlMillis 점유 유지 시간
+     * @throws com.sparta.ecommerce.domain.product.exception.ProductException 가용 재고가 부족한 경우
+     */
+    void hold(Long orderId, Map<Long, Integer> quantities, Map<Long, Integer> stocks, long ttlMillis);
+
+    /**
+     * 주문의 점유를 해제합니다. (점유가 없으면 무시)
+     *
+     * @param orderId 주문 ID
+     * @param productIds 점유한 상품 ID 목록
+     */
+    void release(Long orderId, Collection<Long> productIds);
+
+    /**
+     * 만료된 점유를 모두 삭제합니다.
+     *
+     * @return 삭제된 점유 수
+     */
+    int releaseExpired();
+}
@@ -0,0 +1,10 @@
+package com.sparta.ecommerce.domain.product.dto;
+
+public record ProductSearchResponse(
+        Long    productId,   // 상품_ID
+        String  productName, // 상품_명
+        String  description, // 상품_설명
+        Integer price,       // 가격
+        Integer viewCount,   // 조회수
+        Long    soldCount    // 판매량
+) {}
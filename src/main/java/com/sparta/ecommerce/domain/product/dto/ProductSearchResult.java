@@ -0,0 +1,14 @@
+package com.sparta.ecommerce.domain.product.dto;
+
+import java.util.List;
+
+/**
+ * 상품 검색 결과
+ *
+ * @param totalCount 조건에 맞는 전체 상품 수
+ * @param items 요청한 페이지의 상품
+ */
+public record ProductSearchResult(
+        int totalCount,
+        List<ProductSearchResponse> items
+) {}
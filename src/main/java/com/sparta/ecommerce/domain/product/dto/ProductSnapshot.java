@@ -0,0 +1,17 @@
+package com.sparta.ecommerce.domain.product.dto;
+
+import com.sparta.ecommerce.domain.product.entity.Product;
+
+/**
+ * 주문 검증/주문 상품 생성에 필요한 상품 정보 스냅샷 (재고 제외, 불변)
+ */
+public record ProductSnapshot(
+        Long productId,         // 상품_ID
+        String productName,     // 상품명
+        String description,     // 상품_설명
+        Integer price           // 가격
+) {
+    public static ProductSnapshot from(Product product) {
+        return new ProductSnapshot(product.getProductId(), product.getProductName(), product.getDescription(), product.getPrice());
+    }
+}
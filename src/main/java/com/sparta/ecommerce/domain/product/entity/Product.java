@@ -1,12 +1,17 @@
 package com.sparta.ecommerce.domain.product.entity;
 
 import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
+import com.sparta.ecommerce.domain.product.dto.ProductSnapshot;
 import com.sparta.ecommerce.domain.product.exception.ProductException;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import lombok.AllArgsConstructor;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -15,9 +20,11 @@ import java.time.LocalDateTime;
 import static com.sparta.ecommerce.domain.product.exception.ProductErrorCode.INSUFFICIENT_STOCK;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_product_view_count", columnList = "viewCount")
+})
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
 public class Product {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -30,6 +37,37 @@ public class Product {
     private LocalDateTime createdAt;   // 등록일
     private LocalDateTime updateAt;    // 수정일
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private ProductSnapshot loadedSnapshot; // 조회 시점의 스냅샷 필드 (조회하지 않은 엔티티는 null)
+
+    public Product(Long productId, String productName, String description, Integer quantity, Integer price,
+                   Integer viewCount, LocalDateTime createdAt, LocalDateTime updateAt) {
+        this.productId = productId;
+        this.productName = productName;
+        this.description = description;
+        this.quantity = quantity;
+        this.price = price;
+        this.viewCount = viewCount;
+        this.createdAt = createdAt;
+        this.updateAt = updateAt;
+    }
+
+    @PostLoad
+    void captureLoadedSnapshot() {
+        this.loadedSnapshot = ProductSnapshot.from(this);
+    }
+
+    /**
+     * 조회 이후 스냅샷 필드(상품명/설명/가격)가 변경되었는지 확인합니다.
+     * 조회 시점을 알 수 없는 엔티티(직접 생성한 엔티티 등)는 변경된 것으로 간주합니다.
+     *
+     * @return 스냅샷 필드 변경 여부 (재고만 변경된 경우 false)
+     */
+    public boolean isSnapshotChanged() {
+        return loadedSnapshot == null || !loadedSnapshot.equals(ProductSnapshot.from(this));
+    }
+
     /**
      * 재고 가용성 검증
      *
@@ -62,6 +100,15 @@ public class Product {
         this.quantity += restoreQuantity;
     }
 
+    /**
+     * 샤딩된 재고 버킷의 합계로 재고 수량을 동기화합니다. (집계 값)
+     *
+     * @param aggregatedQuantity 버킷 재고 합계
+     */
+    public void syncStock(int aggregatedQuantity) {
+        this.quantity = aggregatedQuantity;
+    }
+
     public ProductResponse from() {
         return new ProductResponse(this.productId, this.productName, this.description, this.quantity, this.price, this.viewCount, this.createdAt, this.updateAt);
     }
@@ -0,0 +1,43 @@
+package com.sparta.ecommerce.domain.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 샤딩된 상품 재고 버킷
+ *
+ * 주문이 몰리는 상품의 재고를 N개의 버킷으로 나누어, 예약이 하나의 상품 행에 집중되지 않도록 합니다.
+ * 버킷이 존재하는 상품의 Product.quantity는 버킷 재고 합계의 집계 값입니다.
+ */
+@Entity
+@Table(uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"productId", "bucketNo"})
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockBucket {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long          productStockBucketId; // 재고_버킷_ID
+    private Long          productId;            // 상품_ID
+    private Integer       bucketNo;             // 버킷_번호 (0 ~ N-1)
+    private Integer       quantity;             // 버킷_재고_수량
+    private LocalDateTime updatedAt;            // 수정일
+
+    /**
+     * 재분배된 재고 수량을 할당합니다.
+     *
+     * @param quantity 할당할 재고 수량
+     */
+    public void assign(int quantity) {
+        if (this.quantity != quantity) {
+            this.quantity = quantity;
+            this.updatedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -4,7 +4,12 @@ import org.springframework.http.HttpStatus;
 
 public enum ProductErrorCode {
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "상품을 찾을 수 없습니다."),
-    INSUFFICIENT_STOCK(HttpStatus.CONFLICT, "재고가 부족합니다.");
+    INSUFFICIENT_STOCK(HttpStatus.CONFLICT, "재고가 부족합니다."),
+    STOCK_ALREADY_SHARDED(HttpStatus.CONFLICT, "이미 재고가 샤딩된 상품입니다."),
+    STOCK_NOT_SHARDED(HttpStatus.BAD_REQUEST, "재고가 샤딩되지 않은 상품입니다."),
+    INVALID_STOCK_BUCKET_COUNT(HttpStatus.BAD_REQUEST, "재고 버킷 수가 올바르지 않습니다."),
+    SEARCH_INDEX_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "상품 검색을 준비 중입니다. 잠시 후 다시 시도해주세요."),
+    INVALID_PRICE_RANGE(HttpStatus.BAD_REQUEST, "가격 범위가 올바르지 않습니다.");
 
     private final HttpStatus status;
     private final String message;
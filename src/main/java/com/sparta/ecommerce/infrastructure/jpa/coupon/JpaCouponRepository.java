@@ -5,11 +5,22 @@ import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaCouponRepository extends JpaRepository<Coupon, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select c from Coupon c where c.couponId = :id")
     Optional<Coupon> findByIdWithPessimisticLock(Long id);
+
+    // idx_coupon_expires_at 범위 스캔 + 쿠폰별 idx_user_coupon_coupon_id 존재 확인
+    @Query("SELECT c.couponId FROM Coupon c " +
+            "WHERE c.expiresAt < :expiredBefore " +
+            "AND EXISTS (SELECT 1 FROM UserCoupon uc WHERE uc.couponId = c.couponId) " +
+            "ORDER BY c.couponId LIMIT :limit")
+    List<Long> findExpiredCouponIdsWithUserCoupons(@Param("expiredBefore") LocalDateTime expiredBefore,
+                                                   @Param("limit") int limit);
 }
@@ -1,12 +1,55 @@
 package com.sparta.ecommerce.infrastructure.jpa.coupon;
 
+import com.sparta.ecommerce.domain.coupon.dto.UserCouponWalletResponse;
 import com.sparta.ecommerce.domain.coupon.entity.UserCoupon;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaUserCouponRepository extends JpaRepository<UserCoupon, Long>{
     Optional<UserCoupon> findByUserIdAndCouponId(Long userId, Long couponId);
+
+    // 사용자 쿠폰함 - idx_user_coupon_user_issued (user_id, issued_at, user_coupon_id) 역순 스캔 + 쿠폰 PK 조인
+    // 쿠폰이 삭제(보관)된 경우에도 사용자 쿠폰은 표시 (LEFT JOIN)
+    @Query("SELECT new com.sparta.ecommerce.domain.coupon.dto.UserCouponWalletResponse(" +
+            "uc.userCouponId, uc.couponId, c.couponName, c.discountType, c.discountValue, uc.used, uc.issuedAt, uc.usedAt, c.expiresAt) " +
+            "FROM UserCoupon uc LEFT JOIN Coupon c ON c.couponId = uc.couponId " +
+            "WHERE uc.userId = :userId " +
+            "ORDER BY uc.issuedAt DESC, uc.userCouponId DESC LIMIT :limit")
+    List<UserCouponWalletResponse> findWalletFirstPage(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Query("SELECT new com.sparta.ecommerce.domain.coupon.dto.UserCouponWalletResponse(" +
+            "uc.userCouponId, uc.couponId, c.couponName, c.discountType, c.discountValue, uc.used, uc.issuedAt, uc.usedAt, c.expiresAt) " +
+            "FROM UserCoupon uc LEFT JOIN Coupon c ON c.couponId = uc.couponId " +
+            "WHERE uc.userId = :userId " +
+            "AND (uc.issuedAt < :issuedAt OR (uc.issuedAt = :issuedAt AND uc.userCouponId < :userCouponId)) " +
+            "ORDER BY uc.issuedAt DESC, uc.userCouponId DESC LIMIT :limit")
+    List<UserCouponWalletResponse> findWalletAfter(@Param("userId") Long userId, @Param("issuedAt") LocalDateTime issuedAt,
+                                                   @Param("userCouponId") Long userCouponId, @Param("limit") int limit);
+
+    // 만료 쿠폰 정리 - idx_user_coupon_coupon_id (coupon_id, PK) 순서로 limit건
+    @Query("SELECT uc.userCouponId FROM UserCoupon uc WHERE uc.couponId = :couponId ORDER BY uc.userCouponId LIMIT :limit")
+    List<Long> findIdsByCouponId(@Param("couponId") Long couponId, @Param("limit") int limit);
+
+    // 재실행 시 이미 보관된 행은 무시 (INSERT IGNORE)
+    @Modifying
+    @Query(value = """
+                INSERT IGNORE INTO user_coupon_archive (user_coupon_id, user_id, coupon_id, used, issued_at, used_at, archived_at)
+                SELECT user_coupon_id, user_id, coupon_id, used, issued_at, used_at, NOW()
+                FROM user_coupon
+                WHERE user_coupon_id IN (:userCouponIds)
+            """, nativeQuery = true)
+    int archiveByIds(@Param("userCouponIds") Collection<Long> userCouponIds);
+
+    @Modifying
+    @Query("DELETE FROM UserCoupon uc WHERE uc.userCouponId IN :userCouponIds")
+    int deleteByIds(@Param("userCouponIds") Collection<Long> userCouponIds);
 }
@@ -6,6 +6,8 @@ import com.sparta.ecommerce.infrastructure.jpa.coupon.JpaCouponRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -26,4 +28,9 @@ public class CouponRepositoryAdapter implements CouponRepository {
     public Optional<Coupon> findByIdWithPessimisticLock(Long couponId) {
         return jpaCouponRepository.findByIdWithPessimisticLock(couponId);
     }
+
+    @Override
+    public List<Long> findExpiredCouponIdsWithUserCoupons(LocalDateTime expiredBefore, int limit) {
+        return jpaCouponRepository.findExpiredCouponIdsWithUserCoupons(expiredBefore, limit);
+    }
 }
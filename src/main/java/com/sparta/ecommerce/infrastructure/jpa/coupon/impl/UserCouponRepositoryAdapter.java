@@ -1,6 +1,8 @@
 package com.sparta.ecommerce.infrastructure.jpa.coupon.impl;
 
+import com.sparta.ecommerce.common.pagination.KeysetCursor;
 import com.sparta.ecommerce.domain.coupon.UserCouponRepository;
+import com.sparta.ecommerce.domain.coupon.dto.UserCouponWalletResponse;
 import com.sparta.ecommerce.domain.coupon.entity.UserCoupon;
 import com.sparta.ecommerce.infrastructure.jpa.coupon.JpaUserCouponRepository;
 import lombok.RequiredArgsConstructor;
@@ -33,4 +35,24 @@ public class UserCouponRepositoryAdapter implements UserCouponRepository {
     public List<UserCoupon> findAll() {
         return jpaUserCouponRepository.findAll();
     }
+
+    @Override
+    public List<UserCouponWalletResponse> findWalletByUserId(Long userId, KeysetCursor after, int limit) {
+        if (after == null) {
+            return jpaUserCouponRepository.findWalletFirstPage(userId, limit);
+        }
+        return jpaUserCouponRepository.findWalletAfter(userId, after.createdAt(), after.id(), limit);
+    }
+
+    @Override
+    public int archiveByCouponId(Long couponId, int limit) {
+        // PK 목록을 먼저 확정하여 보관(INSERT)과 삭제 대상이 항상 같은 행이 되도록 함
+        List<Long> userCouponIds = jpaUserCouponRepository.findIdsByCouponId(couponId, limit);
+        if (userCouponIds.isEmpty()) {
+            return 0;
+        }
+        jpaUserCouponRepository.archiveByIds(userCouponIds);
+        jpaUserCouponRepository.deleteByIds(userCouponIds);
+        return userCouponIds.size();
+    }
 }
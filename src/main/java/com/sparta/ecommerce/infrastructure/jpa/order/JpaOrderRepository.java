@@ -1,8 +1,32 @@
 package com.sparta.ecommerce.infrastructure.jpa.order;
 
+import com.sparta.ecommerce.domain.order.dto.OrderHistoryResponse;
 import com.sparta.ecommerce.domain.order.entity.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface JpaOrderRepository extends JpaRepository<Order, Long>{
 
+    // idx_order_status (status, PK 순) - filesort 없이 주문 ID 순으로 조회
+    List<Order> findByStatusAndCreatedAtBeforeOrderByOrderIdAsc(String status, LocalDateTime createdAt, Pageable pageable);
+
+    // 사용자 주문 내역 - idx_order_user_created (user_id, created_at, order_id) 역순 스캔, filesort 없음
+    @Query("SELECT new com.sparta.ecommerce.domain.order.dto.OrderHistoryResponse(" +
+            "o.orderId, o.status, o.totalAmount, o.discountAmount, o.usedPoint, o.userCouponId, o.createdAt) " +
+            "FROM Order o WHERE o.userId = :userId " +
+            "ORDER BY o.createdAt DESC, o.orderId DESC LIMIT :limit")
+    List<OrderHistoryResponse> findHistoryFirstPage(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Query("SELECT new com.sparta.ecommerce.domain.order.dto.OrderHistoryResponse(" +
+            "o.orderId, o.status, o.totalAmount, o.discountAmount, o.usedPoint, o.userCouponId, o.createdAt) " +
+            "FROM Order o WHERE o.userId = :userId " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.orderId < :orderId)) " +
+            "ORDER BY o.createdAt DESC, o.orderId DESC LIMIT :limit")
+    List<OrderHistoryResponse> findHistoryAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("orderId") Long orderId, @Param("limit") int limit);
 }
\ No newline at end of file
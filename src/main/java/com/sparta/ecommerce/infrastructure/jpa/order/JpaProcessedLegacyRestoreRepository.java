@@ -0,0 +1,7 @@
+package com.sparta.ecommerce.infrastructure.jpa.order;
+
+import com.sparta.ecommerce.domain.order.entity.ProcessedLegacyRestore;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JpaProcessedLegacyRestoreRepository extends JpaRepository<ProcessedLegacyRestore, Long> {
+}
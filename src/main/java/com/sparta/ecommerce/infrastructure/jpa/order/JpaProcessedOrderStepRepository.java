@@ -0,0 +1,12 @@
+package com.sparta.ecommerce.infrastructure.jpa.order;
+
+import com.sparta.ecommerce.domain.order.entity.ProcessedOrderStep;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface JpaProcessedOrderStepRepository extends JpaRepository<ProcessedOrderStep, Long> {
+
+    List<ProcessedOrderStep> findByOrderIdIn(Collection<Long> orderIds);
+}
@@ -0,0 +1,72 @@
+package com.sparta.ecommerce.infrastructure.jpa.order;
+
+import com.sparta.ecommerce.domain.order.entity.ProductSalesSummary;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JpaProductSalesSummaryRepository extends JpaRepository<ProductSalesSummary, Long> {
+
+    /**
+     * 판매량 증가 (행이 없으면 생성하는 upsert, 행 단위 원자적 연산)
+     */
+    @Modifying
+    @Query(value = """
+                INSERT INTO product_sales_summary (product_id, sold_count, updated_at)
+                VALUES (:productId, :quantity, NOW())
+                ON DUPLICATE KEY UPDATE sold_count = sold_count + :quantity, updated_at = NOW()
+            """, nativeQuery = true)
+    int increase(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Query("SELECT s.productId, s.soldCount FROM ProductSalesSummary s")
+    List<Object[]> findAllSoldCounts();
+
+    /**
+     * 판매량 인기 상품 조회 (sold_count 인덱스 역순 탐색, 상위 limit개 행만 읽음)
+     */
+    @Query("""
+                SELECT p
+                FROM ProductSalesSummary s
+                JOIN Product p ON s.productId = p.productId
+                WHERE s.soldCount > 0
+                ORDER BY s.soldCount DESC
+                LIMIT :limit
+            """)
+    List<Product> findTopProducts(@Param("limit") int limit);
+
+    @Query(value = """
+                SELECT oi.product_id, SUM(oi.quantity)
+                FROM order_item oi
+                JOIN orders o ON oi.order_id = o.order_id
+                WHERE o.status = 'COMPLETED'
+                GROUP BY oi.product_id
+            """, nativeQuery = true)
+    List<Object[]> aggregateSoldCountsFromOrders();
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO product_sales_summary (product_id, sold_count, updated_at)
+                SELECT oi.product_id, SUM(oi.quantity), NOW()
+                FROM order_item oi
+                JOIN orders o ON oi.order_id = o.order_id
+                WHERE o.status = 'COMPLETED'
+                GROUP BY oi.product_id
+                ON DUPLICATE KEY UPDATE sold_count = VALUES(sold_count), updated_at = NOW()
+            """, nativeQuery = true)
+    int rebuildAll();
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO product_sales_summary (product_id, sold_count, updated_at)
+                SELECT :productId, COALESCE(SUM(oi.quantity), 0), NOW()
+                FROM order_item oi
+                JOIN orders o ON oi.order_id = o.order_id
+                WHERE oi.product_id = :productId AND o.status = 'COMPLETED'
+                ON DUPLICATE KEY UPDATE sold_count = VALUES(sold_count), updated_at = NOW()
+            """, nativeQuery = true)
+    int rebuild(@Param("productId") Long productId);
+}
@@ -2,27 +2,49 @@ package com.sparta.ecommerce.infrastructure.jpa.order.impl;
 
 import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
 import com.sparta.ecommerce.domain.order.OrderItemRepository;
+import com.sparta.ecommerce.domain.order.ProductSalesSummaryRepository;
+import com.sparta.ecommerce.domain.order.dto.OrderItemResponse;
 import com.sparta.ecommerce.domain.order.entity.OrderItem;
 import com.sparta.ecommerce.infrastructure.jpa.order.JpaOrderItemRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class OrderItemRepositoryAdapter implements OrderItemRepository {
     private final JpaOrderItemRepository jpaOrderItemRepository;
+    private final ProductSalesSummaryRepository productSalesSummaryRepository;
 
+    /**
+     * 판매량은 주문 상품 테이블 전체를 집계하지 않고 상품별 판매량 집계 테이블에서 조회합니다.
+     */
     @Override
     public Map<Long, Integer> getSoldCountByProductId() {
-        return jpaOrderItemRepository.getSoldCountByProductId();
+        return productSalesSummaryRepository.findSoldCounts().entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().intValue()));
     }
 
     @Override
     public List<ProductResponse> findTopProductsBySoldCount(int limit) {
-        return jpaOrderItemRepository.findTopProductsBySoldCount(limit);
+        return productSalesSummaryRepository.findTopProducts(limit);
+    }
+
+    @Override
+    public List<OrderItem> findAllByOrderId(Long orderId) {
+        return jpaOrderItemRepository.findAllByOrderId(orderId);
+    }
+
+    @Override
+    public List<OrderItemResponse> findItemResponsesByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaOrderItemRepository.findItemResponsesByOrderIds(orderIds);
     }
 
     @Override
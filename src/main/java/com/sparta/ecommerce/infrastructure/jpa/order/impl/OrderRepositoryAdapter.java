@@ -1,11 +1,15 @@
 package com.sparta.ecommerce.infrastructure.jpa.order.impl;
 
+import com.sparta.ecommerce.common.pagination.KeysetCursor;
 import com.sparta.ecommerce.domain.order.OrderRepository;
+import com.sparta.ecommerce.domain.order.dto.OrderHistoryResponse;
 import com.sparta.ecommerce.domain.order.entity.Order;
 import com.sparta.ecommerce.infrastructure.jpa.order.JpaOrderRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +32,18 @@ public class OrderRepositoryAdapter implements OrderRepository {
     public List<Order> findAll() {
         return jpaOrderRepository.findAll();
     }
+
+    @Override
+    public List<Order> findByStatusCreatedBefore(String status, LocalDateTime createdBefore, int limit) {
+        return jpaOrderRepository.findByStatusAndCreatedAtBeforeOrderByOrderIdAsc(
+                status, createdBefore, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<OrderHistoryResponse> findHistoryByUserId(Long userId, KeysetCursor after, int limit) {
+        if (after == null) {
+            return jpaOrderRepository.findHistoryFirstPage(userId, limit);
+        }
+        return jpaOrderRepository.findHistoryAfter(userId, after.createdAt(), after.id(), limit);
+    }
 }
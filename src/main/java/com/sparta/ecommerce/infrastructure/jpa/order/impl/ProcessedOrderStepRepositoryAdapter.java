@@ -0,0 +1,61 @@
+package com.sparta.ecommerce.infrastructure.jpa.order.impl;
+
+import com.sparta.ecommerce.domain.order.OrderSagaStep;
+import com.sparta.ecommerce.domain.order.ProcessedOrderStepRepository;
+import com.sparta.ecommerce.domain.order.entity.ProcessedLegacyRestore;
+import com.sparta.ecommerce.domain.order.entity.ProcessedOrderStep;
+import com.sparta.ecommerce.domain.order.exception.OrderException;
+import com.sparta.ecommerce.infrastructure.jpa.order.JpaProcessedLegacyRestoreRepository;
+import com.sparta.ecommerce.infrastructure.jpa.order.JpaProcessedOrderStepRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.sparta.ecommerce.domain.order.exception.OrderErrorCode.ORDER_STEP_ALREADY_PROCESSED;
+
+@Repository
+@RequiredArgsConstructor
+public class ProcessedOrderStepRepositoryAdapter implements ProcessedOrderStepRepository {
+    private final JpaProcessedOrderStepRepository jpaProcessedOrderStepRepository;
+    private final JpaProcessedLegacyRestoreRepository jpaProcessedLegacyRestoreRepository;
+
+    @Override
+    public Map<Long, Set<OrderSagaStep>> findProcessedSteps(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+        return jpaProcessedOrderStepRepository.findByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(
+                        ProcessedOrderStep::getOrderId,
+                        Collectors.mapping(ProcessedOrderStep::getStep,
+                                Collectors.toCollection(() -> EnumSet.noneOf(OrderSagaStep.class)))
+                ));
+    }
+
+    @Override
+    public void markProcessed(Long orderId, OrderSagaStep step) {
+        try {
+            // IDENTITY 전략이므로 즉시 INSERT 되어 중복이 바로 감지됨 (unique: orderId, step)
+            jpaProcessedOrderStepRepository.save(new ProcessedOrderStep(null, orderId, step, LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            throw new OrderException(ORDER_STEP_ALREADY_PROCESSED);
+        }
+    }
+
+    @Override
+    public void markLegacyProcessed(String eventKey, OrderSagaStep step) {
+        try {
+            // unique: eventKey, step
+            jpaProcessedLegacyRestoreRepository.save(new ProcessedLegacyRestore(null, eventKey, step, LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            throw new OrderException(ORDER_STEP_ALREADY_PROCESSED);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.sparta.ecommerce.infrastructure.jpa.order.impl;
+
+import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
+import com.sparta.ecommerce.domain.order.ProductSalesSummaryRepository;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.infrastructure.jpa.order.JpaProductSalesSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductSalesSummaryRepositoryAdapter implements ProductSalesSummaryRepository {
+
+    private final JpaProductSalesSummaryRepository jpaProductSalesSummaryRepository;
+
+    @Override
+    public void increase(Map<Long, Integer> soldCounts) {
+        // 상품 ID 순으로 갱신하여 동시에 완료되는 주문 간 데드락 방지
+        new TreeMap<>(soldCounts).forEach(jpaProductSalesSummaryRepository::increase);
+    }
+
+    @Override
+    public Map<Long, Long> findSoldCounts() {
+        return toMap(jpaProductSalesSummaryRepository.findAllSoldCounts());
+    }
+
+    @Override
+    public List<ProductResponse> findTopProducts(int limit) {
+        return jpaProductSalesSummaryRepository.findTopProducts(limit).stream()
+                .map(Product::from)
+                .toList();
+    }
+
+    @Override
+    public Map<Long, Long> aggregateSoldCountsFromOrders() {
+        return toMap(jpaProductSalesSummaryRepository.aggregateSoldCountsFromOrders());
+    }
+
+    @Override
+    public int rebuildAll() {
+        return jpaProductSalesSummaryRepository.rebuildAll();
+    }
+
+    @Override
+    public void rebuild(Long productId) {
+        jpaProductSalesSummaryRepository.rebuild(productId);
+    }
+
+    private Map<Long, Long> toMap(List<Object[]> rows) {
+        Map<Long, Long> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return result;
+    }
+}
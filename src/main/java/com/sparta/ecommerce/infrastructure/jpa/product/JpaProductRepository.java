@@ -1,5 +1,6 @@
 package com.sparta.ecommerce.infrastructure.jpa.product;
 
+import com.sparta.ecommerce.domain.product.dto.ProductSnapshot;
 import com.sparta.ecommerce.domain.product.entity.Product;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +8,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface JpaProductRepository extends JpaRepository<Product, Long> {
@@ -29,4 +31,14 @@ public interface JpaProductRepository extends JpaRepository<Product, Long> {
      */
     @Query("SELECT p FROM Product p ORDER BY p.viewCount DESC LIMIT :limit")
     List<Product> findTopProductsByViewCount(@Param("limit") int limit);
+
+    @Query("SELECT new com.sparta.ecommerce.domain.product.dto.ProductSnapshot(p.productId, p.productName, p.description, p.price) " +
+            "FROM Product p WHERE p.productId IN :productIds")
+    List<ProductSnapshot> findSnapshotsByIds(@Param("productIds") Collection<Long> productIds);
+
+    @Query("SELECT p.productId, p.quantity FROM Product p WHERE p.productId IN :productIds")
+    List<Object[]> findStockByIds(@Param("productIds") Collection<Long> productIds);
+
+    @Query("SELECT p.productId, p.viewCount FROM Product p")
+    List<Object[]> findViewCounts();
 }
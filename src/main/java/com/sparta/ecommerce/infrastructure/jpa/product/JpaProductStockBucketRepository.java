@@ -0,0 +1,54 @@
+package com.sparta.ecommerce.infrastructure.jpa.product;
+
+import com.sparta.ecommerce.domain.product.entity.ProductStockBucket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface JpaProductStockBucketRepository extends JpaRepository<ProductStockBucket, Long> {
+
+    @Query("SELECT b.productId, COUNT(b) FROM ProductStockBucket b WHERE b.productId IN :productIds GROUP BY b.productId")
+    List<Object[]> countByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    @Query("SELECT b.productId, SUM(b.quantity) FROM ProductStockBucket b WHERE b.productId IN :productIds GROUP BY b.productId")
+    List<Object[]> sumQuantityByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    @Query("SELECT DISTINCT b.productId FROM ProductStockBucket b")
+    List<Long> findDistinctProductIds();
+
+    /**
+     * 엔티티가 아닌 스칼라 값으로 조회하여, 같은 트랜잭션에서 벌크 UPDATE된 최신 값을 읽습니다.
+     */
+    @Query("SELECT b.bucketNo, b.quantity FROM ProductStockBucket b WHERE b.productId = :productId ORDER BY b.quantity DESC")
+    List<Object[]> findQuantitiesByProductId(@Param("productId") Long productId);
+
+    /**
+     * 재분배/샤딩 해제 시 버킷 전체에 비관적 락 (버킷 번호 순으로 획득하여 데드락 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ProductStockBucket b WHERE b.productId = :productId ORDER BY b.bucketNo ASC")
+    List<ProductStockBucket> findAllByProductIdWithLock(@Param("productId") Long productId);
+
+    /**
+     * 조건부 차감: 버킷 재고가 충분한 경우에만 차감 (행 단위 원자적 연산, 분산 락 불필요)
+     */
+    @Modifying
+    @Query("UPDATE ProductStockBucket b SET b.quantity = b.quantity - :quantity " +
+            "WHERE b.productId = :productId AND b.bucketNo = :bucketNo AND b.quantity >= :quantity")
+    int decrease(@Param("productId") Long productId, @Param("bucketNo") int bucketNo, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE ProductStockBucket b SET b.quantity = b.quantity + :quantity " +
+            "WHERE b.productId = :productId AND b.bucketNo = :bucketNo")
+    int increase(@Param("productId") Long productId, @Param("bucketNo") int bucketNo, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("DELETE FROM ProductStockBucket b WHERE b.productId = :productId")
+    int deleteAllByProductId(@Param("productId") Long productId);
+}
@@ -1,12 +1,16 @@
 package com.sparta.ecommerce.infrastructure.jpa.product.impl;
 
 import com.sparta.ecommerce.domain.product.ProductRepository;
+import com.sparta.ecommerce.domain.product.dto.ProductSnapshot;
 import com.sparta.ecommerce.domain.product.entity.Product;
 import com.sparta.ecommerce.infrastructure.jpa.product.JpaProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
@@ -37,4 +41,27 @@ public class ProductRepositoryAdapter implements ProductRepository {
     public List<Product> findTopProductsByViewCount(int limit) {
         return jpaProductRepository.findTopProductsByViewCount(limit);
     }
+
+    @Override
+    public List<ProductSnapshot> findSnapshotsByIds(Collection<Long> productIds) {
+        return jpaProductRepository.findSnapshotsByIds(productIds);
+    }
+
+    @Override
+    public Map<Long, Integer> findStockByIds(Collection<Long> productIds) {
+        Map<Long, Integer> stocks = new HashMap<>();
+        for (Object[] row : jpaProductRepository.findStockByIds(productIds)) {
+            stocks.put((Long) row[0], (Integer) row[1]);
+        }
+        return stocks;
+    }
+
+    @Override
+    public Map<Long, Integer> findViewCounts() {
+        Map<Long, Integer> viewCounts = new HashMap<>();
+        for (Object[] row : jpaProductRepository.findViewCounts()) {
+            viewCounts.put((Long) row[0], (Integer) row[1]);
+        }
+        return viewCounts;
+    }
 }
@@ -0,0 +1,82 @@
+package com.sparta.ecommerce.infrastructure.jpa.product.impl;
+
+import com.sparta.ecommerce.domain.product.ProductStockBucketRepository;
+import com.sparta.ecommerce.domain.product.entity.ProductStockBucket;
+import com.sparta.ecommerce.infrastructure.jpa.product.JpaProductStockBucketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductStockBucketRepositoryAdapter implements ProductStockBucketRepository {
+    private final JpaProductStockBucketRepository jpaProductStockBucketRepository;
+
+    @Override
+    public Map<Long, Integer> findBucketCounts(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> bucketCounts = new HashMap<>();
+        for (Object[] row : jpaProductStockBucketRepository.countByProductIdIn(productIds)) {
+            bucketCounts.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+        return bucketCounts;
+    }
+
+    @Override
+    public Map<Long, Integer> findStockTotals(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> totals = new HashMap<>();
+        for (Object[] row : jpaProductStockBucketRepository.sumQuantityByProductIdIn(productIds)) {
+            totals.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return totals;
+    }
+
+    @Override
+    public List<Long> findAllShardedProductIds() {
+        return jpaProductStockBucketRepository.findDistinctProductIds();
+    }
+
+    @Override
+    public Map<Integer, Integer> findBucketQuantities(Long productId) {
+        Map<Integer, Integer> quantities = new LinkedHashMap<>();
+        for (Object[] row : jpaProductStockBucketRepository.findQuantitiesByProductId(productId)) {
+            quantities.put((Integer) row[0], (Integer) row[1]);
+        }
+        return quantities;
+    }
+
+    @Override
+    public List<ProductStockBucket> findAllByProductIdWithLock(Long productId) {
+        return jpaProductStockBucketRepository.findAllByProductIdWithLock(productId);
+    }
+
+    @Override
+    public boolean decrease(Long productId, int bucketNo, int quantity) {
+        return jpaProductStockBucketRepository.decrease(productId, bucketNo, quantity) == 1;
+    }
+
+    @Override
+    public boolean increase(Long productId, int bucketNo, int quantity) {
+        return jpaProductStockBucketRepository.increase(productId, bucketNo, quantity) == 1;
+    }
+
+    @Override
+    public List<ProductStockBucket> saveAll(List<ProductStockBucket> buckets) {
+        return jpaProductStockBucketRepository.saveAll(buckets);
+    }
+
+    @Override
+    public void deleteAllByProductId(Long productId) {
+        jpaProductStockBucketRepository.deleteAllByProductId(productId);
+    }
+}
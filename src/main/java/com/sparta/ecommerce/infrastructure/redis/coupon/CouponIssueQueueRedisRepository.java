@@ -0,0 +1,193 @@
+package com.sparta.ecommerce.infrastructure.redis.coupon;
+
+import com.sparta.ecommerce.domain.coupon.CouponIssueQueueRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisListCommands.Direction;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis List 기반 쿠폰 발급 요청 큐 구현체
+ *
+ * 키 구성:
+ * - coupon:issue:queue                         요청 큐 (LPUSH로 적재, 오른쪽에서 꺼냄)
+ * - coupon:issue:queue:processing:{instanceId} 인스턴스별 처리 중 목록
+ * - coupon:issue:queue:heartbeat:{instanceId}  인스턴스 생존 표시 (TTL)
+ * - coupon:issue:queue:attempts                (HASH) 요청별 재시도 횟수
+ *
+ * instanceId는 호스트명에 실행마다 새로 만드는 접미사를 붙여, 호스트명이 같거나(미설정 시 local)
+ * 재시작으로 바뀌어도 인스턴스끼리 처리 중 목록을 공유하지 않습니다.
+ * 하트비트가 만료된 인스턴스의 처리 중 목록은 살아 있는 인스턴스가 큐로 되돌립니다.
+ */
+@Repository
+public class CouponIssueQueueRedisRepository implements CouponIssueQueueRepository {
+
+    private static final String QUEUE_KEY = "coupon:issue:queue";
+    private static final String PROCESSING_KEY_PREFIX = "coupon:issue:queue:processing:";
+    private static final String HEARTBEAT_KEY_PREFIX = "coupon:issue:queue:heartbeat:";
+    private static final String ATTEMPTS_KEY = "coupon:issue:queue:attempts";
+    private static final int SCAN_COUNT = 100;
+
+    /**
+     * KEYS: queue, processing / ARGV: maxCount
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> MOVE_BATCH_SCRIPT = new DefaultRedisScript<>("""
+            local moved = {}
+            for i = 1, tonumber(ARGV[1]) do
+                local entry = redis.call('RPOP', KEYS[1])
+                if not entry then break end
+                redis.call('LPUSH', KEYS[2], entry)
+                moved[#moved + 1] = entry
+            end
+            return moved
+            """, List.class);
+
+    /**
+     * KEYS: heartbeat, processing, queue
+     * 하트비트가 남아 있으면(살아 있는 인스턴스) 건너뛰고,
+     * 만료되었으면 처리 중 목록의 오래된 요청이 큐의 가장 오른쪽(다음 처리 대상)에 오도록 되돌립니다.
+     */
+    private static final RedisScript<Long> REAP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            local count = 0
+            while true do
+                local entry = redis.call('LPOP', KEYS[2])
+                if not entry then break end
+                redis.call('RPUSH', KEYS[3], entry)
+                count = count + 1
+            end
+            return count
+            """, Long.class);
+
+    /**
+     * KEYS: processing, queue
+     * 처리 중 목록의 오래된 요청이 큐의 가장 오른쪽(다음 처리 대상)에 오도록 되돌립니다.
+     */
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            local count = 0
+            while true do
+                local entry = redis.call('LPOP', KEYS[1])
+                if not entry then break end
+                redis.call('RPUSH', KEYS[2], entry)
+                count = count + 1
+            end
+            return count
+            """, Long.class);
+
+    /**
+     * KEYS: processing, queue, attempts
+     * ARGV: entry, maxAttempts
+     * 재시도 횟수를 늘리고, 남아 있으면 큐의 가장 왼쪽(가장 나중 처리 대상)으로 옮깁니다.
+     * 처리 중 목록에 없으면(하트비트 만료로 다른 인스턴스가 이미 복구한 경우) 그대로 둡니다.
+     */
+    private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('LREM', KEYS[1], 1, ARGV[1]) == 0 then return 1 end
+            local attempts = redis.call('HINCRBY', KEYS[3], ARGV[1], 1)
+            redis.call('EXPIRE', KEYS[3], 86400)
+            if attempts >= tonumber(ARGV[2]) then
+                redis.call('HDEL', KEYS[3], ARGV[1])
+                return 0
+            end
+            redis.call('LPUSH', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String processingKey;
+    private final String heartbeatKey;
+
+    public CouponIssueQueueRedisRepository(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${coupon.queue.consumer.instance-id:${HOSTNAME:local}}") String hostId
+    ) {
+        this.redisTemplate = redisTemplate;
+        String instanceId = hostId + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.processingKey = PROCESSING_KEY_PREFIX + instanceId;
+        this.heartbeatKey = HEARTBEAT_KEY_PREFIX + instanceId;
+    }
+
+    @Override
+    public Optional<String> awaitNext(Duration timeout) {
+        return Optional.ofNullable(redisTemplate.opsForList()
+                .move(QUEUE_KEY, Direction.RIGHT, processingKey, Direction.LEFT, timeout));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> moveBatch(int maxCount) {
+        if (maxCount <= 0) {
+            return List.of();
+        }
+        List<String> moved = redisTemplate.execute(MOVE_BATCH_SCRIPT,
+                List.of(QUEUE_KEY, processingKey), String.valueOf(maxCount));
+        return moved != null ? moved : List.of();
+    }
+
+    @Override
+    public void acknowledge(String entry) {
+        redisTemplate.opsForList().remove(processingKey, 1, entry);
+        redisTemplate.opsForHash().delete(ATTEMPTS_KEY, entry);
+    }
+
+    @Override
+    public boolean requeue(String entry, int maxAttempts) {
+        Long requeued = redisTemplate.execute(REQUEUE_SCRIPT,
+                List.of(processingKey, QUEUE_KEY, ATTEMPTS_KEY), entry, String.valueOf(maxAttempts));
+        return requeued != null && requeued == 1;
+    }
+
+    @Override
+    public long recoverOwn() {
+        Long count = redisTemplate.execute(RESTORE_SCRIPT, List.of(processingKey, QUEUE_KEY));
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public void heartbeat(Duration ttl) {
+        redisTemplate.opsForValue().set(heartbeatKey, String.valueOf(System.currentTimeMillis()), ttl);
+    }
+
+    @Override
+    public void clearHeartbeat() {
+        redisTemplate.delete(heartbeatKey);
+    }
+
+    @Override
+    public long recoverOrphaned() {
+        long recovered = 0;
+        for (String key : processingKeys()) {
+            String heartbeat = HEARTBEAT_KEY_PREFIX + key.substring(PROCESSING_KEY_PREFIX.length());
+            Long count = redisTemplate.execute(REAP_SCRIPT, List.of(heartbeat, key, QUEUE_KEY));
+            recovered += count != null ? count : 0;
+        }
+        return recovered;
+    }
+
+    /**
+     * 모든 인스턴스의 처리 중 목록 키 (SCAN)
+     */
+    private List<String> processingKeys() {
+        ScanOptions options = ScanOptions.scanOptions().match(PROCESSING_KEY_PREFIX + "*").count(SCAN_COUNT).build();
+        List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> found = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                cursor.forEachRemaining(key -> found.add(new String(key, StandardCharsets.UTF_8)));
+            }
+            return found;
+        });
+        return keys != null ? keys : List.of();
+    }
+}
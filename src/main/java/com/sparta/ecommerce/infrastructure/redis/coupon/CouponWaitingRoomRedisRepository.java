@@ -0,0 +1,223 @@
+package com.sparta.ecommerce.infrastructure.redis.coupon;
+
+import com.sparta.ecommerce.domain.coupon.CouponWaitingRoomRepository;
+import com.sparta.ecommerce.domain.coupon.exception.CouponErrorCode;
+import com.sparta.ecommerce.domain.coupon.exception.CouponException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 기반 쿠폰 발급 대기열 구현체
+ *
+ * 키 구성:
+ * - coupon:waiting:{couponId}          (ZSET) 사용자 ID, score = 도착 시각
+ * - coupon:waiting:{couponId}:stock    (String) 입장 가능한 남은 재고
+ * - coupon:waiting:{couponId}:admitted (SET) 입장 완료 사용자
+ * - coupon:waiting:{couponId}:closed   (String) 재고 소진으로 종료된 대기열 표시
+ * - coupon:waiting:open                (SET) 대기열이 열려 있는 쿠폰 ID
+ *
+ * 입장/입장 처리는 Lua 스크립트로 원자적으로 실행하여, 대기열 종료와 동시에 들어온 요청이 남지 않도록 합니다.
+ * 입장 후 발급에 실패하면 차감한 재고를 되돌리고(releaseSlot), 재고 소진으로 종료된 대기열을 다시 엽니다.
+ * 모든 키는 1일 후 자동으로 만료됩니다.
+ */
+@Repository
+public class CouponWaitingRoomRedisRepository implements CouponWaitingRoomRepository {
+
+    private static final String KEY_PREFIX = "coupon:waiting:";
+    private static final String OPEN_COUPONS_KEY = "coupon:waiting:open";
+    private static final String ISSUE_QUEUE_KEY = "coupon:issue:queue";
+    private static final long TTL_DAYS = 1;
+
+    private static final long RESULT_CLOSED = -1;
+    private static final long RESULT_ADMITTED = -2;
+
+    /**
+     * KEYS: stock, open, closed
+     * ARGV: remainingQuantity, couponId, ttlSeconds
+     *
+     * 대기열이 열려 있지 않으면(또는 재고 키가 만료되었으면) DB 기준 남은 수량으로 재고를 덮어씁니다.
+     * 이전 실행에서 남은 재고 키도 대기열을 새로 열 때 초기화됩니다. 열려 있거나 종료된 대기열은 유지합니다.
+     */
+    private static final RedisScript<Long> OPEN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1 then return 0 end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[2]) == 1 and redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: queue, closed, admitted, open
+     * ARGV: userId, arrivedAtMillis, couponId, ttlSeconds
+     */
+    private static final RedisScript<Long> ENTER_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then return -1 end
+            if redis.call('SISMEMBER', KEYS[3], ARGV[1]) == 1 then return -2 end
+            redis.call('ZADD', KEYS[1], 'NX', ARGV[2], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('SADD', KEYS[4], ARGV[3])
+            return redis.call('ZRANK', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    /**
+     * KEYS: queue, stock, admitted, closed, open, issueQueue
+     * ARGV: maxCount, couponId, ttlSeconds
+     *
+     * 남은 재고만큼만 ZPOPMIN으로 꺼내 발급 큐("userId:couponId")에 LPUSH 합니다. (Consumer는 BRPOP → 도착 순 처리)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+            local stockValue = redis.call('GET', KEYS[2])
+            if not stockValue then return {} end
+            local stock = tonumber(stockValue)
+            local admitted = {}
+            local count = math.min(tonumber(ARGV[1]), stock)
+            if count > 0 then
+                local popped = redis.call('ZPOPMIN', KEYS[1], count)
+                for i = 1, #popped, 2 do
+                    local userId = popped[i]
+                    admitted[#admitted + 1] = userId
+                    redis.call('SADD', KEYS[3], userId)
+                    redis.call('LPUSH', KEYS[6], userId .. ':' .. ARGV[2])
+                end
+                if #admitted > 0 then
+                    redis.call('EXPIRE', KEYS[3], ARGV[3])
+                    stock = redis.call('DECRBY', KEYS[2], #admitted)
+                end
+            end
+            if stock <= 0 then
+                redis.call('SET', KEYS[4], '1', 'EX', ARGV[3])
+                redis.call('DEL', KEYS[1])
+                redis.call('SREM', KEYS[5], ARGV[2])
+            end
+            return admitted
+            """, List.class);
+
+    /**
+     * KEYS: admitted, stock, closed, open
+     * ARGV: userId, couponId
+     *
+     * 입장 완료 목록에 있는 사용자만 한 번 재고를 되돌립니다. (대기열을 거치지 않은 요청, 중복 반환 방지)
+     * 재고 소진으로 종료된 대기열은 다시 열어 다음 대기자가 입장할 수 있도록 합니다.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SREM', KEYS[1], ARGV[1]) == 0 then return 0 end
+            if redis.call('EXISTS', KEYS[2]) == 0 then return 0 end
+            redis.call('INCRBY', KEYS[2], 1)
+            if redis.call('DEL', KEYS[3]) == 1 then
+                redis.call('SADD', KEYS[4], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public CouponWaitingRoomRedisRepository(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void initializeStock(Long couponId, int remainingQuantity) {
+        redisTemplate.execute(OPEN_SCRIPT,
+                List.of(stockKey(couponId), OPEN_COUPONS_KEY, closedKey(couponId)),
+                String.valueOf(remainingQuantity), couponId.toString(), ttlSeconds());
+    }
+
+    @Override
+    public long enter(Long couponId, Long userId, long arrivedAtMillis) {
+        Long result = redisTemplate.execute(ENTER_SCRIPT,
+                List.of(queueKey(couponId), closedKey(couponId), admittedKey(couponId), OPEN_COUPONS_KEY),
+                userId.toString(), String.valueOf(arrivedAtMillis), couponId.toString(), ttlSeconds());
+
+        if (result == null || result == RESULT_CLOSED) {
+            throw new CouponException(CouponErrorCode.COUPON_OUT_OF_STOCK);
+        }
+        if (result == RESULT_ADMITTED) {
+            throw new CouponException(CouponErrorCode.COUPON_QUEUE_ALREADY_ADMITTED);
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Long> findRank(Long couponId, Long userId) {
+        return Optional.ofNullable(redisTemplate.opsForZSet().rank(queueKey(couponId), userId.toString()));
+    }
+
+    @Override
+    public boolean isAdmitted(Long couponId, Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(admittedKey(couponId), userId.toString()));
+    }
+
+    @Override
+    public boolean isClosed(Long couponId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(closedKey(couponId)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> admit(Long couponId, int maxCount) {
+        List<Object> admitted = redisTemplate.execute(ADMIT_SCRIPT,
+                List.of(queueKey(couponId), stockKey(couponId), admittedKey(couponId),
+                        closedKey(couponId), OPEN_COUPONS_KEY, ISSUE_QUEUE_KEY),
+                String.valueOf(maxCount), couponId.toString(), ttlSeconds());
+
+        if (admitted == null) {
+            return List.of();
+        }
+        return admitted.stream()
+                .map(userId -> Long.valueOf(userId.toString()))
+                .toList();
+    }
+
+    @Override
+    public boolean releaseSlot(Long couponId, Long userId) {
+        Long released = redisTemplate.execute(RELEASE_SCRIPT,
+                List.of(admittedKey(couponId), stockKey(couponId), closedKey(couponId), OPEN_COUPONS_KEY),
+                userId.toString(), couponId.toString());
+        return released != null && released == 1;
+    }
+
+    @Override
+    public Set<Long> findOpenCouponIds() {
+        Set<String> couponIds = redisTemplate.opsForSet().members(OPEN_COUPONS_KEY);
+        if (couponIds == null) {
+            return Set.of();
+        }
+        return couponIds.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void remove(Long couponId) {
+        redisTemplate.delete(List.of(queueKey(couponId), stockKey(couponId), admittedKey(couponId), closedKey(couponId)));
+        redisTemplate.opsForSet().remove(OPEN_COUPONS_KEY, couponId.toString());
+    }
+
+    private String queueKey(Long couponId) {
+        return KEY_PREFIX + couponId;
+    }
+
+    private String stockKey(Long couponId) {
+        return KEY_PREFIX + couponId + ":stock";
+    }
+
+    private String admittedKey(Long couponId) {
+        return KEY_PREFIX + couponId + ":admitted";
+    }
+
+    private String closedKey(Long couponId) {
+        return KEY_PREFIX + couponId + ":closed";
+    }
+
+    private String ttlSeconds() {
+        return String.valueOf(TimeUnit.DAYS.toSeconds(TTL_DAYS));
+    }
+}
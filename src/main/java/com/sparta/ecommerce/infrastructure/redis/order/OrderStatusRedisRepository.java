@@ -0,0 +1,42 @@
+package com.sparta.ecommerce.infrastructure.redis.order;
+
+import com.sparta.ecommerce.domain.order.OrderStatusRepository;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 주문 상태 캐시 구현체
+ *
+ * 주문별로 상태 문자열을 저장하며, 1일 후 자동으로 만료됩니다.
+ * 형식: order:status:{orderId} -> PENDING | COMPLETED | FAILED
+ */
+@Repository
+public class OrderStatusRedisRepository implements OrderStatusRepository {
+
+    private static final String STATUS_KEY_PREFIX = "order:status:";
+    private static final long TTL_DAYS = 1;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public OrderStatusRedisRepository(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void save(Long orderId, String status) {
+        redisTemplate.opsForValue().set(STATUS_KEY_PREFIX + orderId, status, TTL_DAYS, TimeUnit.DAYS);
+    }
+
+    @Override
+    public void saveIfAbsent(Long orderId, String status) {
+        redisTemplate.opsForValue().setIfAbsent(STATUS_KEY_PREFIX + orderId, status, TTL_DAYS, TimeUnit.DAYS);
+    }
+
+    @Override
+    public Optional<String> findByOrderId(Long orderId) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(STATUS_KEY_PREFIX + orderId));
+    }
+}
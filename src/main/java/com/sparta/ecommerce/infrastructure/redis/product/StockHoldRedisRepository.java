@@ -0,0 +1,175 @@
+package com.sparta.ecommerce.infrastructure.redis.product;
+
+import com.sparta.ecommerce.domain.product.StockHoldRepository;
+import com.sparta.ecommerce.domain.product.exception.ProductErrorCode;
+import com.sparta.ecommerce.domain.product.exception.ProductException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 재고 임시 점유 구현체
+ *
+ * 키 구성:
+ * - stock:hold:{productId}  (HASH) 주문 ID -> "점유수량:만료시각(ms)"
+ * - stock:hold:products     (SET)  점유가 남아 있는 상품 ID (만료 점유 정리 대상)
+ *
+ * 점유/정리는 Lua 스크립트로 원자적으로 실행하며, 만료 판단에는 Redis 서버 시각(TIME)을 사용합니다.
+ * 상품별 HASH 키는 점유 유지 시간의 2배 후 자동으로 만료되므로, 정리가 멈춰도 키가 남지 않습니다.
+ */
+@Repository
+public class StockHoldRedisRepository implements StockHoldRepository {
+
+    private static final String KEY_PREFIX = "stock:hold:";
+    private static final String HELD_PRODUCTS_KEY = "stock:hold:products";
+
+    /**
+     * KEYS: 상품별 점유 키 (상품 ID 순), heldProducts
+     * ARGV: orderId, ttlMillis, keyTtlSeconds, (productId, stock, quantity) * 상품 수
+     *
+     * 모든 상품의 가용 재고(재고 - 만료되지 않은 다른 주문의 점유)가 충분할 때만 점유합니다.
+     * 같은 주문의 기존 점유는 가용 재고 계산에서 제외하고 덮어씁니다. (재시도 멱등)
+     *
+     * @return 0 (점유 성공) 또는 가용 재고가 부족한 상품 ID
+     */
+    private static final RedisScript<Long> HOLD_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local count = #KEYS - 1
+            for i = 1, count do
+                local base = 3 + (i - 1) * 3
+                local available = tonumber(ARGV[base + 2])
+                local entries = redis.call('HGETALL', KEYS[i])
+                for j = 1, #entries, 2 do
+                    local value = entries[j + 1]
+                    local sep = string.find(value, ':', 1, true)
+                    if tonumber(string.sub(value, sep + 1)) <= now then
+                        redis.call('HDEL', KEYS[i], entries[j])
+                    elseif entries[j] ~= ARGV[1] then
+                        available = available - tonumber(string.sub(value, 1, sep - 1))
+                    end
+                end
+                if available < tonumber(ARGV[base + 3]) then
+                    return tonumber(ARGV[base + 1])
+                end
+            end
+            local expiresAt = now + tonumber(ARGV[2])
+            for i = 1, count do
+                local base = 3 + (i - 1) * 3
+                redis.call('HSET', KEYS[i], ARGV[1], ARGV[base + 3] .. ':' .. expiresAt)
+                redis.call('EXPIRE', KEYS[i], ARGV[3])
+                redis.call('SADD', KEYS[count + 1], ARGV[base + 1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS: 상품별 점유 키
+     * ARGV: orderId
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local released = 0
+            for i = 1, #KEYS do
+                released = released + redis.call('HDEL', KEYS[i], ARGV[1])
+            end
+            return released
+            """, Long.class);
+
+    /**
+     * KEYS: 점유 키, heldProducts
+     * ARGV: productId
+     *
+     * 만료된 점유를 삭제하고, 남은 점유가 없으면 정리 대상에서 제외합니다.
+     */
+    private static final RedisScript<Long> SWEEP_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local removed = 0
+            local entries = redis.call('HGETALL', KEYS[1])
+            for j = 1, #entries, 2 do
+                local value = entries[j + 1]
+                local sep = string.find(value, ':', 1, true)
+                if tonumber(string.sub(value, sep + 1)) <= now then
+                    redis.call('HDEL', KEYS[1], entries[j])
+                    removed = removed + 1
+                end
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('SREM', KEYS[2], ARGV[1])
+            end
+            return removed
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public StockHoldRedisRepository(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void hold(Long orderId, Map<Long, Integer> quantities, Map<Long, Integer> stocks, long ttlMillis) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        args.add(orderId.toString());
+        args.add(String.valueOf(ttlMillis));
+        args.add(String.valueOf(Math.max(1, TimeUnit.MILLISECONDS.toSeconds(ttlMillis * 2))));
+
+        // 상품 ID 순으로 전달 (스크립트 내 검증 순서 고정)
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantities).entrySet()) {
+            keys.add(holdKey(entry.getKey()));
+            args.add(entry.getKey().toString());
+            args.add(String.valueOf(stocks.getOrDefault(entry.getKey(), 0)));
+            args.add(entry.getValue().toString());
+        }
+        keys.add(HELD_PRODUCTS_KEY);
+
+        Long result = redisTemplate.execute(HOLD_SCRIPT, keys, args.toArray());
+        if (result != null && result != 0) {
+            throw new ProductException(ProductErrorCode.INSUFFICIENT_STOCK);
+        }
+    }
+
+    @Override
+    public void release(Long orderId, Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = productIds.stream()
+                .map(StockHoldRedisRepository::holdKey)
+                .toList();
+        redisTemplate.execute(RELEASE_SCRIPT, keys, orderId.toString());
+    }
+
+    @Override
+    public int releaseExpired() {
+        Set<String> productIds = redisTemplate.opsForSet().members(HELD_PRODUCTS_KEY);
+        if (productIds == null || productIds.isEmpty()) {
+            return 0;
+        }
+
+        int removed = 0;
+        for (String productId : productIds) {
+            Long count = redisTemplate.execute(SWEEP_SCRIPT,
+                    List.of(KEY_PREFIX + productId, HELD_PRODUCTS_KEY), productId);
+            removed += count != null ? count.intValue() : 0;
+        }
+        return removed;
+    }
+
+    private static String holdKey(Long productId) {
+        return KEY_PREFIX + productId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparta.ecommerce.presentation.admin.controller;
+
+import com.sparta.ecommerce.common.kafka.DeadLetterReplayService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin/dlt")
+@RequiredArgsConstructor
+public class DeadLetterController {
+
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    /**
+     * DLT 메시지 재주입
+     * @param topic 원래 토픽 이름 (예: stock-restore-topic)
+     * @param maxRecords 최대 재주입 건수
+     * @return 재주입한 메시지 수
+     */
+    @PostMapping("/{topic}/replay")
+    public ResponseEntity<Object> replay(
+            @PathVariable String topic,
+            @RequestParam(name = "maxRecords", defaultValue = "100") int maxRecords
+    ) {
+        if (!deadLetterReplayService.isReplayable(topic)) {
+            return ResponseEntity.badRequest().body(Map.of("message", "DLT 재주입을 지원하지 않는 토픽입니다."));
+        }
+        int replayed = deadLetterReplayService.replay(topic, maxRecords);
+        return ResponseEntity.ok(Map.of("topic", topic, "replayed", replayed));
+    }
+}
@@ -0,0 +1,25 @@
+package com.sparta.ecommerce.presentation.admin.controller;
+
+import com.sparta.ecommerce.common.kafka.KafkaListenerAutoscaler;
+import com.sparta.ecommerce.common.kafka.ListenerScalingStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/kafka/autoscale")
+@RequiredArgsConstructor
+public class KafkaListenerAutoscaleController {
+
+    private final KafkaListenerAutoscaler kafkaListenerAutoscaler;
+
+    /**
+     * 토픽별 리스너 concurrency 조정 상태 (지연, concurrency 범위, 조정 횟수, 마지막 결정)
+     */
+    @GetMapping
+    public ResponseEntity<List<ListenerScalingStatus>> statuses() {
+        return ResponseEntity.ok(kafkaListenerAutoscaler.statuses());
+    }
+}
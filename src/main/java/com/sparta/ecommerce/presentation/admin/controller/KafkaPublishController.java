@@ -0,0 +1,25 @@
+package com.sparta.ecommerce.presentation.admin.controller;
+
+import com.sparta.ecommerce.common.kafka.KafkaPublishGateway;
+import com.sparta.ecommerce.common.kafka.KafkaPublishMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/kafka/publish")
+@RequiredArgsConstructor
+public class KafkaPublishController {
+
+    private final KafkaPublishGateway kafkaPublishGateway;
+
+    /**
+     * 토픽별 Kafka 발행 지표 (전송 중/성공/실패/거부 수, 평균 ack 시간)
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<List<KafkaPublishMetrics>> metrics() {
+        return ResponseEntity.ok(kafkaPublishGateway.metrics());
+    }
+}
@@ -0,0 +1,35 @@
+package com.sparta.ecommerce.presentation.admin.controller;
+
+import com.sparta.ecommerce.application.order.ProductSalesSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/admin/sales-summary")
+@RequiredArgsConstructor
+public class ProductSalesSummaryController {
+
+    private final ProductSalesSummaryService productSalesSummaryService;
+
+    /**
+     * 판매량 집계 백필 (완료된 주문 전체로부터 재계산)
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<Object> backfill() {
+        int updated = productSalesSummaryService.backfill();
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+
+    /**
+     * 판매량 집계 정합성 검증 (불일치 상품은 설정에 따라 복구)
+     */
+    @PostMapping("/consistency-check")
+    public ResponseEntity<Object> checkConsistency() {
+        Set<Long> mismatched = productSalesSummaryService.checkConsistency();
+        return ResponseEntity.ok(Map.of("mismatchedProductIds", mismatched));
+    }
+}
@@ -0,0 +1,40 @@
+package com.sparta.ecommerce.presentation.admin.controller;
+
+import com.sparta.ecommerce.application.product.ProductStockShardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin/products/{productId}/stock-shards")
+@RequiredArgsConstructor
+public class ProductStockShardController {
+
+    private final ProductStockShardService productStockShardService;
+
+    /**
+     * 상품 재고 샤딩 설정 (주문이 몰리는 상품)
+     * @param productId 상품 ID
+     * @param buckets 버킷 수 (2 ~ 64)
+     */
+    @PostMapping
+    public ResponseEntity<Object> enable(
+            @PathVariable Long productId,
+            @RequestParam(name = "buckets", defaultValue = "8") int buckets
+    ) {
+        productStockShardService.enableSharding(productId, buckets);
+        return ResponseEntity.ok(Map.of("productId", productId, "buckets", buckets));
+    }
+
+    /**
+     * 상품 재고 샤딩 해제 (버킷 재고 합계를 상품 재고로 복원)
+     * @param productId 상품 ID
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> disable(@PathVariable Long productId) {
+        productStockShardService.disableSharding(productId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,8 +1,12 @@
 package com.sparta.ecommerce.presentation.coupon.controller;
 
+import com.sparta.ecommerce.application.coupon.CouponWaitingRoomService;
 import com.sparta.ecommerce.application.coupon.IssueCouponUseCase;
+import com.sparta.ecommerce.common.annotation.RateLimit;
+import com.sparta.ecommerce.domain.coupon.dto.CouponQueueResponse;
 import com.sparta.ecommerce.domain.coupon.dto.UserCouponRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -14,6 +18,7 @@ import java.util.Map;
 public class CouponController {
 
     private final IssueCouponUseCase issueCouponUseCase;
+    private final CouponWaitingRoomService couponWaitingRoomService;
 
     /**
      * 쿠폰 발급 신청
@@ -21,9 +26,35 @@ public class CouponController {
      * @return
      */
     @PostMapping("/{couponId}/issue")
+    @RateLimit(value = "coupon:issue", key = "#userCouponRequest.userId()",
+            capacity = 3, refillPerSecond = 1, endpointCapacity = 2000, endpointRefillPerSecond = 1000)
     public ResponseEntity<Object> issueCoupon(@PathVariable Long couponId, @RequestBody UserCouponRequest userCouponRequest) {
         issueCouponUseCase.issueCoupon(userCouponRequest.userId(), couponId);
         return ResponseEntity.ok(Map.of("message", "쿠폰이 발급되었습니다."));
     }
 
+    /**
+     * 쿠폰 발급 대기열 입장 (선착순 쿠폰 오픈)
+     *
+     * @return 대기 순번 (202 Accepted, 발급 결과는 대기열 상태 조회로 확인)
+     */
+    @PostMapping("/{couponId}/queue")
+    @RateLimit(value = "coupon:queue:enter", key = "#userCouponRequest.userId()",
+            capacity = 3, refillPerSecond = 1, endpointCapacity = 5000, endpointRefillPerSecond = 2500)
+    public ResponseEntity<CouponQueueResponse> enterQueue(@PathVariable Long couponId, @RequestBody UserCouponRequest userCouponRequest) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(couponWaitingRoomService.enter(couponId, userCouponRequest.userId()));
+    }
+
+    /**
+     * 쿠폰 발급 대기열 상태 조회
+     *
+     * @return 대기 상태 (WAITING이면 1부터 시작하는 순번 포함)
+     */
+    @GetMapping("/{couponId}/queue/{userId}")
+    @RateLimit(value = "coupon:queue:status", key = "#userId", capacity = 10, refillPerSecond = 2)
+    public ResponseEntity<CouponQueueResponse> getQueueStatus(@PathVariable Long couponId, @PathVariable Long userId) {
+        return ResponseEntity.ok(couponWaitingRoomService.getQueueStatus(couponId, userId));
+    }
+
 }
@@ -1,11 +1,17 @@
 package com.sparta.ecommerce.presentation.order.controller;
 
 import com.sparta.ecommerce.application.order.CreateOrderUseCase;
+import com.sparta.ecommerce.application.order.OrderStatusService;
+import com.sparta.ecommerce.common.annotation.RateLimit;
 import com.sparta.ecommerce.domain.order.dto.OrderRequest;
+import com.sparta.ecommerce.domain.order.dto.OrderStatusResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.util.Map;
 
 @RestController
@@ -14,15 +20,48 @@ import java.util.Map;
 public class OrderController {
 
     private final CreateOrderUseCase CreateOrderUseCase;
+    private final OrderStatusService orderStatusService;
 
     /**
      * 주문 요청
-     * @return
+     *
+     * 주문은 PENDING 상태로 접수되며, 재고/포인트/쿠폰 처리는 비동기로 진행됩니다.
+     * 처리 결과는 Location 헤더의 주문 상태 조회 또는 SSE 구독으로 확인합니다.
+     * 사용자별/전체 요청 수 제한을 초과하면 429 Too Many Requests로 거절됩니다.
+     * @return 202 Accepted (주문 ID, 접수 상태)
      */
     @PostMapping
+    @RateLimit(value = "order:create", key = "#orderRequest.userId()",
+            capacity = 5, refillPerSecond = 1, endpointCapacity = 2000, endpointRefillPerSecond = 1000)
     public ResponseEntity<Object> createOrder(@RequestBody OrderRequest orderRequest) {
-        CreateOrderUseCase.createOrder(orderRequest.userId(), orderRequest.userCouponId());
-        return ResponseEntity.ok(Map.of("message", "주문이 완료되었습니다."));
+        Long orderId = CreateOrderUseCase.createOrder(orderRequest.userId(), orderRequest.userCouponId());
+        return ResponseEntity.accepted()
+                .location(URI.create("/orders/" + orderId))
+                .body(Map.of(
+                        "orderId", orderId,
+                        "status", "PENDING",
+                        "message", "주문이 접수되었습니다."
+                ));
+    }
+
+    /**
+     * 주문 상태 조회
+     * @param orderId 주문 ID
+     * @return 주문 상태 (PENDING, COMPLETED, FAILED)
+     */
+    @GetMapping("/{orderId}")
+    public ResponseEntity<OrderStatusResponse> fetchOrderStatus(@PathVariable Long orderId) {
+        return ResponseEntity.ok(orderStatusService.getOrderStatus(orderId));
+    }
+
+    /**
+     * 주문 상태 변경 구독 (Server-Sent Events)
+     * @param orderId 주문 ID
+     * @return 현재 상태를 즉시 전송하고, 최종 상태(COMPLETED, FAILED)가 되면 연결 종료
+     */
+    @GetMapping(value = "/{orderId}/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeOrderStatus(@PathVariable Long orderId) {
+        return orderStatusService.subscribeOrderStatus(orderId);
     }
 
 }
@@ -1,25 +1,51 @@
 package com.sparta.ecommerce.presentation.product.controller;
 
 import com.sparta.ecommerce.application.product.GetTopProductsUseCase;
+import com.sparta.ecommerce.application.product.ProductSearchService;
 import com.sparta.ecommerce.application.product.ProductService;
+import com.sparta.ecommerce.common.http.AcceptEncoding;
+import com.sparta.ecommerce.common.http.PrecompressedJson;
 import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
+import com.sparta.ecommerce.domain.product.ProductSearchSort;
 import com.sparta.ecommerce.domain.product.ProductSortType;
-import lombok.RequiredArgsConstructor;
+import com.sparta.ecommerce.domain.product.dto.ProductSearchResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
 @RequestMapping("/products")
-@RequiredArgsConstructor
 public class ProductController {
 
     private final ProductService productService;
     private final GetTopProductsUseCase getTopProductsUseCase;
+    private final ProductSearchService productSearchService;
+    private final CacheControl topProductsCacheControl;
+
+    public ProductController(
+            ProductService productService,
+            GetTopProductsUseCase getTopProductsUseCase,
+            ProductSearchService productSearchService,
+            @Value("${product.top.cache-control.max-age-seconds:60}") long maxAgeSeconds,
+            @Value("${product.top.cache-control.s-max-age-seconds:300}") long sharedMaxAgeSeconds
+    ) {
+        this.productService = productService;
+        this.getTopProductsUseCase = getTopProductsUseCase;
+        this.productSearchService = productSearchService;
+        this.topProductsCacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .sMaxAge(Duration.ofSeconds(sharedMaxAgeSeconds))
+                .cachePublic();
+    }
 
     /**
      * 상품 목록 조회
@@ -32,14 +58,58 @@ public class ProductController {
 
     /**
      * 인기 상품 조회
+     *
+     * 캐시된 gzip JSON 바이트를 그대로 응답합니다. (Accept-Encoding에서 gzip을 허용하지 않은 클라이언트에는 압축 해제하여 응답)
+     * ETag(내용 해시)가 If-None-Match와 일치하면 본문 없이 304 Not Modified로 응답하며,
+     * Cache-Control(public, s-maxage)로 CDN/프록시가 응답을 캐시할 수 있습니다.
+     *
      * @param sortType 정렬 기준 (VIEW_COUNT: 조회수, SOLD_COUNT: 판매량)
-     * @return 인기 상품 목록 (상위 10개)
+     * @return 인기 상품 목록 (상위 10개) JSON
      */
     @GetMapping("/top")
-    public ResponseEntity<List<ProductResponse>> fetchTopProducts(
-            @RequestParam(name = "sortType") ProductSortType sortType
+    public ResponseEntity<byte[]> fetchTopProducts(
+            @RequestParam(name = "sortType") ProductSortType sortType,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        PrecompressedJson payload = getTopProductsUseCase.getTopProductsPayload(sortType);
+
+        // 같은 내용의 gzip/비압축 표현이 ETag를 공유하므로 weak ETag 사용
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag("W/\"" + payload.contentHash() + "\"")
+                .cacheControl(topProductsCacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (AcceptEncoding.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzippedJson());
+        }
+        return response.body(payload.json());
+    }
+
+    /**
+     * 상품 검색
+     *
+     * 노드 로컬 검색 색인에서 조회하며 DB를 조회하지 않습니다.
+     * 검색어는 띄어쓰기로 구분된 단어를 모두 포함하는 상품(상품명 또는 설명, 부분 일치)을 찾습니다.
+     *
+     * @param query 검색어 (생략 시 전체 상품)
+     * @param minPrice 최소 가격
+     * @param maxPrice 최대 가격
+     * @param sort 정렬 기준 (RELEVANCE, PRICE_ASC, PRICE_DESC, VIEW_COUNT, SOLD_COUNT)
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (최대 100)
+     * @return 전체 결과 수와 해당 페이지 상품 목록
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResult> searchProducts(
+            @RequestParam(name = "q", required = false) String query,
+            @RequestParam(name = "minPrice", required = false) Integer minPrice,
+            @RequestParam(name = "maxPrice", required = false) Integer maxPrice,
+            @RequestParam(name = "sort", defaultValue = "RELEVANCE") ProductSearchSort sort,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size
     ) {
-        return ResponseEntity.ok(getTopProductsUseCase.getTopProducts(sortType));
+        return ResponseEntity.ok(productSearchService.search(query, minPrice, maxPrice, sort, page, size));
     }
 
 }
@@ -0,0 +1,49 @@
+package com.sparta.ecommerce.presentation.user.controller;
+
+import com.sparta.ecommerce.application.coupon.UserCouponService;
+import com.sparta.ecommerce.application.order.OrderService;
+import com.sparta.ecommerce.common.pagination.CursorPage;
+import com.sparta.ecommerce.domain.coupon.dto.UserCouponWalletResponse;
+import com.sparta.ecommerce.domain.order.dto.OrderHistoryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final OrderService orderService;
+    private final UserCouponService userCouponService;
+
+    /**
+     * 사용자 주문 내역 조회 (최신순)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 주문 목록(주문 상품 포함), 다음 페이지 커서
+     */
+    @GetMapping("/{userId}/orders")
+    public ResponseEntity<CursorPage<OrderHistoryResponse>> getOrders(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size) {
+        return ResponseEntity.ok(orderService.getOrderHistory(userId, cursor, size));
+    }
+
+    /**
+     * 사용자 쿠폰함 조회 (최근 발급순)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 사용자 쿠폰 목록(쿠폰 정보 포함), 다음 페이지 커서
+     */
+    @GetMapping("/{userId}/coupons")
+    public ResponseEntity<CursorPage<UserCouponWalletResponse>> getCoupons(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_SIZE) int size) {
+        return ResponseEntity.ok(userCouponService.getWallet(userId, cursor, size));
+    }
+}
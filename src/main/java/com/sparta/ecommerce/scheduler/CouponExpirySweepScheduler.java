@@ -0,0 +1,52 @@
+package com.sparta.ecommerce.scheduler;
+
+import com.sparta.ecommerce.application.coupon.CouponExpirySweepService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 쿠폰 정리 스케줄러
+ *
+ * 트래픽이 적은 시간대에 하루 한 번 실행합니다. 실행당 처리량이 제한되어 있어 남은 건은 다음 실행에서 이어서 처리됩니다.
+ *
+ * 정리는 청크 사이에 쉬면서 오래 실행되므로 전용 Executor(couponSweepExecutor)에서 실행하여,
+ * 공용 스케줄러 스레드의 다른 @Scheduled 작업이 밀리지 않게 합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.sweep.enabled", havingValue = "true", matchIfMissing = true)
+public class CouponExpirySweepScheduler {
+
+    private final CouponExpirySweepService couponExpirySweepService;
+    private final TaskExecutor couponSweepExecutor;
+
+    public CouponExpirySweepScheduler(
+            CouponExpirySweepService couponExpirySweepService,
+            @Qualifier("couponSweepExecutor") TaskExecutor couponSweepExecutor
+    ) {
+        this.couponExpirySweepService = couponExpirySweepService;
+        this.couponSweepExecutor = couponSweepExecutor;
+    }
+
+    @Scheduled(cron = "${coupon.sweep.cron:0 0 3 * * *}")
+    public void sweep() {
+        try {
+            couponSweepExecutor.execute(this::runSweep);
+        } catch (TaskRejectedException e) {
+            log.warn("만료 쿠폰 정리 생략 - 이전 실행 진행 중");
+        }
+    }
+
+    private void runSweep() {
+        try {
+            couponExpirySweepService.sweep();
+        } catch (Exception e) {
+            log.error("만료 쿠폰 정리 실패", e);
+        }
+    }
+}
@@ -1,64 +1,383 @@
 package com.sparta.ecommerce.scheduler;
 
+import com.sparta.ecommerce.application.coupon.CouponWaitingRoomService;
 import com.sparta.ecommerce.application.coupon.IssueCouponUseCase;
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import com.sparta.ecommerce.common.kafka.KafkaConsumerDrain;
+import com.sparta.ecommerce.domain.coupon.CouponIssueQueueRepository;
+import com.sparta.ecommerce.domain.coupon.exception.CouponErrorCode;
+import com.sparta.ecommerce.domain.coupon.exception.CouponException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 쿠폰 발급 요청 큐 Consumer
+ *
+ * 처리 흐름:
+ *   1. dispatcher 스레드가 BLMOVE로 첫 요청을 기다린 뒤, 최대 batchSize개까지 한 번에 처리 중 목록으로 옮깁니다.
+ *   2. 꺼낸 요청을 couponId 기준 파티션(worker)으로 나누어 전달합니다.
+ *      같은 쿠폰의 요청은 항상 같은 worker에서 순서대로 처리되고, 서로 다른 쿠폰은 병렬로 처리됩니다.
+ *   3. worker는 발급에 성공하거나 비즈니스 규칙으로 거절(CouponException)되면 요청을 처리 중 목록에서 제거(ack)합니다.
+ *      DB/Redis 오류 등 일시적인 실패는 큐 뒤쪽으로 되돌려 maxAttempts번까지 다시 처리합니다.
+ *      거절되었거나 재시도 횟수를 모두 사용하면 대기열에서 차감한 재고를 되돌립니다.
+ *
+ * 처리 중인 요청 수는 batchSize * workers로 제한됩니다.
+ *
+ * 복구 (at-least-once):
+ *   dispatcher가 heartbeatTtl/3 주기로 인스턴스 하트비트를 갱신하고, heartbeatTtl 주기로
+ *   하트비트가 만료된 인스턴스(비정상 종료된 Pod 등)의 처리 중 요청을 큐로 되돌립니다.
+ *   되돌린 요청이 이미 발급된 경우 중복 발급 검증으로 거절됩니다.
+ *   요청을 처리 중 목록으로 옮긴 뒤 수신 오류로 worker에 전달하지 못하면, 다음 수신 전에
+ *   처리 중인 요청이 모두 끝나기를 기다린 뒤 이 인스턴스의 처리 중 목록을 큐로 되돌립니다.
+ *
+ * 종료:
+ *   SmartLifecycle 중지 단계(Kafka Consumer 드레인과 같은 phase)에서 드레인하므로,
+ *   처리 중인 발급이 DB/Redis 빈 종료 전에 끝납니다. 시작은 준비 완료 이벤트에서 수행합니다.
+ *   worker는 시작할 때마다 새로 만들므로 중지 후 다시 시작할 수 있습니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "coupon.queue.consumer.enabled", havingValue = "true", matchIfMissing = true)
-public class CouponIssueQueueConsumer {
+public class CouponIssueQueueConsumer implements SmartLifecycle {
+
+    private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(1);
 
     private final IssueCouponUseCase issueCouponUseCase;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final CouponWaitingRoomService couponWaitingRoomService;
+    private final CouponIssueQueueRepository couponIssueQueueRepository;
+    private final int workers;
+    private final int batchSize;
+    private final long shutdownTimeoutMs;
+    private final Duration heartbeatTtl;
+    private final int maxAttempts;
+    private final int maxInFlight;
+
+    private volatile boolean running;
+    private Semaphore inFlight;
+    private ExecutorService[] partitions;
+    private Thread dispatcherThread;
+    private boolean recoverPending;
+    private long nextHeartbeatAt;
+    private long nextReapAt;
 
-    private static final String QUEUE_KEY = "coupon:issue:queue";
+    public CouponIssueQueueConsumer(
+            IssueCouponUseCase issueCouponUseCase,
+            CouponWaitingRoomService couponWaitingRoomService,
+            CouponIssueQueueRepository couponIssueQueueRepository,
+            @Value("${coupon.queue.consumer.workers:4}") int workers,
+            @Value("${coupon.queue.consumer.batch-size:50}") int batchSize,
+            @Value("${coupon.queue.consumer.shutdown-timeout-ms:10000}") long shutdownTimeoutMs,
+            @Value("${coupon.queue.consumer.heartbeat-ttl-ms:30000}") long heartbeatTtlMs,
+            @Value("${coupon.queue.consumer.max-attempts:3}") int maxAttempts
+    ) {
+        this.issueCouponUseCase = issueCouponUseCase;
+        this.couponWaitingRoomService = couponWaitingRoomService;
+        this.couponIssueQueueRepository = couponIssueQueueRepository;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.heartbeatTtl = Duration.ofMillis(heartbeatTtlMs);
+        this.maxAttempts = maxAttempts;
+        this.maxInFlight = workers * batchSize;
+    }
 
     /**
-     * 애플리케이션 시작 시 Consumer 스레드 실행
-     * BRPOP으로 큐에 데이터가 있을 때만 처리 (스케줄러 없이)
+     * 하트비트를 등록하고 만료된 인스턴스의 처리 중 요청을 복구한 뒤 worker와 dispatcher 스레드를 시작합니다.
+     *
+     * 애플리케이션 준비 완료 후 시작하여, 복구용 Redis 호출이 컨텍스트 초기화(기동 시간)를 지연시키지 않고
+     * 컨텍스트가 모두 준비되기 전에 발급 요청을 처리하지 않도록 합니다.
      */
-    @PostConstruct
+    @EventListener(ApplicationReadyEvent.class)
     public void startConsumer() {
-        Thread.startVirtualThread(() -> {
-            log.info("쿠폰 발급 Queue Consumer 시작");
+        if (running) {
+            return;
+        }
+        renewHeartbeat(System.nanoTime());
+        reapOrphaned(System.nanoTime());
 
-            while (!Thread.currentThread().isInterrupted()) {
-                try {
-                    // BRPOP: 데이터가 있을 때까지 블로킹 대기 (5초 타임아웃)
-                    String queueData = redisTemplate.opsForList()
-                            .rightPop(QUEUE_KEY, 5, TimeUnit.SECONDS);
+        // 이전 실행에서 중단된 worker의 permit 반환이 새 실행에 섞이지 않도록 실행마다 새로 생성
+        inFlight = new Semaphore(maxInFlight);
+        partitions = new ExecutorService[workers];
+        for (int i = 0; i < workers; i++) {
+            partitions[i] = Executors.newSingleThreadExecutor(
+                    Thread.ofVirtual().name("coupon-issue-worker-" + i).factory());
+        }
+        recoverPending = false;
+
+        running = true;
+        dispatcherThread = Thread.ofVirtual()
+                .name("coupon-issue-dispatcher")
+                .start(this::dispatch);
+        log.info("쿠폰 발급 Queue Consumer 시작 - workers: {}, batchSize: {}", workers, batchSize);
+    }
+
+    /**
+     * 준비 완료 이벤트에서 시작하므로 컨텍스트 refresh 시 자동 시작하지 않습니다.
+     */
+    @Override
+    public void start() {
+        startConsumer();
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return KafkaConsumerDrain.PHASE;
+    }
+
+    /**
+     * 신규 요청 수신을 중단하고, 이미 꺼낸 요청의 처리가 끝날 때까지 대기합니다.
+     * 종료 시간 내 처리하지 못한 요청은 처리 중 목록에 남고, 하트비트를 제거하여 다른 인스턴스가 바로 복구하도록 합니다.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            dispatcherThread.join(BLOCK_TIMEOUT.toMillis() * 2);
+            if (dispatcherThread.isAlive()) {
+                dispatcherThread.interrupt();
+                dispatcherThread.join(BLOCK_TIMEOUT.toMillis());
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMs);
+            for (ExecutorService partition : partitions) {
+                partition.shutdown();
+            }
+            for (ExecutorService partition : partitions) {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                if (!partition.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                    partition.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            couponIssueQueueRepository.clearHeartbeat();
+        } catch (Exception e) {
+            log.warn("쿠폰 발급 Queue Consumer 하트비트 제거 실패 - error: {}", e.getMessage());
+        }
+        log.info("쿠폰 발급 Queue Consumer 종료");
+    }
+
+    /**
+     * dispatcher 루프
+     */
+    private void dispatch() {
+        while (running) {
+            int permits = 0;
+            try {
+                long now = System.nanoTime();
+                if (now - nextHeartbeatAt >= 0) {
+                    renewHeartbeat(now);
+                }
+                if (now - nextReapAt >= 0) {
+                    reapOrphaned(now);
+                }
+                if (recoverPending && !recoverOwn()) {
+                    continue;
+                }
 
-                    if (queueData != null) {
-                        // "userId:couponId" 파싱
-                        String[] parts = queueData.split(":");
-                        Long userId = Long.parseLong(parts[0]);
-                        Long couponId = Long.parseLong(parts[1]);
+                // 처리 중 요청 수 제한 (worker가 밀리면 큐에서 더 꺼내지 않음)
+                if (!inFlight.tryAcquire(BLOCK_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    continue;
+                }
+                permits = 1;
+                while (permits < batchSize && inFlight.tryAcquire()) {
+                    permits++;
+                }
 
-                        // 쿠폰 발급 처리
-                        issueCouponUseCase.executeIssueCoupon(userId, couponId);
-                        log.info("쿠폰 발급 완료 - userId: {}, couponId: {}", userId, couponId);
-                    }
+                Optional<String> first = couponIssueQueueRepository.awaitNext(BLOCK_TIMEOUT);
+                if (first.isEmpty()) {
+                    continue;
+                }
+                List<String> batch = new ArrayList<>(permits);
+                batch.add(first.get());
+                batch.addAll(couponIssueQueueRepository.moveBatch(permits - 1));
+
+                inFlight.release(permits - batch.size());
+                permits = 0;
+                submit(batch);
 
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                // 종료 중 Redis 연결 해제로 인한 예외는 무시
+                if (running) {
+                    log.error("쿠폰 발급 요청 수신 실패 - error: {}", e.getMessage());
+                }
+                // 처리 중 목록으로 옮긴 요청이 worker에 전달되지 않았을 수 있으므로 다음 수신 전에 복구
+                recoverPending = true;
+            } finally {
+                inFlight.release(permits);
+            }
+        }
+    }
+
+    /**
+     * 처리 중인 요청이 모두 끝나면(permit을 모두 확보하면) 이 인스턴스의 처리 중 목록을 큐로 되돌립니다.
+     *
+     * @return 복구를 마쳤으면 true (처리 중인 요청이 남아 있으면 false)
+     */
+    private boolean recoverOwn() throws InterruptedException {
+        if (!inFlight.tryAcquire(maxInFlight, BLOCK_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        try {
+            long recovered = couponIssueQueueRepository.recoverOwn();
+            recoverPending = false;
+            if (recovered > 0) {
+                log.warn("전달되지 못한 쿠폰 발급 요청 복구 - count: {}", recovered);
+            }
+            return true;
+        } finally {
+            inFlight.release(maxInFlight);
+        }
+    }
+
+    private void renewHeartbeat(long now) {
+        couponIssueQueueRepository.heartbeat(heartbeatTtl);
+        nextHeartbeatAt = now + heartbeatTtl.toNanos() / 3;
+    }
+
+    private void reapOrphaned(long now) {
+        nextReapAt = now + heartbeatTtl.toNanos();
+        long recovered = couponIssueQueueRepository.recoverOrphaned();
+        if (recovered > 0) {
+            log.warn("처리되지 못한 쿠폰 발급 요청 복구 - count: {}", recovered);
+        }
+    }
+
+    /**
+     * couponId 기준으로 파티션을 나누어 worker에 전달합니다. (파티션 내 도착 순서 유지)
+     */
+    private void submit(List<String> batch) {
+        Semaphore permits = inFlight;
+        Map<Integer, List<QueueEntry>> byPartition = new LinkedHashMap<>();
+        for (String raw : batch) {
+            QueueEntry entry = QueueEntry.parse(raw);
+            if (entry == null) {
+                log.error("잘못된 쿠폰 발급 요청 형식 - entry: {}", raw);
+                try {
+                    couponIssueQueueRepository.acknowledge(raw);
                 } catch (Exception e) {
-                    // Redisson shutdown 에러는 로깅하지 않고 조용히 종료
-                    if (e.getMessage() != null &&
-                        (e.getMessage().contains("Redisson is shutdown") ||
-                         e.getMessage().contains("shutdown"))) {
-                        log.debug("Redis 연결 종료됨, Consumer 종료");
-                        break;
-                    }
-                    log.error("쿠폰 발급 실패 - error: {}", e.getMessage());
+                    log.error("쿠폰 발급 요청 ack 실패 - entry: {}, error: {}", raw, e.getMessage());
+                } finally {
+                    permits.release();
                 }
+                continue;
+            }
+            byPartition.computeIfAbsent(Math.floorMod(Long.hashCode(entry.couponId()), workers), key -> new ArrayList<>())
+                    .add(entry);
+        }
+
+        byPartition.forEach((partition, entries) ->
+                partitions[partition].execute(() -> entries.forEach(entry -> process(entry, permits))));
+    }
+
+    private void process(QueueEntry entry, Semaphore permits) {
+        try {
+            if (issue(entry)) {
+                couponIssueQueueRepository.acknowledge(entry.raw());
+            }
+        } catch (Exception e) {
+            // ack 실패 시 요청은 처리 중 목록에 남아 복구 후 중복 발급 검증으로 거절됨
+            log.error("쿠폰 발급 요청 ack 실패 - entry: {}, error: {}", entry.raw(), e.getMessage());
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * @return 처리가 끝난 요청이면 true (발급 성공 또는 거절), 재시도를 위해 큐로 되돌렸으면 false
+     */
+    private boolean issue(QueueEntry entry) {
+        try {
+            issueCouponUseCase.executeIssueCoupon(entry.userId(), entry.couponId());
+            log.info("쿠폰 발급 완료 - userId: {}, couponId: {}", entry.userId(), entry.couponId());
+            return true;
+        } catch (CouponException e) {
+            if (e.getErrorCode() == CouponErrorCode.COUPON_LOCK_TIMEOUT) {
+                retryOrGiveUp(entry, e);
+                return false;
+            }
+            log.warn("쿠폰 발급 거절 - userId: {}, couponId: {}, error: {}",
+                    entry.userId(), entry.couponId(), e.getMessage());
+            couponWaitingRoomService.releaseSlot(entry.couponId(), entry.userId(), e);
+            return true;
+        } catch (Exception e) {
+            retryOrGiveUp(entry, e);
+            return false;
+        }
+    }
+
+    /**
+     * 일시적인 실패는 큐로 되돌리고, 재시도 횟수를 모두 사용했으면 포기하고 대기열 재고를 되돌립니다.
+     * Redis 오류로 되돌리지 못한 요청은 처리 중 목록에 남아 하트비트 만료 또는 재시작 시 복구됩니다.
+     */
+    private void retryOrGiveUp(QueueEntry entry, Exception cause) {
+        try {
+            if (couponIssueQueueRepository.requeue(entry.raw(), maxAttempts)) {
+                log.warn("쿠폰 발급 실패, 재시도 - userId: {}, couponId: {}, error: {}",
+                        entry.userId(), entry.couponId(), cause.getMessage());
+                return;
+            }
+            log.error("쿠폰 발급 재시도 횟수 초과 - userId: {}, couponId: {}, error: {}",
+                    entry.userId(), entry.couponId(), cause.getMessage());
+            couponWaitingRoomService.releaseSlot(entry.couponId(), entry.userId(), cause);
+        } catch (Exception e) {
+            log.error("쿠폰 발급 요청 재시도 등록 실패 - userId: {}, couponId: {}, error: {}",
+                    entry.userId(), entry.couponId(), e.getMessage());
+        }
+    }
+
+    /**
+     * "userId:couponId" 형식의 큐 요청
+     */
+    record QueueEntry(String raw, long userId, long couponId) {
+
+        /**
+         * @return 파싱 결과 (형식이 잘못된 경우 null)
+         */
+        static QueueEntry parse(String raw) {
+            int separator = raw.indexOf(':');
+            if (separator <= 0 || separator == raw.length() - 1) {
+                return null;
+            }
+            try {
+                long userId = Long.parseLong(raw, 0, separator, 10);
+                long couponId = Long.parseLong(raw, separator + 1, raw.length(), 10);
+                return new QueueEntry(raw, userId, couponId);
+            } catch (NumberFormatException e) {
+                return null;
             }
-            log.info("쿠폰 발급 Queue Consumer 종료");
-        });
+        }
     }
 }
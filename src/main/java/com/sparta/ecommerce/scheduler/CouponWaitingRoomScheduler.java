@@ -0,0 +1,23 @@
+package com.sparta.ecommerce.scheduler;
+
+import com.sparta.ecommerce.application.coupon.CouponWaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 대기열 입장 스케줄러
+ *
+ * 일정 주기마다 대기열 앞쪽 사용자를 발급 파이프라인으로 입장시켜 발급 처리량을 일정하게 제한합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponWaitingRoomScheduler {
+
+    private final CouponWaitingRoomService couponWaitingRoomService;
+
+    @Scheduled(fixedDelayString = "${coupon.waiting-room.admit-interval-ms:1000}")
+    public void admit() {
+        couponWaitingRoomService.admitAll();
+    }
+}
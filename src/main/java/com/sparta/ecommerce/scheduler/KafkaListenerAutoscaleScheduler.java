@@ -0,0 +1,32 @@
+package com.sparta.ecommerce.scheduler;
+
+import com.sparta.ecommerce.common.kafka.KafkaListenerAutoscaler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka 리스너 concurrency 자동 조정 스케줄러
+ *
+ * 주기적으로 토픽별 Consumer 그룹 지연을 조회하여 리스너 concurrency를 조정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kafka.autoscale.enabled", havingValue = "true")
+public class KafkaListenerAutoscaleScheduler {
+
+    private final KafkaListenerAutoscaler kafkaListenerAutoscaler;
+
+    @Scheduled(initialDelayString = "${kafka.autoscale.interval-ms:10000}",
+            fixedDelayString = "${kafka.autoscale.interval-ms:10000}")
+    public void autoscale() {
+        try {
+            kafkaListenerAutoscaler.autoscale();
+        } catch (Exception e) {
+            log.warn("리스너 concurrency 자동 조정 실패 - error: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.sparta.ecommerce.scheduler;
+
+import com.sparta.ecommerce.application.order.OrderSagaRecoveryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 사가 복구 스케줄러
+ *
+ * 시작 직후(initial-delay) 한 번, 이후 주기적으로 오래된 PENDING 주문의 사가를 재개합니다.
+ * 이전 인스턴스가 종료 드레인으로 넘겼거나 비정상 종료로 남긴 주문이 재시작 후 바로 처리됩니다.
+ *
+ * 복구는 전용 Executor(orderSagaRecoveryExecutor)에서 실행하여 다른 @Scheduled 작업을 막지 않으며,
+ * 이전 실행이 아직 진행 중이면 이번 실행은 건너뜁니다.
+ * 여러 인스턴스 간 중복 실행은 OrderSagaRecoveryService의 분산 락으로 막습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.saga.recovery.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderSagaRecoveryScheduler {
+
+    private final OrderSagaRecoveryService orderSagaRecoveryService;
+    private final TaskExecutor orderSagaRecoveryExecutor;
+
+    public OrderSagaRecoveryScheduler(
+            OrderSagaRecoveryService orderSagaRecoveryService,
+            @Qualifier("orderSagaRecoveryExecutor") TaskExecutor orderSagaRecoveryExecutor
+    ) {
+        this.orderSagaRecoveryService = orderSagaRecoveryService;
+        this.orderSagaRecoveryExecutor = orderSagaRecoveryExecutor;
+    }
+
+    @Scheduled(initialDelayString = "${order.saga.recovery.initial-delay-ms:10000}",
+            fixedDelayString = "${order.saga.recovery.interval-ms:60000}")
+    public void recover() {
+        try {
+            orderSagaRecoveryExecutor.execute(this::recoverStalePendingOrders);
+        } catch (TaskRejectedException e) {
+            log.debug("PENDING 주문 사가 복구 생략 - 이전 실행 진행 중");
+        }
+    }
+
+    private void recoverStalePendingOrders() {
+        try {
+            int recovered = orderSagaRecoveryService.recoverStalePendingOrders();
+            if (recovered > 0) {
+                log.info("PENDING 주문 사가 재개 완료 - count: {}", recovered);
+            }
+        } catch (Exception e) {
+            log.warn("PENDING 주문 사가 복구 실패 - error: {}", e.getMessage());
+        }
+    }
+}
@@ -24,8 +24,9 @@ public class PopularProductCacheScheduler {
      * 매일 00시에 인기 상품 캐시 워밍 실행
      *
      * 기존 캐시를 모두 삭제한 후, 조회수 기준과 판매량 기준 모두 캐시에 적재
+     * (상품 목록 캐시와 HTTP 응답 본문 캐시 모두, 워밍 전에 삭제)
      */
-    @CacheEvict(value = "topProducts", allEntries = true)
+    @CacheEvict(value = {"topProducts", "topProductsPayload"}, allEntries = true, beforeInvocation = true)
     @Scheduled(cron = "0 0 0 * * *")
     public void warmUpPopularProductsCache() {
         log.info("========== 인기 상품 캐시 워밍 시작 ==========");
@@ -34,12 +35,14 @@ public class PopularProductCacheScheduler {
             // 조회수 기준 인기 상품 캐시 워밍
             long startView = System.currentTimeMillis();
             getTopProductsUseCase.getTopProducts(ProductSortType.VIEW_COUNT);
+            getTopProductsUseCase.getTopProductsPayload(ProductSortType.VIEW_COUNT);
             long endView = System.currentTimeMillis();
             log.info("조회수 기준 인기 상품 캐시 워밍 완료 - {}ms", (endView - startView));
 
             // 판매량 기준 인기 상품 캐시 워밍
             long startSold = System.currentTimeMillis();
             getTopProductsUseCase.getTopProducts(ProductSortType.SOLD_COUNT);
+            getTopProductsUseCase.getTopProductsPayload(ProductSortType.SOLD_COUNT);
             long endSold = System.currentTimeMillis();
             log.info("판매량 기준 인기 상품 캐시 워밍 완료 - {}ms", (endSold - startSold));
 
@@ -0,0 +1,28 @@
+package com.sparta.ecommerce.scheduler;
+
+import com.sparta.ecommerce.application.order.ProductSalesSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 판매량 집계 정합성 검증 스케줄러
+ *
+ * 주문 상품 전체 집계 쿼리를 실행하므로 트래픽이 적은 시간대에 하루 한 번 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSalesSummaryConsistencyScheduler {
+
+    private final ProductSalesSummaryService productSalesSummaryService;
+
+    @Scheduled(cron = "${order.sales-summary.consistency.cron:0 30 4 * * *}")
+    public void checkConsistency() {
+        Set<Long> mismatched = productSalesSummaryService.checkConsistency();
+        log.info("판매량 집계 정합성 검증 완료 - 불일치 상품 수: {}", mismatched.size());
+    }
+}
@@ -0,0 +1,41 @@
+package com.sparta.ecommerce.scheduler;
+
+import com.sparta.ecommerce.application.product.ProductSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 검색 색인 갱신 스케줄러
+ *
+ * - 조회수/판매량 정렬 값을 주기적으로 갱신합니다.
+ * - 변경 전파 유실이나 애플리케이션 밖의 변경에 대비해 주기적으로 전체 재색인합니다. (삭제 표시된 문서도 정리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexScheduler {
+
+    private final ProductSearchService productSearchService;
+
+    @Scheduled(fixedDelayString = "${product.search.metrics-refresh-interval-ms:30000}",
+            initialDelayString = "${product.search.metrics-refresh-interval-ms:30000}")
+    public void refreshMetrics() {
+        try {
+            productSearchService.refreshMetrics();
+        } catch (Exception e) {
+            log.warn("상품 검색 정렬 값 갱신 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.search.rebuild-interval-ms:600000}",
+            initialDelayString = "${product.search.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            productSearchService.rebuild();
+        } catch (Exception e) {
+            log.warn("상품 검색 전체 재색인 실패 - error: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.sparta.ecommerce.scheduler;
+
+import com.sparta.ecommerce.application.product.ProductStockShardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 샤딩 재고 재분배 스케줄러
+ *
+ * 예약이 일부 버킷에 치우쳐 빈 버킷이 생기면 분할 차감이 늘어나므로,
+ * 주기적으로 버킷 재고를 균등하게 재분배하고 Product.quantity(집계 값)를 동기화합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductStockRebalanceScheduler {
+
+    private final ProductStockShardService productStockShardService;
+
+    @Scheduled(fixedDelayString = "${product.stock.sharding.rebalance-interval-ms:5000}")
+    public void rebalance() {
+        int rebalanced = productStockShardService.rebalanceAll();
+        if (rebalanced > 0) {
+            log.debug("샤딩 재고 재분배 완료 - 상품 수: {}", rebalanced);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.sparta.ecommerce.scheduler;
+
+import com.sparta.ecommerce.common.datasource.ReplicaRoutingDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read Replica 복제 지연 확인 스케줄러
+ *
+ * 복제 지연이 datasource.replica.max-lag-seconds를 넘은 Replica는 조회 대상에서 제외하고,
+ * 지연이 해소되면 다시 포함합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaLagCheckScheduler {
+
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void checkReplicaLag() {
+        replicaRoutingDataSource.checkReplicaLag();
+    }
+}
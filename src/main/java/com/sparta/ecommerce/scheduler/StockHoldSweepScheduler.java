@@ -0,0 +1,33 @@
+package com.sparta.ecommerce.scheduler;
+
+import com.sparta.ecommerce.application.product.StockHoldService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 재고 점유 정리 스케줄러
+ *
+ * 사가가 처리하지 못한 주문(메시지 유실, 처리 지연 등)의 점유가 가용 재고를 계속 차지하지 않도록
+ * 주기적으로 만료된 점유를 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockHoldSweepScheduler {
+
+    private final StockHoldService stockHoldService;
+
+    @Scheduled(fixedDelayString = "${product.stock-hold.sweep-interval-ms:5000}")
+    public void sweep() {
+        try {
+            int released = stockHoldService.releaseExpired();
+            if (released > 0) {
+                log.info("만료 재고 점유 정리 완료 - 정리 수: {}", released);
+            }
+        } catch (Exception e) {
+            log.warn("만료 재고 점유 정리 실패 - error: {}", e.getMessage());
+        }
+    }
+}
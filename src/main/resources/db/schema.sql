@@ -14,10 +14,22 @@ CREATE TABLE IF NOT EXISTS product (
     description  VARCHAR(200)                                                       COMMENT '상품 설명',
     quantity     INT          DEFAULT 0                                             COMMENT '재고 수량',
     price        INT          NOT NULL                                              COMMENT '상품 가격',
-    views        INT          DEFAULT 0                                             COMMENT '조회수',
+    view_count   INT          DEFAULT 0                                             COMMENT '조회수',
     created_at   DATETIME     DEFAULT CURRENT_TIMESTAMP                             COMMENT '생성일시',
     updated_at   DATETIME     DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시'
 );
+-- 조회수 인기 상품 (ORDER BY view_count DESC LIMIT N → 인덱스 역순 탐색, filesort 없음)
+CREATE INDEX idx_product_view_count ON product(view_count);
+
+-- 상품 재고 버킷 테이블 (주문이 몰리는 상품의 재고 샤딩)
+CREATE TABLE IF NOT EXISTS product_stock_bucket (
+    product_stock_bucket_id BIGINT   PRIMARY KEY AUTO_INCREMENT COMMENT '재고 버킷 ID',
+    product_id              BIGINT   NOT NULL                   COMMENT '상품 ID',
+    bucket_no               INT      NOT NULL                   COMMENT '버킷 번호 (0 ~ N-1)',
+    quantity                INT      NOT NULL DEFAULT 0         COMMENT '버킷 재고 수량',
+    updated_at              DATETIME DEFAULT CURRENT_TIMESTAMP  COMMENT '수정일시',
+    UNIQUE(product_id, bucket_no)
+);
 
 -- 쿠폰 테이블
 CREATE TABLE IF NOT EXISTS coupon (
@@ -31,6 +43,8 @@ CREATE TABLE IF NOT EXISTS coupon (
     create_at       DATETIME     DEFAULT CURRENT_TIMESTAMP  COMMENT '생성일시',
     expires_at      DATETIME                                COMMENT '만료일시'
 );
+-- 만료 쿠폰 정리 대상 조회
+CREATE INDEX idx_coupon_expires_at ON coupon(expires_at);
 
 -- 사용자별 쿠폰 테이블
 CREATE TABLE IF NOT EXISTS user_coupon (
@@ -42,11 +56,25 @@ CREATE TABLE IF NOT EXISTS user_coupon (
     used_at        TIMESTAMP NULL                       COMMENT '사용일시',
     UNIQUE(user_id, coupon_id)
 );
-CREATE INDEX idx_user_coupon_user_id   ON user_coupon(user_id);
+-- 사용자 쿠폰함 키셋 페이지네이션 (user_id 고정, issued_at/user_coupon_id 역순 스캔으로 filesort 없이 정렬)
+-- 사용자+쿠폰 단건 조회는 UNIQUE(user_id, coupon_id)로 처리
+CREATE INDEX idx_user_coupon_user_issued ON user_coupon(user_id, issued_at, user_coupon_id);
 CREATE INDEX idx_user_coupon_coupon_id ON user_coupon(coupon_id);
 
+-- 만료 쿠폰의 사용자 쿠폰 보관 테이블 (보관 기간이 지난 만료 쿠폰의 user_coupon 행을 청크 단위로 이동)
+CREATE TABLE IF NOT EXISTS user_coupon_archive (
+    user_coupon_id BIGINT    PRIMARY KEY                COMMENT '사용자 쿠폰 ID (원본과 동일)',
+    user_id        BIGINT    NOT NULL                   COMMENT '사용자 ID',
+    coupon_id      BIGINT    NOT NULL                   COMMENT '쿠폰 ID',
+    used           BOOLEAN   DEFAULT FALSE              COMMENT '사용 여부',
+    issued_at      TIMESTAMP NULL                       COMMENT '발급일시',
+    used_at        TIMESTAMP NULL                       COMMENT '사용일시',
+    archived_at    TIMESTAMP DEFAULT CURRENT_TIMESTAMP  COMMENT '보관일시'
+);
+CREATE INDEX idx_user_coupon_archive_user_id ON user_coupon_archive(user_id);
+
 -- 주문 테이블
-CREATE TABLE IF NOT EXISTS `order` (
+CREATE TABLE IF NOT EXISTS orders (
     order_id        BIGINT      PRIMARY KEY AUTO_INCREMENT COMMENT '주문 ID',
     user_id         BIGINT      NOT NULL                   COMMENT '사용자 ID',
     user_coupon_id  BIGINT      NULL                       COMMENT '사용된 쿠폰 ID',
@@ -56,7 +84,10 @@ CREATE TABLE IF NOT EXISTS `order` (
     status          VARCHAR(50) NOT NULL                   COMMENT '주문 상태 (PENDING, COMPLETED, CANCELLED)',
     created_at      TIMESTAMP   DEFAULT CURRENT_TIMESTAMP  COMMENT '주문일시'
 );
-CREATE INDEX idx_order_user_id ON `order`(user_id);
+-- 사용자 주문 내역 키셋 페이지네이션 (user_id 고정, created_at/order_id 역순 스캔으로 filesort 없이 정렬)
+CREATE INDEX idx_order_user_created ON orders(user_id, created_at, order_id);
+-- 완료 주문 필터 (판매량 집계 검증/백필)
+CREATE INDEX idx_order_status  ON orders(status);
 
 -- 주문 상품 상세 테이블
 CREATE TABLE IF NOT EXISTS order_item (
@@ -69,8 +100,35 @@ CREATE TABLE IF NOT EXISTS order_item (
     price         INT          NOT NULL                   COMMENT '단가',
     created_at    TIMESTAMP    DEFAULT CURRENT_TIMESTAMP  COMMENT '생성일시'
 );
-CREATE INDEX idx_order_item_order_id   ON order_item(order_id);
-CREATE INDEX idx_order_item_product_id ON order_item(product_id);
+CREATE INDEX idx_order_item_order_id ON order_item(order_id);
+-- 상품별 판매량 집계 커버링 인덱스 (product_id 순 스캔으로 GROUP BY, 테이블 접근 없이 quantity 합산)
+CREATE INDEX idx_order_item_product_order_quantity ON order_item(product_id, order_id, quantity);
+
+-- 상품별 판매량 집계 테이블 (완료된 주문 기준, 주문 완료 시 증분 갱신)
+CREATE TABLE IF NOT EXISTS product_sales_summary (
+    product_id BIGINT   PRIMARY KEY                COMMENT '상품 ID',
+    sold_count BIGINT   NOT NULL DEFAULT 0         COMMENT '판매량',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP  COMMENT '수정일시'
+);
+CREATE INDEX idx_product_sales_summary_sold_count ON product_sales_summary(sold_count);
+
+-- 주문 사가 단계 처리 이력 테이블 (멱등 Consumer)
+CREATE TABLE IF NOT EXISTS processed_order_step (
+    processed_order_step_id BIGINT      PRIMARY KEY AUTO_INCREMENT COMMENT '처리 단계 ID',
+    order_id                BIGINT      NOT NULL                   COMMENT '주문 ID',
+    step                    VARCHAR(20) NOT NULL                   COMMENT '처리 단계 (STOCK, POINT, COUPON, RANKING, COMPENSATION, *_RESTORE)',
+    processed_at            TIMESTAMP   DEFAULT CURRENT_TIMESTAMP  COMMENT '처리일시',
+    UNIQUE(order_id, step)
+);
+
+-- 주문 ID가 없는 이전 버전 복구 이벤트 처리 이력 테이블 (이벤트 내용 키로 멱등 처리)
+CREATE TABLE IF NOT EXISTS processed_legacy_restore (
+    processed_legacy_restore_id BIGINT      PRIMARY KEY AUTO_INCREMENT COMMENT '처리 이력 ID',
+    event_key                   VARCHAR(64) NOT NULL                   COMMENT '이벤트 내용 키 (SHA-256 hex)',
+    step                        VARCHAR(20) NOT NULL                   COMMENT '보상 단계 (*_RESTORE)',
+    processed_at                TIMESTAMP   DEFAULT CURRENT_TIMESTAMP  COMMENT '처리일시',
+    UNIQUE(event_key, step)
+);
 
 -- 포인트 이력 테이블
 CREATE TABLE IF NOT EXISTS point_log (
@@ -0,0 +1,136 @@
+package com.sparta.ecommerce.application.coupon;
+
+import com.sparta.ecommerce.common.transaction.TransactionHandler;
+import com.sparta.ecommerce.domain.coupon.CouponRepository;
+import com.sparta.ecommerce.domain.coupon.CouponWaitingRoomRepository;
+import com.sparta.ecommerce.domain.coupon.UserCouponRepository;
+import com.sparta.ecommerce.domain.coupon.dto.CouponSweepResult;
+import com.sparta.ecommerce.domain.coupon.entity.Coupon;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponExpirySweepServiceTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @Mock
+    private CouponWaitingRoomRepository couponWaitingRoomRepository;
+
+    @Mock
+    private TransactionHandler transactionHandler;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    @BeforeEach
+    void setUp() {
+        given(redissonClient.getLock("coupon:sweep:lock")).willReturn(lock);
+    }
+
+    @Test
+    @DisplayName("만료 쿠폰의 사용자 쿠폰을 청크 단위로 모두 보관하고, 만료된 쿠폰의 대기열 상태를 삭제한다")
+    void sweep_archivesInChunks() {
+        // given
+        CouponExpirySweepService service = service(100, 1_000);
+        givenLockAcquired();
+        given(couponWaitingRoomRepository.findOpenCouponIds()).willReturn(Set.of(1L, 2L));
+        given(couponRepository.findById(1L)).willReturn(Optional.of(coupon(1L, LocalDateTime.now().minusDays(1))));
+        given(couponRepository.findById(2L)).willReturn(Optional.of(coupon(2L, LocalDateTime.now().plusDays(1))));
+        given(couponRepository.findExpiredCouponIdsWithUserCoupons(any(), anyInt()))
+                .willReturn(List.of(10L, 11L))
+                .willReturn(List.of());
+        given(userCouponRepository.archiveByCouponId(10L, 100)).willReturn(100, 100, 30);
+        given(userCouponRepository.archiveByCouponId(11L, 100)).willReturn(5);
+
+        // when
+        Optional<CouponSweepResult> result = service.sweep();
+
+        // then
+        assertThat(result).contains(new CouponSweepResult(2, 235, 1, true));
+        verify(userCouponRepository, times(3)).archiveByCouponId(10L, 100);
+        verify(couponWaitingRoomRepository).remove(1L);
+        verify(couponWaitingRoomRepository, never()).remove(2L);
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("실행당 최대 건수에 도달하면 중단하고 남은 건은 다음 실행으로 넘긴다")
+    void sweep_stopsAtMaxRowsPerRun() {
+        // given
+        CouponExpirySweepService service = service(100, 250);
+        givenLockAcquired();
+        given(couponWaitingRoomRepository.findOpenCouponIds()).willReturn(Set.of());
+        given(couponRepository.findExpiredCouponIdsWithUserCoupons(any(), anyInt())).willReturn(List.of(10L));
+        given(userCouponRepository.archiveByCouponId(10L, 100)).willReturn(100, 100);
+        given(userCouponRepository.archiveByCouponId(10L, 50)).willReturn(50);
+
+        // when
+        Optional<CouponSweepResult> result = service.sweep();
+
+        // then - 마지막 청크는 남은 한도(50건)만큼만 요청
+        assertThat(result).contains(new CouponSweepResult(0, 250, 0, false));
+        verify(couponRepository, times(1)).findExpiredCouponIdsWithUserCoupons(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 실행 중이면 정리하지 않는다")
+    void sweep_lockNotAcquired() {
+        // given
+        CouponExpirySweepService service = service(100, 1_000);
+        given(lock.tryLock()).willReturn(false);
+
+        // when
+        Optional<CouponSweepResult> result = service.sweep();
+
+        // then
+        assertThat(result).isEmpty();
+        verify(couponRepository, never()).findExpiredCouponIdsWithUserCoupons(any(), anyInt());
+        verify(userCouponRepository, never()).archiveByCouponId(anyLong(), eq(100));
+    }
+
+    private CouponExpirySweepService service(int chunkSize, long maxRowsPerRun) {
+        return new CouponExpirySweepService(couponRepository, userCouponRepository, couponWaitingRoomRepository,
+                transactionHandler, redissonClient, 30, chunkSize, 0, maxRowsPerRun);
+    }
+
+    private void givenLockAcquired() {
+        given(lock.tryLock()).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(transactionHandler.executeWithResult(any())).willAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(0)).get());
+    }
+
+    private Coupon coupon(Long couponId, LocalDateTime expiresAt) {
+        return new Coupon(couponId, "쿠폰", "AMOUNT", 1000, 100, 10, 0, LocalDateTime.now().minusDays(60), expiresAt);
+    }
+}
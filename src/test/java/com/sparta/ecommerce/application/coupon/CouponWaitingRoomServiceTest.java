@@ -0,0 +1,140 @@
+package com.sparta.ecommerce.application.coupon;
+
+import com.sparta.ecommerce.application.user.UserService;
+import com.sparta.ecommerce.domain.coupon.CouponQueueStatus;
+import com.sparta.ecommerce.domain.coupon.CouponWaitingRoomRepository;
+import com.sparta.ecommerce.domain.coupon.dto.CouponQueueResponse;
+import com.sparta.ecommerce.domain.coupon.entity.Coupon;
+import com.sparta.ecommerce.domain.coupon.exception.CouponException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.sparta.ecommerce.domain.coupon.exception.CouponErrorCode.COUPON_ALREADY_ISSUED;
+import static com.sparta.ecommerce.domain.coupon.exception.CouponErrorCode.COUPON_OUT_OF_STOCK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponWaitingRoomServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private UserCouponService userCouponService;
+
+    @Mock
+    private CouponWaitingRoomRepository couponWaitingRoomRepository;
+
+    private CouponWaitingRoomService couponWaitingRoomService;
+
+    @BeforeEach
+    void setUp() {
+        couponWaitingRoomService = new CouponWaitingRoomService(
+                userService, couponService, userCouponService, couponWaitingRoomRepository, 50);
+    }
+
+    @Test
+    @DisplayName("대기열 입장 - 남은 수량으로 재고를 초기화하고 1부터 시작하는 순번을 반환한다")
+    void enter_success() {
+        // given
+        Coupon coupon = new Coupon(1L, "선착순 쿠폰", "AMOUNT", 1000, 100, 30, 0,
+                LocalDateTime.now(), LocalDateTime.now().plusDays(1));
+        given(couponService.getCouponById(1L)).willReturn(coupon);
+        given(userCouponService.hasCoupon(10L, 1L)).willReturn(false);
+        given(couponWaitingRoomRepository.enter(eq(1L), eq(10L), anyLong())).willReturn(4L);
+
+        // when
+        CouponQueueResponse response = couponWaitingRoomService.enter(1L, 10L);
+
+        // then
+        assertThat(response.status()).isEqualTo(CouponQueueStatus.WAITING);
+        assertThat(response.position()).isEqualTo(5L);
+        verify(couponWaitingRoomRepository).initializeStock(1L, 70);
+    }
+
+    @Test
+    @DisplayName("대기열 입장 - 이미 발급받은 사용자는 대기열에 들어가지 않는다")
+    void enter_alreadyIssued() {
+        // given
+        Coupon coupon = new Coupon(1L, "선착순 쿠폰", "AMOUNT", 1000, 100, 30, 0,
+                LocalDateTime.now(), LocalDateTime.now().plusDays(1));
+        given(couponService.getCouponById(1L)).willReturn(coupon);
+        given(userCouponService.hasCoupon(10L, 1L)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> couponWaitingRoomService.enter(1L, 10L))
+                .isInstanceOf(CouponException.class)
+                .extracting("errorCode")
+                .isEqualTo(COUPON_ALREADY_ISSUED);
+        verify(couponWaitingRoomRepository, never()).enter(eq(1L), eq(10L), anyLong());
+    }
+
+    @Test
+    @DisplayName("대기열 상태 조회 - 대기열이 종료되고 입장하지 못한 사용자는 SOLD_OUT")
+    void getQueueStatus_soldOut() {
+        // given
+        given(couponWaitingRoomRepository.findRank(1L, 10L)).willReturn(Optional.empty());
+        given(couponWaitingRoomRepository.isAdmitted(1L, 10L)).willReturn(false);
+        given(couponWaitingRoomRepository.isClosed(1L)).willReturn(true);
+
+        // when
+        CouponQueueResponse response = couponWaitingRoomService.getQueueStatus(1L, 10L);
+
+        // then
+        assertThat(response.status()).isEqualTo(CouponQueueStatus.SOLD_OUT);
+        assertThat(response.position()).isNull();
+    }
+
+    @Test
+    @DisplayName("입장 처리 - 열려 있는 대기열마다 배치 크기만큼 입장시킨다")
+    void admitAll_admitsBatchPerCoupon() {
+        // given
+        given(couponWaitingRoomRepository.findOpenCouponIds()).willReturn(Set.of(1L, 2L));
+        given(couponWaitingRoomRepository.admit(1L, 50)).willReturn(List.of(10L, 11L));
+        given(couponWaitingRoomRepository.admit(2L, 50)).willReturn(List.of());
+
+        // when
+        int admitted = couponWaitingRoomService.admitAll();
+
+        // then
+        assertThat(admitted).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재고 반환 - 발급에 실패한 사용자의 대기열 재고를 되돌린다")
+    void releaseSlot_issueFailed() {
+        // when
+        couponWaitingRoomService.releaseSlot(1L, 10L, new CouponException(COUPON_ALREADY_ISSUED));
+
+        // then
+        verify(couponWaitingRoomRepository).releaseSlot(1L, 10L);
+    }
+
+    @Test
+    @DisplayName("재고 반환 - DB 재고가 소진되어 실패한 경우 대기열 재고를 되돌리지 않는다")
+    void releaseSlot_outOfStock_notReleased() {
+        // when
+        couponWaitingRoomService.releaseSlot(1L, 10L, new CouponException(COUPON_OUT_OF_STOCK));
+
+        // then
+        verify(couponWaitingRoomRepository, never()).releaseSlot(1L, 10L);
+    }
+}
@@ -2,6 +2,7 @@ package com.sparta.ecommerce.application.coupon;
 
 import com.sparta.ecommerce.application.coupon.event.CouponIssueEvent;
 import com.sparta.ecommerce.application.user.UserService;
+import com.sparta.ecommerce.common.kafka.KafkaPublishGateway;
 import com.sparta.ecommerce.domain.coupon.CouponRepository;
 import com.sparta.ecommerce.domain.coupon.entity.Coupon;
 import com.sparta.ecommerce.domain.coupon.entity.UserCoupon;
@@ -45,6 +46,9 @@ class IssueCouponUseCaseTest {
     @Mock
     private KafkaTemplate<String, CouponIssueEvent> kafkaTemplate;
 
+    @Mock
+    private KafkaPublishGateway kafkaPublishGateway;
+
     @InjectMocks
     private IssueCouponUseCase issueCouponUseCase;
 
@@ -82,7 +86,7 @@ class IssueCouponUseCaseTest {
 
         // Kafka 메시지 발행 검증
         ArgumentCaptor<CouponIssueEvent> eventCaptor = ArgumentCaptor.forClass(CouponIssueEvent.class);
-        verify(kafkaTemplate).send(eq("coupon-issue-topic"), eventCaptor.capture());
+        verify(kafkaPublishGateway).publish(eq(kafkaTemplate), eq("coupon-issue-topic"), eventCaptor.capture());
 
         CouponIssueEvent capturedEvent = eventCaptor.getValue();
         assertThat(capturedEvent.userId()).isEqualTo(userId);
@@ -117,7 +121,7 @@ class IssueCouponUseCaseTest {
                 .isInstanceOf(CouponException.class)
                 .hasMessageContaining(COUPON_EXPIRED.getMessage());
 
-        verify(kafkaTemplate, never()).send(any(), any(CouponIssueEvent.class));
+        verify(kafkaPublishGateway, never()).publish(any(), any(), any(CouponIssueEvent.class));
     }
 
     @Test
@@ -207,7 +211,7 @@ class IssueCouponUseCaseTest {
                 .isInstanceOf(CouponException.class)
                 .hasMessageContaining(COUPON_ALREADY_ISSUED.getMessage());
 
-        verify(kafkaTemplate, never()).send(any(), any(CouponIssueEvent.class));
+        verify(kafkaPublishGateway, never()).publish(any(), any(), any(CouponIssueEvent.class));
     }
 
     @Test
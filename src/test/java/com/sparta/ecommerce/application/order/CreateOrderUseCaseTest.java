@@ -4,13 +4,17 @@ import com.sparta.ecommerce.application.cart.CartService;
 import com.sparta.ecommerce.application.coupon.UserCouponService;
 import com.sparta.ecommerce.application.order.event.OrderCreatedEvent;
 import com.sparta.ecommerce.application.product.ProductService;
+import com.sparta.ecommerce.application.product.StockHoldService;
 import com.sparta.ecommerce.application.user.UserService;
+import com.sparta.ecommerce.common.kafka.KafkaPublishGateway;
+import com.sparta.ecommerce.common.kafka.KafkaPublishRejectedException;
 import com.sparta.ecommerce.common.transaction.TransactionHandler;
 import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
 import com.sparta.ecommerce.domain.coupon.entity.Coupon;
 import com.sparta.ecommerce.domain.coupon.entity.UserCoupon;
 import com.sparta.ecommerce.domain.order.entity.Order;
 import com.sparta.ecommerce.domain.product.ProductRankingRepository;
+import com.sparta.ecommerce.domain.product.dto.ProductSnapshot;
 import com.sparta.ecommerce.domain.product.entity.Product;
 import com.sparta.ecommerce.domain.product.exception.ProductException;
 import com.sparta.ecommerce.domain.user.entity.User;
@@ -32,6 +36,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static com.sparta.ecommerce.domain.product.exception.ProductErrorCode.INSUFFICIENT_STOCK;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -59,6 +64,9 @@ class CreateOrderUseCaseTest {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private StockHoldService stockHoldService;
+
     @Mock
     private RedissonClient redissonClient;
 
@@ -68,6 +76,9 @@ class CreateOrderUseCaseTest {
     @Mock
     private TransactionHandler transactionHandler;
 
+    @Mock
+    private OrderGroupCommitWriter orderGroupCommitWriter;
+
     @Mock
     private ProductRankingRepository productRankingRepository;
 
@@ -77,6 +88,9 @@ class CreateOrderUseCaseTest {
     @Mock
     private org.springframework.kafka.core.KafkaTemplate<String, OrderCreatedEvent> orderCreatedKafkaTemplate;
 
+    @Mock
+    private KafkaPublishGateway kafkaPublishGateway;
+
     @InjectMocks
     private CreateOrderUseCase createOrderUseCase;
 
@@ -193,7 +207,7 @@ class CreateOrderUseCaseTest {
 
         // 상품 (초기 재고 100개, 가격 10,000원)
         Product product = new Product(productId, "테스트상품", "설명", 100, 10000, 50, now, now);
-        given(productService.getProductMapByIds(any())).willReturn(Map.of(productId, product));
+        given(productService.getProductSnapshots(any())).willReturn(Map.of(productId, ProductSnapshot.from(product)));
 
         // 재고 검증 통과
         doNothing().when(productService).validateStock(any(), any());
@@ -210,12 +224,9 @@ class CreateOrderUseCaseTest {
         given(orderService.createOrder(anyLong(), any(), anyInt(), anyInt(), anyInt(), any(), any()))
                 .willThrow(new RuntimeException("주문 생성 중 예외 발생"));
 
-        // TransactionHandler가 Runnable을 즉시 실행하도록 설정
-        doAnswer(invocation -> {
-            Runnable action = invocation.getArgument(0);
-            action.run();
-            return null;
-        }).when(transactionHandler).execute(any(Runnable.class));
+        // TransactionHandler가 작업을 즉시 실행하고 결과를 반환하도록 설정
+        given(transactionHandler.executeWithResult(any())).willAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(0)).get());
 
         // when & then
         assertThatThrownBy(() -> createOrderUseCase.createOrder(userId, userCouponId))
@@ -232,6 +243,80 @@ class CreateOrderUseCaseTest {
         verify(cartService, never()).clearCart(userId);
     }
 
+    @Test
+    @DisplayName("다른 주문의 점유로 가용 재고가 부족하면 주문 생성이 롤백되고 이벤트가 발행되지 않는다")
+    void stockHoldFailure_rollsBackOrder() {
+        // given
+        Long userId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+
+        User user = new User(userId, "testUser", 100000, 0L, now);
+        given(userService.getUserById(userId)).willReturn(user);
+
+        Long productId = 10L;
+        CartItemResponse cartItem = new CartItemResponse(1L, userId, productId, 1, now, now);
+        given(cartService.getCartItems(userId)).willReturn(List.of(cartItem));
+
+        Product product = new Product(productId, "테스트상품", "설명", 1, 10000, 50, now, now);
+        given(productService.getProductSnapshots(any())).willReturn(Map.of(productId, ProductSnapshot.from(product)));
+        given(productService.getStockMap(any())).willReturn(Map.of(productId, 1));
+        given(productService.calculateTotalAmount(any(), any())).willReturn(10000);
+        given(userCouponService.validateAndCalculateDiscount(isNull(), eq(userId), eq(10000)))
+                .willReturn(new UserCouponService.CouponDiscountResult(null, 0));
+
+        Order createdOrder = new Order(500L, userId, null, 10000, 0, 10000, "PENDING", now);
+        given(orderService.createOrder(any(), any(), anyInt(), anyInt(), anyInt(), any(), any()))
+                .willReturn(createdOrder);
+
+        // 마지막 1개를 다른 PENDING 주문이 점유 중
+        doThrow(new ProductException(INSUFFICIENT_STOCK))
+                .when(stockHoldService).hold(eq(500L), any(), eq(Map.of(productId, 1)));
+
+        given(transactionHandler.executeWithResult(any())).willAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(0)).get());
+
+        // when & then
+        assertThatThrownBy(() -> createOrderUseCase.createOrder(userId, null))
+                .isInstanceOf(ProductException.class)
+                .hasMessage(INSUFFICIENT_STOCK.getMessage());
+
+        verify(cartService, never()).clearCart(userId);
+        verify(kafkaPublishGateway, never()).send(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Kafka 발행 대기열이 포화되면 주문을 생성하지 않고 즉시 거부한다")
+    void publishSaturated_rejectsBeforeCreatingOrder() {
+        // given
+        Long userId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+
+        User user = new User(userId, "testUser", 100000, 0L, now);
+        given(userService.getUserById(userId)).willReturn(user);
+
+        Long productId = 10L;
+        CartItemResponse cartItem = new CartItemResponse(1L, userId, productId, 1, now, now);
+        given(cartService.getCartItems(userId)).willReturn(List.of(cartItem));
+
+        Product product = new Product(productId, "테스트상품", "설명", 1, 10000, 50, now, now);
+        given(productService.getProductSnapshots(any())).willReturn(Map.of(productId, ProductSnapshot.from(product)));
+        given(productService.getStockMap(any())).willReturn(Map.of(productId, 50));
+        given(productService.calculateTotalAmount(any(), any())).willReturn(10000);
+        given(userCouponService.validateAndCalculateDiscount(isNull(), eq(userId), eq(10000)))
+                .willReturn(new UserCouponService.CouponDiscountResult(null, 0));
+
+        given(kafkaPublishGateway.reserve("order-created-topic"))
+                .willThrow(new KafkaPublishRejectedException("order-created-topic", 1000L));
+
+        // when & then
+        assertThatThrownBy(() -> createOrderUseCase.createOrder(userId, null))
+                .isInstanceOf(KafkaPublishRejectedException.class);
+
+        verify(orderService, never()).createOrder(any(), any(), anyInt(), anyInt(), anyInt(), any(), any());
+        verify(stockHoldService, never()).hold(any(), any(), any());
+        verify(cartService, never()).clearCart(userId);
+    }
+
     @Test
     @DisplayName("주문 생성 실패 시 쿠폰 없이도 포인트와 재고가 롤백된다")
     void rollbackWithoutCouponOnFailure() {
@@ -250,7 +335,7 @@ class CreateOrderUseCaseTest {
 
         // 상품 (초기 재고 50개, 가격 20,000원)
         Product product = new Product(productId, "테스트상품2", "설명2", 50, 20000, 30, now, now);
-        given(productService.getProductMapByIds(any())).willReturn(Map.of(productId, product));
+        given(productService.getProductSnapshots(any())).willReturn(Map.of(productId, ProductSnapshot.from(product)));
 
         // 재고 검증 통과
         doNothing().when(productService).validateStock(any(), any());
@@ -266,12 +351,9 @@ class CreateOrderUseCaseTest {
         given(orderService.createOrder(anyLong(), any(), anyInt(), anyInt(), anyInt(), any(), any()))
                 .willThrow(new RuntimeException("시스템 오류"));
 
-        // TransactionHandler가 Runnable을 즉시 실행하도록 설정
-        doAnswer(invocation -> {
-            Runnable action = invocation.getArgument(0);
-            action.run();
-            return null;
-        }).when(transactionHandler).execute(any(Runnable.class));
+        // TransactionHandler가 작업을 즉시 실행하고 결과를 반환하도록 설정
+        given(transactionHandler.executeWithResult(any())).willAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(0)).get());
 
         // when & then
         assertThatThrownBy(() -> createOrderUseCase.createOrder(userId, null)) // 쿠폰 미사용
@@ -314,8 +396,8 @@ class CreateOrderUseCaseTest {
         Product product1 = new Product(productId1, "상품1", "설명1", 100, 10000, 50, now, now);
         Product product2 = new Product(productId2, "상품2", "설명2", 200, 5000, 100, now, now);
         Product product3 = new Product(productId3, "상품3", "설명3", 150, 15000, 80, now, now);
-        given(productService.getProductMapByIds(any())).willReturn(
-                Map.of(productId1, product1, productId2, product2, productId3, product3)
+        given(productService.getProductSnapshots(any())).willReturn(
+                Map.of(productId1, ProductSnapshot.from(product1), productId2, ProductSnapshot.from(product2), productId3, ProductSnapshot.from(product3))
         );
 
         // 재고 검증 통과
@@ -334,12 +416,9 @@ class CreateOrderUseCaseTest {
         given(orderService.createOrder(eq(userId), eq(userCouponId), eq(50000), eq(10000), eq(40000), any(), any()))
                 .willReturn(createdOrder);
 
-        // TransactionHandler가 Runnable을 즉시 실행하도록 설정
-        doAnswer(invocation -> {
-            Runnable action = invocation.getArgument(0);
-            action.run();
-            return null;
-        }).when(transactionHandler).execute(any(Runnable.class));
+        // TransactionHandler가 작업을 즉시 실행하고 결과를 반환하도록 설정
+        given(transactionHandler.executeWithResult(any())).willAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(0)).get());
 
         // when
         createOrderUseCase.createOrder(userId, userCouponId);
@@ -361,7 +440,7 @@ class CreateOrderUseCaseTest {
 
         // 3. OrderCreatedEvent가 Kafka로 올바르게 발행되었는지 확인
         ArgumentCaptor<OrderCreatedEvent> eventCaptor = ArgumentCaptor.forClass(OrderCreatedEvent.class);
-        verify(orderCreatedKafkaTemplate).send(eq("order-created-topic"), eventCaptor.capture());
+        verify(kafkaPublishGateway).send(any(), eq(orderCreatedKafkaTemplate), eventCaptor.capture());
 
         OrderCreatedEvent capturedEvent = eventCaptor.getValue();
         assertThat(capturedEvent.userId()).isEqualTo(userId);
@@ -397,8 +476,8 @@ class CreateOrderUseCaseTest {
         // 상품들
         Product product1 = new Product(productId1, "상품1", "설명1", 50, 10000, 30, now, now);
         Product product2 = new Product(productId2, "상품2", "설명2", 100, 10000, 50, now, now);
-        given(productService.getProductMapByIds(any())).willReturn(
-                Map.of(productId1, product1, productId2, product2)
+        given(productService.getProductSnapshots(any())).willReturn(
+                Map.of(productId1, ProductSnapshot.from(product1), productId2, ProductSnapshot.from(product2))
         );
 
         // 재고 검증 통과
@@ -417,12 +496,9 @@ class CreateOrderUseCaseTest {
         given(orderService.createOrder(eq(userId), eq(userCouponId), eq(30000), eq(50000), eq(0), any(), any()))
                 .willReturn(createdOrder);
 
-        // TransactionHandler가 Runnable을 즉시 실행하도록 설정
-        doAnswer(invocation -> {
-            Runnable action = invocation.getArgument(0);
-            action.run();
-            return null;
-        }).when(transactionHandler).execute(any(Runnable.class));
+        // TransactionHandler가 작업을 즉시 실행하고 결과를 반환하도록 설정
+        given(transactionHandler.executeWithResult(any())).willAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(0)).get());
 
         // when
         createOrderUseCase.createOrder(userId, userCouponId);
@@ -444,7 +520,7 @@ class CreateOrderUseCaseTest {
 
         // 3. OrderCreatedEvent가 Kafka로 올바르게 발행되었는지 확인
         ArgumentCaptor<OrderCreatedEvent> eventCaptor = ArgumentCaptor.forClass(OrderCreatedEvent.class);
-        verify(orderCreatedKafkaTemplate).send(eq("order-created-topic"), eventCaptor.capture());
+        verify(kafkaPublishGateway).send(any(), eq(orderCreatedKafkaTemplate), eventCaptor.capture());
 
         OrderCreatedEvent capturedEvent = eventCaptor.getValue();
         assertThat(capturedEvent.userId()).isEqualTo(userId);
@@ -476,8 +552,8 @@ class CreateOrderUseCaseTest {
         Product product1 = new Product(10L, "상품1", "설명1", 100, 10000, 50, now, now);
         Product product2 = new Product(20L, "상품2", "설명2", 200, 5000, 100, now, now);
         Product product3 = new Product(30L, "상품3", "설명3", 150, 15000, 80, now, now);
-        given(productService.getProductMapByIds(any())).willReturn(
-                Map.of(10L, product1, 20L, product2, 30L, product3)
+        given(productService.getProductSnapshots(any())).willReturn(
+                Map.of(10L, ProductSnapshot.from(product1), 20L, ProductSnapshot.from(product2), 30L, ProductSnapshot.from(product3))
         );
 
         // 재고 검증 통과
@@ -495,20 +571,17 @@ class CreateOrderUseCaseTest {
         given(orderService.createOrder(any(), any(), anyInt(), anyInt(), anyInt(), any(), any()))
                 .willReturn(createdOrder);
 
-        // TransactionHandler가 Runnable을 즉시 실행하도록 설정
-        doAnswer(invocation -> {
-            Runnable action = invocation.getArgument(0);
-            action.run();
-            return null;
-        }).when(transactionHandler).execute(any(Runnable.class));
+        // TransactionHandler가 작업을 즉시 실행하고 결과를 반환하도록 설정
+        given(transactionHandler.executeWithResult(any())).willAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(0)).get());
 
         // when
         createOrderUseCase.createOrder(userId, null);
 
         // then
-        // ProductService.getProductMapByIds가 정렬된 상품 ID 리스트를 받았는지 확인 (10, 20, 30)
+        // ProductService.getProductSnapshots가 정렬된 상품 ID 리스트를 받았는지 확인 (10, 20, 30)
         ArgumentCaptor<List<Long>> productIdsCaptor = ArgumentCaptor.forClass(List.class);
-        verify(productService).getProductMapByIds(productIdsCaptor.capture());
+        verify(productService).getProductSnapshots(productIdsCaptor.capture());
 
         List<Long> capturedProductIds = productIdsCaptor.getValue();
         assertThat(capturedProductIds).containsExactly(10L, 20L, 30L); // 정렬된 순서
@@ -0,0 +1,117 @@
+package com.sparta.ecommerce.application.order;
+
+import com.sparta.ecommerce.common.transaction.TransactionHandler;
+import com.sparta.ecommerce.domain.order.OrderSagaStep;
+import com.sparta.ecommerce.domain.order.ProcessedOrderStepRepository;
+import com.sparta.ecommerce.domain.order.exception.OrderException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sparta.ecommerce.domain.order.exception.OrderErrorCode.ORDER_STEP_ALREADY_PROCESSED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCompensationStepExecutorTest {
+
+    @Mock
+    private ProcessedOrderStepRepository processedOrderStepRepository;
+
+    @Mock
+    private TransactionHandler transactionHandler;
+
+    @InjectMocks
+    private OrderCompensationStepExecutor executor;
+
+    private final AtomicInteger executed = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        // TransactionHandler가 Runnable을 즉시 실행하도록 설정
+        lenient().doAnswer(invocation -> {
+            Runnable action = invocation.getArgument(0);
+            action.run();
+            return null;
+        }).when(transactionHandler).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("처리 이력을 기록하고 복구 작업을 실행한다")
+    void executeOnce_marksAndRuns() {
+        // when
+        boolean result = executor.executeOnce(1L, OrderSagaStep.STOCK_RESTORE, () -> "1:10:2", executed::incrementAndGet);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(executed).hasValue(1);
+        verify(processedOrderStepRepository).markProcessed(1L, OrderSagaStep.STOCK_RESTORE);
+    }
+
+    @Test
+    @DisplayName("이미 처리된 복구 이벤트는 복구 작업을 실행하지 않는다")
+    void executeOnce_duplicateSkipped() {
+        // given
+        doThrow(new OrderException(ORDER_STEP_ALREADY_PROCESSED))
+                .when(processedOrderStepRepository).markProcessed(1L, OrderSagaStep.POINT_RESTORE);
+
+        // when
+        boolean result = executor.executeOnce(1L, OrderSagaStep.POINT_RESTORE, () -> "1:1000", executed::incrementAndGet);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(executed).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("주문 ID가 없는 이전 버전 이벤트는 이벤트 내용 키로 처리 이력을 기록하고 실행한다")
+    void executeOnce_legacyEventWithoutOrderId() {
+        // when
+        boolean result = executor.executeOnce(null, OrderSagaStep.COUPON_RESTORE, () -> "1:100", executed::incrementAndGet);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(executed).hasValue(1);
+        // 이벤트 내용 키 "1:100"의 SHA-256
+        verify(processedOrderStepRepository).markLegacyProcessed(
+                "0c1f40b4acaa364478f2de01979d9dc99885aa5e0a8668c80dc53a4cfe21310b", OrderSagaStep.COUPON_RESTORE);
+        verify(processedOrderStepRepository, never()).markProcessed(any(), any());
+    }
+
+    @Test
+    @DisplayName("내용이 같은 이전 버전 이벤트가 다시 도착하면 복구 작업을 실행하지 않는다")
+    void executeOnce_legacyDuplicateSkipped() {
+        // given
+        doThrow(new OrderException(ORDER_STEP_ALREADY_PROCESSED))
+                .when(processedOrderStepRepository).markLegacyProcessed(any(), eq(OrderSagaStep.POINT_RESTORE));
+
+        // when
+        boolean result = executor.executeOnce(null, OrderSagaStep.POINT_RESTORE, () -> "1:1000", executed::incrementAndGet);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(executed).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("보상 단계가 아니면 예외가 발생한다")
+    void executeOnce_rejectsSagaStep() {
+        // when & then
+        assertThatThrownBy(() -> executor.executeOnce(1L, OrderSagaStep.STOCK, () -> "1:10:2", executed::incrementAndGet))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(processedOrderStepRepository, transactionHandler);
+    }
+}
@@ -0,0 +1,188 @@
+package com.sparta.ecommerce.application.order;
+
+import com.sparta.ecommerce.common.transaction.TransactionHandler;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderGroupCommitWriterTest {
+
+    @Mock
+    private TransactionHandler transactionHandler;
+
+    private OrderGroupCommitWriter writer;
+
+    private final ExecutorService requestThreads = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void tearDown() {
+        requestThreads.shutdownNow();
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 호출 스레드의 개별 트랜잭션으로 실행된다")
+    void execute_disabled_runsInCallerTransaction() {
+        // given
+        writer = new OrderGroupCommitWriter(transactionHandler, false, 32, 5, 16, 1000);
+        writer.start();
+        given(transactionHandler.executeWithResult(any())).willAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(0)).get());
+
+        // when
+        Order order = writer.execute(() -> order(1L));
+
+        // then
+        assertThat(writer.isEnabled()).isFalse();
+        assertThat(order.getOrderId()).isEqualTo(1L);
+        verify(transactionHandler, times(1)).executeWithResult(any());
+    }
+
+    @Test
+    @DisplayName("동시에 접수된 주문들은 하나의 트랜잭션으로 커밋되고 각자 자신의 주문을 받는다")
+    void execute_concurrentRequests_committedInSingleTransaction() throws Exception {
+        // given - 배치가 가득 찰 때까지 충분히 대기하도록 설정
+        writer = new OrderGroupCommitWriter(transactionHandler, true, 3, 1000, 16, 5000);
+        writer.start();
+        given(transactionHandler.executeWithResult(any())).willAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(0)).get());
+
+        // when
+        List<CompletableFuture<Order>> futures = new ArrayList<>();
+        for (long orderId = 1; orderId <= 3; orderId++) {
+            long id = orderId;
+            futures.add(CompletableFuture.supplyAsync(() -> writer.execute(() -> order(id)), requestThreads));
+        }
+
+        // then
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS).getOrderId()).isEqualTo(i + 1L);
+        }
+        verify(transactionHandler, times(1)).executeWithResult(any());
+    }
+
+    @Test
+    @DisplayName("배치 트랜잭션이 실패하면 개별 트랜잭션으로 재실행되어 실패한 주문만 예외를 받는다")
+    void execute_batchFailure_isolatesFailedOrder() throws Exception {
+        // given
+        writer = new OrderGroupCommitWriter(transactionHandler, true, 3, 1000, 16, 5000);
+        writer.start();
+        given(transactionHandler.executeWithResult(any())).willAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(0)).get());
+
+        // when
+        CompletableFuture<Order> success1 = CompletableFuture.supplyAsync(
+                () -> writer.execute(() -> order(1L)), requestThreads);
+        CompletableFuture<Order> failure = CompletableFuture.supplyAsync(
+                () -> writer.execute(() -> {
+                    throw new IllegalArgumentException("주문 저장 실패");
+                }), requestThreads);
+        CompletableFuture<Order> success2 = CompletableFuture.supplyAsync(
+                () -> writer.execute(() -> order(3L)), requestThreads);
+
+        // then
+        assertThat(success1.get(5, TimeUnit.SECONDS).getOrderId()).isEqualTo(1L);
+        assertThat(success2.get(5, TimeUnit.SECONDS).getOrderId()).isEqualTo(3L);
+        assertThatThrownBy(() -> failure.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("주문 저장 실패");
+
+        // 배치 1회 + 개별 재시도 3회
+        verify(transactionHandler, times(4)).executeWithResult(any());
+    }
+
+    @Test
+    @DisplayName("대기 시간이 초과되어도 이미 실행 중인 작업은 실패로 응답하지 않고 커밋 결과를 기다린다")
+    void execute_timeoutWhileRunning_waitsForCommit() {
+        // given - 작업 실행이 대기 시간(100ms)보다 오래 걸림
+        writer = new OrderGroupCommitWriter(transactionHandler, true, 1, 0, 16, 100);
+        writer.start();
+        given(transactionHandler.executeWithResult(any())).willAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(0)).get());
+
+        // when
+        Order order = writer.execute(() -> {
+            sleep(300);
+            return order(1L);
+        });
+
+        // then
+        assertThat(order.getOrderId()).isEqualTo(1L);
+        assertThat(writer.commitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 초과될 때까지 실행되지 않은 작업은 실패로 응답하고 이후에도 실행하지 않는다")
+    void execute_timeoutBeforeClaimed_neverRuns() throws Exception {
+        // given - 첫 작업이 writer 스레드를 점유
+        writer = new OrderGroupCommitWriter(transactionHandler, true, 1, 0, 16, 100);
+        writer.start();
+        given(transactionHandler.executeWithResult(any())).willAnswer(invocation ->
+                ((Supplier<?>) invocation.getArgument(0)).get());
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean secondRan = new AtomicBoolean();
+        CompletableFuture<Order> first = CompletableFuture.supplyAsync(() -> writer.execute(() -> {
+            await(release);
+            return order(1L);
+        }), requestThreads);
+        sleep(50);
+
+        // when
+        assertThatThrownBy(() -> writer.execute(() -> {
+            secondRan.set(true);
+            return order(2L);
+        })).isInstanceOf(IllegalStateException.class).hasMessageContaining("대기 시간");
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).getOrderId()).isEqualTo(1L);
+        writer.stop();
+        assertThat(secondRan).isFalse();
+        assertThat(writer.committedOrderCount()).isEqualTo(1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Order order(Long orderId) {
+        return new Order(orderId, 1L, null, 10000, 0, 10000, "PENDING", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,151 @@
+package com.sparta.ecommerce.application.order;
+
+import com.sparta.ecommerce.application.order.consumer.OrderCreatedEventConsumer;
+import com.sparta.ecommerce.application.order.event.OrderCreatedEvent;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import com.sparta.ecommerce.domain.order.entity.OrderItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OrderSagaRecoveryServiceTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderCreatedEventConsumer orderCreatedEventConsumer;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    private OrderSagaRecoveryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new OrderSagaRecoveryService(orderService, orderCreatedEventConsumer, redissonClient, 120, 100);
+        given(redissonClient.getLock("order:saga:recovery:lock")).willReturn(lock);
+        given(lock.tryLock()).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("오래된 PENDING 주문을 주문/주문 상품으로 이벤트를 복원하여 사가를 재개한다")
+    void recoverStalePendingOrders_resumesSagaFromOrder() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(10);
+        Order order = new Order(7L, 100L, 55L, 30000, 5000, 25000, "PENDING", createdAt);
+        given(orderService.getStalePendingOrders(any(), anyInt())).willReturn(List.of(order));
+        given(orderService.getOrderItems(7L)).willReturn(List.of(
+                new OrderItem(1L, 7L, 10L, "상품A", "설명", 2, 10000, createdAt),
+                new OrderItem(2L, 7L, 20L, "상품B", "설명", 1, 10000, createdAt)));
+
+        // when
+        int recovered = service.recoverStalePendingOrders();
+
+        // then
+        assertThat(recovered).isEqualTo(1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OrderCreatedEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(orderCreatedEventConsumer).consumeOrderCreatedEvents(captor.capture());
+
+        OrderCreatedEvent event = captor.getValue().get(0);
+        assertThat(event.orderId()).isEqualTo(7L);
+        assertThat(event.userId()).isEqualTo(100L);
+        assertThat(event.userCouponId()).isEqualTo(55L);
+        assertThat(event.finalAmount()).isEqualTo(25000);
+        assertThat(event.cartItems()).extracting("productId", "quantity")
+                .containsExactly(tuple(10L, 2), tuple(20L, 1));
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("복구 이벤트 발행에 실패한 주문은 건너뛰고 나머지 주문을 계속 재개한다")
+    void recoverStalePendingOrders_continuesAfterCompensationFailure() {
+        // given - 두 번째 주문(8L)의 복구 이벤트 발행 실패
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(10);
+        given(orderService.getStalePendingOrders(any(), anyInt())).willReturn(List.of(
+                new Order(7L, 100L, null, 10000, 0, 10000, "PENDING", createdAt),
+                new Order(8L, 100L, null, 10000, 0, 10000, "PENDING", createdAt),
+                new Order(9L, 100L, null, 10000, 0, 10000, "PENDING", createdAt)));
+        given(orderService.getOrderItems(anyLong())).willReturn(List.of());
+        willThrow(new BatchListenerFailedException("주문 보상 실패 - orderId: 8", new IllegalStateException(), 1))
+                .willDoNothing()
+                .given(orderCreatedEventConsumer).consumeOrderCreatedEvents(any());
+
+        // when
+        int recovered = service.recoverStalePendingOrders();
+
+        // then
+        assertThat(recovered).isEqualTo(3);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OrderCreatedEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(orderCreatedEventConsumer, times(2)).consumeOrderCreatedEvents(captor.capture());
+        assertThat(captor.getAllValues().get(1)).extracting(OrderCreatedEvent::orderId).containsExactly(9L);
+    }
+
+    @Test
+    @DisplayName("복구 대상이 없으면 Consumer를 호출하지 않는다")
+    void recoverStalePendingOrders_noop() {
+        // given
+        given(orderService.getStalePendingOrders(any(), anyInt())).willReturn(List.of());
+
+        // when & then
+        assertThat(service.recoverStalePendingOrders()).isZero();
+        verifyNoInteractions(orderCreatedEventConsumer);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 복구 락을 보유 중이면 복구하지 않는다")
+    void recoverStalePendingOrders_skipsWhenLocked() {
+        // given
+        given(lock.tryLock()).willReturn(false);
+
+        // when & then
+        assertThat(service.recoverStalePendingOrders()).isZero();
+        verify(orderService, never()).getStalePendingOrders(any(), anyInt());
+        verifyNoInteractions(orderCreatedEventConsumer);
+    }
+
+    @Test
+    @DisplayName("복구 중 예외가 발생해도 락을 해제한다")
+    void recoverStalePendingOrders_unlocksOnFailure() {
+        // given
+        given(orderService.getStalePendingOrders(any(), anyInt())).willThrow(new IllegalStateException("DB 장애"));
+
+        // when & then
+        assertThatThrownBy(() -> service.recoverStalePendingOrders())
+                .isInstanceOf(IllegalStateException.class);
+        verify(lock).unlock();
+    }
+}
@@ -1,10 +1,16 @@
 package com.sparta.ecommerce.application.order;
 
+import com.sparta.ecommerce.common.pagination.CursorPage;
+import com.sparta.ecommerce.common.pagination.KeysetCursor;
 import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
 import com.sparta.ecommerce.domain.order.OrderItemRepository;
 import com.sparta.ecommerce.domain.order.OrderRepository;
+import com.sparta.ecommerce.domain.order.ProductSalesSummaryRepository;
+import com.sparta.ecommerce.domain.order.dto.OrderHistoryResponse;
+import com.sparta.ecommerce.domain.order.dto.OrderItemResponse;
 import com.sparta.ecommerce.domain.order.entity.Order;
 import com.sparta.ecommerce.domain.order.entity.OrderItem;
+import com.sparta.ecommerce.domain.product.dto.ProductSnapshot;
 import com.sparta.ecommerce.domain.product.entity.Product;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +20,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -34,6 +41,12 @@ class OrderServiceTest {
     @Mock
     private OrderItemRepository orderItemRepository;
 
+    @Mock
+    private ProductSalesSummaryRepository productSalesSummaryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -60,7 +73,7 @@ class OrderServiceTest {
 
         Product product1 = new Product(10L, "노트북", "고성능 노트북", 100, 20000, 50, now, now);
         Product product2 = new Product(20L, "마우스", "무선 마우스", 200, 10000, 100, now, now);
-        Map<Long, Product> productMap = Map.of(10L, product1, 20L, product2);
+        Map<Long, ProductSnapshot> productMap = Map.of(10L, ProductSnapshot.from(product1), 20L, ProductSnapshot.from(product2));
 
         Order savedOrder = new Order(1L, userId, userCouponId, totalAmount, discountAmount, usedPoint, "PENDING", now);
         given(orderRepository.save(any(Order.class))).willReturn(savedOrder);
@@ -120,7 +133,7 @@ class OrderServiceTest {
         List<CartItemResponse> cartItems = List.of(cartItem);
 
         Product product = new Product(10L, "키보드", "기계식 키보드", 50, 10000, 30, now, now);
-        Map<Long, Product> productMap = Map.of(10L, product);
+        Map<Long, ProductSnapshot> productMap = Map.of(10L, ProductSnapshot.from(product));
 
         Order savedOrder = new Order(1L, userId, null, totalAmount, discountAmount, usedPoint, "COMPLETED", now);
         given(orderRepository.save(any(Order.class))).willReturn(savedOrder);
@@ -157,7 +170,7 @@ class OrderServiceTest {
         List<CartItemResponse> cartItems = List.of(cartItem);
 
         Product product = new Product(100L, "모니터", "27인치 모니터", 20, 100000, 80, now, now);
-        Map<Long, Product> productMap = Map.of(100L, product);
+        Map<Long, ProductSnapshot> productMap = Map.of(100L, ProductSnapshot.from(product));
 
         Order savedOrder = new Order(10L, userId, userCouponId, totalAmount, discountAmount, usedPoint, "COMPLETED", now);
         given(orderRepository.save(any(Order.class))).willReturn(savedOrder);
@@ -199,7 +212,7 @@ class OrderServiceTest {
         Product product1 = new Product(10L, "USB", "USB 3.0", 100, 10000, 200, now, now);
         Product product2 = new Product(20L, "HDMI 케이블", "2m HDMI 케이블", 50, 15000, 150, now, now);
         Product product3 = new Product(30L, "웹캠", "FHD 웹캠", 30, 50000, 80, now, now);
-        Map<Long, Product> productMap = Map.of(10L, product1, 20L, product2, 30L, product3);
+        Map<Long, ProductSnapshot> productMap = Map.of(10L, ProductSnapshot.from(product1), 20L, ProductSnapshot.from(product2), 30L, ProductSnapshot.from(product3));
 
         Order savedOrder = new Order(5L, userId, userCouponId, totalAmount, discountAmount, usedPoint, "COMPLETED", now);
         given(orderRepository.save(any(Order.class))).willReturn(savedOrder);
@@ -241,7 +254,7 @@ class OrderServiceTest {
         List<CartItemResponse> cartItems = List.of(cartItem);
 
         Product product = new Product(10L, "헤드셋", "게이밍 헤드셋", 30, 50000, 100, now, now);
-        Map<Long, Product> productMap = Map.of(10L, product);
+        Map<Long, ProductSnapshot> productMap = Map.of(10L, ProductSnapshot.from(product));
 
         Long expectedOrderId = 999L;
         Order savedOrder = new Order(expectedOrderId, userId, userCouponId, totalAmount, discountAmount, usedPoint, "COMPLETED", now);
@@ -277,7 +290,7 @@ class OrderServiceTest {
         List<CartItemResponse> cartItems = List.of(cartItem);
 
         Product product = new Product(50L, "마우스패드", "대형 마우스패드", 100, 25000, 50, now, now);
-        Map<Long, Product> productMap = Map.of(50L, product);
+        Map<Long, ProductSnapshot> productMap = Map.of(50L, ProductSnapshot.from(product));
 
         Order savedOrder = new Order(100L, userId, null, totalAmount, discountAmount, usedPoint, "COMPLETED", now);
         given(orderRepository.save(any(Order.class))).willReturn(savedOrder);
@@ -294,4 +307,47 @@ class OrderServiceTest {
         Order capturedOrder = orderCaptor.getValue();
         assertThat(capturedOrder.getStatus()).isEqualTo("PENDING");
     }
+
+    @Test
+    @DisplayName("주문 완료 시 주문 상품 수량을 상품별로 합산하여 판매량 집계에 반영한다")
+    void recordSales_aggregatesQuantitiesByProduct() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(orderItemRepository.findAllByOrderId(1L)).willReturn(List.of(
+                new OrderItem(1L, 1L, 10L, "상품A", "설명", 2, 1000, now),
+                new OrderItem(2L, 1L, 20L, "상품B", "설명", 1, 2000, now),
+                new OrderItem(3L, 1L, 10L, "상품A", "설명", 3, 1000, now)
+        ));
+
+        // when
+        orderService.recordSales(1L);
+
+        // then
+        verify(productSalesSummaryRepository).increase(Map.of(10L, 5, 20L, 1));
+    }
+
+    @Test
+    @DisplayName("주문 내역 조회 - 페이지 크기 + 1건으로 다음 페이지를 판단하고 주문 상품을 한 번에 채운다")
+    void getOrderHistory_batchFetchesItemsForPage() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderHistoryResponse> rows = List.of(
+                new OrderHistoryResponse(3L, "COMPLETED", 10000, 0, 10000, null, now),
+                new OrderHistoryResponse(2L, "PENDING", 20000, 0, 20000, null, now.minusMinutes(1)),
+                new OrderHistoryResponse(1L, "FAILED", 30000, 0, 30000, null, now.minusMinutes(2)));
+        given(orderRepository.findHistoryByUserId(1L, null, 3)).willReturn(rows);
+        given(orderItemRepository.findItemResponsesByOrderIds(List.of(3L, 2L))).willReturn(List.of(
+                new OrderItemResponse(3L, 10L, "노트북", 1, 10000),
+                new OrderItemResponse(2L, 20L, "마우스", 2, 10000)));
+
+        // when
+        CursorPage<OrderHistoryResponse> page = orderService.getOrderHistory(1L, null, 2);
+
+        // then
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.items()).extracting(OrderHistoryResponse::orderId).containsExactly(3L, 2L);
+        assertThat(page.items().get(0).items()).extracting(OrderItemResponse::productId).containsExactly(10L);
+        assertThat(page.items().get(1).items()).extracting(OrderItemResponse::productId).containsExactly(20L);
+        assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(new KeysetCursor(now.minusMinutes(1), 2L));
+    }
 }
@@ -0,0 +1,81 @@
+package com.sparta.ecommerce.application.order;
+
+import com.sparta.ecommerce.application.order.event.OrderStatusChangedEvent;
+import com.sparta.ecommerce.domain.order.OrderStatusRepository;
+import com.sparta.ecommerce.domain.order.dto.OrderStatusResponse;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatusServiceTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderStatusRepository orderStatusRepository;
+
+    @Mock
+    private OrderStatusNotifier orderStatusNotifier;
+
+    @InjectMocks
+    private OrderStatusService orderStatusService;
+
+    @Test
+    @DisplayName("캐시에 주문 상태가 있으면 DB를 조회하지 않는다")
+    void getOrderStatus_cacheHit() {
+        // given
+        given(orderStatusRepository.findByOrderId(1L)).willReturn(Optional.of("COMPLETED"));
+
+        // when
+        OrderStatusResponse response = orderStatusService.getOrderStatus(1L);
+
+        // then
+        assertThat(response.status()).isEqualTo("COMPLETED");
+        verify(orderService, never()).getOrderById(anyLong());
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 DB에서 조회하고, 없을 때만 캐시에 저장한다")
+    void getOrderStatus_cacheMiss() {
+        // given
+        given(orderStatusRepository.findByOrderId(1L)).willReturn(Optional.empty());
+        given(orderService.getOrderById(1L))
+                .willReturn(new Order(1L, 1L, null, 10000, 0, 10000, "PENDING", LocalDateTime.now()));
+
+        // when
+        OrderStatusResponse response = orderStatusService.getOrderStatus(1L);
+
+        // then
+        assertThat(response.status()).isEqualTo("PENDING");
+        verify(orderStatusRepository).saveIfAbsent(1L, "PENDING");
+    }
+
+    @Test
+    @DisplayName("최종 상태는 덮어쓰고, PENDING은 최종 상태를 덮어쓰지 않도록 없을 때만 저장한다")
+    void handleStatusChanged() {
+        // when
+        orderStatusService.handleStatusChanged(new OrderStatusChangedEvent(1L, "PENDING"));
+        orderStatusService.handleStatusChanged(new OrderStatusChangedEvent(2L, "FAILED"));
+
+        // then
+        verify(orderStatusRepository).saveIfAbsent(1L, "PENDING");
+        verify(orderStatusRepository).save(2L, "FAILED");
+        verify(orderStatusNotifier).publish(1L, "PENDING");
+        verify(orderStatusNotifier).publish(2L, "FAILED");
+    }
+}
@@ -0,0 +1,294 @@
+package com.sparta.ecommerce.application.order.consumer;
+
+import com.sparta.ecommerce.application.coupon.UserCouponService;
+import com.sparta.ecommerce.application.coupon.event.CouponRestoreEvent;
+import com.sparta.ecommerce.application.order.OrderService;
+import com.sparta.ecommerce.application.order.event.OrderCreatedEvent;
+import com.sparta.ecommerce.application.product.ProductService;
+import com.sparta.ecommerce.application.product.StockHoldService;
+import com.sparta.ecommerce.application.product.event.StockRestoreEvent;
+import com.sparta.ecommerce.application.user.UserService;
+import com.sparta.ecommerce.application.user.event.PointRestoreEvent;
+import com.sparta.ecommerce.common.kafka.KafkaConsumerDrain;
+import com.sparta.ecommerce.common.kafka.KafkaPublishGateway;
+import com.sparta.ecommerce.common.transaction.TransactionHandler;
+import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
+import com.sparta.ecommerce.domain.order.OrderSagaStep;
+import com.sparta.ecommerce.domain.order.ProcessedOrderStepRepository;
+import com.sparta.ecommerce.domain.order.exception.OrderException;
+import com.sparta.ecommerce.domain.product.ProductRankingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static com.sparta.ecommerce.domain.order.exception.OrderErrorCode.ORDER_STEP_ALREADY_PROCESSED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderCreatedEventConsumerTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private StockHoldService stockHoldService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private UserCouponService userCouponService;
+
+    @Mock
+    private ProductRankingRepository productRankingRepository;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private ProcessedOrderStepRepository processedOrderStepRepository;
+
+    @Mock
+    private TransactionHandler transactionHandler;
+
+    @Mock
+    private KafkaTemplate<String, StockRestoreEvent> stockRestoreKafkaTemplate;
+
+    @Mock
+    private KafkaTemplate<String, PointRestoreEvent> pointRestoreKafkaTemplate;
+
+    @Mock
+    private KafkaTemplate<String, CouponRestoreEvent> couponRestoreKafkaTemplate;
+
+    @Mock
+    private KafkaPublishGateway kafkaPublishGateway;
+
+    @Mock
+    private KafkaConsumerDrain kafkaConsumerDrain;
+
+    // 모든 사가의 요약 로그를 생성하도록 샘플링 비율 1
+    @Spy
+    private OrderSagaTracer orderSagaTracer = new OrderSagaTracer(1.0);
+
+    @InjectMocks
+    private OrderCreatedEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        // TransactionHandler가 Runnable을 즉시 실행하도록 설정
+        lenient().doAnswer(invocation -> {
+            Runnable action = invocation.getArgument(0);
+            action.run();
+            return null;
+        }).when(transactionHandler).execute(any(Runnable.class));
+
+        lenient().when(kafkaConsumerDrain.tryEnter()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("재전달된 메시지는 이미 처리된 재고/포인트 단계를 다시 실행하지 않는다")
+    void redeliveredEvent_skipsProcessedSteps() {
+        // given
+        OrderCreatedEvent event = event(1L);
+        given(processedOrderStepRepository.findProcessedSteps(List.of(1L)))
+                .willReturn(Map.of(1L, EnumSet.of(OrderSagaStep.STOCK, OrderSagaStep.POINT)));
+
+        // when
+        consumer.consumeOrderCreatedEvents(List.of(event));
+
+        // then
+        verify(productService, never()).decreaseStockWithLock(anyLong(), anyLong(), any());
+        verify(userService, never()).deductPointForOrder(any());
+        verify(processedOrderStepRepository).markProcessed(1L, OrderSagaStep.COUPON);
+        verify(processedOrderStepRepository).markProcessed(1L, OrderSagaStep.RANKING);
+        verify(userCouponService).processCouponUsage(event);
+        verify(productRankingRepository).incrementSalesCount(10L, 2);
+        verify(orderService).completeOrder(1L);
+    }
+
+    @Test
+    @DisplayName("다른 Consumer가 이미 처리한 단계면 보상 트랜잭션 없이 종료한다")
+    void duplicateStep_noCompensation() {
+        // given
+        OrderCreatedEvent event = event(1L);
+        doThrow(new OrderException(ORDER_STEP_ALREADY_PROCESSED))
+                .when(processedOrderStepRepository).markProcessed(1L, OrderSagaStep.STOCK);
+
+        // when
+        consumer.consumeOrderCreatedEvent(event, Set.of());
+
+        // then
+        verify(productService, never()).decreaseStockWithLock(anyLong(), anyLong(), any());
+        verify(orderService, never()).failOrder(anyLong());
+        verify(orderService, never()).completeOrder(anyLong());
+        verify(kafkaPublishGateway, never()).publishOrWait(eq(stockRestoreKafkaTemplate), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Producer에 전달되지 못한 복구 이벤트 발행(동기 예외)만 다시 발행하며, 한 항목의 발행 실패가 다른 항목의 복구를 막지 않는다")
+    void compensation_retriesOnlyUnsentPublish() {
+        // given - 쿠폰 단계 실패 -> 포인트/재고 복구, 포인트 복구 첫 발행은 동기 예외, 재고 복구는 전송 실패
+        OrderCreatedEvent event = event(1L);
+        doThrow(new RuntimeException("쿠폰 처리 실패")).when(userCouponService).processCouponUsage(event);
+        given(kafkaPublishGateway.publishOrWait(eq(pointRestoreKafkaTemplate), eq("point-restore-topic"), any()))
+                .willThrow(new RuntimeException("발행 자리 대기 초과"))
+                .willReturn(CompletableFuture.completedFuture(null));
+        given(kafkaPublishGateway.publishOrWait(eq(stockRestoreKafkaTemplate), eq("stock-restore-topic"), any()))
+                .willReturn(CompletableFuture.failedFuture(new RuntimeException("전송 실패")));
+
+        // when & then - 전송 후 실패는 중복 발행될 수 있으므로 다시 발행하지 않고 예외로 알림
+        assertThatThrownBy(() -> consumer.consumeOrderCreatedEvent(event, Set.of()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("stock-restore-topic");
+        verify(processedOrderStepRepository).markProcessed(1L, OrderSagaStep.COMPENSATION);
+        verify(orderService).failOrder(1L);
+        verify(kafkaPublishGateway, times(2)).publishOrWait(eq(pointRestoreKafkaTemplate), anyString(), any());
+        verify(kafkaPublishGateway, times(1)).publishOrWait(eq(stockRestoreKafkaTemplate), anyString(), any());
+        verify(kafkaPublishGateway, never()).publishOrWait(eq(couponRestoreKafkaTemplate), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("복구 이벤트에는 멱등 키로 주문 ID를 담는다")
+    void compensation_restoreEventsCarryOrderId() {
+        // given
+        OrderCreatedEvent event = event(1L);
+        doThrow(new RuntimeException("쿠폰 처리 실패")).when(userCouponService).processCouponUsage(event);
+        given(kafkaPublishGateway.publishOrWait(any(), anyString(), any()))
+                .willReturn(CompletableFuture.completedFuture(null));
+        ArgumentCaptor<PointRestoreEvent> pointEvent = ArgumentCaptor.forClass(PointRestoreEvent.class);
+        ArgumentCaptor<StockRestoreEvent> stockEvent = ArgumentCaptor.forClass(StockRestoreEvent.class);
+
+        // when
+        consumer.consumeOrderCreatedEvent(event, Set.of());
+
+        // then
+        verify(kafkaPublishGateway).publishOrWait(eq(pointRestoreKafkaTemplate), anyString(), pointEvent.capture());
+        verify(kafkaPublishGateway).publishOrWait(eq(stockRestoreKafkaTemplate), anyString(), stockEvent.capture());
+        assertThat(pointEvent.getValue().orderId()).isEqualTo(1L);
+        assertThat(stockEvent.getValue().orderId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("주문 실패 처리가 커밋되지 않으면 복구 이벤트를 발행하지 않고 PENDING으로 남긴다")
+    void failOrderFailed_noRestorePublished() {
+        // given
+        OrderCreatedEvent event = event(1L);
+        doThrow(new RuntimeException("쿠폰 처리 실패")).when(userCouponService).processCouponUsage(event);
+        doThrow(new RuntimeException("DB 연결 실패")).when(orderService).failOrder(1L);
+
+        // when
+        consumer.consumeOrderCreatedEvent(event, Set.of());
+
+        // then - 복구 스케줄러가 남은 단계부터 사가를 재개
+        verify(kafkaPublishGateway, never()).publishOrWait(any(), anyString(), any());
+        verify(stockHoldService, times(1)).release(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("이미 보상된 주문이 재전달되면 사가를 진행하지 않고 반영되지 않은 복구 이벤트만 다시 발행한다")
+    void redeliveredCompensation_republishesMissingRestores() {
+        // given - 재고/포인트 차감 후 보상, 재고 복구만 반영됨
+        OrderCreatedEvent event = event(1L);
+        given(processedOrderStepRepository.findProcessedSteps(List.of(1L)))
+                .willReturn(Map.of(1L, EnumSet.of(OrderSagaStep.STOCK, OrderSagaStep.POINT,
+                        OrderSagaStep.COMPENSATION, OrderSagaStep.STOCK_RESTORE)));
+        given(kafkaPublishGateway.publishOrWait(any(), anyString(), any()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        consumer.consumeOrderCreatedEvents(List.of(event));
+
+        // then
+        verify(kafkaPublishGateway).publishOrWait(eq(pointRestoreKafkaTemplate), eq("point-restore-topic"), any());
+        verify(kafkaPublishGateway, never()).publishOrWait(eq(stockRestoreKafkaTemplate), anyString(), any());
+        verify(userCouponService, never()).processCouponUsage(any());
+        verify(orderService, never()).failOrder(anyLong());
+        verify(orderService, never()).completeOrder(anyLong());
+    }
+
+    @Test
+    @DisplayName("복구 이벤트 발행에 실패하면 실패한 주문의 인덱스로 BatchListenerFailedException을 던지고 나머지 주문은 처리하지 않는다")
+    void batch_compensationFailure_throwsWithIndex() {
+        // given - 두 번째 주문의 쿠폰 단계 실패, 복구 이벤트 전송 실패
+        OrderCreatedEvent first = event(1L);
+        OrderCreatedEvent second = event(2L);
+        given(processedOrderStepRepository.findProcessedSteps(List.of(1L, 2L, 3L))).willReturn(Map.of());
+        doThrow(new RuntimeException("쿠폰 처리 실패")).when(userCouponService).processCouponUsage(second);
+        given(kafkaPublishGateway.publishOrWait(any(), anyString(), any()))
+                .willReturn(CompletableFuture.failedFuture(new RuntimeException("전송 실패")));
+
+        // when & then - 에러 핸들러가 두 번째 주문부터 재시도 후 DLT로 보냄
+        assertThatThrownBy(() -> consumer.consumeOrderCreatedEvents(List.of(first, second, event(3L))))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1));
+        verify(orderService).completeOrder(1L);
+        verify(productService, never()).decreaseStockWithLock(eq(3L), anyLong(), any());
+        verify(kafkaConsumerDrain, times(2)).exit();
+    }
+
+    @Test
+    @DisplayName("배치 내 주문들의 처리 이력은 한 번에 조회한다")
+    void batch_singleLookup() {
+        // given
+        given(processedOrderStepRepository.findProcessedSteps(List.of(1L, 2L))).willReturn(Map.of());
+
+        // when
+        consumer.consumeOrderCreatedEvents(List.of(event(1L), event(2L)));
+
+        // then
+        verify(processedOrderStepRepository, times(1)).findProcessedSteps(any());
+        verify(productService, times(2)).decreaseStockWithLock(anyLong(), anyLong(), any());
+        verify(productRankingRepository, times(2)).incrementSalesCount(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("종료 드레인이 시작되면 진행 중인 주문만 끝내고 배치의 나머지 주문은 시작하지 않는다")
+    void draining_skipsRemainingOrders() {
+        // given - 첫 주문 처리 후 드레인 시작
+        given(processedOrderStepRepository.findProcessedSteps(List.of(1L, 2L, 3L))).willReturn(Map.of());
+        given(kafkaConsumerDrain.tryEnter()).willReturn(true, false);
+
+        // when
+        consumer.consumeOrderCreatedEvents(List.of(event(1L), event(2L), event(3L)));
+
+        // then - 넘긴 주문은 보상 없이 PENDING으로 남아 복구 시 재개됨
+        verify(productService, times(1)).decreaseStockWithLock(eq(1L), anyLong(), any());
+        verify(productService, never()).decreaseStockWithLock(eq(2L), anyLong(), any());
+        verify(orderService, never()).failOrder(anyLong());
+        verify(kafkaConsumerDrain, times(1)).exit();
+    }
+
+    private OrderCreatedEvent event(Long orderId) {
+        LocalDateTime now = LocalDateTime.now();
+        CartItemResponse cartItem = new CartItemResponse(1L, 100L, 10L, 2, now, now);
+        return new OrderCreatedEvent(100L, orderId, null, 20000, List.of(cartItem));
+    }
+}
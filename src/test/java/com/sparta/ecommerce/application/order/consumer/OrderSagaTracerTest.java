@@ -0,0 +1,37 @@
+package com.sparta.ecommerce.application.order.consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderSagaTracerTest {
+
+    @Test
+    @DisplayName("연속된 주문 ID도 샘플링 비율에 가깝게 고르게 샘플링된다")
+    void isSampled_followsSampleRate() {
+        // given
+        OrderSagaTracer tracer = new OrderSagaTracer(0.01);
+
+        // when
+        long sampled = LongStream.rangeClosed(1, 100_000)
+                .filter(orderId -> tracer.isSampled(orderId))
+                .count();
+
+        // then
+        assertThat(sampled).isBetween(800L, 1_200L);
+        assertThat(tracer.isSampled(42L)).isEqualTo(tracer.isSampled(42L));
+    }
+
+    @Test
+    @DisplayName("샘플링 비율 0이면 샘플링하지 않고 1이면 모두 샘플링하며, 범위를 벗어나면 생성에 실패한다")
+    void isSampled_bounds() {
+        assertThat(new OrderSagaTracer(0.0).isSampled(1L)).isFalse();
+        assertThat(new OrderSagaTracer(1.0).isSampled(1L)).isTrue();
+        assertThatThrownBy(() -> new OrderSagaTracer(1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
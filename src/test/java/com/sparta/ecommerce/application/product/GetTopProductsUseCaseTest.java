@@ -1,6 +1,10 @@
 package com.sparta.ecommerce.application.product;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.sparta.ecommerce.application.order.OrderItemService;
+import com.sparta.ecommerce.common.http.PrecompressedJson;
 import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
 import com.sparta.ecommerce.domain.product.ProductSortType;
 import org.junit.jupiter.api.DisplayName;
@@ -8,8 +12,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
@@ -29,6 +35,11 @@ class GetTopProductsUseCaseTest {
     @Mock
     private OrderItemService orderItemService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
     @InjectMocks
     private GetTopProductsUseCase getTopProductsUseCase;
 
@@ -77,4 +88,24 @@ class GetTopProductsUseCaseTest {
         verify(orderItemService).findTopProductsBySoldCount(10);
         verifyNoInteractions(productService);
     }
+
+    @Test
+    @DisplayName("응답 본문은 상품 목록 JSON을 gzip 압축한 값이며, 같은 목록이면 같은 해시(ETag)를 가진다")
+    void getTopProductsPayload_gzippedJsonWithStableHash() throws Exception {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<ProductResponse> topProducts = List.of(
+                new ProductResponse(1L, "인기상품1", "설명1", 100, 10000, 500, now, now));
+        given(productService.findTopProductsByViewCount(10)).willReturn(topProducts);
+
+        // when
+        PrecompressedJson first = getTopProductsUseCase.getTopProductsPayload(ProductSortType.VIEW_COUNT);
+        PrecompressedJson second = getTopProductsUseCase.getTopProductsPayload(ProductSortType.VIEW_COUNT);
+
+        // then
+        assertThat(new String(first.json(), StandardCharsets.UTF_8))
+                .isEqualTo(objectMapper.writeValueAsString(topProducts))
+                .contains("\"createdAt\":\"2025-01-01T00:00:00\"");
+        assertThat(first.contentHash()).hasSize(32).isEqualTo(second.contentHash());
+    }
 }
@@ -0,0 +1,113 @@
+package com.sparta.ecommerce.application.product;
+
+import com.sparta.ecommerce.domain.product.ProductSearchSort;
+import com.sparta.ecommerce.domain.product.dto.ProductSearchResponse;
+import com.sparta.ecommerce.domain.product.dto.ProductSearchResult;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.exception.ProductException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.rebuild(List.of(
+                product(1L, "무선 블루투스 이어폰", "노이즈캔슬링 지원", 89_000, 10),
+                product(2L, "유선이어폰", "3.5mm 단자", 15_000, 50),
+                product(3L, "블루투스 스피커", "방수 기능, 무선 이어폰 연결 가능", 45_000, 30),
+                product(4L, "USB-C 충전기", "고속 충전 65W", 32_000, 5)
+        ), Map.of(1L, 100L, 2L, 300L, 3L, 200L));
+    }
+
+    @Test
+    @DisplayName("띄어쓰기와 무관하게 단어의 부분 문자열로 상품명/설명을 검색하고, 정확도순은 상품명 일치 후 판매량 순이다")
+    void search_partialMatch_relevance() {
+        // when
+        ProductSearchResult result = index.search("이어폰", null, null, ProductSearchSort.RELEVANCE, 0, 20);
+
+        // then - 상품명 일치(2: 판매 300, 1: 판매 100) -> 설명 일치(3)
+        assertThat(result.totalCount()).isEqualTo(3);
+        assertThat(ids(result)).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("여러 단어는 모두 포함한 상품만 검색되며, 대소문자/한 글자 단어도 검색된다")
+    void search_allWords() {
+        assertThat(ids(index.search("무선 이어폰", null, null, ProductSearchSort.RELEVANCE, 0, 20)))
+                .containsExactly(1L, 3L);
+        assertThat(ids(index.search("usb", null, null, ProductSearchSort.RELEVANCE, 0, 20)))
+                .containsExactly(4L);
+        assertThat(ids(index.search("폰 없는단어", null, null, ProductSearchSort.RELEVANCE, 0, 20)))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("가격 범위로 필터링하고 가격/조회수 기준으로 정렬하며 페이지 단위로 반환한다")
+    void search_priceFilterAndSort() {
+        assertThat(ids(index.search("", 15_000, 50_000, ProductSearchSort.PRICE_ASC, 0, 20)))
+                .containsExactly(2L, 4L, 3L);
+        assertThat(ids(index.search(null, null, null, ProductSearchSort.PRICE_DESC, 0, 20)))
+                .containsExactly(1L, 3L, 4L, 2L);
+
+        ProductSearchResult secondPage = index.search(null, null, null, ProductSearchSort.VIEW_COUNT, 1, 2);
+        assertThat(secondPage.totalCount()).isEqualTo(4);
+        assertThat(ids(secondPage)).containsExactly(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("상품 추가/수정/삭제를 색인에 반영하며 판매량은 유지된다")
+    void applyAndRemove() {
+        // when
+        Product renamed = product(2L, "유선 헤드폰", "3.5mm 단자", 15_000, 50);
+        assertThat(index.isStale(renamed)).isTrue();
+        index.apply(renamed);
+        index.apply(product(5L, "골전도 이어폰", "운동용", 120_000, 0));
+        index.remove(3L);
+
+        // then
+        assertThat(index.isStale(renamed)).isFalse();
+        assertThat(ids(index.search("이어폰", null, null, ProductSearchSort.RELEVANCE, 0, 20)))
+                .containsExactly(1L, 5L);
+        List<ProductSearchResponse> headphones = index.search("헤드폰", null, null, ProductSearchSort.RELEVANCE, 0, 20).items();
+        assertThat(headphones).extracting(ProductSearchResponse::soldCount).containsExactly(300L);
+    }
+
+    @Test
+    @DisplayName("조회수/판매량을 교체하면 정렬에 반영된다")
+    void updateMetrics() {
+        // when
+        index.updateMetrics(Map.of(4L, 1_000), Map.of(4L, 900L));
+
+        // then
+        assertThat(ids(index.search(null, null, null, ProductSearchSort.VIEW_COUNT, 0, 1))).containsExactly(4L);
+        assertThat(ids(index.search(null, null, null, ProductSearchSort.SOLD_COUNT, 0, 1))).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("색인 생성 전에는 검색할 수 없다")
+    void search_notReady() {
+        assertThatThrownBy(() -> new ProductSearchIndex().search("이어폰", null, null, ProductSearchSort.RELEVANCE, 0, 20))
+                .isInstanceOf(ProductException.class);
+    }
+
+    private List<Long> ids(ProductSearchResult result) {
+        return result.items().stream().map(ProductSearchResponse::productId).toList();
+    }
+
+    private Product product(Long productId, String productName, String description, int price, int viewCount) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Product(productId, productName, description, 100, price, viewCount, now, now);
+    }
+}
@@ -1,8 +1,11 @@
 package com.sparta.ecommerce.application.product;
 
+import com.sparta.ecommerce.application.product.event.ProductChangedEvent;
 import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
 import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
 import com.sparta.ecommerce.domain.product.ProductRepository;
+import com.sparta.ecommerce.domain.product.StockHoldRepository;
+import com.sparta.ecommerce.domain.product.dto.ProductSnapshot;
 import com.sparta.ecommerce.domain.product.entity.Product;
 import com.sparta.ecommerce.domain.product.exception.ProductException;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -26,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -38,6 +43,21 @@ class ProductServiceTest {
     @Mock
     private RedissonClient redissonClient;
 
+    @Mock
+    private ProductStockShardService productStockShardService;
+
+    @Mock
+    private ProductSnapshotCache productSnapshotCache;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StockHoldRepository stockHoldRepository;
+
     @InjectMocks
     private ProductService productService;
 
@@ -53,7 +73,8 @@ class ProductServiceTest {
 
         Product product1 = new Product(10L, "상품1", "설명1", 100, 10000, 50, now, now);
         Product product2 = new Product(20L, "상품2", "설명2", 200, 5000, 100, now, now);
-        Map<Long, Product> productMap = Map.of(10L, product1, 20L, product2);
+        Map<Long, ProductSnapshot> productMap = Map.of(
+                10L, ProductSnapshot.from(product1), 20L, ProductSnapshot.from(product2));
 
         // when
         Integer result = (Integer) ReflectionTestUtils.invokeMethod(
@@ -76,7 +97,7 @@ class ProductServiceTest {
         List<CartItemResponse> cartItems = List.of(cartItem);
 
         Product product = new Product(100L, "고가상품", "설명", 50, 20000, 30, now, now);
-        Map<Long, Product> productMap = Map.of(100L, product);
+        Map<Long, ProductSnapshot> productMap = Map.of(100L, ProductSnapshot.from(product));
 
         // when
         Integer result = (Integer) ReflectionTestUtils.invokeMethod(
@@ -116,6 +137,45 @@ class ProductServiceTest {
         verify(productRepository).findAll();
     }
 
+    @Test
+    @DisplayName("재고가 샤딩된 상품은 Product.quantity 대신 버킷 재고 합계로 조회한다")
+    void findAll_shardedProduct_usesBucketTotal() {
+        // given - 상품 2는 샤딩됨 (Product.quantity는 재분배 전 값 200, 버킷 합계 7)
+        LocalDateTime now = LocalDateTime.now();
+        Product product1 = new Product(1L, "상품1", "설명1", 100, 10000, 50, now, now);
+        Product product2 = new Product(2L, "상품2", "설명2", 200, 20000, 100, now, now);
+        given(productRepository.findAll()).willReturn(List.of(product1, product2));
+        given(productStockShardService.findShardedStock(List.of(1L, 2L))).willReturn(Map.of(2L, 7));
+
+        // when
+        List<ProductResponse> result = productService.findAll();
+
+        // then
+        assertThat(result).extracting(ProductResponse::quantity).containsExactly(100, 7);
+        assertThat(result.get(1).price()).isEqualTo(20000);
+    }
+
+    @Test
+    @DisplayName("재고가 샤딩된 상품은 버킷 재고 합계로 재고를 점유한다 (재분배 전 Product.quantity 사용 안 함)")
+    void getStockMap_shardedProduct_holdsAgainstBucketTotal() {
+        // given - 상품 2는 샤딩됨 (Product.quantity는 재분배 전 값 100, 버킷 합계 3)
+        LocalDateTime now = LocalDateTime.now();
+        given(productRepository.findStockByIds(List.of(1L, 2L))).willReturn(Map.of(1L, 50, 2L, 100));
+        given(productStockShardService.findShardedStock(List.of(1L, 2L))).willReturn(Map.of(2L, 3));
+        StockHoldService stockHoldService = new StockHoldService(stockHoldRepository, true, 30);
+        List<CartItemResponse> cartItems = List.of(
+                new CartItemResponse(1L, 1L, 1L, 1, now, now),
+                new CartItemResponse(2L, 1L, 2L, 5, now, now));
+
+        // when
+        Map<Long, Integer> stockMap = productService.getStockMap(List.of(1L, 2L));
+        stockHoldService.hold(1L, cartItems, stockMap);
+
+        // then
+        assertThat(stockMap).containsEntry(1L, 50).containsEntry(2L, 3);
+        verify(stockHoldRepository).hold(1L, Map.of(1L, 1, 2L, 5), Map.of(1L, 50, 2L, 3), 30_000L);
+    }
+
     @Test
     @DisplayName("상품이 없을 때 빈 리스트 반환")
     void findAll_empty() {
@@ -182,17 +242,36 @@ class ProductServiceTest {
     }
 
     @Test
-    @DisplayName("상품 정보 업데이트")
+    @DisplayName("상품 정보 업데이트 - 조회 이후 재고만 변경되면 상품 변경 이벤트를 발행하지 않는다")
     void updateProduct() {
         // given
         LocalDateTime now = LocalDateTime.now();
-        Product product = new Product(1L, "상품1", "설명1", 95, 10000, 50, now, now);
+        Product product = new Product(1L, "상품1", "설명1", 100, 10000, 50, now, now);
+        ReflectionTestUtils.invokeMethod(product, "captureLoadedSnapshot");
+        product.decreaseStock(5);
 
         // when
         productService.updateProduct(product);
 
         // then
         verify(productRepository).save(product);
+        verify(eventPublisher, never()).publishEvent(any(ProductChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("상품 정보 업데이트 - 조회 이후 가격이 변경되면 이 노드의 캐시와 관계없이 상품 변경 이벤트를 발행한다")
+    void updateProduct_snapshotChanged_publishesEvent() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Product product = new Product(1L, "상품1", "설명1", 100, 10000, 50, now, now);
+        ReflectionTestUtils.invokeMethod(product, "captureLoadedSnapshot");
+        ReflectionTestUtils.setField(product, "price", 12000);
+
+        // when
+        productService.updateProduct(product);
+
+        // then
+        verify(eventPublisher).publishEvent(new ProductChangedEvent(1L));
     }
 
     @Test
@@ -268,16 +347,14 @@ class ProductServiceTest {
         CartItemResponse cartItem2 = new CartItemResponse(2L, 1L, 20L, 3, now, now);
         List<CartItemResponse> cartItems = Arrays.asList(cartItem1, cartItem2);
 
-        Product product1 = new Product(10L, "상품1", "설명1", 100, 10000, 50, now, now);  // 재고 100개
-        Product product2 = new Product(20L, "상품2", "설명2", 200, 5000, 100, now, now);  // 재고 200개
-        Map<Long, Product> productMap = Map.of(10L, product1, 20L, product2);
+        Map<Long, Integer> stockMap = Map.of(10L, 100, 20L, 200);  // 재고 100개, 200개
 
         // when & then - 예외가 발생하지 않아야 함
         ReflectionTestUtils.invokeMethod(
                 productService,
                 "validateStock",
                 cartItems,
-                productMap
+                stockMap
         );
     }
 
@@ -289,8 +366,7 @@ class ProductServiceTest {
         CartItemResponse cartItem = new CartItemResponse(1L, 1L, 10L, 50, now, now);  // 50개 주문
         List<CartItemResponse> cartItems = List.of(cartItem);
 
-        Product product = new Product(10L, "상품1", "설명1", 30, 10000, 50, now, now);  // 재고 30개
-        Map<Long, Product> productMap = Map.of(10L, product);
+        Map<Long, Integer> stockMap = Map.of(10L, 30);  // 재고 30개
 
         // when & then
         try {
@@ -298,7 +374,7 @@ class ProductServiceTest {
                     productService,
                     "validateStock",
                     cartItems,
-                    productMap
+                    stockMap
             );
             // 예외가 발생하지 않으면 테스트 실패
             org.junit.jupiter.api.Assertions.fail("ProductException이 발생해야 합니다");
@@ -0,0 +1,129 @@
+package com.sparta.ecommerce.application.product;
+
+import com.sparta.ecommerce.domain.product.ProductRepository;
+import com.sparta.ecommerce.domain.product.dto.ProductSnapshot;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSnapshotCacheTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private ProductSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductSnapshotCache(productRepository, redisTemplate, 100, 300);
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 상품은 DB를 조회하지 않고, 캐시 미스인 상품만 조회한다")
+    void getAll_queriesOnlyMisses() {
+        // given
+        ProductSnapshot snapshot1 = new ProductSnapshot(1L, "상품1", "설명1", 10000);
+        ProductSnapshot snapshot2 = new ProductSnapshot(2L, "상품2", "설명2", 5000);
+        given(productRepository.findSnapshotsByIds(List.of(1L))).willReturn(List.of(snapshot1));
+        given(productRepository.findSnapshotsByIds(List.of(2L))).willReturn(List.of(snapshot2));
+        cache.getAll(List.of(1L));
+
+        // when
+        Map<Long, ProductSnapshot> result = cache.getAll(List.of(1L, 2L));
+
+        // then
+        assertThat(result).containsEntry(1L, snapshot1).containsEntry(2L, snapshot2);
+        verify(productRepository, times(1)).findSnapshotsByIds(List.of(1L));
+        verify(productRepository, times(1)).findSnapshotsByIds(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("무효화하면 이 노드의 캐시에서 제거하고 다른 노드에 전파한다")
+    void invalidate_evictsLocallyAndBroadcasts() {
+        // given
+        ProductSnapshot snapshot = new ProductSnapshot(1L, "상품1", "설명1", 10000);
+        given(productRepository.findSnapshotsByIds(any())).willReturn(List.of(snapshot));
+        cache.getAll(List.of(1L));
+
+        // when
+        cache.invalidate(1L);
+
+        // then
+        verify(redisTemplate).convertAndSend(ProductSnapshotCache.INVALIDATION_CHANNEL, "1");
+        cache.getAll(List.of(1L));
+        verify(productRepository, times(2)).findSnapshotsByIds(any());
+    }
+
+    @Test
+    @DisplayName("이 노드에 캐시되지 않은 상품도 무효화를 전파한다 (다른 노드에만 캐시된 경우)")
+    void invalidate_notCachedLocally_stillBroadcasts() {
+        // when
+        cache.invalidate(2L);
+
+        // then
+        verify(redisTemplate).convertAndSend(ProductSnapshotCache.INVALIDATION_CHANNEL, "2");
+        verify(productRepository, never()).findSnapshotsByIds(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 수신하면 해당 상품을 캐시에서 제거한다")
+    void onMessage_evictsProduct() {
+        // given
+        given(productRepository.findSnapshotsByIds(any()))
+                .willReturn(List.of(new ProductSnapshot(1L, "상품1", "설명1", 10000)));
+        cache.getAll(List.of(1L));
+
+        // when
+        cache.onMessage(new DefaultMessage(
+                ProductSnapshotCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)), null);
+        cache.getAll(List.of(1L));
+
+        // then
+        verify(productRepository, times(2)).findSnapshotsByIds(any());
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 조회한 스냅샷을 반환하되 캐시에 저장하지 않는다")
+    void getAll_invalidatedDuringLoad_notCached() {
+        // given - DB 조회가 끝나기 전에 상품 변경이 커밋되어 무효화가 먼저 실행됨
+        ProductSnapshot stale = new ProductSnapshot(1L, "상품1", "설명1", 10000);
+        ProductSnapshot updated = new ProductSnapshot(1L, "상품1", "설명1", 8000);
+        given(productRepository.findSnapshotsByIds(List.of(1L)))
+                .willAnswer(invocation -> {
+                    cache.invalidate(1L);
+                    return List.of(stale);
+                })
+                .willReturn(List.of(updated));
+
+        // when
+        Map<Long, ProductSnapshot> loading = cache.getAll(List.of(1L));
+        Map<Long, ProductSnapshot> afterInvalidation = cache.getAll(List.of(1L));
+
+        // then
+        assertThat(loading).containsEntry(1L, stale);
+        assertThat(afterInvalidation).containsEntry(1L, updated);
+        verify(productRepository, times(2)).findSnapshotsByIds(List.of(1L));
+    }
+}
@@ -0,0 +1,122 @@
+package com.sparta.ecommerce.application.product;
+
+import com.sparta.ecommerce.common.transaction.TransactionHandler;
+import com.sparta.ecommerce.domain.product.ProductRepository;
+import com.sparta.ecommerce.domain.product.ProductStockBucketRepository;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.product.entity.ProductStockBucket;
+import com.sparta.ecommerce.domain.product.exception.ProductException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.sparta.ecommerce.domain.product.exception.ProductErrorCode.INSUFFICIENT_STOCK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStockShardServiceTest {
+
+    @Mock
+    private ProductStockBucketRepository productStockBucketRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private TransactionHandler transactionHandler;
+
+    @InjectMocks
+    private ProductStockShardService productStockShardService;
+
+    @Test
+    @DisplayName("reserve - 선택한 버킷이 비어 있으면 다른 버킷에서 차감한다")
+    void reserve_fallsBackToSiblingBucket() {
+        // given - 재고가 남은 버킷은 2번뿐 (시작 버킷은 임의로 선택됨)
+        lenient().when(productStockBucketRepository.decrease(eq(1L), anyInt(), eq(3))).thenReturn(false);
+        given(productStockBucketRepository.decrease(1L, 2, 3)).willReturn(true);
+
+        // when
+        productStockShardService.reserve(1L, 4, 3);
+
+        // then
+        verify(productStockBucketRepository).decrease(1L, 2, 3);
+        verify(productStockBucketRepository, never()).findBucketQuantities(1L);
+    }
+
+    @Test
+    @DisplayName("reserve - 단일 버킷으로 부족하면 여러 버킷에서 나누어 차감한다")
+    void reserve_splitsAcrossBuckets() {
+        // given
+        given(productStockBucketRepository.decrease(eq(1L), anyInt(), eq(5))).willReturn(false);
+        Map<Integer, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(0, 3);
+        quantities.put(1, 2);
+        given(productStockBucketRepository.findBucketQuantities(1L)).willReturn(quantities);
+        given(productStockBucketRepository.decrease(1L, 0, 3)).willReturn(true);
+        given(productStockBucketRepository.decrease(1L, 1, 2)).willReturn(true);
+
+        // when
+        productStockShardService.reserve(1L, 2, 5);
+
+        // then
+        verify(productStockBucketRepository).decrease(1L, 0, 3);
+        verify(productStockBucketRepository).decrease(1L, 1, 2);
+    }
+
+    @Test
+    @DisplayName("reserve - 버킷 재고 합계가 부족하면 INSUFFICIENT_STOCK 예외")
+    void reserve_insufficientStock() {
+        // given
+        given(productStockBucketRepository.decrease(eq(1L), anyInt(), eq(10))).willReturn(false);
+        given(productStockBucketRepository.findBucketQuantities(1L)).willReturn(Map.of(0, 4, 1, 0));
+        given(productStockBucketRepository.decrease(1L, 0, 4)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> productStockShardService.reserve(1L, 2, 10))
+                .isInstanceOf(ProductException.class)
+                .extracting("errorCode")
+                .isEqualTo(INSUFFICIENT_STOCK);
+    }
+
+    @Test
+    @DisplayName("rebalance - 버킷 재고를 균등 분배하고 상품 재고를 합계로 동기화한다")
+    void rebalance_distributesEvenlyAndSyncsProduct() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductStockBucket> buckets = List.of(
+                new ProductStockBucket(1L, 1L, 0, 0, now),
+                new ProductStockBucket(2L, 1L, 1, 1, now),
+                new ProductStockBucket(3L, 1L, 2, 9, now)
+        );
+        Product product = new Product(1L, "한정판", "설명", 100, 10000, 0, now, now);
+        given(productStockBucketRepository.findAllByProductIdWithLock(1L)).willReturn(buckets);
+        given(productRepository.findAllByIdWithLock(List.of(1L))).willReturn(List.of(product));
+
+        // when
+        productStockShardService.rebalance(1L);
+
+        // then
+        assertThat(buckets).extracting(ProductStockBucket::getQuantity).containsExactly(4, 3, 3);
+        assertThat(product.getQuantity()).isEqualTo(10);
+        verify(productRepository).save(product);
+    }
+}
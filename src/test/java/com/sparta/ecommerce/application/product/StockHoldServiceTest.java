@@ -0,0 +1,86 @@
+package com.sparta.ecommerce.application.product;
+
+import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
+import com.sparta.ecommerce.domain.product.StockHoldRepository;
+import com.sparta.ecommerce.domain.product.exception.ProductException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.sparta.ecommerce.domain.product.exception.ProductErrorCode.INSUFFICIENT_STOCK;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StockHoldServiceTest {
+
+    @Mock
+    private StockHoldRepository stockHoldRepository;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("같은 상품의 장바구니 수량을 합산하여 점유한다")
+    void hold_aggregatesQuantitiesByProduct() {
+        // given
+        StockHoldService service = new StockHoldService(stockHoldRepository, true, 30);
+        List<CartItemResponse> cartItems = List.of(
+                new CartItemResponse(1L, 1L, 10L, 2, now, now),
+                new CartItemResponse(2L, 1L, 10L, 3, now, now),
+                new CartItemResponse(3L, 1L, 20L, 1, now, now));
+        Map<Long, Integer> stockMap = Map.of(10L, 100, 20L, 100);
+
+        // when
+        service.hold(1L, cartItems, stockMap);
+
+        // then
+        verify(stockHoldRepository).hold(1L, Map.of(10L, 5, 20L, 1), stockMap, 30_000L);
+    }
+
+    @Test
+    @DisplayName("가용 재고 부족은 예외로 전파하고, Redis 장애는 점유 없이 진행한다")
+    void hold_propagatesInsufficientStock_failsOpenOnRedisError() {
+        // given
+        StockHoldService service = new StockHoldService(stockHoldRepository, true, 30);
+        List<CartItemResponse> cartItems = List.of(new CartItemResponse(1L, 1L, 10L, 1, now, now));
+
+        doThrow(new ProductException(INSUFFICIENT_STOCK))
+                .when(stockHoldRepository).hold(eq(1L), any(), any(), anyLong());
+        doThrow(new RedisConnectionFailureException("connection refused"))
+                .when(stockHoldRepository).hold(eq(2L), any(), any(), anyLong());
+
+        // when & then
+        assertThatThrownBy(() -> service.hold(1L, cartItems, Map.of(10L, 1)))
+                .isInstanceOf(ProductException.class);
+        assertThatCode(() -> service.hold(2L, cartItems, Map.of(10L, 1)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 점유/해제하지 않는다")
+    void disabled_noop() {
+        // given
+        StockHoldService service = new StockHoldService(stockHoldRepository, false, 30);
+        List<CartItemResponse> cartItems = List.of(new CartItemResponse(1L, 1L, 10L, 1, now, now));
+
+        // when
+        service.hold(1L, cartItems, Map.of(10L, 1));
+        service.release(1L, cartItems);
+
+        // then
+        verifyNoInteractions(stockHoldRepository);
+    }
+}
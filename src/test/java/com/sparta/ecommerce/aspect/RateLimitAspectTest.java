@@ -0,0 +1,96 @@
+package com.sparta.ecommerce.aspect;
+
+import com.sparta.ecommerce.common.annotation.RateLimit;
+import com.sparta.ecommerce.common.ratelimit.RateLimitExceededException;
+import com.sparta.ecommerce.common.ratelimit.TokenBucketRateLimiter;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RateLimitAspectTest {
+
+    @Mock
+    private TokenBucketRateLimiter rateLimiter;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private RateLimitAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new RateLimitAspect(rateLimiter);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(joinPoint.getArgs()).willReturn(new Object[]{1L});
+    }
+
+    @Test
+    @DisplayName("엔드포인트 제한에 걸리면 사용자 토큰을 되돌리고 메서드를 실행하지 않는다")
+    void endpointRejected_releasesUserToken() throws Throwable {
+        // given
+        RateLimit rateLimit = annotated("limited");
+        willThrow(new RateLimitExceededException("order:create", 100))
+                .given(rateLimiter).acquire("order:create", 2000, 1000);
+
+        // when & then
+        assertThatThrownBy(() -> aspect.rateLimit(joinPoint, rateLimit))
+                .isInstanceOf(RateLimitExceededException.class);
+        verify(rateLimiter).acquire("order:create:user:1", 5, 1);
+        verify(rateLimiter).release("order:create:user:1", 5);
+        verify(joinPoint, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("엔드포인트 충전 속도 없이 엔드포인트 버킷을 설정하면 토큰을 차감하지 않고 설정 오류로 거절한다")
+    void endpointWithoutRefill_rejectedAsMisconfiguration() throws Throwable {
+        // given
+        RateLimit rateLimit = annotated("noEndpointRefill");
+
+        // when & then
+        assertThatThrownBy(() -> aspect.rateLimit(joinPoint, rateLimit))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("endpointRefillPerSecond");
+        verify(rateLimiter, never()).acquire(anyString(), anyInt(), anyInt());
+        verify(joinPoint, never()).proceed();
+    }
+
+    private RateLimit annotated(String methodName) throws NoSuchMethodException {
+        Method method = RateLimitedTarget.class.getDeclaredMethod(methodName, Long.class);
+        given(signature.getMethod()).willReturn(method);
+        return method.getAnnotation(RateLimit.class);
+    }
+
+    static class RateLimitedTarget {
+
+        @RateLimit(value = "order:create", key = "#userId",
+                capacity = 5, refillPerSecond = 1, endpointCapacity = 2000, endpointRefillPerSecond = 1000)
+        void limited(Long userId) {
+        }
+
+        @RateLimit(value = "order:create", key = "#userId", endpointCapacity = 2000)
+        void noEndpointRefill(Long userId) {
+        }
+    }
+}
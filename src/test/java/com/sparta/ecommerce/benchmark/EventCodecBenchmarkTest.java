@@ -0,0 +1,141 @@
+package com.sparta.ecommerce.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sparta.ecommerce.application.coupon.event.CouponIssueEvent;
+import com.sparta.ecommerce.application.order.event.OrderCreatedEvent;
+import com.sparta.ecommerce.common.codec.BinaryRedisSerializer;
+import com.sparta.ecommerce.common.codec.BinarySchema;
+import com.sparta.ecommerce.common.kafka.BinaryEventDeserializer;
+import com.sparta.ecommerce.common.kafka.BinaryEventSerializer;
+import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
+import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트/캐시 직렬화 포맷 벤치마크
+ *
+ * 기존 JSON 직렬화(Kafka JsonSerializer + 타입 헤더, Redis GenericJackson2JsonRedisSerializer + NON_FINAL 타입 정보)와
+ * BinarySchema 기반 바이너리 직렬화의 메시지당 바이트 수와 직렬화/역직렬화 ns/op를 비교합니다.
+ *
+ * 실행 방법: ./gradlew test --tests "*EventCodecBenchmarkTest" -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class EventCodecBenchmarkTest {
+
+    private static final String TOPIC = "benchmark-topic";
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int MEASURE_ITERATIONS = 200_000;
+
+    @Test
+    @DisplayName("벤치마크 - Kafka 이벤트 JSON vs 바이너리")
+    void compareKafkaEventCodecs() {
+        LocalDateTime now = LocalDateTime.now();
+        List<CartItemResponse> cartItems = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            cartItems.add(new CartItemResponse(i, 1L, 100 + i, 2, now, now));
+        }
+
+        System.out.println("\n=== Kafka 이벤트 직렬화 벤치마크 ===");
+        compareKafka("OrderCreatedEvent(5 items)", new OrderCreatedEvent(1L, 1000L, 10L, 50000, cartItems));
+        compareKafka("CouponIssueEvent", new CouponIssueEvent(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("벤치마크 - topProducts 캐시 값 JSON vs 바이너리")
+    void compareCacheCodecs() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL);
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(objectMapper);
+        BinaryRedisSerializer binary = new BinaryRedisSerializer(BinarySchema.registry(), json);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductResponse> products = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            products.add(new ProductResponse(i, "인기 상품 " + i, "상품 설명 " + i, 100, 15000, 1234, now, now));
+        }
+
+        System.out.println("\n=== topProducts 캐시 직렬화 벤치마크 (10 products) ===");
+        print("JSON  ", measure(products, json::serialize, json::deserialize));
+        print("BINARY", measure(products, binary::serialize, binary::deserialize));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void compareKafka(String name, Object event) {
+        // Consumer 설정과 동일하게 타입 헤더 대신 토픽별 이벤트 타입으로 역직렬화
+        JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+        JsonDeserializer<Object> jsonDeserializer = new JsonDeserializer<>((Class<Object>) event.getClass(), false);
+        BinaryEventSerializer binarySerializer = new BinaryEventSerializer(BinarySchema.registry(), jsonSerializer);
+        BinaryEventDeserializer binaryDeserializer = new BinaryEventDeserializer(BinarySchema.registry(), jsonDeserializer);
+
+        // JSON은 타입 헤더(__TypeId__)를 추가하는 기존 발행 경로와 동일하게 측정
+        Result json = measure(event,
+                value -> jsonSerializer.serialize(TOPIC, new RecordHeaders(), value),
+                bytes -> jsonDeserializer.deserialize(TOPIC, bytes));
+        RecordHeaders headers = new RecordHeaders();
+        jsonSerializer.serialize(TOPIC, headers, event);
+        int typeHeaderBytes = headers.lastHeader("__TypeId__").value().length;
+
+        Result binary = measure(event,
+                value -> binarySerializer.serialize(TOPIC, value),
+                bytes -> binaryDeserializer.deserialize(TOPIC, bytes));
+
+        System.out.println(name);
+        print("  JSON   (+" + typeHeaderBytes + "B type header)", json);
+        print("  BINARY", binary);
+    }
+
+    private Result measure(Object value, Function<Object, byte[]> serializer, Function<byte[], Object> deserializer) {
+        byte[] bytes = serializer.apply(value);
+        assertThat(deserializer.apply(bytes)).isNotNull();
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += serializer.apply(value).length;
+            sink += deserializer.apply(bytes).hashCode();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            sink += serializer.apply(value).length;
+        }
+        long serializeNanos = (System.nanoTime() - start) / MEASURE_ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            sink += deserializer.apply(bytes).hashCode();
+        }
+        long deserializeNanos = (System.nanoTime() - start) / MEASURE_ITERATIONS;
+
+        // JIT가 측정 루프를 제거하지 않도록 결과 사용
+        assertThat(sink).isNotZero();
+        return new Result(bytes.length, serializeNanos, deserializeNanos);
+    }
+
+    private void print(String label, Result result) {
+        System.out.println(label + ": " + result);
+    }
+
+    private record Result(int bytes, long serializeNanos, long deserializeNanos) {
+        @Override
+        public String toString() {
+            return String.format("%d bytes, serialize %d ns/op, deserialize %d ns/op", bytes, serializeNanos, deserializeNanos);
+        }
+    }
+}
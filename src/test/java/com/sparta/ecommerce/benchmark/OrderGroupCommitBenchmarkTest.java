@@ -0,0 +1,217 @@
+package com.sparta.ecommerce.benchmark;
+
+import com.sparta.ecommerce.application.cart.CartService;
+import com.sparta.ecommerce.application.order.OrderGroupCommitWriter;
+import com.sparta.ecommerce.application.order.OrderService;
+import com.sparta.ecommerce.common.transaction.TransactionHandler;
+import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import com.sparta.ecommerce.domain.product.dto.ProductSnapshot;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.infrastructure.jpa.product.JpaProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 접수 그룹 커밋 벤치마크
+ *
+ * 요청별 트랜잭션(TransactionHandler)과 그룹 커밋(OrderGroupCommitWriter)으로
+ * 동일한 주문 접수 작업(주문 저장, 주문 상품 저장, 장바구니 삭제)을 실행하고
+ * 초당 커밋 수, 평균 그룹 크기(커밋당 주문 수), 초당 처리 주문 수와 p99 지연 시간을 비교합니다.
+ * 요청별 트랜잭션은 성공한 주문마다 커밋 1회입니다.
+ *
+ * 실행 방법: ./gradlew test --tests "*OrderGroupCommitBenchmarkTest" -Dbenchmark=true
+ */
+@SpringBootTest(properties = {
+    "spring.task.scheduling.enabled=false",
+    "coupon.queue.consumer.enabled=false",
+    "app.async.enabled=false",
+    "order.intake.group-commit.enabled=true",
+    "order.intake.group-commit.max-batch-size=32",
+    "order.intake.group-commit.max-wait-ms=2",
+    "logging.level.com.sparta.ecommerce=WARN",
+    "logging.level.com.sparta.ecommerce.benchmark=INFO"
+})
+@Slf4j
+@Testcontainers
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderGroupCommitBenchmarkTest {
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @Container
+    static KafkaContainer kafka = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.5.0"));
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", redis::getFirstMappedPort);
+        registry.add("spring.kafka.bootstrap-servers", kafka::getBootstrapServers);
+    }
+
+    private static final int THREAD_COUNT = 64;
+    private static final int ORDERS_PER_THREAD = 50;
+
+    @Autowired
+    private TransactionHandler transactionHandler;
+
+    @Autowired
+    private OrderGroupCommitWriter orderGroupCommitWriter;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private JpaProductRepository productRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        product = productRepository.save(new Product(null, "벤치마크 상품", "설명", 1_000_000, 10000, 0, now, now));
+    }
+
+    @Test
+    @DisplayName("벤치마크 - 요청별 트랜잭션 vs 그룹 커밋 주문 접수 처리량/p99")
+    void compareIntakeThroughput() throws InterruptedException {
+        // 워밍업 (커넥션 풀, JIT)
+        run(transactionHandler::executeWithResult, null);
+
+        BenchmarkResult perRequest = run(transactionHandler::executeWithResult, null);
+        BenchmarkResult groupCommit = run(orderGroupCommitWriter::execute, orderGroupCommitWriter::commitCount);
+
+        log.info("=== 주문 접수 벤치마크 (threads={}, orders={}) ===", THREAD_COUNT, THREAD_COUNT * ORDERS_PER_THREAD);
+        log.info("요청별 트랜잭션: {}", perRequest);
+        log.info("그룹 커밋      : {}", groupCommit);
+
+        assertThat(perRequest.failures()).isZero();
+        assertThat(groupCommit.failures()).isZero();
+    }
+
+    /**
+     * 주어진 실행 방식으로 THREAD_COUNT개의 스레드가 동시에 주문을 접수하고 결과를 측정합니다.
+     *
+     * @param commitCounter 누적 커밋 수 (null이면 성공한 주문마다 커밋 1회로 계산)
+     */
+    private BenchmarkResult run(Function<Supplier<Order>, Order> executor, LongSupplier commitCounter)
+            throws InterruptedException {
+        long commitsBefore = commitCounter == null ? 0 : commitCounter.getAsLong();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(THREAD_COUNT);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        int[] failures = new int[1];
+
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            long userId = t + 1;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                        long start = System.nanoTime();
+                        try {
+                            executor.apply(() -> createPendingOrder(userId));
+                        } catch (Exception e) {
+                            synchronized (failures) {
+                                failures[0]++;
+                            }
+                        }
+                        latencies.add(System.nanoTime() - start);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        boolean finished = doneLatch.await(5, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executorService.shutdownNow();
+
+        // 쓰기 스레드가 멈춰 끝나지 않은 실행은 처리량으로 보고하지 않음
+        assertThat(finished).as("주문 접수가 5분 안에 끝나지 않음").isTrue();
+
+        double elapsedSec = elapsedNanos / 1_000_000_000.0;
+        long succeeded = latencies.size() - failures[0];
+        long commits = commitCounter == null ? succeeded : commitCounter.getAsLong() - commitsBefore;
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        long p99 = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+        double ordersPerSec = sorted.size() / elapsedSec;
+
+        return new BenchmarkResult(commits / elapsedSec, commits == 0 ? 0 : (double) succeeded / commits,
+                ordersPerSec, TimeUnit.NANOSECONDS.toMicros(p99), failures[0]);
+    }
+
+    /**
+     * CreateOrderUseCase의 트랜잭션 구간과 동일한 작업 (주문 저장, 주문 상품 저장, 장바구니 삭제)
+     */
+    private Order createPendingOrder(long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        CartItemResponse cartItem = new CartItemResponse(null, userId, product.getProductId(), 1, now, now);
+        Order order = orderService.createOrder(
+                userId, null, 10000, 0, 10000,
+                List.of(cartItem),
+                Map.of(product.getProductId(), ProductSnapshot.from(product))
+        );
+        cartService.clearCart(userId);
+        return order;
+    }
+
+    private record BenchmarkResult(double commitsPerSec, double avgGroupSize, double ordersPerSec,
+                                   long p99Micros, int failures) {
+        @Override
+        public String toString() {
+            return String.format("%.1f commits/sec, avg group %.1f, %.1f orders/sec, p99 %d us, failures %d",
+                    commitsPerSec, avgGroupSize, ordersPerSec, p99Micros, failures);
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package com.sparta.ecommerce.benchmark;
+
+import com.sparta.ecommerce.application.cart.CartService;
+import com.sparta.ecommerce.application.coupon.UserCouponService;
+import com.sparta.ecommerce.application.order.CreateOrderUseCase;
+import com.sparta.ecommerce.application.product.ProductService;
+import com.sparta.ecommerce.application.user.UserService;
+import com.sparta.ecommerce.benchmark.SagaFaultInjector.FaultPoint;
+import com.sparta.ecommerce.common.kafka.KafkaPublishGateway;
+import com.sparta.ecommerce.domain.cart.CartRepository;
+import com.sparta.ecommerce.domain.cart.entity.CartItem;
+import com.sparta.ecommerce.domain.coupon.CouponRepository;
+import com.sparta.ecommerce.domain.coupon.UserCouponRepository;
+import com.sparta.ecommerce.domain.coupon.entity.Coupon;
+import com.sparta.ecommerce.domain.coupon.entity.UserCoupon;
+import com.sparta.ecommerce.domain.order.OrderRepository;
+import com.sparta.ecommerce.domain.order.entity.Order;
+import com.sparta.ecommerce.domain.product.ProductRankingRepository;
+import com.sparta.ecommerce.domain.product.entity.Product;
+import com.sparta.ecommerce.domain.user.UserRepository;
+import com.sparta.ecommerce.domain.user.entity.User;
+import com.sparta.ecommerce.infrastructure.jpa.product.JpaProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 사가/보상 장애 주입 부하 테스트
+ *
+ * 동시 주문 부하 중에 사가 단계 실패/지연, 상품 락 타임아웃, 복구 이벤트 발행 실패, 복구 Consumer 실패를
+ * 주입하고(SagaFaultInjector), 모든 주문이 끝나고 복구가 반영된 뒤 재고/포인트/쿠폰 상태가 주문 결과와 일치하는지 검증합니다.
+ *
+ * 불변식 (COMPLETED 주문만 반영되어야 함):
+ * - 상품 재고 = 초기 재고 - COMPLETED 주문의 주문 수량 합
+ * - 사용자 포인트 = 초기 포인트 - COMPLETED 주문의 사용 포인트 합
+ * - 사용자 쿠폰 사용 여부 = 해당 쿠폰을 사용한 COMPLETED 주문 존재 여부
+ *
+ * 측정:
+ * - 주문 처리량, 보상(FAILED 주문) 처리량
+ * - 정합 지연: 모든 주문이 종료된 시점부터 불변식이 성립하기까지 걸린 시간 (복구 이벤트/재시도 토픽 소진 시간)
+ *
+ * 실행 방법: ./gradlew test --tests "*SagaFaultInjectionLoadTest" -Dbenchmark=true [-Dsaga.fault.stock.rate=0.1 ...]
+ */
+@SpringBootTest(properties = {
+    "spring.task.scheduling.enabled=false",
+    "coupon.queue.consumer.enabled=false",
+    "app.async.enabled=false",
+    "logging.level.com.sparta.ecommerce=WARN"
+})
+@Testcontainers
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SagaFaultInjectionLoadTest {
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @Container
+    static KafkaContainer kafka = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.5.0"));
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", redis::getFirstMappedPort);
+        registry.add("spring.kafka.bootstrap-servers", kafka::getBootstrapServers);
+    }
+
+    private static final int THREAD_COUNT = 32;
+    private static final int USER_COUNT = 256;
+    private static final int ORDERS_PER_USER = 4;
+    private static final int PRODUCT_COUNT = 8;
+    private static final int INITIAL_STOCK = 100_000;
+    private static final int INITIAL_POINT = 10_000_000;
+    private static final long SETTLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(3);
+    private static final long RECONCILE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(3);  // 재시도 토픽(1s/10s/1m) 소진 포함
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private JpaProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @SpyBean
+    private ProductService productService;
+
+    @SpyBean
+    private UserService userService;
+
+    @SpyBean
+    private UserCouponService userCouponService;
+
+    @SpyBean
+    private ProductRankingRepository productRankingRepository;
+
+    @SpyBean
+    private RedissonClient redissonClient;
+
+    @SpyBean
+    private KafkaPublishGateway kafkaPublishGateway;
+
+    private final SagaFaultInjector faults = new SagaFaultInjector();
+    private final Map<Long, PlacedOrder> placedOrders = new ConcurrentHashMap<>();
+    private final List<Long> productIds = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+    private final Map<Long, Long> userCouponIds = new HashMap<>();  // userId -> userCouponId
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            productIds.add(productRepository.save(
+                    new Product(null, "장애 주입 상품" + i, "설명", INITIAL_STOCK, 10_000, 0, now, now)).getProductId());
+        }
+
+        Coupon coupon = couponRepository.save(
+                new Coupon(null, "장애 주입 쿠폰", "AMOUNT", 1_000, USER_COUNT, USER_COUNT, 0, now, now.plusDays(30)));
+        for (int i = 0; i < USER_COUNT; i++) {
+            Long userId = userRepository.save(new User(null, "faultUser" + i, INITIAL_POINT, 0L, now)).getUserId();
+            userIds.add(userId);
+            if (i % 2 == 0) {
+                UserCoupon userCoupon = new UserCoupon();
+                userCoupon.setUserId(userId);
+                userCoupon.setCouponId(coupon.getCouponId());
+                userCoupon.setUsed(false);
+                userCoupon.setIssuedAt(now);
+                userCouponIds.put(userId, userCouponRepository.save(userCoupon).getUserCouponId());
+            }
+        }
+
+        // 사가 단계: 실제 작업 후 실패 (단계 트랜잭션 롤백 -> 보상)
+        doAnswer(faults.failAfter(FaultPoint.STOCK)).when(productService).decreaseStockWithLock(anyLong(), anyLong(), any());
+        doAnswer(faults.failAfter(FaultPoint.POINT)).when(userService).deductPointForOrder(any());
+        doAnswer(faults.failAfter(FaultPoint.COUPON)).when(userCouponService).processCouponUsage(any());
+        doAnswer(faults.failAfter(FaultPoint.RANKING)).when(productRankingRepository).incrementSalesCount(anyLong(), anyInt());
+
+        // 상품 락 타임아웃, 복구 이벤트 발행 실패
+        doAnswer(faults.lockTimeout()).when(redissonClient).getMultiLock(any(RLock[].class));
+        doAnswer(faults.sendError()).when(kafkaPublishGateway).publishOrWait(any(), anyString(), any());
+
+        // 복구 Consumer: 작업 전에 실패 (재시도 토픽으로 재처리)
+        doAnswer(faults.failBefore(FaultPoint.RESTORE)).when(productService).restoreStock(any());
+        doAnswer(faults.failBefore(FaultPoint.RESTORE)).when(userService).restorePoint(anyLong(), anyInt());
+        doAnswer(faults.failBefore(FaultPoint.RESTORE)).when(userCouponService).restoreCoupon(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("부하 + 장애 주입 - 모든 주문 종료 후 재고/포인트/쿠폰이 주문 결과와 일치하고, 보상 처리량/정합 지연을 측정한다")
+    void sagaUnderFaults_reconciles() throws InterruptedException {
+        // when - 주문 부하
+        long startedAt = System.nanoTime();
+        int rejected = placeOrders();
+        long placedAt = System.nanoTime();
+
+        // then - 모든 주문 종료 대기
+        Map<Long, Order> orders = awaitSettled();
+        long settledAt = System.nanoTime();
+
+        // 복구 반영(불변식 성립) 대기
+        List<String> violations = awaitReconciled(orders);
+        long reconciledAt = System.nanoTime();
+
+        Map<String, Long> statusCounts = orders.values().stream()
+                .collect(Collectors.groupingBy(Order::getStatus, Collectors.counting()));
+        long completed = statusCounts.getOrDefault("COMPLETED", 0L);
+        long failed = statusCounts.getOrDefault("FAILED", 0L);
+        double settleSec = (settledAt - startedAt) / 1_000_000_000.0;
+
+        System.out.println("\n=== 사가 장애 주입 부하 테스트 (threads=" + THREAD_COUNT
+                + ", orders=" + placedOrders.size() + ", rejected=" + rejected + ") ===");
+        System.out.print(faults.report());
+        System.out.printf("주문 접수      : %.1f orders/sec (%d ms)%n",
+                placedOrders.size() / ((placedAt - startedAt) / 1_000_000_000.0),
+                TimeUnit.NANOSECONDS.toMillis(placedAt - startedAt));
+        System.out.printf("주문 종료      : COMPLETED %d, FAILED %d, %.1f orders/sec%n",
+                completed, failed, orders.size() / settleSec);
+        System.out.printf("보상 처리량    : %.1f compensations/sec%n", failed / settleSec);
+        System.out.printf("정합 지연      : %d ms (주문 종료 후 복구 반영까지)%n",
+                TimeUnit.NANOSECONDS.toMillis(reconciledAt - settledAt));
+        violations.forEach(v -> System.out.println("불일치: " + v));
+
+        assertThat(orders.values()).extracting(Order::getStatus).doesNotContain("PENDING");
+        assertThat(violations).isEmpty();
+    }
+
+    /**
+     * 사용자별로 장바구니를 채우고 주문하는 작업을 THREAD_COUNT개의 스레드로 동시에 실행합니다.
+     *
+     * @return 발행 대기열 포화 등으로 접수되지 않은 주문 수
+     */
+    private int placeOrders() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch doneLatch = new CountDownLatch(USER_COUNT);
+        AtomicInteger rejected = new AtomicInteger();
+
+        for (Long userId : userIds) {
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < ORDERS_PER_USER; i++) {
+                        // 쿠폰은 첫 주문에만 사용 (보상으로 복구되어도 이후 주문에서는 사용하지 않음)
+                        Long userCouponId = i == 0 ? userCouponIds.get(userId) : null;
+                        Map<Long, Integer> items = fillCart(userId);
+                        try {
+                            Long orderId = createOrderUseCase.createOrder(userId, userCouponId);
+                            placedOrders.put(orderId, new PlacedOrder(userId, userCouponId, items));
+                        } catch (Exception e) {
+                            rejected.incrementAndGet();
+                            cartService.clearCart(userId);
+                        }
+                    }
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        doneLatch.await(5, TimeUnit.MINUTES);
+        executorService.shutdown();
+        return rejected.get();
+    }
+
+    /**
+     * 서로 다른 상품 2개를 1~2개씩 장바구니에 담습니다. (멀티락 대상이 여러 개가 되도록)
+     */
+    private Map<Long, Integer> fillCart(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(PRODUCT_COUNT);
+        int second = (first + 1 + random.nextInt(PRODUCT_COUNT - 1)) % PRODUCT_COUNT;
+
+        Map<Long, Integer> items = new HashMap<>();
+        for (int index : new int[]{first, second}) {
+            Long productId = productIds.get(index);
+            int quantity = 1 + random.nextInt(2);
+            cartRepository.save(new CartItem(null, userId, productId, quantity, now, now));
+            items.put(productId, quantity);
+        }
+        return items;
+    }
+
+    /**
+     * 접수된 모든 주문이 COMPLETED/FAILED가 될 때까지 대기합니다.
+     */
+    private Map<Long, Order> awaitSettled() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + SETTLE_TIMEOUT_MS;
+        while (true) {
+            Map<Long, Order> orders = findPlacedOrders();
+            boolean settled = orders.values().stream().noneMatch(order -> "PENDING".equals(order.getStatus()));
+            if (settled || System.currentTimeMillis() > deadline) {
+                return orders;
+            }
+            Thread.sleep(500);
+        }
+    }
+
+    /**
+     * 불변식이 성립할 때까지 대기하고, 시간 안에 성립하지 않으면 남은 불일치를 반환합니다.
+     */
+    private List<String> awaitReconciled(Map<Long, Order> orders) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + RECONCILE_TIMEOUT_MS;
+        while (true) {
+            List<String> violations = checkInvariants(orders);
+            if (violations.isEmpty() || System.currentTimeMillis() > deadline) {
+                return violations;
+            }
+            Thread.sleep(500);
+        }
+    }
+
+    private Map<Long, Order> findPlacedOrders() {
+        return orderRepository.findAll().stream()
+                .filter(order -> placedOrders.containsKey(order.getOrderId()))
+                .collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+    }
+
+    private List<String> checkInvariants(Map<Long, Order> orders) {
+        Map<Long, Integer> soldByProduct = new HashMap<>();
+        Map<Long, Integer> spentByUser = new HashMap<>();
+        Map<Long, Boolean> couponUsedByOrder = new HashMap<>();
+
+        orders.forEach((orderId, order) -> {
+            PlacedOrder placed = placedOrders.get(orderId);
+            boolean completed = "COMPLETED".equals(order.getStatus());
+            if (placed.userCouponId() != null) {
+                couponUsedByOrder.merge(placed.userCouponId(), completed, Boolean::logicalOr);
+            }
+            if (!completed) {
+                return;
+            }
+            placed.items().forEach((productId, quantity) -> soldByProduct.merge(productId, quantity, Integer::sum));
+            spentByUser.merge(placed.userId(), order.getUsedPoint(), Integer::sum);
+        });
+
+        List<String> violations = new ArrayList<>();
+        for (Product product : productRepository.findAllById(productIds)) {
+            int expected = INITIAL_STOCK - soldByProduct.getOrDefault(product.getProductId(), 0);
+            if (product.getQuantity() != expected) {
+                violations.add("재고 productId=" + product.getProductId() + " expected=" + expected + " actual=" + product.getQuantity());
+            }
+        }
+        for (Long userId : userIds) {
+            int expected = INITIAL_POINT - spentByUser.getOrDefault(userId, 0);
+            int actual = userRepository.findById(userId).orElseThrow().getPoint();
+            if (actual != expected) {
+                violations.add("포인트 userId=" + userId + " expected=" + expected + " actual=" + actual);
+            }
+        }
+        couponUsedByOrder.forEach((userCouponId, expected) -> {
+            boolean actual = userCouponRepository.findById(userCouponId).orElseThrow().isUsed();
+            if (actual != expected) {
+                violations.add("쿠폰 userCouponId=" + userCouponId + " expectedUsed=" + expected + " actual=" + actual);
+            }
+        });
+        return violations;
+    }
+
+    private record PlacedOrder(Long userId, Long userCouponId, Map<Long, Integer> items) {
+    }
+}
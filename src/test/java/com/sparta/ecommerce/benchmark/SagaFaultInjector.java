@@ -0,0 +1,180 @@
+package com.sparta.ecommerce.benchmark;
+
+import org.mockito.stubbing.Answer;
+import org.redisson.api.RLock;
+import org.springframework.kafka.KafkaException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 사가 장애 주입기 (테스트 전용)
+ *
+ * 주입 지점별 실패율/지연 시간에 따라 Mockito 스파이(@SpyBean)의 Answer로 장애를 주입합니다.
+ * 운영 코드에는 주입 지점이 없으며, 스파이를 쓰는 테스트에서만 동작합니다.
+ *
+ * 설정: -Dsaga.fault.{지점}.rate=0.1 -Dsaga.fault.{지점}.latency-ms=20 (지점 이름은 소문자, 예: kafka_send)
+ *
+ * - 사가 단계(STOCK/POINT/COUPON/RANKING): 실제 작업 후 예외 → 단계 트랜잭션 롤백 후 보상
+ * - 락(LOCK): 상품 멀티락 획득 대기가 latency-ms 후 타임아웃(tryLock=false)
+ * - 발행(KAFKA_SEND): 복구 이벤트 발행이 동기 예외 또는 전송 실패(failed future)로 끝남
+ * - 복구(RESTORE): 복구 Consumer의 작업 전에 예외 → 재시도 토픽으로 재처리
+ */
+public class SagaFaultInjector {
+
+    public enum FaultPoint {
+        STOCK(0.05, 0),
+        POINT(0.05, 0),
+        COUPON(0.05, 0),
+        RANKING(0.02, 0),
+        LOCK(0.03, 50),
+        KAFKA_SEND(0.05, 0),
+        RESTORE(0.05, 0);
+
+        private final double defaultRate;
+        private final long defaultLatencyMs;
+
+        FaultPoint(double defaultRate, long defaultLatencyMs) {
+            this.defaultRate = defaultRate;
+            this.defaultLatencyMs = defaultLatencyMs;
+        }
+    }
+
+    private final Map<FaultPoint, Fault> faults = new EnumMap<>(FaultPoint.class);
+    private final RLock timedOutLock;
+
+    public SagaFaultInjector() {
+        for (FaultPoint point : FaultPoint.values()) {
+            String prefix = "saga.fault." + point.name().toLowerCase() + ".";
+            faults.put(point, new Fault(
+                    Double.parseDouble(System.getProperty(prefix + "rate", String.valueOf(point.defaultRate))),
+                    Long.parseLong(System.getProperty(prefix + "latency-ms", String.valueOf(point.defaultLatencyMs)))
+            ));
+        }
+        timedOutLock = timedOutLock(faults.get(FaultPoint.LOCK).latencyMs);
+    }
+
+    /**
+     * 지연 후 실제 메서드를 실행하고, 실패율에 따라 예외를 던집니다. (사가 단계용)
+     */
+    public Answer<Object> failAfter(FaultPoint point) {
+        return invocation -> {
+            Fault fault = faults.get(point);
+            fault.delay();
+            Object result = invocation.callRealMethod();
+            if (fault.roll()) {
+                throw new InjectedFaultException(point);
+            }
+            return result;
+        };
+    }
+
+    /**
+     * 지연 후 실패율에 따라 실제 메서드 실행 전에 예외를 던집니다. (복구 Consumer용 - 재시도 토픽으로 재처리되는 경로를 주입)
+     */
+    public Answer<Object> failBefore(FaultPoint point) {
+        return invocation -> {
+            Fault fault = faults.get(point);
+            fault.delay();
+            if (fault.roll()) {
+                throw new InjectedFaultException(point);
+            }
+            return invocation.callRealMethod();
+        };
+    }
+
+    /**
+     * 실패율에 따라 실제 멀티락 대신 획득에 실패하는 락을 반환합니다. (RedissonClient.getMultiLock용)
+     */
+    public Answer<Object> lockTimeout() {
+        return invocation -> faults.get(FaultPoint.LOCK).roll() ? timedOutLock : invocation.callRealMethod();
+    }
+
+    /**
+     * 지연 후 실패율에 따라 동기 예외 또는 실패한 future를 반환합니다. (KafkaPublishGateway.publishOrWait용)
+     */
+    public Answer<Object> sendError() {
+        return invocation -> {
+            Fault fault = faults.get(FaultPoint.KAFKA_SEND);
+            fault.delay();
+            if (!fault.roll()) {
+                return invocation.callRealMethod();
+            }
+            KafkaException error = new KafkaException("주입된 발행 실패 - topic: " + invocation.getArgument(1));
+            if (ThreadLocalRandom.current().nextBoolean()) {
+                throw error;
+            }
+            return CompletableFuture.failedFuture(error);
+        };
+    }
+
+    public long injected(FaultPoint point) {
+        return faults.get(point).injected.sum();
+    }
+
+    /**
+     * 지점별 주입 횟수 (예: STOCK 12/240, ...)
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        faults.forEach((point, fault) -> sb.append(String.format("%s %d/%d (rate %.2f, latency %dms)%n",
+                point, fault.injected.sum(), fault.calls.sum(), fault.rate, fault.latencyMs)));
+        return sb.toString();
+    }
+
+    private static RLock timedOutLock(long waitMs) {
+        RLock lock = mock(RLock.class);
+        try {
+            doAnswer(invocation -> {
+                Thread.sleep(waitMs);
+                return false;
+            }).when(lock).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return lock;
+    }
+
+    private static final class Fault {
+
+        private final double rate;
+        private final long latencyMs;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder injected = new LongAdder();
+
+        private Fault(double rate, long latencyMs) {
+            this.rate = rate;
+            this.latencyMs = latencyMs;
+        }
+
+        private boolean roll() {
+            calls.increment();
+            if (ThreadLocalRandom.current().nextDouble() < rate) {
+                injected.increment();
+                return true;
+            }
+            return false;
+        }
+
+        private void delay() throws InterruptedException {
+            if (latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+        }
+    }
+
+    public static class InjectedFaultException extends RuntimeException {
+        public InjectedFaultException(FaultPoint point) {
+            super("주입된 장애 - " + point);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.sparta.ecommerce.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.sparta.ecommerce.application.order.consumer.OrderCreatedEventConsumer;
+import com.sparta.ecommerce.application.order.consumer.OrderSagaTracer;
+import com.sparta.ecommerce.application.product.ProductService;
+import com.sparta.ecommerce.domain.order.OrderSagaStep;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 사가 로깅 할당량 벤치마크
+ *
+ * 주문 한 건의 사가 처리 중 발생하는 로깅을 기존 방식과 현재 방식으로 실행하고
+ * 주문당 할당 바이트(호출 스레드 / 전체 스레드)와 ns/op를 비교합니다. (INFO 레벨, 출력은 버림)
+ * - 기존: 단계별 로그(INFO 3건, DEBUG 13건) + 동기 콘솔 Appender
+ * - 현재: OrderSagaTracer 요약 로그(샘플링 1%) + 비동기 Appender(logback-spring.xml과 동일한 큐 크기)
+ * 로그 호출 비용만 비교하기 위해 주문 ID는 미리 박싱해 둡니다.
+ *
+ * 실행 방법: ./gradlew test --tests "*SagaLoggingAllocationBenchmarkTest" -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SagaLoggingAllocationBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int MEASURE_ITERATIONS = 200_000;
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5level --- [%15.15thread] %-40.40logger{39} : %msg%n";
+
+    private static final Logger consumerLog = LoggerFactory.getLogger(OrderCreatedEventConsumer.class);
+    private static final Logger productLog = LoggerFactory.getLogger(ProductService.class);
+
+    private static final Long USER_ID = 1_000L;
+    private static final List<Long> PRODUCT_IDS = List.of(1_001L, 1_002L);
+    private static final List<OrderSagaStep> LEGACY_LOGGED_STEPS = List.of(OrderSagaStep.POINT, OrderSagaStep.COUPON, OrderSagaStep.RANKING);
+
+    private final OrderSagaTracer tracer = new OrderSagaTracer(0.01);
+    private final Long[] orderIds = new Long[WARMUP_ITERATIONS + MEASURE_ITERATIONS];
+
+    @Test
+    @DisplayName("벤치마크 - 사가 로깅 주문당 할당량 (기존 vs 현재)")
+    void compareSagaLogging() {
+        for (int i = 0; i < orderIds.length; i++) {
+            orderIds[i] = 1_000_000L + i;
+        }
+
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        List<Appender<ILoggingEvent>> originalAppenders = new ArrayList<>();
+        root.iteratorForAppenders().forEachRemaining(originalAppenders::add);
+        originalAppenders.forEach(root::detachAppender);
+
+        try {
+            Result legacy = measure(root, discardingAppender(context), this::legacySaga);
+            Result current = measure(root, async(context, discardingAppender(context)), this::currentSaga);
+
+            System.out.println("\n=== 주문 사가 로깅 벤치마크 (" + MEASURE_ITERATIONS + " orders) ===");
+            System.out.println("LEGACY  (per-step INFO, sync)      : " + legacy);
+            System.out.println("CURRENT (summary 1% sampled, async): " + current);
+
+            assertThat(current.callerBytesPerOp()).isLessThan(legacy.callerBytesPerOp());
+        } finally {
+            originalAppenders.forEach(root::addAppender);
+        }
+    }
+
+    /**
+     * 변경 전 OrderCreatedEventConsumer / ProductService의 주문당 로그 호출
+     */
+    private void legacySaga(long index) {
+        Long orderId = orderIds[(int) index];
+        Set<OrderSagaStep> processedSteps = Set.of();
+
+        consumerLog.info("주문 생성 이벤트 수신 - orderId: {}, userId: {}, processedSteps: {}", orderId, USER_ID, processedSteps);
+        consumerLog.debug("재고 차감 처리 시작 - orderId: {}", orderId);
+        productLog.debug("락 획득 및 재고 차감 시작 - OrderId: {}", orderId);
+        productLog.debug("재고 차감 처리 시작");
+        for (Long productId : PRODUCT_IDS) {
+            productLog.debug("재고 차감 - ProductId: {}, Quantity: {}", productId, 2);
+        }
+        productLog.debug("재고 차감 처리 완료");
+        productLog.info("락 획득 및 재고 차감 완료 - OrderId: {}", orderId);
+        productLog.debug("락 해제 완료 - OrderId: {}", orderId);
+        consumerLog.debug("재고 차감 완료 - orderId: {}", orderId);
+        for (OrderSagaStep step : LEGACY_LOGGED_STEPS) {
+            consumerLog.debug("{} 처리 시작 - orderId: {}", step, orderId);
+            consumerLog.debug("{} 완료 - orderId: {}", step, orderId);
+        }
+        consumerLog.debug("주문 완료 처리 시작 - orderId: {}", orderId);
+        consumerLog.info("주문 완료 처리 완료 - orderId: {}, status: COMPLETED", orderId);
+        consumerLog.info("주문 생성 이벤트 처리 완료 - orderId: {}, userId: {}", orderId, USER_ID);
+    }
+
+    /**
+     * 현재 주문당 로그 호출 (사가 요약 + 가드된 DEBUG)
+     */
+    private void currentSaga(long index) {
+        Long orderId = orderIds[(int) index];
+        OrderSagaTracer.Trace trace = tracer.start(orderId, USER_ID, Set.of());
+
+        for (OrderSagaStep step : OrderSagaStep.values()) {
+            if (step.isCompensation()) {
+                continue;
+            }
+            long startedAt = trace.beginStep(step);
+            if (step == OrderSagaStep.STOCK) {
+                if (productLog.isDebugEnabled()) {
+                    for (Long productId : PRODUCT_IDS) {
+                        productLog.debug("재고 차감 - ProductId: {}, Quantity: {}", productId, 2);
+                    }
+                }
+                productLog.debug("락 획득 및 재고 차감 완료 - OrderId: {}", orderId);
+            }
+            trace.endStep(step, startedAt);
+        }
+        trace.completed();
+    }
+
+    private Result measure(ch.qos.logback.classic.Logger root, Appender<ILoggingEvent> appender, LongConsumer saga) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long callerThreadId = Thread.currentThread().getId();
+        root.addAppender(appender);
+        try {
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                saga.accept(i);
+            }
+
+            long callerBefore = threadMXBean.getThreadAllocatedBytes(callerThreadId);
+            long totalBefore = totalAllocatedBytes(threadMXBean);
+            long start = System.nanoTime();
+            for (int i = WARMUP_ITERATIONS; i < WARMUP_ITERATIONS + MEASURE_ITERATIONS; i++) {
+                saga.accept(i);
+            }
+            long nanos = System.nanoTime() - start;
+            long callerBytes = threadMXBean.getThreadAllocatedBytes(callerThreadId) - callerBefore;
+
+            // 비동기 Appender는 큐에 남은 이벤트까지 출력한 뒤 전체 할당량 측정 (작업 스레드 종료 전)
+            if (appender instanceof AsyncAppender asyncAppender) {
+                while (asyncAppender.getNumberOfElementsInQueue() > 0) {
+                    Thread.onSpinWait();
+                }
+            }
+            long totalBytes = totalAllocatedBytes(threadMXBean) - totalBefore;
+
+            return new Result(callerBytes / MEASURE_ITERATIONS, totalBytes / MEASURE_ITERATIONS, nanos / MEASURE_ITERATIONS);
+        } finally {
+            root.detachAppender(appender);
+            appender.stop();
+        }
+    }
+
+    private long totalAllocatedBytes(com.sun.management.ThreadMXBean threadMXBean) {
+        long total = 0;
+        for (long bytes : threadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds())) {
+            total += Math.max(0, bytes);
+        }
+        return total;
+    }
+
+    private Appender<ILoggingEvent> discardingAppender(LoggerContext context) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    private Appender<ILoggingEvent> async(LoggerContext context, Appender<ILoggingEvent> delegate) {
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(8192);
+        appender.setIncludeCallerData(false);
+        appender.addAppender(delegate);
+        appender.start();
+        return appender;
+    }
+
+    private record Result(long callerBytesPerOp, long totalBytesPerOp, long nanosPerOp) {
+        @Override
+        public String toString() {
+            return String.format("caller %d B/op, all threads %d B/op, %d ns/op", callerBytesPerOp, totalBytesPerOp, nanosPerOp);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.sparta.ecommerce.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시작 시간(time to first request) 벤치마크
+ *
+ * 애플리케이션을 별도 JVM으로 실행하여, 프로세스 시작부터 첫 요청(GET /products/top)이 200으로 응답할 때까지의 시간을
+ * 기본 설정과 fast-startup 프로필로 각각 측정합니다. (docs/fast-startup.md의 전/후 비교)
+ *
+ * - 클래스패스: 테스트 클래스패스에서 테스트 출력 디렉터리를 제외 (운영과 같은 application.properties 사용)
+ * - 스키마: db/schema.sql (fast-startup 프로필은 스키마 작업을 하지 않음)
+ * - -Dstartup.benchmark.runs=N (기본 3, 중앙값 기준), -Dstartup.benchmark.jvm-args="..." (예: CDS 아카이브)
+ *
+ * 실행 방법: ./gradlew test --tests "*StartupTimeBenchmarkTest" -Dbenchmark=true
+ */
+@Testcontainers
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StartupTimeBenchmarkTest {
+
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(120);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test")
+            .withInitScript("db/schema.sql");
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @Container
+    static KafkaContainer kafka = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.5.0"));
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    @Test
+    @DisplayName("기본 설정과 fast-startup 프로필의 첫 요청 처리까지 시간 비교")
+    void timeToFirstRequest() throws Exception {
+        int runs = Integer.getInteger("startup.benchmark.runs", 3);
+
+        StartupResult baseline = measure("default", List.of(), runs);
+        StartupResult fastStartup = measure("fast-startup", List.of("--spring.profiles.active=fast-startup"), runs);
+
+        System.out.println("\n=== 시작 시간 벤치마크 (runs=" + runs + ", JVM args=" + extraJvmArgs() + ") ===");
+        System.out.println("기본 설정    : " + baseline);
+        System.out.println("fast-startup : " + fastStartup);
+        System.out.printf("첫 요청까지 중앙값 %.1f%% 단축%n",
+                (1 - (double) fastStartup.medianMs() / baseline.medianMs()) * 100);
+
+        assertThat(fastStartup.medianMs()).isPositive();
+    }
+
+    private StartupResult measure(String name, List<String> appArgs, int runs) throws Exception {
+        List<Long> samples = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            samples.add(timeToFirstRequestMs(appArgs));
+        }
+        samples.sort(null);
+        return new StartupResult(name, samples.get(samples.size() / 2), samples.get(0), samples.get(samples.size() - 1));
+    }
+
+    /**
+     * 애플리케이션을 실행하고 첫 요청이 200으로 응답할 때까지의 시간(ms)을 반환합니다. (JVM 시작 포함)
+     */
+    private long timeToFirstRequestMs(List<String> appArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(extraJvmArgs());
+        command.addAll(List.of("-cp", applicationClasspath(), "com.sparta.ecommerce.Application",
+                "--server.port=" + port,
+                "--spring.datasource.url=" + mysql.getJdbcUrl(),
+                "--spring.datasource.username=" + mysql.getUsername(),
+                "--spring.datasource.password=" + mysql.getPassword(),
+                "--spring.data.redis.host=" + redis.getHost(),
+                "--spring.data.redis.port=" + redis.getFirstMappedPort(),
+                "--spring.kafka.bootstrap-servers=" + kafka.getBootstrapServers()));
+        command.addAll(appArgs);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/products/top"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = startedAt + START_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("애플리케이션 시작 실패 - exit code: " + process.exitValue());
+                }
+                try {
+                    if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않음
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            throw new IllegalStateException("애플리케이션이 " + START_TIMEOUT.toSeconds() + "초 안에 첫 요청을 처리하지 못함");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * 테스트 출력 디렉터리(테스트용 application.properties 포함)를 제외한 클래스패스
+     */
+    private static String applicationClasspath() {
+        return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .filter(entry -> {
+                    String normalized = entry.replace(File.separatorChar, '/');
+                    return !normalized.endsWith("/classes/java/test") && !normalized.endsWith("/resources/test");
+                })
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    private static List<String> extraJvmArgs() {
+        String jvmArgs = System.getProperty("startup.benchmark.jvm-args", "").trim();
+        return jvmArgs.isEmpty() ? List.of() : List.of(jvmArgs.split("\\s+"));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    record StartupResult(String name, long medianMs, long minMs, long maxMs) {
+        @Override
+        public String toString() {
+            return String.format("첫 요청까지 중앙값 %dms (최소 %dms, 최대 %dms)", medianMs, minMs, maxMs);
+        }
+    }
+}
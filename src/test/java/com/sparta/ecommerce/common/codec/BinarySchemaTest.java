@@ -0,0 +1,180 @@
+package com.sparta.ecommerce.common.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sparta.ecommerce.application.coupon.event.CouponIssueEvent;
+import com.sparta.ecommerce.application.order.event.OrderCreatedEvent;
+import com.sparta.ecommerce.application.product.event.StockRestoreEvent;
+import com.sparta.ecommerce.application.user.event.PointRestoreEvent;
+import com.sparta.ecommerce.common.http.PrecompressedJson;
+import com.sparta.ecommerce.domain.cart.dto.CartItemResponse;
+import com.sparta.ecommerce.domain.coupon.dto.ProductResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinarySchemaTest {
+
+    private final BinaryCodecRegistry registry = BinarySchema.registry();
+
+    @Test
+    @DisplayName("주문 생성 이벤트는 null 필드와 장바구니 목록을 포함해 그대로 복원된다")
+    void orderCreatedEvent_roundTrip() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 30, 15, 123_456_789);
+        OrderCreatedEvent event = new OrderCreatedEvent(1L, 100L, null, 25000, List.of(
+                new CartItemResponse(1L, 1L, 10L, 2, now, now),
+                new CartItemResponse(2L, 1L, 20L, 1, now, null)
+        ));
+
+        // when
+        byte[] bytes = registry.encode(event);
+
+        // then
+        assertThat(BinaryCodecRegistry.isBinary(bytes)).isTrue();
+        assertThat(registry.decode(bytes)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("복구 이벤트는 멱등 키(orderId)를 포함해 복원되고, 이전 버전(v1) 메시지는 orderId 없이 읽는다")
+    void restoreEvent_orderIdAndLegacyVersion() {
+        // given - [magic][typeId=30][version=1] userId, amount
+        PointRestoreEvent event = new PointRestoreEvent(7L, 1L, 5000);
+        BinaryWriter legacy = new BinaryWriter();
+        legacy.writeByte(BinaryCodecRegistry.MAGIC);
+        legacy.writeVarLong(30);
+        legacy.writeVarLong(1);
+        legacy.writeNullableLong(1L);
+        legacy.writeInt(5000);
+        StockRestoreEvent stockEvent = new StockRestoreEvent(7L, List.of(
+                new CartItemResponse(null, 1L, 10L, 2, null, null)));
+
+        // when & then
+        assertThat(registry.decode(registry.encode(event))).isEqualTo(event);
+        assertThat(registry.decode(registry.encode(stockEvent))).isEqualTo(stockEvent);
+        assertThat(registry.decode(legacy.toByteArray())).isEqualTo(new PointRestoreEvent(null, 1L, 5000));
+    }
+
+    @Test
+    @DisplayName("압축된 JSON 응답 본문은 해시와 압축 바이트가 그대로 복원된다")
+    void precompressedJson_roundTrip() {
+        // given
+        PrecompressedJson payload = PrecompressedJson.of("[{\"productId\":1}]".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        PrecompressedJson decoded = (PrecompressedJson) registry.decode(registry.encode(payload));
+
+        // then
+        assertThat(decoded.contentHash()).isEqualTo(payload.contentHash());
+        assertThat(decoded.gzippedJson()).isEqualTo(payload.gzippedJson());
+        assertThat(new String(decoded.json(), StandardCharsets.UTF_8)).isEqualTo("[{\"productId\":1}]");
+    }
+
+    @Test
+    @DisplayName("현재 버전보다 높은 스키마 버전의 메시지는 거부된다")
+    void decode_unsupportedVersion_throwsException() {
+        // given - [magic][typeId=1][version=2]
+        BinaryWriter writer = new BinaryWriter();
+        writer.writeByte(BinaryCodecRegistry.MAGIC);
+        writer.writeVarLong(1);
+        writer.writeVarLong(2);
+        writer.writeNullableLong(1L);
+        writer.writeNullableLong(2L);
+
+        // when & then
+        assertThatThrownBy(() -> registry.decode(writer.toByteArray()))
+                .isInstanceOf(BinaryCodecException.class)
+                .hasMessageContaining("스키마 버전");
+    }
+
+    @Test
+    @DisplayName("남은 데이터보다 긴 길이 값은 할당 전에 디코딩 예외로 거부된다")
+    void decode_lengthBeyondRemaining_throwsException() {
+        // given - [magic][typeId=20][version=2] 장바구니 목록 길이 = 10억 / 음수로 해석되는 varint
+        BinaryWriter hugeList = stockRestoreHeader();
+        hugeList.writeVarLong(1_000_000_001L);
+        BinaryWriter negativeLength = stockRestoreHeader();
+        negativeLength.writeVarLong(-2L);
+
+        // when & then
+        assertThatThrownBy(() -> registry.decode(hugeList.toByteArray()))
+                .isInstanceOf(BinaryCodecException.class)
+                .hasMessageContaining("길이 값");
+        assertThatThrownBy(() -> registry.decode(negativeLength.toByteArray()))
+                .isInstanceOf(BinaryCodecException.class)
+                .hasMessageContaining("길이 값");
+    }
+
+    @Test
+    @DisplayName("캐시 직렬화기는 상품 목록을 바이너리로 저장하고, 기존 JSON 캐시 값도 읽는다")
+    void redisSerializer_binaryAndJsonFallback() {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL);
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(objectMapper);
+        BinaryRedisSerializer serializer = new BinaryRedisSerializer(registry, json);
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<ProductResponse> products = List.of(
+                new ProductResponse(1L, "상품1", "설명", 10, 1000, 5, now, now),
+                new ProductResponse(2L, "상품2", null, 0, 2000, 0, now, now)
+        );
+
+        // when
+        byte[] binary = serializer.serialize(products);
+        byte[] legacyJson = json.serialize(new HashMap<>(Map.of("key", "value")));
+
+        // then
+        assertThat(BinaryCodecRegistry.isBinary(binary)).isTrue();
+        assertThat(serializer.deserialize(binary)).isEqualTo(products);
+        assertThat(serializer.deserialize(legacyJson)).isEqualTo(Map.of("key", "value"));
+    }
+
+    @Test
+    @DisplayName("JSON 저장 모드의 캐시 직렬화기는 JSON으로 저장하되, 다른 노드가 저장한 바이너리 값도 읽는다")
+    void redisSerializer_jsonWriteStillReadsBinary() {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL);
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(objectMapper);
+        BinaryRedisSerializer jsonWriter = new BinaryRedisSerializer(registry, json, false);
+        BinaryRedisSerializer binaryWriter = new BinaryRedisSerializer(registry, json, true);
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<ProductResponse> products = List.of(new ProductResponse(1L, "상품1", "설명", 10, 1000, 5, now, now));
+
+        // when
+        byte[] written = jsonWriter.serialize(products);
+        byte[] fromBinaryNode = binaryWriter.serialize(products);
+
+        // then
+        assertThat(BinaryCodecRegistry.isBinary(written)).isFalse();
+        assertThat(jsonWriter.deserialize(written)).isEqualTo(products);
+        assertThat(jsonWriter.deserialize(fromBinaryNode)).isEqualTo(products);
+    }
+
+    @Test
+    @DisplayName("바이너리 코덱이 등록되지 않은 타입은 지원하지 않는다")
+    void supports_unregisteredType() {
+        assertThat(registry.supports(new CouponIssueEvent(1L, 2L))).isTrue();
+        assertThat(registry.supports("text")).isFalse();
+        assertThat(registry.supports(null)).isFalse();
+    }
+
+    private BinaryWriter stockRestoreHeader() {
+        BinaryWriter writer = new BinaryWriter();
+        writer.writeByte(BinaryCodecRegistry.MAGIC);
+        writer.writeVarLong(20);
+        writer.writeVarLong(2);
+        return writer;
+    }
+}
@@ -0,0 +1,112 @@
+package com.sparta.ecommerce.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        DataSourceRouteContext.restore(null);
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 복제 지연이 허용 범위인 Replica로, 쓰기 트랜잭션은 Primary로 라우팅된다")
+    void determineTarget_readOnlyTransaction_routesToReplica() throws Exception {
+        // given
+        givenReplicaLag(0L);
+        routingDataSource.checkReplicaLag();
+
+        // when & then
+        startTransaction(true);
+        assertThat(routingDataSource.determineTarget()).isSameAs(replica);
+
+        startTransaction(false);
+        assertThat(routingDataSource.determineTarget()).isSameAs(primary);
+    }
+
+    @Test
+    @DisplayName("PRIMARY 지정 구간에서는 readOnly 트랜잭션과 중첩된 REPLICA 지정이 있어도 Primary로 라우팅된다")
+    void determineTarget_pinnedToPrimary() throws Exception {
+        // given
+        givenReplicaLag(0L);
+        routingDataSource.checkReplicaLag();
+        startTransaction(true);
+
+        // when
+        DataSourceRouteContext.enter(DataSourceRole.PRIMARY);
+        DataSourceRouteContext.enter(DataSourceRole.REPLICA);
+
+        // then
+        assertThat(routingDataSource.determineTarget()).isSameAs(primary);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 범위를 넘은 Replica는 제외되고 Primary로 조회한다")
+    void determineTarget_laggingReplica_fallsBackToPrimary() throws Exception {
+        // given
+        givenReplicaLag(5L);
+        routingDataSource.checkReplicaLag();
+
+        // when
+        DataSourceRouteContext.enter(DataSourceRole.REPLICA);
+
+        // then
+        assertThat(routingDataSource.healthyReplicaCount()).isZero();
+        assertThat(routingDataSource.determineTarget()).isSameAs(primary);
+    }
+
+    private void givenReplicaLag(long lagSeconds) throws Exception {
+        given(replica.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery("SHOW REPLICA STATUS")).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getLong("Seconds_Behind_Source")).willReturn(lagSeconds);
+        given(resultSet.wasNull()).willReturn(false);
+    }
+
+    private void startTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
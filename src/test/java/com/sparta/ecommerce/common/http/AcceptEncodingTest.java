@@ -0,0 +1,42 @@
+package com.sparta.ecommerce.common.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AcceptEncodingTest {
+
+    @Test
+    @DisplayName("gzip이 포함되어 있고 q 값이 0보다 크면 gzip을 허용한다")
+    void acceptsGzip_listedWithPositiveQuality() {
+        assertThat(AcceptEncoding.acceptsGzip("gzip")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("br, gzip;q=0.8, deflate")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("GZIP ; Q=1.0")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("x-gzip")).isTrue();
+    }
+
+    @Test
+    @DisplayName("q=0인 gzip은 거부로 해석한다 (와일드카드보다 명시한 값이 우선)")
+    void acceptsGzip_zeroQualityRejected() {
+        assertThat(AcceptEncoding.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("gzip;q=0.000, *")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("br, gzip;q=invalid")).isFalse();
+    }
+
+    @Test
+    @DisplayName("gzip이 명시되지 않으면 와일드카드의 q 값을 따른다")
+    void acceptsGzip_wildcard() {
+        assertThat(AcceptEncoding.acceptsGzip("*")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("identity, *;q=0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("헤더가 없거나 gzip과 와일드카드가 모두 없으면 gzip을 허용하지 않는다")
+    void acceptsGzip_absent() {
+        assertThat(AcceptEncoding.acceptsGzip(null)).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip(" ")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("br, deflate")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("nogzip")).isFalse();
+    }
+}
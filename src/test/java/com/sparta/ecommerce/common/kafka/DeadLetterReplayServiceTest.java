@@ -0,0 +1,145 @@
+package com.sparta.ecommerce.common.kafka;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterReplayServiceTest {
+
+    private static final String TOPIC = "stock-restore-topic";
+    private static final String DLT = "stock-restore-topic-dlt";
+    private static final TopicPartition PARTITION = new TopicPartition(DLT, 0);
+
+    @Mock
+    private ConsumerFactory<String, byte[]> consumerFactory;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private Consumer<String, byte[]> consumer;
+
+    private DeadLetterReplayService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DeadLetterReplayService(consumerFactory, kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("DLT 메시지를 원래 토픽으로 원본 그대로 재발행하고, 발행이 확인된 메시지마다 다음 오프셋을 커밋하며, 빈 poll에서 멈춘다")
+    void replay_republishesAndCommits_untilEmptyPoll() {
+        // given
+        givenDlt();
+        given(consumer.poll(any(Duration.class)))
+                .willReturn(records(record(0, "k0", "v0"), record(1, "k1", "v1")))
+                .willReturn(ConsumerRecords.empty());
+        given(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int replayed = service.replay(TOPIC, 100);
+
+        // then
+        assertThat(replayed).isEqualTo(2);
+        InOrder inOrder = inOrder(kafkaTemplate, consumer);
+        inOrder.verify(kafkaTemplate).send(TOPIC, "k0", "v0".getBytes());
+        inOrder.verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(1)));
+        inOrder.verify(kafkaTemplate).send(TOPIC, "k1", "v1".getBytes());
+        inOrder.verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(2)));
+        verify(consumer, times(2)).poll(any(Duration.class));
+        verify(consumer).close();
+    }
+
+    @Test
+    @DisplayName("최대 건수까지만 재주입하고 나머지는 커밋하지 않아 다음 호출에서 이어서 처리한다")
+    void replay_stopsAtMaxRecords() {
+        // given
+        givenDlt();
+        given(consumer.poll(any(Duration.class)))
+                .willReturn(records(record(0, "k0", "v0"), record(1, "k1", "v1"), record(2, "k2", "v2")));
+        given(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int replayed = service.replay(TOPIC, 2);
+
+        // then
+        assertThat(replayed).isEqualTo(2);
+        verify(kafkaTemplate, never()).send(TOPIC, "k2", "v2".getBytes());
+        verify(consumer, never()).commitSync(Map.of(PARTITION, new OffsetAndMetadata(3)));
+        verify(consumer, times(1)).poll(any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("재발행이 실패하면 해당 메시지의 오프셋을 커밋하지 않는다")
+    void replay_publishFailure_doesNotCommit() {
+        // given
+        givenDlt();
+        given(consumer.poll(any(Duration.class))).willReturn(records(record(0, "k0", "v0")));
+        given(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("브로커 응답 없음")));
+
+        // when & then
+        assertThatThrownBy(() -> service.replay(TOPIC, 100))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("DLT 재주입 실패");
+        verify(consumer, never()).commitSync(any(Map.class));
+    }
+
+    @Test
+    @DisplayName("DLT가 없으면 아무것도 재주입하지 않고, 재시도 설정이 없는 토픽은 거부한다")
+    void replay_noDlt_or_unsupportedTopic() {
+        // given
+        given(consumerFactory.createConsumer("dlt-replay-" + TOPIC, null, null)).willReturn(consumer);
+        given(consumer.partitionsFor(DLT)).willReturn(List.of());
+
+        // when & then
+        assertThat(service.replay(TOPIC, 100)).isZero();
+        verify(consumer, never()).poll(any(Duration.class));
+        assertThatThrownBy(() -> service.replay("unknown-topic", 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void givenDlt() {
+        given(consumerFactory.createConsumer("dlt-replay-" + TOPIC, null, null)).willReturn(consumer);
+        given(consumer.partitionsFor(DLT)).willReturn(List.of(new PartitionInfo(DLT, 0, null, null, null)));
+    }
+
+    private ConsumerRecord<String, byte[]> record(long offset, String key, String value) {
+        return new ConsumerRecord<>(DLT, 0, offset, key, value.getBytes());
+    }
+
+    @SafeVarargs
+    private ConsumerRecords<String, byte[]> records(ConsumerRecord<String, byte[]>... records) {
+        return new ConsumerRecords<>(Map.of(PARTITION, List.of(records)));
+    }
+}
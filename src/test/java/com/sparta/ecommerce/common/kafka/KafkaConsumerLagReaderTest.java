@@ -0,0 +1,140 @@
+package com.sparta.ecommerce.common.kafka;
+
+import com.sparta.ecommerce.common.kafka.KafkaConsumerLagReader.TopicLag;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.DescribeConsumerGroupsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.MemberAssignment;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class KafkaConsumerLagReaderTest {
+
+    private static final String GROUP = "ecommerce";
+    private static final String TOPIC = "order-created-topic";
+    private static final Node NODE = new Node(0, "localhost", 9092);
+
+    @Mock
+    private KafkaAdmin kafkaAdmin;
+
+    @Mock
+    private AdminClient admin;
+
+    private KafkaConsumerLagReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new KafkaConsumerLagReader(kafkaAdmin, 1000);
+        ReflectionTestUtils.setField(reader, "adminClient", admin);
+
+        // 파티션 2개: 0번 최신 100 / 커밋 40, 1번 최신 50 / 커밋 없음
+        DescribeTopicsResult topics = mock(DescribeTopicsResult.class);
+        given(topics.allTopicNames()).willReturn(KafkaFuture.completedFuture(Map.of(TOPIC, new TopicDescription(TOPIC, false,
+                List.of(partition(0), partition(1))))));
+        given(admin.describeTopics(anyCollection())).willReturn(topics);
+
+        ListOffsetsResult offsets = mock(ListOffsetsResult.class);
+        given(offsets.all()).willReturn(KafkaFuture.completedFuture(Map.of(
+                new TopicPartition(TOPIC, 0), new ListOffsetsResultInfo(100, -1, Optional.empty()),
+                new TopicPartition(TOPIC, 1), new ListOffsetsResultInfo(50, -1, Optional.empty()))));
+        given(admin.listOffsets(anyMap())).willReturn(offsets);
+
+        ListConsumerGroupOffsetsResult committed = mock(ListConsumerGroupOffsetsResult.class);
+        given(committed.partitionsToOffsetAndMetadata()).willReturn(KafkaFuture.completedFuture(Map.of(
+                new TopicPartition(TOPIC, 0), new OffsetAndMetadata(40))));
+        given(admin.listConsumerGroupOffsets(GROUP)).willReturn(committed);
+    }
+
+    @Test
+    @DisplayName("파티션별 최신 오프셋과 커밋 오프셋의 차이를 합산하고, 커밋이 없는 파티션은 전체를 지연으로 계산한다")
+    void read_sumsLagAndCountsInstancesByHost() {
+        // given - 인스턴스 2개 (host-a의 Consumer 2개, host-b의 Consumer 1개)
+        givenMembers(member("c1", "/10.0.0.1"), member("c2", "/10.0.0.1"), member("c3", "/10.0.0.2"));
+
+        // when
+        Map<String, TopicLag> lags = reader.read(GROUP, List.of(TOPIC));
+
+        // then
+        assertThat(lags).containsEntry(TOPIC, new TopicLag(TOPIC, 2, 60 + 50, 2));
+    }
+
+    @Test
+    @DisplayName("그룹에 참여한 멤버가 없으면 인스턴스 수를 1로 본다")
+    void read_noMembers_countsSelf() {
+        // given
+        givenMembers();
+
+        // when
+        Map<String, TopicLag> lags = reader.read(GROUP, List.of(TOPIC));
+
+        // then
+        assertThat(lags.get(TOPIC).instances()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회에 실패하면 KafkaException을 던진다")
+    void read_failure_throwsKafkaException() {
+        // given
+        KafkaFutureImpl<Map<String, TopicDescription>> failed = new KafkaFutureImpl<>();
+        failed.completeExceptionally(new IllegalStateException("broker unavailable"));
+        DescribeTopicsResult topics = mock(DescribeTopicsResult.class);
+        given(topics.allTopicNames()).willReturn(failed);
+        given(admin.describeTopics(anyCollection())).willReturn(topics);
+
+        // when & then
+        assertThatThrownBy(() -> reader.read(GROUP, List.of(TOPIC)))
+                .isInstanceOf(KafkaException.class)
+                .hasMessageContaining(GROUP);
+    }
+
+    private void givenMembers(MemberDescription... members) {
+        ConsumerGroupDescription group = mock(ConsumerGroupDescription.class);
+        given(group.members()).willReturn(List.of(members));
+        DescribeConsumerGroupsResult groups = mock(DescribeConsumerGroupsResult.class);
+        given(groups.describedGroups()).willReturn(Map.of(GROUP, KafkaFuture.completedFuture(group)));
+        given(admin.describeConsumerGroups(anyCollection())).willReturn(groups);
+    }
+
+    private static MemberDescription member(String clientId, String host) {
+        return new MemberDescription(clientId + "-member", clientId, host, new MemberAssignment(Set.of()));
+    }
+
+    private static TopicPartitionInfo partition(int partition) {
+        return new TopicPartitionInfo(partition, NODE, List.of(NODE), List.of(NODE));
+    }
+}
@@ -0,0 +1,142 @@
+package com.sparta.ecommerce.common.kafka;
+
+import com.sparta.ecommerce.common.kafka.KafkaConsumerLagReader.TopicLag;
+import com.sparta.ecommerce.config.KafkaTopic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class KafkaListenerAutoscalerTest {
+
+    private static final String GROUP = "ecommerce";
+    private static final String TOPIC = KafkaTopic.ORDER_CREATED.getTopicName();
+    private static final String COOLDOWN_KEY = "kafka:autoscale:cooldown:" + GROUP + ":" + TOPIC;
+
+    @Mock
+    private KafkaListenerEndpointRegistry registry;
+
+    @Mock
+    private KafkaConsumerLagReader lagReader;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ConcurrentMessageListenerContainer<String, Object> container;
+
+    private KafkaListenerAutoscaler autoscaler;
+
+    @BeforeEach
+    void setUp() {
+        autoscaler = new KafkaListenerAutoscaler(registry, lagReader, redisTemplate, new MockEnvironment(), 1000, 100, 60_000);
+
+        given(registry.getListenerContainers()).willReturn(List.<MessageListenerContainer>of(container));
+        given(container.getGroupId()).willReturn(GROUP);
+        given(container.getContainerProperties()).willReturn(new ContainerProperties(TOPIC));
+        given(container.getConcurrency()).willReturn(1);
+        given(container.isRunning()).willReturn(true);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(COOLDOWN_KEY), anyString(), eq(Duration.ofMillis(60_000)))).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("그룹 지연이 커도 인스턴스 몫의 파티션 수(ceil(파티션 / 인스턴스))까지만 확장한다")
+    void autoscale_capsAtPartitionShare() {
+        // given - 파티션 6개, 인스턴스 3개
+        givenLag(new TopicLag(TOPIC, 6, 50_000, 3));
+
+        // when
+        autoscaler.autoscale();
+
+        // then
+        InOrder restart = inOrder(container);
+        restart.verify(container).stop();
+        restart.verify(container).setConcurrency(2);
+        restart.verify(container).start();
+        assertThat(autoscaler.statuses()).singleElement()
+                .satisfies(status -> {
+                    assertThat(status.instances()).isEqualTo(3);
+                    assertThat(status.maxConcurrency()).isEqualTo(2);
+                    assertThat(status.lastDecision()).isEqualTo("SCALE_UP(1->2)");
+                });
+    }
+
+    @Test
+    @DisplayName("그룹 지연을 인스턴스 수로 나눈 몫으로 목표 concurrency를 결정한다")
+    void autoscale_usesLagShare() {
+        // given - 그룹 지연 4000, 인스턴스 2개 → 인스턴스당 2000 → Consumer 2개 (전체 지연 기준이면 4개)
+        givenLag(new TopicLag(TOPIC, 12, 4_000, 2));
+
+        // when
+        autoscaler.autoscale();
+
+        // then
+        verify(container).setConcurrency(2);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 cooldown 중이면 조정하지 않는다")
+    void autoscale_groupCooldownHeldByPeer_skips() {
+        // given
+        givenLag(new TopicLag(TOPIC, 6, 50_000, 1));
+        given(valueOperations.setIfAbsent(eq(COOLDOWN_KEY), anyString(), eq(Duration.ofMillis(60_000)))).willReturn(false);
+
+        // when
+        autoscaler.autoscale();
+
+        // then
+        verify(container, never()).stop();
+        verify(container, never()).setConcurrency(anyInt());
+        assertThat(autoscaler.statuses().get(0).lastDecision()).isEqualTo("COOLDOWN(1->6)");
+    }
+
+    @Test
+    @DisplayName("지연이 목표와 일치하면 cooldown을 선점하지 않는다")
+    void autoscale_hold_doesNotTakeCooldown() {
+        // given
+        givenLag(new TopicLag(TOPIC, 6, 500, 2));
+
+        // when
+        autoscaler.autoscale();
+
+        // then
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), eq(Duration.ofMillis(60_000)));
+        verify(container, never()).stop();
+    }
+
+    private void givenLag(TopicLag lag) {
+        given(lagReader.read(eq(GROUP), anyCollection())).willReturn(Map.of(TOPIC, lag));
+    }
+}
@@ -0,0 +1,87 @@
+package com.sparta.ecommerce.common.kafka;
+
+import com.sparta.ecommerce.common.kafka.KafkaPublishGateway.PublishPermit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaPublishGatewayTest {
+
+    private static final String TOPIC = "coupon-issue-topic";
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private KafkaPublishGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new KafkaPublishGateway(2, 1000, 0);
+    }
+
+    @Test
+    @DisplayName("전송 중 메시지가 상한에 도달하면 즉시 거부하고, ack/실패 시 자리를 반환하며 결과를 집계한다")
+    void publish_rejectsWhenSaturated_releasesOnCompletion() {
+        // given
+        CompletableFuture<SendResult<String, String>> first = new CompletableFuture<>();
+        CompletableFuture<SendResult<String, String>> second = new CompletableFuture<>();
+        given(kafkaTemplate.send(TOPIC, "a")).willReturn(first);
+        given(kafkaTemplate.send(TOPIC, "b")).willReturn(second);
+
+        gateway.publish(kafkaTemplate, TOPIC, "a");
+        gateway.publish(kafkaTemplate, TOPIC, "b");
+
+        // when & then - 상한(2) 도달
+        assertThatThrownBy(() -> gateway.publish(kafkaTemplate, TOPIC, "c"))
+                .isInstanceOf(KafkaPublishRejectedException.class)
+                .extracting("retryAfterMillis").isEqualTo(1000L);
+
+        // ack 1건, 실패 1건 -> 자리 반환
+        first.complete(null);
+        second.completeExceptionally(new IllegalStateException("broker down"));
+
+        KafkaPublishMetrics metrics = gateway.metrics().get(0);
+        assertThat(metrics.topic()).isEqualTo(TOPIC);
+        assertThat(metrics.inFlight()).isZero();
+        assertThat(metrics.succeeded()).isEqualTo(1);
+        assertThat(metrics.failed()).isEqualTo(1);
+        assertThat(metrics.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("확보한 자리를 발행하지 않고 닫으면 반환되고, 발행에 넘긴 자리는 전송 완료 전까지 반환되지 않는다")
+    void reserve_releasedOnCloseUnlessHandedOff() {
+        // given
+        CompletableFuture<SendResult<String, String>> pending = new CompletableFuture<>();
+        given(kafkaTemplate.send(TOPIC, "a")).willReturn(pending);
+
+        // when - 발행하지 않고 닫음 (예: 주문 생성 실패)
+        try (PublishPermit ignored = gateway.reserve(TOPIC)) {
+            assertThat(gateway.metrics().get(0).inFlight()).isEqualTo(1);
+        }
+
+        // 발행에 넘긴 뒤 닫음
+        try (PublishPermit permit = gateway.reserve(TOPIC)) {
+            gateway.send(permit, kafkaTemplate, "a");
+        }
+
+        // then
+        assertThat(gateway.metrics().get(0).inFlight()).isEqualTo(1);
+        pending.complete(null);
+        assertThat(gateway.metrics().get(0).inFlight()).isZero();
+        assertThatCode(() -> gateway.reserve(TOPIC).close()).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,35 @@
+package com.sparta.ecommerce.common.kafka;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListenerConcurrencyPolicyTest {
+
+    private final ListenerConcurrencyPolicy policy = new ListenerConcurrencyPolicy(1000, 100);
+
+    @Test
+    @DisplayName("Consumer당 지연이 임계값을 넘으면 필요한 수만큼 한 번에 확장하되 최대값(파티션 수)을 넘지 않는다")
+    void decide_scalesUpToNeededWithinMax() {
+        assertThat(policy.decide(2, 4_500, 1, 6)).isEqualTo(5);
+        assertThat(policy.decide(2, 50_000, 1, 6)).isEqualTo(6);
+        assertThat(policy.decide(2, 2_000, 1, 6)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("지연이 해소되면 한 개씩 축소하고 최소값 아래로 내려가지 않는다")
+    void decide_scalesDownOneStepToMin() {
+        assertThat(policy.decide(6, 0, 2, 6)).isEqualTo(5);
+        assertThat(policy.decide(3, 150, 1, 6)).isEqualTo(2);
+        assertThat(policy.decide(3, 250, 1, 6)).isEqualTo(3);
+        assertThat(policy.decide(2, 0, 2, 6)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("현재 값이 범위를 벗어나면 범위 안으로 조정한다")
+    void decide_clampsToBounds() {
+        assertThat(policy.decide(8, 2_000, 1, 6)).isEqualTo(6);
+        assertThat(policy.decide(1, 500, 2, 6)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,44 @@
+package com.sparta.ecommerce.common.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorPageTest {
+
+    @Test
+    @DisplayName("페이지 크기보다 많이 조회되면 초과분을 잘라내고 마지막 항목 위치를 다음 커서로 반환한다")
+    void of_trimsExtraRowAndEncodesLastKey() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2026, 10, 19, 12, 0, 0, 123_456_000);
+        List<KeysetCursor> rows = List.of(
+                new KeysetCursor(now, 3L), new KeysetCursor(now, 2L), new KeysetCursor(now.minusSeconds(1), 1L));
+
+        // when
+        CursorPage<KeysetCursor> page = CursorPage.of(rows, 2, row -> row);
+        CursorPage<KeysetCursor> lastPage = CursorPage.of(rows, 3, row -> row);
+
+        // then
+        assertThat(page.items()).hasSize(2);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(new KeysetCursor(now, 2L));
+        assertThat(lastPage.hasNext()).isFalse();
+        assertThat(lastPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지, 형식이 잘못되면 InvalidCursorException")
+    void decode() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("")).isNull();
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThat(CursorPage.clampSize(0)).isEqualTo(1);
+        assertThat(CursorPage.clampSize(1000)).isEqualTo(CursorPage.MAX_SIZE);
+    }
+}
@@ -0,0 +1,142 @@
+package com.sparta.ecommerce.common.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBucketRateLimiterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private TokenBucketRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new TokenBucketRateLimiter(redisTemplate, 60_000, 10);
+    }
+
+    @Test
+    @DisplayName("큰 버킷은 Redis에서 토큰을 임대하여 임대분을 소진할 때까지 Redis를 거치지 않는다")
+    void acquire_largeBucket_usesLocalLease() {
+        // given - 버킷 100 → 임대 크기 10
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), eq("100"), eq("50"), eq("10")))
+                .willReturn(List.of(10L, 0L));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.acquire("order:create", 100, 50);
+        }
+
+        // then
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 대기 시간을 담아 RateLimitExceededException이 발생한다")
+    void acquire_noToken_throwsException() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("rate:limit:order:create:user:1")),
+                eq("5"), eq("1"), eq("1")))
+                .willReturn(List.of(0L, 800L));
+
+        // when & then
+        assertThatThrownBy(() -> rateLimiter.acquire("order:create:user:1", 5, 1))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(e -> assertThat(((RateLimitExceededException) e).getRetryAfterMillis()).isEqualTo(800L));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 요청을 허용한다")
+    void acquire_redisFailure_allowsRequest() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when & then
+        assertThatCode(() -> rateLimiter.acquire("order:create:user:1", 5, 1))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 임대를 갱신하는 동안 도착한 요청은 기다리지 않고 토큰 1개를 직접 획득한다")
+    void acquire_refillInFlight_doesNotBlock() throws Exception {
+        // given - 첫 임대 요청(10개)은 Redis 응답이 지연됨
+        CountDownLatch redisReply = new CountDownLatch(1);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), eq("100"), eq("50"), eq("10")))
+                .willAnswer(invocation -> {
+                    redisReply.await(5, TimeUnit.SECONDS);
+                    return List.of(10L, 0L);
+                });
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), eq("100"), eq("50"), eq("1")))
+                .willReturn(List.of(1L, 0L));
+        CompletableFuture<Void> refill = CompletableFuture.runAsync(() -> rateLimiter.acquire("order:create", 100, 50));
+        verify(redisTemplate, timeout(3000)).execute(any(RedisScript.class), anyList(), eq("100"), eq("50"), eq("10"));
+
+        // when - 갱신이 끝나기 전에 반환됨
+        assertThatCode(() -> CompletableFuture.runAsync(() -> rateLimiter.acquire("order:create", 100, 50))
+                .get(1, TimeUnit.SECONDS))
+                .doesNotThrowAnyException();
+        redisReply.countDown();
+        refill.get(3, TimeUnit.SECONDS);
+
+        // then - 갱신된 임대분은 이후 요청에서 사용
+        rateLimiter.acquire("order:create", 100, 50);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), eq("100"), eq("50"), eq("10"));
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), eq("100"), eq("50"), eq("1"));
+    }
+
+    @Test
+    @DisplayName("작은 버킷의 토큰 반환은 Redis 버킷에 되돌린다")
+    void release_smallBucket_returnsTokenToRedis() {
+        // when
+        rateLimiter.release("order:create:user:1", 5);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("rate:limit:order:create:user:1")), eq("5"));
+    }
+
+    @Test
+    @DisplayName("임대한 버킷의 토큰 반환은 로컬 임대분에 되돌려 Redis를 거치지 않는다")
+    void release_leasedBucket_returnsTokenToLease() {
+        // given - 임대 10개 중 10개 사용
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), eq("100"), eq("50"), eq("10")))
+                .willReturn(List.of(10L, 0L));
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.acquire("order:create", 100, 50);
+        }
+
+        // when
+        rateLimiter.release("order:create", 100);
+        rateLimiter.acquire("order:create", 100, 50);
+
+        // then
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), anyString());
+    }
+}
@@ -0,0 +1,56 @@
+package com.sparta.ecommerce.config;
+
+import com.sparta.ecommerce.application.coupon.event.CouponIssueEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.DestinationTopic;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class DelayRetryTopicNamesProviderFactoryTest {
+
+    private final DelayRetryTopicNamesProviderFactory factory = new DelayRetryTopicNamesProviderFactory();
+
+    @Test
+    @DisplayName("지연 시간은 분/초로 나누어떨어지면 해당 단위로, 아니면 밀리초로 표기한다")
+    void formatDelay() {
+        assertThat(DelayRetryTopicNamesProviderFactory.formatDelay(1_000)).isEqualTo("1s");
+        assertThat(DelayRetryTopicNamesProviderFactory.formatDelay(10_000)).isEqualTo("10s");
+        assertThat(DelayRetryTopicNamesProviderFactory.formatDelay(60_000)).isEqualTo("1m");
+        assertThat(DelayRetryTopicNamesProviderFactory.formatDelay(120_000)).isEqualTo("2m");
+        assertThat(DelayRetryTopicNamesProviderFactory.formatDelay(1_500)).isEqualTo("1500ms");
+    }
+
+    @Test
+    @DisplayName("재시도 설정의 토픽 이름은 메인 -> -retry-1s -> -retry-10s -> -retry-1m -> -dlt 순이다")
+    @SuppressWarnings("unchecked")
+    void topicNames_followRetryTiers() {
+        // given
+        RetryTopicConfiguration configuration = new KafkaConfig().couponIssueRetryTopicConfiguration(
+                mock(KafkaTemplate.class), new KafkaTopicFactories(new MockEnvironment()));
+
+        // when
+        List<String> topicNames = configuration.getDestinationTopicProperties().stream()
+                .map(this::topicName)
+                .toList();
+
+        // then
+        assertThat(topicNames).containsExactly(
+                "coupon-issue-topic",
+                "coupon-issue-topic-retry-1s",
+                "coupon-issue-topic-retry-10s",
+                "coupon-issue-topic-retry-1m",
+                "coupon-issue-topic-dlt"
+        );
+    }
+
+    private String topicName(DestinationTopic.Properties properties) {
+        return factory.createRetryTopicNamesProvider(properties).getTopicName(KafkaTopic.COUPON_ISSUE.getTopicName());
+    }
+}
@@ -0,0 +1,45 @@
+package com.sparta.ecommerce.config;
+
+import com.sparta.ecommerce.domain.coupon.exception.CouponException;
+import com.sparta.ecommerce.domain.product.exception.ProductErrorCode;
+import com.sparta.ecommerce.domain.product.exception.ProductException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+import org.springframework.kafka.retrytopic.DestinationTopic;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.mock.env.MockEnvironment;
+
+import static com.sparta.ecommerce.domain.coupon.exception.CouponErrorCode.COUPON_OUT_OF_STOCK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class KafkaConfigTest {
+
+    private DestinationTopic mainTopic;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RetryTopicConfiguration configuration = new KafkaConfig().stockRestoreRetryTopicConfiguration(
+                mock(KafkaTemplate.class), new KafkaTopicFactories(new MockEnvironment()));
+        mainTopic = new DestinationTopic(KafkaTopic.STOCK_RESTORE.getTopicName(),
+                configuration.getDestinationTopicProperties().get(0));
+    }
+
+    @Test
+    @DisplayName("일시적 오류는 재시도 토픽으로 보낸다")
+    void transientError_retried() {
+        assertThat(mainTopic.shouldRetryOn(1, new IllegalStateException("DB 연결 실패"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외는 리스너 예외로 감싸져 있어도 재시도하지 않고 바로 DLT로 보낸다")
+    void businessException_notRetried_evenWhenWrapped() {
+        assertThat(mainTopic.shouldRetryOn(1, new CouponException(COUPON_OUT_OF_STOCK))).isFalse();
+        assertThat(mainTopic.shouldRetryOn(1, new ListenerExecutionFailedException("리스너 실패",
+                new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND)))).isFalse();
+    }
+}
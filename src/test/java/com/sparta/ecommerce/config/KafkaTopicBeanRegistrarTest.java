@@ -0,0 +1,94 @@
+package com.sparta.ecommerce.config;
+
+import com.sparta.ecommerce.application.coupon.event.CouponIssueEvent;
+import com.sparta.ecommerce.application.order.event.OrderCreatedEvent;
+import com.sparta.ecommerce.application.product.event.StockRestoreEvent;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ResolvableType;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaTopicBeanRegistrarTest {
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.setEnvironment(new MockEnvironment()
+                .withProperty("spring.kafka.bootstrap-servers", "localhost:9092")
+                .withProperty("spring.kafka.consumer.group-id", "ecommerce"));
+        context.register(TestConfig.class);
+        context.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("토픽별 빈은 제네릭 타입으로 주입받을 수 있다")
+    void beansResolvableByGenericType() {
+        assertThat(bean(KafkaTemplate.class, OrderCreatedEvent.class))
+                .isSameAs(context.getBean("orderCreatedKafkaTemplate"));
+        assertThat(bean(KafkaTemplate.class, CouponIssueEvent.class))
+                .isSameAs(context.getBean("kafkaTemplate"));
+        assertThat(bean(ConsumerFactory.class, StockRestoreEvent.class))
+                .isSameAs(context.getBean("stockRestoreConsumerFactory"));
+        assertThat(bean(ConcurrentKafkaListenerContainerFactory.class, OrderCreatedEvent.class))
+                .isSameAs(context.getBean("orderCreatedKafkaListenerContainerFactory"));
+        assertThat(context.getBeansOfType(NewTopic.class)).containsKey("orderCreatedDltTopic");
+    }
+
+    @Test
+    @DisplayName("배치 리스너 토픽만 에러 핸들러(재시도 후 DLT)와 DLT 토픽을 등록한다")
+    void batchListener_errorHandlerAndDlt() {
+        ConcurrentKafkaListenerContainerFactory<?, ?> orderCreated = context.getBean(
+                "orderCreatedKafkaListenerContainerFactory", ConcurrentKafkaListenerContainerFactory.class);
+        ConcurrentKafkaListenerContainerFactory<?, ?> stockRestore = context.getBean(
+                "stockRestoreKafkaListenerContainerFactory", ConcurrentKafkaListenerContainerFactory.class);
+
+        assertThat(orderCreated.isBatchListener()).isTrue();
+        assertThat(ReflectionTestUtils.getField(orderCreated, "commonErrorHandler")).isInstanceOf(DefaultErrorHandler.class);
+        assertThat(ReflectionTestUtils.getField(stockRestore, "commonErrorHandler")).isNull();
+        assertThat(context.getBean("orderCreatedDltTopic", NewTopic.class).name()).isEqualTo("order-created-topic-dlt");
+        assertThat(context.getBeansOfType(NewTopic.class)).hasSize(KafkaTopic.values().length + 1);
+    }
+
+    @Test
+    @DisplayName("빈 정의는 인스턴스 Supplier 없이 팩토리 메서드로 선언되어 AOT 코드 생성이 가능하다")
+    void beanDefinitionsAreAotFriendly() {
+        for (String beanName : new String[]{"orderCreatedKafkaTemplate", "orderCreatedConsumerFactory",
+                "orderCreatedKafkaListenerContainerFactory", "orderCreatedProducerFactory", "orderCreatedTopic",
+                "orderCreatedErrorHandler", "orderCreatedDltTopic"}) {
+            BeanDefinition definition = context.getBeanFactory().getBeanDefinition(beanName);
+            assertThat(((AbstractBeanDefinition) definition).getInstanceSupplier()).isNull();
+            assertThat(definition.getFactoryBeanName()).isEqualTo(KafkaTopicBeanRegistrar.FACTORIES_BEAN_NAME);
+        }
+    }
+
+    private Object bean(Class<?> type, Class<?> eventType) {
+        return context.getBeanProvider(ResolvableType.forClassWithGenerics(type, String.class, eventType)).getObject();
+    }
+
+    @Configuration
+    @Import(KafkaTopicBeanRegistrar.class)
+    static class TestConfig {
+    }
+}
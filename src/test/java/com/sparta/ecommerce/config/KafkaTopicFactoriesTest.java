@@ -0,0 +1,103 @@
+package com.sparta.ecommerce.config;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaTopicFactoriesTest {
+
+    private MockEnvironment environment;
+    private KafkaTopicFactories factories;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment()
+                .withProperty("spring.kafka.bootstrap-servers", "localhost:9092")
+                .withProperty("spring.kafka.consumer.group-id", "ecommerce");
+        factories = new KafkaTopicFactories(environment);
+    }
+
+    @Test
+    @DisplayName("파티션 수는 토픽별 설정이 없으면 기본값을 사용하고, 토픽(NewTopic)도 같은 파티션 수로 만든다")
+    void partitions() {
+        environment.setProperty("kafka.topics.order-created.partitions", "12");
+
+        assertThat(factories.partitions(KafkaTopic.COUPON_ISSUE)).isEqualTo(KafkaTopic.DEFAULT_PARTITIONS);
+        assertThat(factories.partitions(KafkaTopic.ORDER_CREATED)).isEqualTo(12);
+        assertThat(factories.newTopic(KafkaTopic.ORDER_CREATED).numPartitions()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Producer 설정은 토픽의 기본 프로파일을 따르며, 토픽별 프로파일 변경과 프로파일 값 재정의를 반영한다")
+    void producerProfile() {
+        // 기본 프로파일: 재고 복구 = LATENCY, 주문 생성 = THROUGHPUT
+        assertThat(producerConfig(KafkaTopic.STOCK_RESTORE))
+                .containsEntry(ProducerConfig.LINGER_MS_CONFIG, KafkaTuningProfile.LATENCY.getLingerMs())
+                .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        assertThat(producerConfig(KafkaTopic.ORDER_CREATED))
+                .containsEntry(ProducerConfig.LINGER_MS_CONFIG, KafkaTuningProfile.THROUGHPUT.getLingerMs())
+                .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd")
+                .containsEntry(ProducerConfig.ACKS_CONFIG, "all")
+                .containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+        // 토픽 프로파일 변경 + 프로파일 값 재정의
+        environment.setProperty("kafka.topics.stock-restore.profile", "THROUGHPUT");
+        environment.setProperty("kafka.profiles.throughput.linger-ms", "50");
+        assertThat(producerConfig(KafkaTopic.STOCK_RESTORE))
+                .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 50)
+                .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd");
+    }
+
+    @Test
+    @DisplayName("max-poll-records는 토픽별 설정 > 프로파일 재정의 > 프로파일 기본값 순으로 적용한다")
+    void maxPollRecords() {
+        assertThat(consumerConfig(KafkaTopic.ORDER_CREATED))
+                .containsEntry(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, KafkaTuningProfile.THROUGHPUT.getMaxPollRecords())
+                .containsEntry(ConsumerConfig.GROUP_ID_CONFIG, "ecommerce")
+                .containsEntry(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        environment.setProperty("kafka.profiles.throughput.max-poll-records", "300");
+        assertThat(consumerConfig(KafkaTopic.ORDER_CREATED)).containsEntry(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 300);
+
+        environment.setProperty("kafka.topics.order-created.max-poll-records", "100");
+        assertThat(consumerConfig(KafkaTopic.ORDER_CREATED)).containsEntry(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100);
+    }
+
+    @Test
+    @DisplayName("리스너 동시성은 토픽별 설정 또는 기본값을 사용하고, 배치 리스너 토픽은 배치 모드/배치 커밋으로 설정한다")
+    @SuppressWarnings("unchecked")
+    void listenerContainerFactory() {
+        environment.setProperty("kafka.topics.order-created.concurrency", "6");
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> orderCreated = factories.listenerContainerFactory(
+                KafkaTopic.ORDER_CREATED, (ConsumerFactory<String, Object>) factories.consumerFactory(KafkaTopic.ORDER_CREATED));
+        ConcurrentKafkaListenerContainerFactory<String, Object> stockRestore = factories.listenerContainerFactory(
+                KafkaTopic.STOCK_RESTORE, (ConsumerFactory<String, Object>) factories.consumerFactory(KafkaTopic.STOCK_RESTORE));
+
+        assertThat(ReflectionTestUtils.getField(orderCreated, "concurrency")).isEqualTo(6);
+        assertThat(orderCreated.isBatchListener()).isTrue();
+        assertThat(orderCreated.getContainerProperties().getAckMode()).isEqualTo(ContainerProperties.AckMode.BATCH);
+
+        assertThat(ReflectionTestUtils.getField(stockRestore, "concurrency")).isEqualTo(KafkaTopic.DEFAULT_CONCURRENCY);
+        assertThat(stockRestore.isBatchListener()).isNotEqualTo(Boolean.TRUE);
+    }
+
+    private Map<String, Object> producerConfig(KafkaTopic topic) {
+        return factories.producerFactory(topic).getConfigurationProperties();
+    }
+
+    private Map<String, Object> consumerConfig(KafkaTopic topic) {
+        return factories.consumerFactory(topic).getConfigurationProperties();
+    }
+}
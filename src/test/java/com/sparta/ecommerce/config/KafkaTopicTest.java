@@ -0,0 +1,26 @@
+package com.sparta.ecommerce.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaTopicTest {
+
+    @Test
+    @DisplayName("쿠폰 발급은 Spring Kafka 기본 빈 이름을, 나머지 토픽은 접두사가 붙은 빈 이름을 사용한다")
+    void beanName() {
+        assertThat(KafkaTopic.COUPON_ISSUE.beanName("KafkaTemplate")).isEqualTo("kafkaTemplate");
+        assertThat(KafkaTopic.COUPON_ISSUE.beanName("KafkaListenerContainerFactory")).isEqualTo("kafkaListenerContainerFactory");
+        assertThat(KafkaTopic.ORDER_CREATED.beanName("KafkaTemplate")).isEqualTo("orderCreatedKafkaTemplate");
+        assertThat(KafkaTopic.STOCK_RESTORE.beanName("ConsumerFactory")).isEqualTo("stockRestoreConsumerFactory");
+        assertThat(KafkaTopic.COUPON_ISSUE.topicBeanName()).isEqualTo("couponIssueTopic");
+    }
+
+    @Test
+    @DisplayName("토픽별 프로퍼티 접두사는 토픽 키를 사용한다")
+    void propertyPrefix() {
+        assertThat(KafkaTopic.ORDER_CREATED.propertyPrefix()).isEqualTo("kafka.topics.order-created.");
+        assertThat(KafkaTopic.COUPON_RESTORE.propertyPrefix()).isEqualTo("kafka.topics.coupon-restore.");
+    }
+}
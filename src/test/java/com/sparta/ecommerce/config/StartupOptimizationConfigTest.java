@@ -0,0 +1,145 @@
+package com.sparta.ecommerce.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles.Kind;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.aot.ApplicationContextAotGenerator;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.javapoet.ClassName;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupOptimizationConfigTest {
+
+    private static final String LAZY_PREFIX = StartupOptimizationConfigTest.class.getName() + "$Lazy";
+
+    private AnnotationConfigApplicationContext context;
+
+    @AfterEach
+    void tearDown() {
+        if (context != null && context.isActive()) {
+            context.close();
+        }
+    }
+
+    @Test
+    @DisplayName("접두사에 해당하는 클래스의 빈과 해당 설정 클래스의 @Bean 빈만 지연 초기화한다")
+    void lazyInit_matchingBeansOnly() {
+        // given
+        context = context(LAZY_PREFIX);
+
+        // when
+        context.refresh();
+
+        // then
+        assertLazy("lazyTarget", true);
+        assertLazy("lazyFactoryProduct", true);
+        assertLazy("eagerTarget", false);
+        assertThat(context.getBeanFactory().containsSingleton("lazyTarget")).isFalse();
+        assertThat(context.getBeanFactory().containsSingleton("eagerTarget")).isTrue();
+    }
+
+    @Test
+    @DisplayName("접두사 앞뒤 공백은 무시하고, 빈 접두사는 모든 빈과 일치시키지 않는다")
+    void lazyInit_trimsAndIgnoresBlankPrefixes() {
+        // given
+        context = context(" , " + LAZY_PREFIX + " ,");
+
+        // when
+        context.refresh();
+
+        // then
+        assertLazy("lazyTarget", true);
+        assertLazy("eagerTarget", false);
+    }
+
+    @Test
+    @DisplayName("접두사가 없으면 빈 정의를 변경하지 않는다")
+    void lazyInit_noPrefixes() {
+        // given
+        context = context("");
+
+        // when
+        context.refresh();
+
+        // then
+        assertLazy("lazyTarget", false);
+        assertLazy("lazyFactoryProduct", false);
+        assertThat(context.getBeanFactory().containsSingleton("lazyTarget")).isTrue();
+    }
+
+    @Test
+    @DisplayName("AOT 처리(processAot)가 가능하며, 지연 초기화 설정이 생성된 빈 정의에 유지된다")
+    void aotProcessing_keepsLazyInit() throws IOException {
+        // given - Kafka 토픽 빈 등록기 포함 (fast-startup 프로필의 -Paot 빌드와 같은 경로)
+        context = context(LAZY_PREFIX);
+        context.register(KafkaTopicsConfig.class);
+        InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+
+        // when
+        new ApplicationContextAotGenerator().processAheadOfTime(context, new DefaultGenerationContext(
+                new ClassNameGenerator(ClassName.get(StartupOptimizationConfigTest.class.getPackageName(), "StartupAotTest")),
+                generatedFiles));
+
+        // then
+        StringBuilder sources = new StringBuilder();
+        for (InputStreamSource source : generatedFiles.getGeneratedFiles(Kind.SOURCE).values()) {
+            try (InputStream in = source.getInputStream()) {
+                sources.append(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertThat(sources).contains("setLazyInit(true)");
+        assertThat(sources).contains("orderCreatedKafkaTemplate");
+    }
+
+    private AnnotationConfigApplicationContext context(String prefixes) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.setEnvironment(new MockEnvironment()
+                .withProperty("app.startup.lazy-init.bean-prefixes", prefixes)
+                .withProperty("spring.kafka.bootstrap-servers", "localhost:9092")
+                .withProperty("spring.kafka.consumer.group-id", "ecommerce"));
+        context.register(StartupOptimizationConfig.class, LazyBeansConfig.class);
+        context.registerBean("lazyTarget", LazyTarget.class);
+        context.registerBean("eagerTarget", EagerTarget.class);
+        return context;
+    }
+
+    private void assertLazy(String beanName, boolean lazy) {
+        assertThat(context.getBeanFactory().getBeanDefinition(beanName).isLazyInit())
+                .as(beanName)
+                .isEqualTo(lazy);
+    }
+
+    static class LazyTarget {
+    }
+
+    static class EagerTarget {
+    }
+
+    @Configuration
+    static class LazyBeansConfig {
+
+        @Bean
+        EagerTarget lazyFactoryProduct() {
+            return new EagerTarget();
+        }
+    }
+
+    @Configuration
+    @Import(KafkaTopicBeanRegistrar.class)
+    static class KafkaTopicsConfig {
+    }
+}
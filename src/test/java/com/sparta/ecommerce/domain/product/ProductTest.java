@@ -5,6 +5,7 @@ import com.sparta.ecommerce.domain.product.entity.Product;
 import com.sparta.ecommerce.domain.product.exception.ProductException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 
@@ -263,4 +264,36 @@ class ProductTest {
         assertThat(product.getCreatedAt()).isEqualTo(createdAt);
         assertThat(product.getUpdateAt()).isEqualTo(updateAt);
     }
+
+    @Test
+    @DisplayName("조회한 상품은 재고만 변경되면 스냅샷 변경이 아니고, 가격이 변경되면 스냅샷 변경이다")
+    void isSnapshotChanged_comparesWithLoadedState() {
+        // given - 조회 시점 상태 기록 (@PostLoad)
+        LocalDateTime now = LocalDateTime.now();
+        Product product = new Product(1L, "테스트 상품", "설명", 100, 10000, 0, now, now);
+        ReflectionTestUtils.invokeMethod(product, "captureLoadedSnapshot");
+
+        // when - 재고만 변경
+        product.decreaseStock(10);
+
+        // then
+        assertThat(product.isSnapshotChanged()).isFalse();
+
+        // when - 가격 변경
+        ReflectionTestUtils.setField(product, "price", 12000);
+
+        // then
+        assertThat(product.isSnapshotChanged()).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회 시점 상태가 없는 상품(직접 생성)은 스냅샷이 변경된 것으로 간주한다")
+    void isSnapshotChanged_notLoaded_treatedAsChanged() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Product product = new Product(1L, "테스트 상품", "설명", 100, 10000, 0, now, now);
+
+        // when & then
+        assertThat(product.isSnapshotChanged()).isTrue();
+    }
 }
@@ -82,7 +82,7 @@ class CouponIssueIntegrationTest {
         registry.add("spring.kafka.consumer.auto-offset-reset", () -> "earliest");
 
         // Kafka Consumer Concurrency 설정 (병렬 처리)
-        registry.add("spring.kafka.listener.concurrency", () -> "3");
+        registry.add("kafka.topics.coupon-issue.concurrency", () -> "3");
     }
 
     @Autowired
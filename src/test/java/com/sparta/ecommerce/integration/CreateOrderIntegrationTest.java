@@ -272,8 +272,10 @@ class CreateOrderIntegrationTest {
         // 1. 재고 검증: 차감되었거나 아직 차감되지 않았을 수 있음
         assertThat(product.getQuantity()).isLessThanOrEqualTo(PRODUCT_STOCK);
 
-        // 2. 주문 생성 검증: 100개 이상의 주문이 생성되어야 함
-        assertThat(allOrders.size()).isGreaterThanOrEqualTo(threadCount);
+        // 2. 주문 생성 검증: 모든 요청은 주문 생성(PENDING) 또는 가용 재고 부족(점유 실패)으로 응답해야 함
+        //    재고 점유로 인해 재고를 넘는 주문 대부분은 생성 단계에서 거절됨
+        assertThat(successCount.get() + failCount.get()).isEqualTo(threadCount);
+        assertThat(allOrders.size()).isGreaterThanOrEqualTo(successCount.get());
 
         // 3. 장바구니 클리어 검증
         long emptyCartCount = 0;
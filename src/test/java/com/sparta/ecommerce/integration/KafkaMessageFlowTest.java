@@ -183,7 +183,7 @@ class KafkaMessageFlowTest {
         await()
                 .atMost(10, TimeUnit.SECONDS)
                 .untilAsserted(() -> {
-                    verify(orderCreatedEventConsumer, atLeastOnce()).consumeOrderCreatedEvent(any(OrderCreatedEvent.class));
+                    verify(orderCreatedEventConsumer, atLeastOnce()).consumeOrderCreatedEvent(any(OrderCreatedEvent.class), any());
                 });
 
         System.out.println("\n=== Kafka Consumer 검증 ===");
@@ -191,7 +191,7 @@ class KafkaMessageFlowTest {
 
         // 컨슈머가 받은 이벤트 검증
         ArgumentCaptor<OrderCreatedEvent> consumerEventCaptor = ArgumentCaptor.forClass(OrderCreatedEvent.class);
-        verify(orderCreatedEventConsumer, atLeastOnce()).consumeOrderCreatedEvent(consumerEventCaptor.capture());
+        verify(orderCreatedEventConsumer, atLeastOnce()).consumeOrderCreatedEvent(consumerEventCaptor.capture(), any());
 
         OrderCreatedEvent consumedEvent = consumerEventCaptor.getValue();
         System.out.println("수신된 이벤트 - userId: " + consumedEvent.userId() + ", orderId: " + consumedEvent.orderId());
@@ -255,7 +255,7 @@ class KafkaMessageFlowTest {
                 .atMost(15, TimeUnit.SECONDS)
                 .untilAsserted(() -> {
                     verify(orderCreatedEventConsumer, org.mockito.Mockito.times(2))
-                            .consumeOrderCreatedEvent(any(OrderCreatedEvent.class));
+                            .consumeOrderCreatedEvent(any(OrderCreatedEvent.class), any());
                 });
 
         System.out.println("2개의 주문에 대한 Kafka 메시지가 모두 Consumer에서 수신되었습니다.");
@@ -0,0 +1,221 @@
+package com.sparta.ecommerce.integration;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿼리 실행 계획 회귀 테스트
+ *
+ * db/schema.sql로 생성한 스키마에 데이터를 채운 뒤, 주요 조회 쿼리의 EXPLAIN 결과를 검증합니다.
+ * 인덱스가 제거되거나 쿼리가 변경되어 풀 스캔(type=ALL) 또는 filesort로 바뀌면 실패합니다.
+ *
+ * 검증 쿼리는 JpaProductRepository, JpaProductSalesSummaryRepository, JpaUserCouponRepository 등에서
+ * 실제로 실행되는 SQL과 동일한 형태로 작성합니다.
+ */
+@Testcontainers
+class QueryPlanRegressionTest {
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    private static final int PRODUCT_COUNT = 2000;
+    private static final int ORDER_COUNT = 5000;
+    private static final int ORDER_ITEM_COUNT = 10000;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/schema.sql"));
+
+            statement.execute("SET SESSION cte_max_recursion_depth = " + ORDER_ITEM_COUNT);
+            statement.execute(seed("INSERT INTO product (product_name, price, quantity, view_count) "
+                    + "SELECT CONCAT('상품', n), 1000, 100, n % 997 FROM seq", PRODUCT_COUNT));
+            statement.execute(seed("INSERT INTO orders (user_id, total_amount, status) "
+                    + "SELECT n % 500 + 1, 10000, "
+                    + "CASE WHEN n % 10 = 0 THEN 'FAILED' WHEN n % 100 = 1 THEN 'PENDING' ELSE 'COMPLETED' END FROM seq",
+                    ORDER_COUNT));
+            statement.execute(seed("INSERT INTO order_item (order_id, product_id, product_name, quantity, price) "
+                    + "SELECT n % " + ORDER_COUNT + " + 1, n % " + PRODUCT_COUNT + " + 1, '상품', n % 3 + 1, 1000 FROM seq",
+                    ORDER_ITEM_COUNT));
+            statement.execute(seed("INSERT INTO product_sales_summary (product_id, sold_count) "
+                    + "SELECT n, n % 500 FROM seq", PRODUCT_COUNT));
+            statement.execute(seed("INSERT INTO coupon (coupon_name, discount_type, discount_value, total_quantity) "
+                    + "SELECT CONCAT('쿠폰', n), 'AMOUNT', 1000, 100 FROM seq", 50));
+            // 사용자당 여러 쿠폰 (쿠폰함 조회가 유니크 인덱스 + filesort 대신 발급일시 인덱스를 타는지 검증)
+            statement.execute(seed("INSERT INTO user_coupon (user_id, coupon_id) "
+                    + "SELECT n % 500 + 1, n FROM seq", PRODUCT_COUNT));
+            statement.execute(seed("INSERT INTO cart_item (user_id, product_id, quantity) "
+                    + "SELECT n % 500 + 1, n, 1 FROM seq", PRODUCT_COUNT));
+
+            statement.execute("ANALYZE TABLE product, orders, order_item, product_sales_summary, coupon, user_coupon, cart_item");
+        }
+    }
+
+    @Test
+    @DisplayName("조회수 인기 상품 조회는 view_count 인덱스를 역순으로 읽어 filesort 없이 처리된다")
+    void topProductsByViewCount() throws SQLException {
+        assertNoFullScanOrFilesort("SELECT * FROM product ORDER BY view_count DESC LIMIT 5");
+    }
+
+    @Test
+    @DisplayName("판매량 인기 상품 조회는 sold_count 인덱스와 상품 PK 조인으로 처리된다")
+    void topProductsBySoldCount() throws SQLException {
+        assertNoFullScanOrFilesort("""
+                SELECT p.* FROM product_sales_summary s
+                JOIN product p ON s.product_id = p.product_id
+                WHERE s.sold_count > 0
+                ORDER BY s.sold_count DESC
+                LIMIT 5
+                """);
+    }
+
+    @Test
+    @DisplayName("상품 단위 판매량 재집계는 커버링 인덱스와 주문 PK 조인으로 처리된다")
+    void rebuildSoldCountForProduct() throws SQLException {
+        assertNoFullScanOrFilesort("""
+                SELECT COALESCE(SUM(oi.quantity), 0) FROM order_item oi
+                JOIN orders o ON oi.order_id = o.order_id
+                WHERE oi.product_id = 1 AND o.status = 'COMPLETED'
+                """);
+    }
+
+    @Test
+    @DisplayName("전체 판매량 집계(정합성 검증)는 테이블 풀 스캔 없이 처리된다")
+    void aggregateSoldCounts() throws SQLException {
+        List<PlanRow> plan = explain("""
+                SELECT oi.product_id, SUM(oi.quantity) FROM order_item oi
+                JOIN orders o ON oi.order_id = o.order_id
+                WHERE o.status = 'COMPLETED'
+                GROUP BY oi.product_id
+                """);
+
+        assertThat(plan).noneMatch(PlanRow::isFullScan);
+    }
+
+    @Test
+    @DisplayName("오래된 PENDING 주문 조회(사가 복구)는 status 인덱스를 주문 ID 순으로 읽어 filesort 없이 처리된다")
+    void findStalePendingOrders() throws SQLException {
+        assertNoFullScanOrFilesort("""
+                SELECT * FROM orders
+                WHERE status = 'PENDING' AND created_at < NOW() - INTERVAL 2 MINUTE
+                ORDER BY order_id ASC LIMIT 100
+                """);
+    }
+
+    @Test
+    @DisplayName("사용자 주문 내역(키셋 페이지)은 (user_id, created_at, order_id) 인덱스 역순 스캔으로 filesort 없이 처리된다")
+    void findOrderHistory() throws SQLException {
+        String select = "SELECT order_id, status, total_amount, discount_amount, used_point, user_coupon_id, created_at "
+                + "FROM orders WHERE user_id = 1 ";
+        String orderBy = "ORDER BY created_at DESC, order_id DESC LIMIT 21";
+
+        assertNoFullScanOrFilesort(select + orderBy);
+        assertNoFullScanOrFilesort(select
+                + "AND (created_at < NOW() OR (created_at = NOW() AND order_id < 4000)) " + orderBy);
+        assertNoFullScanOrFilesort("""
+                SELECT order_id, product_id, product_name, quantity, price FROM order_item
+                WHERE order_id IN (1, 501, 1001, 1501)
+                """);
+    }
+
+    @Test
+    @DisplayName("사용자 쿠폰함(키셋 페이지)은 (user_id, issued_at, user_coupon_id) 인덱스와 쿠폰 PK 조인으로 filesort 없이 처리된다")
+    void findUserCouponWallet() throws SQLException {
+        String select = "SELECT uc.user_coupon_id, uc.coupon_id, c.coupon_name, c.discount_type, c.discount_value, "
+                + "uc.used, uc.issued_at, uc.used_at, c.expires_at "
+                + "FROM user_coupon uc LEFT JOIN coupon c ON c.coupon_id = uc.coupon_id WHERE uc.user_id = 1 ";
+        String orderBy = "ORDER BY uc.issued_at DESC, uc.user_coupon_id DESC LIMIT 21";
+
+        assertNoFullScanOrFilesort(select + orderBy);
+        assertNoFullScanOrFilesort(select
+                + "AND (uc.issued_at < NOW() OR (uc.issued_at = NOW() AND uc.user_coupon_id < 100)) " + orderBy);
+    }
+
+    @Test
+    @DisplayName("비관적 락 상품 조회는 PK 범위 탐색으로 처리된다")
+    void findAllByIdWithLock() throws SQLException {
+        assertNoFullScanOrFilesort("SELECT * FROM product WHERE product_id IN (3, 1, 2) ORDER BY product_id ASC");
+    }
+
+    @Test
+    @DisplayName("사용자 쿠폰 조회는 (user_id, coupon_id) 유니크 인덱스로 처리된다")
+    void findUserCoupon() throws SQLException {
+        assertNoFullScanOrFilesort("SELECT * FROM user_coupon WHERE user_id = 1 AND coupon_id = 2");
+        assertNoFullScanOrFilesort("SELECT * FROM user_coupon WHERE user_id = 1");
+    }
+
+    @Test
+    @DisplayName("주문 상품/장바구니 조회는 외래 키 인덱스로 처리된다")
+    void findByForeignKey() throws SQLException {
+        assertNoFullScanOrFilesort("SELECT * FROM order_item WHERE order_id = 1");
+        assertNoFullScanOrFilesort("SELECT * FROM cart_item WHERE user_id = 1");
+    }
+
+    private void assertNoFullScanOrFilesort(String sql) throws SQLException {
+        List<PlanRow> plan = explain(sql);
+
+        assertThat(plan)
+                .as("실행 계획: %s", plan)
+                .isNotEmpty()
+                .noneMatch(PlanRow::isFullScan)
+                .noneMatch(PlanRow::usesFilesort);
+    }
+
+    private List<PlanRow> explain(String sql) throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            List<PlanRow> rows = new ArrayList<>();
+            while (resultSet.next()) {
+                rows.add(new PlanRow(
+                        resultSet.getString("table"),
+                        resultSet.getString("type"),
+                        resultSet.getString("key"),
+                        resultSet.getString("Extra")
+                ));
+            }
+            return rows;
+        }
+    }
+
+    private static String seed(String insertSelect, int count) {
+        int split = insertSelect.indexOf("SELECT");
+        return insertSelect.substring(0, split)
+                + "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + count + ") "
+                + insertSelect.substring(split);
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+    }
+
+    private record PlanRow(String table, String type, String key, String extra) {
+
+        boolean isFullScan() {
+            return "ALL".equals(type);
+        }
+
+        boolean usesFilesort() {
+            return extra != null && extra.contains("Using filesort");
+        }
+    }
+}
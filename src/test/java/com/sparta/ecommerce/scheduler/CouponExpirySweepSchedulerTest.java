@@ -0,0 +1,58 @@
+package com.sparta.ecommerce.scheduler;
+
+import com.sparta.ecommerce.application.coupon.CouponExpirySweepService;
+import com.sparta.ecommerce.config.AsyncConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CouponExpirySweepSchedulerTest {
+
+    @Mock
+    private CouponExpirySweepService couponExpirySweepService;
+
+    private final ThreadPoolTaskExecutor executor =
+            (ThreadPoolTaskExecutor) new AsyncConfig().couponSweepExecutor(true);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("정리가 진행되는 동안 스케줄러 스레드를 점유하지 않는다")
+    void sweep_doesNotBlockSchedulerThread() throws InterruptedException {
+        // given
+        CouponExpirySweepScheduler scheduler = new CouponExpirySweepScheduler(couponExpirySweepService, executor);
+        AtomicReference<String> threadName = new AtomicReference<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(couponExpirySweepService.sweep()).willAnswer(invocation -> {
+            threadName.set(Thread.currentThread().getName());
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        // when - 정리가 끝나기 전에 반환되어야 함
+        scheduler.sweep();
+
+        // then
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.get()).startsWith("coupon-sweep-");
+        release.countDown();
+    }
+}
@@ -0,0 +1,247 @@
+package com.sparta.ecommerce.scheduler;
+
+import com.sparta.ecommerce.application.coupon.CouponWaitingRoomService;
+import com.sparta.ecommerce.application.coupon.IssueCouponUseCase;
+import com.sparta.ecommerce.domain.coupon.CouponIssueQueueRepository;
+import com.sparta.ecommerce.domain.coupon.exception.CouponErrorCode;
+import com.sparta.ecommerce.domain.coupon.exception.CouponException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CouponIssueQueueConsumerTest {
+
+    @Mock
+    private IssueCouponUseCase issueCouponUseCase;
+
+    @Mock
+    private CouponWaitingRoomService couponWaitingRoomService;
+
+    @Mock
+    private CouponIssueQueueRepository couponIssueQueueRepository;
+
+    private CouponIssueQueueConsumer consumer;
+
+    @AfterEach
+    void tearDown() {
+        if (consumer != null) {
+            consumer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("한 번에 꺼낸 요청을 처리하고, 같은 쿠폰의 요청은 도착 순서대로 발급한 뒤 ack 한다")
+    void consume_batchInOrderPerCoupon() {
+        // given
+        given(couponIssueQueueRepository.awaitNext(any()))
+                .willReturn(Optional.of("1:100"))
+                .willReturn(Optional.empty());
+        given(couponIssueQueueRepository.moveBatch(anyInt()))
+                .willReturn(List.of("2:100", "3:200", "4:100"));
+
+        // when
+        consumer = new CouponIssueQueueConsumer(issueCouponUseCase, couponWaitingRoomService, couponIssueQueueRepository, 2, 10, 1000, 30000, 3);
+        consumer.startConsumer();
+
+        // then
+        verify(couponIssueQueueRepository, timeout(3000)).acknowledge("4:100");
+        verify(couponIssueQueueRepository, timeout(3000)).acknowledge("3:200");
+        InOrder sameCoupon = inOrder(issueCouponUseCase);
+        sameCoupon.verify(issueCouponUseCase).executeIssueCoupon(1L, 100L);
+        sameCoupon.verify(issueCouponUseCase).executeIssueCoupon(2L, 100L);
+        sameCoupon.verify(issueCouponUseCase).executeIssueCoupon(4L, 100L);
+        verify(issueCouponUseCase).executeIssueCoupon(3L, 200L);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 요청은 발급하지 않고 ack 하여 재처리되지 않도록 한다")
+    void consume_invalidEntry_acknowledgedWithoutIssue() {
+        // given
+        given(couponIssueQueueRepository.awaitNext(any()))
+                .willReturn(Optional.of("invalid"))
+                .willReturn(Optional.empty());
+        given(couponIssueQueueRepository.moveBatch(anyInt())).willReturn(List.of());
+
+        // when
+        consumer = new CouponIssueQueueConsumer(issueCouponUseCase, couponWaitingRoomService, couponIssueQueueRepository, 2, 10, 1000, 30000, 3);
+        consumer.startConsumer();
+
+        // then
+        verify(couponIssueQueueRepository, timeout(3000)).acknowledge("invalid");
+        verify(issueCouponUseCase, never()).executeIssueCoupon(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("시작 시 하트비트를 등록한 뒤 하트비트가 만료된 인스턴스의 처리 중 요청을 큐로 복구한다")
+    void start_registersHeartbeatAndRecoversOrphanedEntries() {
+        // given
+        given(couponIssueQueueRepository.awaitNext(any())).willReturn(Optional.empty());
+
+        // when
+        consumer = new CouponIssueQueueConsumer(issueCouponUseCase, couponWaitingRoomService, couponIssueQueueRepository, 1, 10, 1000, 30000, 3);
+        consumer.startConsumer();
+
+        // then
+        InOrder startup = inOrder(couponIssueQueueRepository);
+        startup.verify(couponIssueQueueRepository).heartbeat(Duration.ofMillis(30000));
+        startup.verify(couponIssueQueueRepository).recoverOrphaned();
+    }
+
+    @Test
+    @DisplayName("실행 중 하트비트를 TTL보다 짧은 주기로 갱신하고, 만료된 인스턴스의 요청을 주기적으로 복구한다")
+    void dispatch_renewsHeartbeatAndReapsPeriodically() {
+        // given
+        given(couponIssueQueueRepository.awaitNext(any())).willReturn(Optional.empty());
+
+        // when
+        consumer = new CouponIssueQueueConsumer(issueCouponUseCase, couponWaitingRoomService, couponIssueQueueRepository, 1, 10, 1000, 900, 3);
+        consumer.startConsumer();
+
+        // then - 하트비트 300ms, 복구 900ms 주기 (awaitNext 최대 대기 1초 단위로 확인)
+        verify(couponIssueQueueRepository, timeout(3000).atLeast(2)).heartbeat(Duration.ofMillis(900));
+        verify(couponIssueQueueRepository, timeout(3000).atLeast(2)).recoverOrphaned();
+    }
+
+    @Test
+    @DisplayName("종료 시 하트비트를 제거하여 남은 처리 중 요청을 다른 인스턴스가 바로 복구하도록 한다")
+    void stop_clearsHeartbeat() {
+        // given
+        given(couponIssueQueueRepository.awaitNext(any())).willReturn(Optional.empty());
+        consumer = new CouponIssueQueueConsumer(issueCouponUseCase, couponWaitingRoomService, couponIssueQueueRepository, 1, 10, 1000, 30000, 3);
+        consumer.startConsumer();
+
+        // when
+        consumer.stop();
+
+        // then
+        verify(couponIssueQueueRepository).clearHeartbeat();
+    }
+
+    @Test
+    @DisplayName("발급이 거절된 요청은 ack 하고 대기열 재고를 되돌린다")
+    void consume_issueRejected_acknowledgedAndSlotReleased() {
+        // given
+        CouponException failure = new CouponException(CouponErrorCode.COUPON_ALREADY_ISSUED);
+        given(couponIssueQueueRepository.awaitNext(any()))
+                .willReturn(Optional.of("1:100"))
+                .willReturn(Optional.empty());
+        given(couponIssueQueueRepository.moveBatch(anyInt())).willReturn(List.of());
+        willThrow(failure).given(issueCouponUseCase).executeIssueCoupon(1L, 100L);
+
+        // when
+        consumer = new CouponIssueQueueConsumer(issueCouponUseCase, couponWaitingRoomService, couponIssueQueueRepository, 1, 10, 1000, 30000, 3);
+        consumer.startConsumer();
+
+        // then
+        verify(couponWaitingRoomService, timeout(3000)).releaseSlot(100L, 1L, failure);
+        verify(couponIssueQueueRepository, timeout(3000)).acknowledge("1:100");
+    }
+
+    @Test
+    @DisplayName("일시적인 오류로 발급에 실패한 요청은 ack 하지 않고 큐로 되돌린다")
+    void consume_transientFailure_requeuedWithoutAck() {
+        // given
+        given(couponIssueQueueRepository.awaitNext(any()))
+                .willReturn(Optional.of("1:100"))
+                .willReturn(Optional.empty());
+        given(couponIssueQueueRepository.moveBatch(anyInt())).willReturn(List.of());
+        given(couponIssueQueueRepository.requeue("1:100", 3)).willReturn(true);
+        willThrow(new QueryTimeoutException("timeout")).given(issueCouponUseCase).executeIssueCoupon(1L, 100L);
+
+        // when
+        consumer = new CouponIssueQueueConsumer(issueCouponUseCase, couponWaitingRoomService, couponIssueQueueRepository, 1, 10, 1000, 30000, 3);
+        consumer.startConsumer();
+
+        // then
+        verify(couponIssueQueueRepository, timeout(3000)).requeue("1:100", 3);
+        verify(couponIssueQueueRepository, never()).acknowledge("1:100");
+        verify(couponWaitingRoomService, never()).releaseSlot(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 사용한 요청은 포기하고 대기열 재고를 되돌린다")
+    void consume_retriesExhausted_releasesSlot() {
+        // given
+        QueryTimeoutException failure = new QueryTimeoutException("timeout");
+        given(couponIssueQueueRepository.awaitNext(any()))
+                .willReturn(Optional.of("1:100"))
+                .willReturn(Optional.empty());
+        given(couponIssueQueueRepository.moveBatch(anyInt())).willReturn(List.of());
+        given(couponIssueQueueRepository.requeue("1:100", 3)).willReturn(false);
+        willThrow(failure).given(issueCouponUseCase).executeIssueCoupon(1L, 100L);
+
+        // when
+        consumer = new CouponIssueQueueConsumer(issueCouponUseCase, couponWaitingRoomService, couponIssueQueueRepository, 1, 10, 1000, 30000, 3);
+        consumer.startConsumer();
+
+        // then
+        verify(couponWaitingRoomService, timeout(3000)).releaseSlot(100L, 1L, failure);
+    }
+
+    @Test
+    @DisplayName("요청을 옮긴 뒤 수신에 실패하면 다음 수신 전에 이 인스턴스의 처리 중 목록을 큐로 되돌린다")
+    void dispatch_moveBatchFailed_recoversOwnProcessingList() {
+        // given
+        given(couponIssueQueueRepository.awaitNext(any()))
+                .willReturn(Optional.of("1:100"))
+                .willReturn(Optional.empty());
+        given(couponIssueQueueRepository.moveBatch(anyInt())).willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        consumer = new CouponIssueQueueConsumer(issueCouponUseCase, couponWaitingRoomService, couponIssueQueueRepository, 1, 10, 1000, 30000, 3);
+        consumer.startConsumer();
+
+        // then
+        verify(couponIssueQueueRepository, timeout(3000)).recoverOwn();
+        InOrder recovery = inOrder(couponIssueQueueRepository);
+        recovery.verify(couponIssueQueueRepository).moveBatch(anyInt());
+        recovery.verify(couponIssueQueueRepository).recoverOwn();
+        recovery.verify(couponIssueQueueRepository).awaitNext(any());
+        verify(issueCouponUseCase, never()).executeIssueCoupon(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("중지한 뒤 다시 시작하면 새 worker로 요청을 처리한다")
+    void restart_afterStop_processesRequests() {
+        // given
+        given(couponIssueQueueRepository.awaitNext(any())).willReturn(Optional.empty());
+        consumer = new CouponIssueQueueConsumer(issueCouponUseCase, couponWaitingRoomService, couponIssueQueueRepository, 1, 10, 1000, 30000, 3);
+        consumer.startConsumer();
+        consumer.stop();
+
+        given(couponIssueQueueRepository.awaitNext(any()))
+                .willReturn(Optional.of("1:100"))
+                .willReturn(Optional.empty());
+        given(couponIssueQueueRepository.moveBatch(anyInt())).willReturn(List.of());
+
+        // when
+        consumer.start();
+
+        // then
+        verify(issueCouponUseCase, timeout(3000)).executeIssueCoupon(1L, 100L);
+        verify(couponIssueQueueRepository, timeout(3000)).acknowledge("1:100");
+    }
+}
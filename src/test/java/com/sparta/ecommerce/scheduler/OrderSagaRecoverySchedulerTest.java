@@ -0,0 +1,82 @@
+package com.sparta.ecommerce.scheduler;
+
+import com.sparta.ecommerce.application.order.OrderSagaRecoveryService;
+import com.sparta.ecommerce.config.AsyncConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSagaRecoverySchedulerTest {
+
+    @Mock
+    private OrderSagaRecoveryService orderSagaRecoveryService;
+
+    private final ThreadPoolTaskExecutor executor =
+            (ThreadPoolTaskExecutor) new AsyncConfig().orderSagaRecoveryExecutor(true);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("복구를 스케줄러 스레드가 아닌 전용 Executor에서 실행한다")
+    void recover_runsOnDedicatedExecutor() throws InterruptedException {
+        // given
+        OrderSagaRecoveryScheduler scheduler = new OrderSagaRecoveryScheduler(orderSagaRecoveryService, executor);
+        AtomicReference<String> threadName = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        given(orderSagaRecoveryService.recoverStalePendingOrders()).willAnswer(invocation -> {
+            threadName.set(Thread.currentThread().getName());
+            done.countDown();
+            return 1;
+        });
+
+        // when
+        scheduler.recover();
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.get()).startsWith("order-saga-recovery-");
+    }
+
+    @Test
+    @DisplayName("이전 복구가 진행 중이면 이번 실행은 예외 없이 건너뛴다")
+    void recover_skipsWhileRunning() throws InterruptedException {
+        // given
+        OrderSagaRecoveryScheduler scheduler = new OrderSagaRecoveryScheduler(orderSagaRecoveryService, executor);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(orderSagaRecoveryService.recoverStalePendingOrders()).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 0;
+        });
+        scheduler.recover();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        scheduler.recover();
+        release.countDown();
+
+        // then
+        verify(orderSagaRecoveryService, timeout(1000).times(1)).recoverStalePendingOrders();
+        executor.shutdown();
+        verify(orderSagaRecoveryService, times(1)).recoverStalePendingOrders();
+    }
+}